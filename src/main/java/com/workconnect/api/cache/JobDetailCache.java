@@ -0,0 +1,164 @@
+package com.workconnect.api.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workconnect.api.event.JobApplicationChangedEvent;
+import com.workconnect.api.event.JobChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Bounded LRU cache of job detail responses, stored as ready-to-write UTF-8 JSON bytes. The entries
+ * are split by job ID across up to {@value #MAX_STRIPES} independently locked LRU stripes, so concurrent
+ * reads of different jobs rarely wait on each other; each stripe evicts its own least recently used entry.
+ * <p>
+ * Every entry is tagged with the job's version as read before it was loaded, and is only served
+ * to requests that read the same version, so a response never carries bytes older than its ETag.
+ * Loads are single-flight: concurrent misses for the same job and version wait for the one request
+ * that is already building it. Job, image and new-application events evict entries after commit.
+ */
+@Component
+public class JobDetailCache {
+
+    private static final int MAX_STRIPES = 16;
+    private static final int MIN_STRIPE_CAPACITY = 64;
+
+    private final ObjectMapper objectMapper;
+    private final Stripe[] stripes;
+    private final ConcurrentHashMap<Long, Load> loading = new ConcurrentHashMap<>();
+
+    public JobDetailCache(ObjectMapper objectMapper,
+                          @Value("${workconnect.cache.job-detail.max-entries:10000}") int maxEntries) {
+        this.objectMapper = objectMapper;
+        // Small caches keep a single stripe so eviction stays exact LRU
+        int stripeCount = Math.max(1, Math.min(MAX_STRIPES, Integer.highestOneBit(maxEntries / MIN_STRIPE_CAPACITY)));
+        int stripeCapacity = Math.max(1, (maxEntries + stripeCount - 1) / stripeCount);
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(stripeCapacity);
+        }
+    }
+
+    /**
+     * Returns the cached JSON for the given version of the job, serializing the loader's result on a miss.
+     * The loader must read the job after its version was read. Exceptions thrown by the loader reach
+     * every request that was waiting on it.
+     */
+    public byte[] get(Long jobId, String version, Supplier<?> loader) {
+        byte[] cached = lookup(jobId, version);
+        if (cached != null) {
+            return cached;
+        }
+
+        Load load = new Load(version, new CompletableFuture<>());
+        Load inFlight = loading.putIfAbsent(jobId, load);
+        if (inFlight != null) {
+            // A load for an older version may have read the job before this version existed
+            return inFlight.version().equals(version) ? await(inFlight.result()) : serialize(jobId, loader);
+        }
+
+        try {
+            // Another load may have completed between the lookup and claiming the slot
+            byte[] bytes = lookup(jobId, version);
+            if (bytes == null) {
+                bytes = serialize(jobId, loader);
+                Stripe stripe = stripeOf(jobId);
+                synchronized (stripe) {
+                    stripe.put(jobId, new Entry(version, bytes));
+                }
+            }
+            load.result().complete(bytes);
+            return bytes;
+        } catch (RuntimeException e) {
+            load.result().completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(jobId, load);
+        }
+    }
+
+    public void invalidate(Long jobId) {
+        Stripe stripe = stripeOf(jobId);
+        synchronized (stripe) {
+            stripe.remove(jobId);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        invalidate(event.jobId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationChanged(JobApplicationChangedEvent event) {
+        // Only the application count is part of the detail view
+        if (event.isNewApplication()) {
+            invalidate(event.jobId());
+        }
+    }
+
+    private byte[] lookup(Long jobId, String version) {
+        Stripe stripe = stripeOf(jobId);
+        Entry entry;
+        synchronized (stripe) {
+            entry = stripe.get(jobId);
+        }
+        return entry != null && entry.version().equals(version) ? entry.json() : null;
+    }
+
+    private Stripe stripeOf(Long jobId) {
+        int h = jobId.hashCode() * 0x9E3779B9;
+        return stripes[(h ^ (h >>> 16)) & (stripes.length - 1)];
+    }
+
+    private byte[] serialize(Long jobId, Supplier<?> loader) {
+        try {
+            return objectMapper.writeValueAsBytes(loader.get());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize job " + jobId, e);
+        }
+    }
+
+    private static byte[] await(CompletableFuture<byte[]> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Entry(String version, byte[] json) {
+    }
+
+    /**
+     * Access-ordered LRU map for one stripe; guarded by its own monitor.
+     */
+    private static final class Stripe extends LinkedHashMap<Long, Entry> {
+
+        private final int capacity;
+
+        Stripe(int capacity) {
+            super(Math.min(capacity, 256), 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            return size() > capacity;
+        }
+    }
+
+    private record Load(String version, CompletableFuture<byte[]> result) {
+    }
+}
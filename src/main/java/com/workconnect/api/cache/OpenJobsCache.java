@@ -0,0 +1,159 @@
+package com.workconnect.api.cache;
+
+import com.workconnect.api.constants.Enum.JobStatus;
+import com.workconnect.api.dto.JobListingDto;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Copy-on-write cache of all OPEN jobs shared by the listing, recommendation and dashboard paths.
+ * Reads are a single volatile load and never block; writers are serialized, copy the current
+ * snapshot, apply their change and publish the result atomically.
+ * <p>
+ * New applications, the most frequent change, bypass the copy: they only add to the job's counter,
+ * which snapshots overlay on read. The next published snapshot folds the counters into its listings.
+ */
+@Component
+public class OpenJobsCache {
+
+    // Same order as the paged listing: newest first, id breaking ties
+    static final Comparator<JobListingDto> NEWEST_FIRST = Comparator
+            .comparing(JobListingDto::getPostedAt, Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+            .thenComparing(JobListingDto::getId, Comparator.reverseOrder());
+
+    private final AtomicReference<OpenJobsSnapshot> current = new AtomicReference<>(OpenJobsSnapshot.EMPTY);
+    private final ConcurrentHashMap<Long, LongAdder> applicationDeltas = new ConcurrentHashMap<>();
+
+    public OpenJobsSnapshot snapshot() {
+        return current.get();
+    }
+
+    /**
+     * Replaces the cached jobs wholesale; non-OPEN jobs are ignored. The given listings' application
+     * counts replace any counted since the previous snapshot.
+     */
+    public synchronized void replaceAll(Collection<JobListingDto> jobs) {
+        applicationDeltas.clear();
+        List<JobListingDto> open = new ArrayList<>(jobs.size());
+        for (JobListingDto job : jobs) {
+            if (job.getStatus() == JobStatus.OPEN) {
+                open.add(job);
+            }
+        }
+        open.sort(NEWEST_FIRST);
+        publish(open);
+    }
+
+    /**
+     * Adds or replaces a job. A job that is no longer OPEN is removed instead.
+     */
+    public synchronized void put(JobListingDto job) {
+        resetApplicationCount(job.getId());
+        List<JobListingDto> jobs = withoutJob(job.getId());
+        if (job.getStatus() == JobStatus.OPEN) {
+            int position = Collections.binarySearch(jobs, job, NEWEST_FIRST);
+            jobs.add(position < 0 ? -position - 1 : position, job);
+        }
+        publish(jobs);
+    }
+
+    /**
+     * Adds or replaces many jobs with a single copy of the snapshot.
+     */
+    public synchronized void putAll(Collection<JobListingDto> changed) {
+        putAll(changed, List.of());
+    }
+
+    /**
+     * Adds or replaces many jobs and removes others with a single copy of the snapshot.
+     */
+    public synchronized void putAll(Collection<JobListingDto> changed, Collection<Long> removedJobIds) {
+        Map<Long, JobListingDto> byId = new HashMap<>(changed.size() * 2);
+        for (JobListingDto job : changed) {
+            byId.put(job.getId(), job);
+            resetApplicationCount(job.getId());
+        }
+        Set<Long> removed = new HashSet<>(removedJobIds);
+        List<JobListingDto> jobs = new ArrayList<>(current.get().size() + changed.size());
+        for (JobListingDto job : current.get().publishedJobs()) {
+            if (!byId.containsKey(job.getId()) && !removed.contains(job.getId())) {
+                jobs.add(job);
+            }
+        }
+        for (JobListingDto job : byId.values()) {
+            if (job.getStatus() == JobStatus.OPEN) {
+                jobs.add(job);
+            }
+        }
+        jobs.sort(NEWEST_FIRST);
+        publish(jobs);
+    }
+
+    public synchronized void remove(Long jobId) {
+        if (current.get().jobsById().containsKey(jobId)) {
+            publish(withoutJob(jobId));
+        }
+    }
+
+    /**
+     * Counts new applications for a cached job without copying the snapshot.
+     */
+    public void adjustApplicationCount(Long jobId, int delta) {
+        if (current.get().jobsById().containsKey(jobId)) {
+            applicationDeltas.computeIfAbsent(jobId, id -> new LongAdder()).add(delta);
+        }
+    }
+
+    private void resetApplicationCount(Long jobId) {
+        // The listing carries the count as read from the database
+        LongAdder delta = applicationDeltas.get(jobId);
+        if (delta != null) {
+            delta.reset();
+        }
+    }
+
+    private List<JobListingDto> withoutJob(Long jobId) {
+        OpenJobsSnapshot snapshot = current.get();
+        List<JobListingDto> jobs = new ArrayList<>(snapshot.size() + 1);
+        for (JobListingDto job : snapshot.publishedJobs()) {
+            if (!job.getId().equals(jobId)) {
+                jobs.add(job);
+            }
+        }
+        return jobs;
+    }
+
+    private void publish(List<JobListingDto> jobs) {
+        Map<Long, JobListingDto> jobsById = new HashMap<>(jobs.size() * 2);
+        for (ListIterator<JobListingDto> it = jobs.listIterator(); it.hasNext(); ) {
+            JobListingDto job = it.next();
+            // Fold the counted applications into the copy being published. An adder that is added
+            // to concurrently keeps the late delta and overlays it on this snapshot.
+            LongAdder delta = applicationDeltas.get(job.getId());
+            long applications = delta != null ? delta.sumThenReset() : 0;
+            if (applications != 0) {
+                int count = job.getApplicationCount() != null ? job.getApplicationCount() : 0;
+                job = job.toBuilder().applicationCount((int) Math.max(0, count + applications)).build();
+                it.set(job);
+            }
+            jobsById.put(job.getId(), job);
+        }
+        applicationDeltas.keySet().retainAll(jobsById.keySet());
+        current.set(new OpenJobsSnapshot(Collections.unmodifiableList(jobs), Collections.unmodifiableMap(jobsById),
+                applicationDeltas));
+    }
+}
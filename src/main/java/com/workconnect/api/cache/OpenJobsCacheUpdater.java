@@ -0,0 +1,135 @@
+package com.workconnect.api.cache;
+
+import com.workconnect.api.constants.Enum.JobStatus;
+import com.workconnect.api.dto.JobListingDto;
+import com.workconnect.api.entity.JobPosting;
+import com.workconnect.api.event.JobApplicationChangedEvent;
+import com.workconnect.api.event.JobChangedEvent;
+import com.workconnect.api.event.JobsImportedEvent;
+import com.workconnect.api.event.JobsReloadedEvent;
+import com.workconnect.api.repository.JobPostingRepository;
+import com.workconnect.api.service.JobService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Loads the open jobs cache on startup and applies job events to it once their transaction commits.
+ * Events that commit while the startup load is reading the database are held back and replayed, in
+ * order, on top of the loaded jobs, so the load cannot overwrite them with what it read earlier.
+ */
+@Component
+public class OpenJobsCacheUpdater {
+
+    private static final Logger logger = LoggerFactory.getLogger(OpenJobsCacheUpdater.class);
+
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private final OpenJobsCache openJobsCache;
+    private final JobPostingRepository jobPostingRepository;
+    private final JobService jobService;
+
+    // Changes held back while the startup load runs; null otherwise. Guarded by this.
+    private List<Consumer<OpenJobsCache>> heldBack;
+
+    public OpenJobsCacheUpdater(OpenJobsCache openJobsCache, JobPostingRepository jobPostingRepository, JobService jobService) {
+        this.openJobsCache = openJobsCache;
+        this.jobPostingRepository = jobPostingRepository;
+        this.jobService = jobService;
+    }
+
+    // Every other ApplicationReadyEvent listener runs after this one, so the search, geo and skill
+    // indexes can rebuild from the cache in their own startup listeners without reading the database
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        long started = System.currentTimeMillis();
+        synchronized (this) {
+            heldBack = new ArrayList<>();
+        }
+        List<JobListingDto> openJobs;
+        try {
+            openJobs = loadOpenJobs();
+        } catch (RuntimeException e) {
+            // Start anyway: the cache then holds only jobs changed from now on
+            logger.error("Could not load the open jobs cache, starting without the existing open jobs", e);
+            openJobs = List.of();
+        }
+
+        int replayed;
+        synchronized (this) {
+            openJobsCache.replaceAll(openJobs);
+            heldBack.forEach(change -> change.accept(openJobsCache));
+            replayed = heldBack.size();
+            heldBack = null;
+        }
+        logger.debug("Replayed {} job events received while loading the open jobs cache", replayed);
+        logger.info("Cached {} open jobs in {} ms", openJobs.size(), System.currentTimeMillis() - started);
+    }
+
+    private List<JobListingDto> loadOpenJobs() {
+        List<JobListingDto> openJobs = new ArrayList<>();
+        LocalDateTime afterPostedAt = null;
+        Long afterId = null;
+        List<JobPosting> batch;
+        do {
+            // Walk the open jobs in keyset pages; each page runs in its own short session
+            batch = jobPostingRepository.findPageByStatus(JobStatus.OPEN, null, null, null, null, null, null,
+                    afterPostedAt, afterId, Limit.of(LOAD_BATCH_SIZE));
+            openJobs.addAll(jobService.mapToJobListingDtos(batch));
+            if (!batch.isEmpty()) {
+                JobPosting last = batch.get(batch.size() - 1);
+                afterPostedAt = last.getPostedAt();
+                afterId = last.getId();
+            }
+        } while (batch.size() == LOAD_BATCH_SIZE);
+        return openJobs;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (event.isDeleted()) {
+            apply(cache -> cache.remove(event.jobId()));
+        } else {
+            apply(cache -> cache.put(event.listing()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobsImported(JobsImportedEvent event) {
+        apply(cache -> cache.putAll(event.listings()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobsReloaded(JobsReloadedEvent event) {
+        apply(cache -> cache.putAll(event.listings(), event.deletedJobIds()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationChanged(JobApplicationChangedEvent event) {
+        if (event.isNewApplication()) {
+            apply(cache -> cache.adjustApplicationCount(event.jobId(), 1));
+        }
+    }
+
+    private void apply(Consumer<OpenJobsCache> change) {
+        synchronized (this) {
+            if (heldBack != null) {
+                heldBack.add(change);
+                return;
+            }
+        }
+        change.accept(openJobsCache);
+    }
+}
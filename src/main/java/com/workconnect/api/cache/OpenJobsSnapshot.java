@@ -0,0 +1,65 @@
+package com.workconnect.api.cache;
+
+import com.workconnect.api.dto.JobListingDto;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Immutable view of every OPEN job as listing DTOs, newest first. A snapshot never changes once
+ * published; writers build a new one and swap it in, so a reader holding a snapshot sees one
+ * consistent set of jobs for as long as it keeps the reference.
+ * <p>
+ * Application counts are the exception: new applications are counted in per-job adders shared by
+ * every snapshot of the cache and overlaid on the listings as they are read, so a new application
+ * does not cost a copy of the whole list.
+ */
+public record OpenJobsSnapshot(List<JobListingDto> jobs, Map<Long, JobListingDto> jobsById,
+                               Map<Long, LongAdder> applicationDeltas) {
+
+    static final OpenJobsSnapshot EMPTY = new OpenJobsSnapshot(List.of(), Map.of(), Map.of());
+
+    @Override
+    public List<JobListingDto> jobs() {
+        return new AbstractList<>() {
+            @Override
+            public JobListingDto get(int index) {
+                return withLiveCount(jobs.get(index));
+            }
+
+            @Override
+            public int size() {
+                return jobs.size();
+            }
+        };
+    }
+
+    /**
+     * The listings as published, without the live application counts.
+     */
+    List<JobListingDto> publishedJobs() {
+        return jobs;
+    }
+
+    public JobListingDto get(Long jobId) {
+        JobListingDto job = jobsById.get(jobId);
+        return job != null ? withLiveCount(job) : null;
+    }
+
+    public int size() {
+        return jobs.size();
+    }
+
+    private JobListingDto withLiveCount(JobListingDto job) {
+        LongAdder delta = applicationDeltas.get(job.getId());
+        long applications = delta != null ? delta.sum() : 0;
+        if (applications == 0) {
+            return job;
+        }
+        // Published DTOs are shared with readers, so the count goes into a copy
+        int count = job.getApplicationCount() != null ? job.getApplicationCount() : 0;
+        return job.toBuilder().applicationCount((int) Math.max(0, count + applications)).build();
+    }
+}
@@ -0,0 +1,114 @@
+package com.workconnect.api.cache;
+
+import com.workconnect.api.dto.ResourceVersion;
+import com.workconnect.api.entity.ListingVersion;
+import com.workconnect.api.event.JobApplicationChangedEvent;
+import com.workconnect.api.event.JobChangedEvent;
+import com.workconnect.api.event.JobsImportedEvent;
+import com.workconnect.api.repository.ListingVersionRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The open jobs listing's entity tag, kept in the database so every instance behind a load balancer
+ * agrees on it. Every transaction that publishes a job or application event adds one to a stripe of
+ * listing_versions just before it commits, so the tag is the sum of the stripes: reading it is a
+ * primary key scan of a few rows, and two different states of the listing never share a tag.
+ */
+@Component
+public class OpenJobsVersions {
+
+    static final int STRIPES = 16;
+
+    private final ListingVersionRepository listingVersionRepository;
+
+    // The tag this instance read most recently; never newer than a page read after it. Null until then.
+    private volatile ResourceVersion lastRead;
+
+    public OpenJobsVersions(ListingVersionRepository listingVersionRepository) {
+        this.listingVersionRepository = listingVersionRepository;
+    }
+
+    @PostConstruct
+    public void createStripes() {
+        for (int stripe = 0; stripe < STRIPES; stripe++) {
+            if (listingVersionRepository.existsById(stripe)) {
+                continue;
+            }
+            try {
+                listingVersionRepository.saveAndFlush(new ListingVersion(stripe));
+            } catch (DataIntegrityViolationException e) {
+                // Another instance created the stripe first
+            }
+        }
+    }
+
+    /**
+     * Reads the current tag. Read it before the page it validates, so the tag never claims a newer
+     * state than the body.
+     */
+    public ResourceVersion current() {
+        ResourceVersion version = new ResourceVersion("jobs-" + listingVersionRepository.sumVersions(), -1);
+        lastRead = version;
+        return version;
+    }
+
+    /**
+     * The tag this instance read last, or the current one if it has not read any. A tag older than
+     * the page it is sent with is still safe: the client's next conditional request simply misses.
+     */
+    public ResourceVersion lastRead() {
+        ResourceVersion version = lastRead;
+        return version != null ? version : current();
+    }
+
+    @EventListener
+    public void onJobChanged(JobChangedEvent event) {
+        markChanged();
+    }
+
+    @EventListener
+    public void onJobsImported(JobsImportedEvent event) {
+        markChanged();
+    }
+
+    @EventListener
+    public void onApplicationChanged(JobApplicationChangedEvent event) {
+        markChanged();
+    }
+
+    /**
+     * Moves the tag on once the current transaction commits, however many changes it makes, or right
+     * away outside a transaction. Read-only transactions only republish changes that another
+     * transaction has already counted.
+     */
+    public void markChanged() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            listingVersionRepository.increment(randomStripe());
+            return;
+        }
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || TransactionSynchronizationManager.getSynchronizations().stream().anyMatch(StripeIncrement.class::isInstance)) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new StripeIncrement());
+    }
+
+    private static int randomStripe() {
+        return ThreadLocalRandom.current().nextInt(STRIPES);
+    }
+
+    private class StripeIncrement implements TransactionSynchronization {
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            listingVersionRepository.increment(randomStripe());
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.workconnect.api.cache;
+
+import com.workconnect.api.constants.Enum.ViewTarget;
+import com.workconnect.api.service.ViewCountService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts job and public profile views in memory and writes them to the database in the background.
+ * <p>
+ * Recording a view touches no database and only contends with other views of the same target on
+ * the same day, and even then on a striped LongAdder. A scheduled flush drains every counter and
+ * adds the counts to their daily rows in one transaction per target type and day, with upserts that
+ * add to a row another instance created rather than failing on it. A flush that fails anyway (for
+ * example because the database is unavailable) puts its counts back to be retried by the next one. Counts recorded since the last flush are lost if the
+ * process dies without a graceful shutdown.
+ */
+@Component
+public class ViewCounter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ViewCounter.class);
+
+    private final ViewCountService viewCountService;
+    private final ConcurrentHashMap<ViewKey, LongAdder> counters = new ConcurrentHashMap<>();
+    private volatile Instant lastFlushAt = Instant.now();
+
+    public ViewCounter(ViewCountService viewCountService) {
+        this.viewCountService = viewCountService;
+    }
+
+    public void record(ViewTarget target, Long targetId) {
+        ViewKey key = new ViewKey(target, targetId, LocalDate.now());
+        LongAdder counter = counters.get(key);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(key, k -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    @Scheduled(fixedDelayString = "${workconnect.views.flush-interval:10s}")
+    public synchronized void flush() {
+        Instant startedAt = Instant.now();
+        LocalDate today = LocalDate.now();
+
+        Map<ViewTarget, Map<LocalDate, Map<Long, Long>>> drained = new HashMap<>();
+        counters.forEach((key, counter) -> {
+            long views = counter.sumThenReset();
+            if (views > 0) {
+                drained.computeIfAbsent(key.target(), target -> new HashMap<>())
+                        .computeIfAbsent(key.day(), day -> new HashMap<>())
+                        .put(key.targetId(), views);
+            }
+            // Earlier days get no new views, except from a request that read the date just before midnight
+            if (key.day().isBefore(today) && counters.remove(key, counter)) {
+                long late = counter.sumThenReset();
+                if (late > 0) {
+                    add(key, late);
+                }
+            }
+        });
+
+        boolean failed = false;
+        for (Map.Entry<ViewTarget, Map<LocalDate, Map<Long, Long>>> byTarget : drained.entrySet()) {
+            for (Map.Entry<LocalDate, Map<Long, Long>> byDay : byTarget.getValue().entrySet()) {
+                try {
+                    viewCountService.addViews(byTarget.getKey(), byDay.getKey(), byDay.getValue());
+                } catch (RuntimeException e) {
+                    failed = true;
+                    logger.warn("Failed to flush {} {} view counts for {}, retrying on the next flush",
+                            byDay.getValue().size(), byTarget.getKey(), byDay.getKey(), e);
+                    byDay.getValue().forEach((targetId, views) ->
+                            add(new ViewKey(byTarget.getKey(), targetId, byDay.getKey()), views));
+                }
+            }
+        }
+
+        if (!failed) {
+            lastFlushAt = startedAt;
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * Views recorded but not yet written to the database.
+     */
+    public long getPendingViews() {
+        return counters.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    /**
+     * Start of the last flush that wrote everything it drained; every view recorded before it is in the database.
+     */
+    public Instant getLastFlushAt() {
+        return lastFlushAt;
+    }
+
+    private void add(ViewKey key, long views) {
+        counters.computeIfAbsent(key, k -> new LongAdder()).add(views);
+    }
+
+    private record ViewKey(ViewTarget target, Long targetId, LocalDate day) {
+    }
+}
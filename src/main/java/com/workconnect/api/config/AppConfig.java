@@ -6,6 +6,8 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
 
 import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Configuration
 public class AppConfig {
@@ -17,4 +19,13 @@ public class AppConfig {
                 .setReadTimeout(Duration.ofSeconds(30))
                 .build();
     }
+
+    /**
+     * Runs the sections of a dashboard concurrently. Sections mostly wait on the database or the
+     * recommendation service, so each gets its own virtual thread.
+     */
+    @Bean(destroyMethod = "close")
+    public ExecutorService dashboardExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
 }
@@ -0,0 +1,26 @@
+package com.workconnect.api.config;
+
+import com.workconnect.api.entity.User;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+
+/**
+ * The authenticated user as resolved once per request by {@link JwtAuthenticationFilter}. Kept as the
+ * principal of the request's authentication, so controllers can hand IDs to services instead of an
+ * email that every service would look up again.
+ */
+public class ResolvedPrincipal extends org.springframework.security.core.userdetails.User {
+
+    private final Long userId;
+
+    public ResolvedPrincipal(User user, boolean enabled, boolean accountNonLocked,
+                             Collection<? extends GrantedAuthority> authorities) {
+        super(user.getEmail(), user.getPassword(), enabled, true, true, accountNonLocked, authorities);
+        this.userId = user.getUserId();
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+}
@@ -0,0 +1,7 @@
+package com.workconnect.api.constants.Enum;
+
+public enum DashboardSectionStatus {
+    COMPLETE,
+    TIMED_OUT,
+    FAILED
+}
@@ -4,5 +4,6 @@ public enum JobStatus {
     OPEN,
     CLOSED,
     FILLED,
-    EXPIRED
+    EXPIRED,
+    SCHEDULED
 }
@@ -0,0 +1,6 @@
+package com.workconnect.api.constants.Enum;
+
+public enum SearchMode {
+    KEYWORD,
+    FUZZY
+}
@@ -0,0 +1,8 @@
+package com.workconnect.api.constants.Enum;
+
+public enum StatusChangeOutcome {
+    UPDATED,
+    UNCHANGED,
+    NOT_FOUND,
+    FORBIDDEN
+}
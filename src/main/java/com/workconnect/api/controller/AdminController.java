@@ -32,6 +32,11 @@ public class AdminController {
         return ResponseEntity.ok(stats);
     }
 
+    @GetMapping("/view-counters")
+    public ResponseEntity<ViewCounterMetricsDto> getViewCounterMetrics() {
+        return ResponseEntity.ok(adminService.getViewCounterMetrics());
+    }
+
     // User management endpoints
     @GetMapping("/users")
     public ResponseEntity<Page<AdminUserDto>> getAllUsers(
@@ -1,14 +1,13 @@
 package com.workconnect.api.controller;
 
+import com.workconnect.api.config.ResolvedPrincipal;
 import com.workconnect.api.dto.dashboard.*;
 import com.workconnect.api.service.DashboardService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.security.Principal;
-
 @RestController
 @RequestMapping("/api/dashboard")
 public class DashboardController {
@@ -24,9 +23,8 @@ public class DashboardController {
      */
     @GetMapping("/worker")
     @PreAuthorize("hasRole('WORKER')")
-    public ResponseEntity<WorkerDashboardDto> getWorkerDashboard(Principal principal) {
-        String userEmail = principal.getName();
-        WorkerDashboardDto dashboard = dashboardService.getWorkerDashboard(userEmail);
+    public ResponseEntity<WorkerDashboardDto> getWorkerDashboard(@AuthenticationPrincipal ResolvedPrincipal principal) {
+        WorkerDashboardDto dashboard = dashboardService.getWorkerDashboard(principal.getUserId());
         return ResponseEntity.ok(dashboard);
     }
 
@@ -35,9 +33,8 @@ public class DashboardController {
      */
     @GetMapping("/employer")
     @PreAuthorize("hasRole('EMPLOYER')")
-    public ResponseEntity<EmployerDashboardDto> getEmployerDashboard(Principal principal) {
-        String userEmail = principal.getName();
-        EmployerDashboardDto dashboard = dashboardService.getEmployerDashboard(userEmail);
+    public ResponseEntity<EmployerDashboardDto> getEmployerDashboard(@AuthenticationPrincipal ResolvedPrincipal principal) {
+        EmployerDashboardDto dashboard = dashboardService.getEmployerDashboard(principal.getUserId());
         return ResponseEntity.ok(dashboard);
     }
 
@@ -47,10 +44,9 @@ public class DashboardController {
     @GetMapping("/worker/recommendations")
     @PreAuthorize("hasRole('WORKER')")
     public ResponseEntity<JobRecommendationsDto> getWorkerRecommendations(
-            Principal principal,
+            @AuthenticationPrincipal ResolvedPrincipal principal,
             @RequestParam(defaultValue = "6") int limit) {
-        String userEmail = principal.getName();
-        JobRecommendationsDto recommendations = dashboardService.getWorkerRecommendations(userEmail, limit);
+        JobRecommendationsDto recommendations = dashboardService.getWorkerRecommendations(principal.getUserId(), limit);
         return ResponseEntity.ok(recommendations);
     }
 
@@ -60,10 +56,9 @@ public class DashboardController {
     @GetMapping("/worker/applications/recent")
     @PreAuthorize("hasRole('WORKER')")
     public ResponseEntity<RecentApplicationsDto> getWorkerRecentApplications(
-            Principal principal,
+            @AuthenticationPrincipal ResolvedPrincipal principal,
             @RequestParam(defaultValue = "5") int limit) {
-        String userEmail = principal.getName();
-        RecentApplicationsDto applications = dashboardService.getWorkerRecentApplications(userEmail, limit);
+        RecentApplicationsDto applications = dashboardService.getWorkerRecentApplications(principal.getUserId(), limit);
         return ResponseEntity.ok(applications);
     }
 
@@ -73,10 +68,9 @@ public class DashboardController {
     @GetMapping("/employer/jobs/active")
     @PreAuthorize("hasRole('EMPLOYER')")
     public ResponseEntity<ActiveJobsDto> getEmployerActiveJobs(
-            Principal principal,
+            @AuthenticationPrincipal ResolvedPrincipal principal,
             @RequestParam(defaultValue = "5") int limit) {
-        String userEmail = principal.getName();
-        ActiveJobsDto activeJobs = dashboardService.getEmployerActiveJobs(userEmail, limit);
+        ActiveJobsDto activeJobs = dashboardService.getEmployerActiveJobs(principal.getUserId(), limit);
         return ResponseEntity.ok(activeJobs);
     }
 
@@ -86,10 +80,9 @@ public class DashboardController {
     @GetMapping("/employer/applications/recent")
     @PreAuthorize("hasRole('EMPLOYER')")
     public ResponseEntity<RecentApplicationsDto> getEmployerRecentApplications(
-            Principal principal,
+            @AuthenticationPrincipal ResolvedPrincipal principal,
             @RequestParam(defaultValue = "5") int limit) {
-        String userEmail = principal.getName();
-        RecentApplicationsDto applications = dashboardService.getEmployerRecentApplications(userEmail, limit);
+        RecentApplicationsDto applications = dashboardService.getEmployerRecentApplications(principal.getUserId(), limit);
         return ResponseEntity.ok(applications);
     }
 
@@ -98,9 +91,8 @@ public class DashboardController {
      */
     @GetMapping("/worker/profile-completion")
     @PreAuthorize("hasRole('WORKER')")
-    public ResponseEntity<ProfileCompletionDto> getWorkerProfileCompletion(Principal principal) {
-        String userEmail = principal.getName();
-        ProfileCompletionDto completion = dashboardService.getWorkerProfileCompletion(userEmail);
+    public ResponseEntity<ProfileCompletionDto> getWorkerProfileCompletion(@AuthenticationPrincipal ResolvedPrincipal principal) {
+        ProfileCompletionDto completion = dashboardService.getWorkerProfileCompletion(principal.getUserId());
         return ResponseEntity.ok(completion);
     }
 
@@ -109,9 +101,8 @@ public class DashboardController {
      */
     @GetMapping("/worker/stats")
     @PreAuthorize("hasRole('WORKER')")
-    public ResponseEntity<WorkerStatsDto> getWorkerStats(Principal principal) {
-        String userEmail = principal.getName();
-        WorkerStatsDto stats = dashboardService.getWorkerStats(userEmail);
+    public ResponseEntity<WorkerStatsDto> getWorkerStats(@AuthenticationPrincipal ResolvedPrincipal principal) {
+        WorkerStatsDto stats = dashboardService.getWorkerStats(principal.getUserId());
         return ResponseEntity.ok(stats);
     }
 
@@ -120,9 +111,8 @@ public class DashboardController {
      */
     @GetMapping("/employer/stats")
     @PreAuthorize("hasRole('EMPLOYER')")
-    public ResponseEntity<EmployerStatsDto> getEmployerStats(Principal principal) {
-        String userEmail = principal.getName();
-        EmployerStatsDto stats = dashboardService.getEmployerStats(userEmail);
+    public ResponseEntity<EmployerStatsDto> getEmployerStats(@AuthenticationPrincipal ResolvedPrincipal principal) {
+        EmployerStatsDto stats = dashboardService.getEmployerStats(principal.getUserId());
         return ResponseEntity.ok(stats);
     }
 }
@@ -1,6 +1,10 @@
 package com.workconnect.api.controller;
 
 import com.workconnect.api.constants.Enum.JobApplicationStatus;
+import com.workconnect.api.constants.Enum.StatusChangeOutcome;
+import com.workconnect.api.dto.ApplicationStatusOutcomeDto;
+import com.workconnect.api.dto.BulkApplicationStatusRequestDto;
+import com.workconnect.api.dto.BulkApplicationStatusResultDto;
 import com.workconnect.api.dto.JobApplicationDto;
 import com.workconnect.api.dto.JobListingDto;
 import com.workconnect.api.dto.UpdateApplicationStatusDto;
@@ -8,12 +12,19 @@ import com.workconnect.api.entity.JobApplication;
 import com.workconnect.api.service.BadgeService;
 import com.workconnect.api.service.JobService;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.security.Principal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/employer")
@@ -37,11 +48,35 @@ public class EmployerController {
     @GetMapping("/jobs/{jobId}/applications")
     public ResponseEntity<List<JobApplicationDto>> getJobApplications(
             @PathVariable Long jobId,
+            @RequestParam(required = false) Integer top,
             Principal principal) {
-        List<JobApplicationDto> applications = jobService.getApplicationsForJob(principal.getName(), jobId);
+        List<JobApplicationDto> applications = top != null
+                ? jobService.getTopApplicants(principal.getName(), jobId, top)
+                : jobService.getApplicationsForJob(principal.getName(), jobId);
         return ResponseEntity.ok(applications);
     }
 
+    @GetMapping("/jobs/{jobId}/applicants")
+    public ResponseEntity<Page<JobApplicationDto>> getJobApplicants(
+            @PathVariable Long jobId,
+            @RequestParam(required = false) JobApplicationStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime appliedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime appliedTo,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "appliedAt") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDir,
+            Principal principal) {
+
+        Sort sort = sortDir.equalsIgnoreCase("desc") ?
+            Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+        Pageable pageable = PageRequest.of(page, size, sort);
+
+        Page<JobApplicationDto> applicants = jobService.getApplicantsPage(
+                principal.getName(), jobId, status, appliedFrom, appliedTo, pageable);
+        return ResponseEntity.ok(applicants);
+    }
+
     @PutMapping("/applications/{applicationId}/status")
     public ResponseEntity<Void> updateApplicationStatus(
             @PathVariable Long applicationId,
@@ -55,4 +90,21 @@ public class EmployerController {
 
         return ResponseEntity.ok().build();
     }
+
+    @PutMapping("/applications/status")
+    public ResponseEntity<BulkApplicationStatusResultDto> updateApplicationStatuses(
+            @Valid @RequestBody BulkApplicationStatusRequestDto request,
+            Principal principal) {
+        BulkApplicationStatusResultDto result = jobService.updateApplicationStatuses(
+                principal.getName(), request.getApplicationIds(), request.getStatus());
+
+        if (result.getStatus() == JobApplicationStatus.COMPLETED && result.getUpdatedCount() > 0) {
+            badgeService.checkAndAwardBadges(result.getResults().stream()
+                    .filter(outcome -> outcome.getOutcome() == StatusChangeOutcome.UPDATED)
+                    .map(ApplicationStatusOutcomeDto::getWorkerId)
+                    .collect(Collectors.toSet()));
+        }
+
+        return ResponseEntity.ok(result);
+    }
 }
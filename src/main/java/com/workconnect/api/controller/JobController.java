@@ -1,25 +1,47 @@
 package com.workconnect.api.controller;
 
+import com.workconnect.api.cache.ViewCounter;
+import com.workconnect.api.constants.Enum.SearchMode;
+import com.workconnect.api.constants.Enum.ViewTarget;
 import com.workconnect.api.dto.CreateJobRequestDto;
+import com.workconnect.api.dto.CursorPageDto;
+import com.workconnect.api.dto.JobFilterDto;
+import com.workconnect.api.dto.JobImportReportDto;
 import com.workconnect.api.dto.UpdateJobRequestDto;
 import com.workconnect.api.dto.UpdateJobStatusDto;
-import com.workconnect.api.dto.JobDetailDto;
 import com.workconnect.api.dto.JobListingDto;
+import com.workconnect.api.dto.JobSearchResultDto;
+import com.workconnect.api.dto.NearbyJobDto;
+import com.workconnect.api.dto.ResourceVersion;
 import com.workconnect.api.dto.ApplicationStatusResponse;
 import com.workconnect.api.entity.JobImage;
 import com.workconnect.api.entity.JobPosting;
 import com.workconnect.api.service.FileUploadService;
+import com.workconnect.api.service.JobExportService;
+import com.workconnect.api.service.JobImportService;
 import com.workconnect.api.service.JobService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.security.Principal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/jobs")
@@ -27,10 +49,17 @@ public class JobController {
 
     private final JobService jobService;
     private final FileUploadService fileUploadService;
+    private final JobExportService jobExportService;
+    private final JobImportService jobImportService;
+    private final ViewCounter viewCounter;
 
-    public JobController(JobService jobService, FileUploadService fileUploadService) {
+    public JobController(JobService jobService, FileUploadService fileUploadService, JobExportService jobExportService,
+                         JobImportService jobImportService, ViewCounter viewCounter) {
         this.jobService = jobService;
         this.fileUploadService = fileUploadService;
+        this.jobExportService = jobExportService;
+        this.jobImportService = jobImportService;
+        this.viewCounter = viewCounter;
     }
 
     @PostMapping
@@ -40,6 +69,27 @@ public class JobController {
         return new ResponseEntity<>(createdJob, HttpStatus.CREATED);
     }
 
+    /**
+     * Bulk import for agencies posting many jobs at once. Each row is validated like a single posting;
+     * the report lists the created job or the errors for every row.
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    @PreAuthorize("hasRole('EMPLOYER')")
+    public ResponseEntity<JobImportReportDto> importJobsFromCsv(HttpServletRequest request, Principal principal) throws IOException {
+        Charset charset = request.getCharacterEncoding() != null
+                ? Charset.forName(request.getCharacterEncoding()) : StandardCharsets.UTF_8;
+        JobImportReportDto report = jobImportService.importCsv(principal.getName(),
+                new InputStreamReader(request.getInputStream(), charset));
+        return ResponseEntity.ok(report);
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('EMPLOYER')")
+    public ResponseEntity<JobImportReportDto> importJobsFromJson(HttpServletRequest request, Principal principal) throws IOException {
+        JobImportReportDto report = jobImportService.importJson(principal.getName(), request.getInputStream());
+        return ResponseEntity.ok(report);
+    }
+
     @PutMapping("/{jobId}")
     @PreAuthorize("hasRole('EMPLOYER')")
     public ResponseEntity<JobPosting> updateJob(
@@ -68,21 +118,94 @@ public class JobController {
     }
 
     @GetMapping
-    public ResponseEntity<List<JobListingDto>> getOpenJobs() {
-        List<JobListingDto> jobs = jobService.getAllOpenJobs();
-        return ResponseEntity.ok(jobs);
+    public ResponseEntity<CursorPageDto<JobListingDto>> getOpenJobs(
+            JobFilterDto filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest request) {
+        // Validators are read before the page so the tag never claims a newer state than the body. Only
+        // a conditional request needs the current tag; any other gets the last one read, to revalidate later
+        ResourceVersion version = request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                ? jobService.getOpenJobsVersion()
+                : jobService.getLastOpenJobsVersion();
+        if (request.checkNotModified(version.etag(), version.lastModified())) {
+            return null;
+        }
+        CursorPageDto<JobListingDto> page = jobService.getOpenJobsPage(filter, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Partner feed of the job catalog as newline-delimited JSON, written to the response while it is
+     * read from the database. Pass {@code since} (ISO date-time) to only receive jobs changed after a
+     * previous pull, including ones that were closed. Deleted jobs never appear in an incremental pull:
+     * consumers must take a full pull (without {@code since}) periodically and drop every job not in it.
+     * Compressed with gzip when the client accepts it.
+     */
+    @GetMapping("/export")
+    public void exportJobs(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip")) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            try (GZIPOutputStream out = new GZIPOutputStream(response.getOutputStream(), 8192)) {
+                jobExportService.exportJobs(since, out);
+            }
+        } else {
+            jobExportService.exportJobs(since, response.getOutputStream());
+        }
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<JobListingDto>> searchJobs(@RequestParam String keyword) {
-        List<JobListingDto> jobs = jobService.searchOpenJobs(keyword);
+    public ResponseEntity<List<JobListingDto>> searchJobs(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "keyword") String mode) {
+        SearchMode searchMode;
+        try {
+            searchMode = SearchMode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported search mode: " + mode);
+        }
+        List<JobListingDto> jobs = jobService.searchOpenJobs(keyword, searchMode);
+        return ResponseEntity.ok(jobs);
+    }
+
+    @GetMapping("/search/faceted")
+    public ResponseEntity<JobSearchResultDto> searchJobsWithFacets(
+            @RequestParam(required = false) String keyword,
+            JobFilterDto filter) {
+        JobSearchResultDto result = jobService.searchOpenJobsWithFacets(keyword, filter);
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/nearby")
+    public ResponseEntity<List<NearbyJobDto>> findNearbyJobs(
+            @RequestParam(required = false) Double latitude,
+            @RequestParam(required = false) Double longitude,
+            @RequestParam(required = false) String location,
+            @RequestParam(defaultValue = "10") double radiusKm) {
+        List<NearbyJobDto> jobs = jobService.findOpenJobsNear(latitude, longitude, location, radiusKm);
         return ResponseEntity.ok(jobs);
     }
 
     @GetMapping("/{jobId}")
-    public ResponseEntity<JobDetailDto> getJobDetails(@PathVariable Long jobId) {
-        JobDetailDto jobDto = jobService.getJobById(jobId);
-        return ResponseEntity.ok(jobDto);
+    public ResponseEntity<byte[]> getJobDetails(@PathVariable Long jobId, WebRequest request) {
+        // A revalidation that still matches is answered from the version columns alone
+        ResourceVersion version = jobService.getJobDetailVersion(jobId);
+        viewCounter.record(ViewTarget.JOB, jobId);
+        if (request.checkNotModified(version.etag(), version.lastModified())) {
+            return null;
+        }
+        // Pre-serialized JSON from the job detail cache, written to the response as is
+        byte[] body = jobService.getJobDetailJson(jobId, version);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
 
     @GetMapping("/{jobId}/application-status")
@@ -94,9 +217,12 @@ public class JobController {
 
     @PostMapping("/{jobId}/apply")
     @PreAuthorize("hasRole('WORKER')")
-    public ResponseEntity<String> applyForJob(@PathVariable Long jobId, Principal principal) {
-        jobService.applyForJob(principal.getName(), jobId);
-        return ResponseEntity.status(HttpStatus.CREATED).body("Application submitted successfully.");
+    public ResponseEntity<String> applyForJob(@PathVariable Long jobId,
+                                              @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+                                              Principal principal) {
+        boolean created = jobService.applyForJob(principal.getName(), jobId, idempotencyKey);
+        // A replayed request gets the original outcome, without creating anything
+        return ResponseEntity.status(created ? HttpStatus.CREATED : HttpStatus.OK).body("Application submitted successfully.");
     }
 
     @PostMapping("/{jobId}/images")
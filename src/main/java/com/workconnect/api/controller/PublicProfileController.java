@@ -1,27 +1,40 @@
 package com.workconnect.api.controller;
 
+import com.workconnect.api.cache.ViewCounter;
+import com.workconnect.api.constants.Enum.ViewTarget;
 import com.workconnect.api.dto.BadgeDto;
+import com.workconnect.api.dto.ResourceVersion;
 import com.workconnect.api.dto.ReviewDto;
 import com.workconnect.api.service.PublicProfileService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/public/profiles")
 public class PublicProfileController {
 
     private final PublicProfileService publicProfileService;
+    private final ViewCounter viewCounter;
 
-    public PublicProfileController(PublicProfileService publicProfileService) {
+    public PublicProfileController(PublicProfileService publicProfileService, ViewCounter viewCounter) {
         this.publicProfileService = publicProfileService;
+        this.viewCounter = viewCounter;
     }
 
     @GetMapping("/{userId}")
-    public ResponseEntity<Map<String, Object>> getPublicProfileData(@PathVariable Long userId) {
+    public ResponseEntity<Map<String, Object>> getPublicProfileData(@PathVariable Long userId, WebRequest request) {
+        Optional<ResourceVersion> version = publicProfileService.getPublicProfileVersion(userId);
+        if (version.isPresent() && request.checkNotModified(version.get().etag(), version.get().lastModified())) {
+            viewCounter.record(ViewTarget.PROFILE, userId);
+            return null;
+        }
         Map<String, Object> profileData = publicProfileService.getPublicProfileData(userId);
+        viewCounter.record(ViewTarget.PROFILE, userId);
         return ResponseEntity.ok(profileData);
     }
 }
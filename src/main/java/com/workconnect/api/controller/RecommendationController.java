@@ -1,5 +1,6 @@
 package com.workconnect.api.controller;
 
+import com.workconnect.api.config.ResolvedPrincipal;
 import com.workconnect.api.dto.JobListingDto;
 import com.workconnect.api.dto.dashboard.JobRecommendationsDto;
 import com.workconnect.api.service.RecommendationService;
@@ -7,9 +8,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.security.Principal;
 import java.util.List;
 
 /**
@@ -33,14 +34,14 @@ public class RecommendationController {
     @GetMapping("/jobs")
     @PreAuthorize("hasRole('WORKER')")
     public ResponseEntity<JobRecommendationsDto> getJobRecommendations(
-            Principal principal,
+            @AuthenticationPrincipal ResolvedPrincipal principal,
             @RequestParam(defaultValue = "10") int limit) {
         
-        String userEmail = principal.getName();
+        String userEmail = principal.getUsername();
         logger.info("Getting job recommendations for user: {} with limit: {}", userEmail, limit);
         
         try {
-            List<JobListingDto> recommendations = recommendationService.getJobRecommendations(userEmail);
+            List<JobListingDto> recommendations = recommendationService.getJobRecommendations(principal.getUserId());
             
             // Limit the results if needed
             if (recommendations.size() > limit) {
@@ -1,14 +1,18 @@
 package com.workconnect.api.controller;
 
+import com.workconnect.api.config.ResolvedPrincipal;
+import com.workconnect.api.constants.Enum.JobApplicationStatus;
+import com.workconnect.api.dto.CursorPageDto;
 import com.workconnect.api.dto.WorkerApplicationDto;
 import com.workconnect.api.service.WorkerService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.security.Principal;
 import java.util.List;
 
 @RestController
@@ -23,8 +27,18 @@ public class WorkerController {
     }
 
     @GetMapping("/applications")
-    public ResponseEntity<List<WorkerApplicationDto>> getMyApplications(Principal principal) {
-        List<WorkerApplicationDto> applications = workerService.getApplicationsForWorker(principal.getName());
+    public ResponseEntity<List<WorkerApplicationDto>> getMyApplications(@AuthenticationPrincipal ResolvedPrincipal principal) {
+        List<WorkerApplicationDto> applications = workerService.getApplicationsForWorker(principal.getUserId());
         return ResponseEntity.ok(applications);
     }
+
+    @GetMapping("/applications/history")
+    public ResponseEntity<CursorPageDto<WorkerApplicationDto>> getMyApplicationHistory(
+            @RequestParam(required = false) JobApplicationStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal ResolvedPrincipal principal) {
+        CursorPageDto<WorkerApplicationDto> page = workerService.getApplicationHistory(principal.getUserId(), status, cursor, size);
+        return ResponseEntity.ok(page);
+    }
 }
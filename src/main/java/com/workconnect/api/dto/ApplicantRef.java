@@ -0,0 +1,7 @@
+package com.workconnect.api.dto;
+
+/**
+ * An application and the worker who made it, read without loading either entity.
+ */
+public record ApplicantRef(Long applicationId, Long workerId) {
+}
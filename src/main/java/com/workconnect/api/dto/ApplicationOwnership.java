@@ -0,0 +1,14 @@
+package com.workconnect.api.dto;
+
+import com.workconnect.api.constants.Enum.JobApplicationStatus;
+
+/**
+ * Who an application belongs to and its current status, read without loading the application graph.
+ */
+public record ApplicationOwnership(Long applicationId,
+                                   Long jobId,
+                                   Long employerId,
+                                   String employerEmail,
+                                   Long workerId,
+                                   JobApplicationStatus status) {
+}
@@ -0,0 +1,15 @@
+package com.workconnect.api.dto;
+
+import com.workconnect.api.constants.Enum.JobApplicationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * What one application counts for in the stats rollups: the worker who made it, the employer of its
+ * job, its status and the time it was made.
+ */
+public record ApplicationParticipants(Long workerId,
+                                      Long employerId,
+                                      JobApplicationStatus status,
+                                      LocalDateTime appliedAt) {
+}
@@ -0,0 +1,20 @@
+package com.workconnect.api.dto;
+
+import com.workconnect.api.constants.Enum.JobApplicationStatus;
+import com.workconnect.api.constants.Enum.StatusChangeOutcome;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationStatusOutcomeDto {
+    private Long applicationId;
+    private StatusChangeOutcome outcome;
+    // workerId and previousStatus are only set for applications owned by the employer
+    private Long workerId;
+    private JobApplicationStatus previousStatus;
+}
@@ -0,0 +1,19 @@
+package com.workconnect.api.dto;
+
+import com.workconnect.api.constants.Enum.JobApplicationStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkApplicationStatusRequestDto {
+    @NotEmpty
+    @Size(max = 500, message = "At most 500 applications can be updated at once")
+    private List<@NotNull Long> applicationIds;
+
+    @NotNull
+    private JobApplicationStatus status;
+}
@@ -0,0 +1,19 @@
+package com.workconnect.api.dto;
+
+import com.workconnect.api.constants.Enum.JobApplicationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkApplicationStatusResultDto {
+    private JobApplicationStatus status;
+    private int updatedCount;
+    private List<ApplicationStatusOutcomeDto> results;
+}
@@ -6,6 +6,7 @@ import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Data
 public class CreateJobRequestDto {
@@ -22,4 +23,6 @@ public class CreateJobRequestDto {
     private JobType jobType;
     private LocalDate startDate;
     private LocalDate endDate;
+    // Optional; a future time keeps the job SCHEDULED until then
+    private LocalDateTime publishAt;
 }
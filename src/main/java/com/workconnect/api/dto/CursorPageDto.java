@@ -0,0 +1,22 @@
+package com.workconnect.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing. No total count is computed;
+ * clients keep requesting with {@code nextCursor} until {@code hasMore} is false.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDto<T> {
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasMore;
+}
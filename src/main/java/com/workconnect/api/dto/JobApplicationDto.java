@@ -19,4 +19,6 @@ public class JobApplicationDto {
     private JobApplicationStatus status;
     private LocalDateTime appliedAt;
     private ApplicantDto applicant;
+    // Only set when applicants are ranked by match
+    private Double matchScore;
 }
@@ -0,0 +1,14 @@
+package com.workconnect.api.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Everything the job detail response depends on that can change, read without loading the job.
+ * The employer fields are null when the employer has no profile.
+ */
+public record JobDetailVersion(long version,
+                               int applicationCount,
+                               LocalDateTime lastModifiedAt,
+                               Long employerProfileVersion,
+                               LocalDateTime employerProfileModifiedAt) {
+}
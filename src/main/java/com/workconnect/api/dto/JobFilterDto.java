@@ -0,0 +1,24 @@
+package com.workconnect.api.dto;
+
+import com.workconnect.api.constants.Enum.JobType;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * Optional filters for the open jobs listing. Every field left null is ignored.
+ */
+@Data
+public class JobFilterDto {
+    private JobType jobType;
+    private String location;
+    private Double minSalary;
+    private Double maxSalary;
+
+    // Range applied to the job's start date (the day of work for ONE_DAY jobs)
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate startDateFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate startDateTo;
+}
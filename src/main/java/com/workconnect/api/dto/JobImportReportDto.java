@@ -0,0 +1,22 @@
+package com.workconnect.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk job import, with one result per submitted row in submission order.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobImportReportDto {
+    private int totalRows;
+    private int createdCount;
+    private int rejectedCount;
+    private List<JobImportRowResultDto> rows;
+}
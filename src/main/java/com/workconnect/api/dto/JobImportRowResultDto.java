@@ -0,0 +1,21 @@
+package com.workconnect.api.dto;
+
+import com.workconnect.api.constants.Enum.ImportRowStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobImportRowResultDto {
+    // 1-based position among the data rows, not counting the CSV header
+    private int row;
+    private ImportRowStatus status;
+    private Long jobId;
+    private List<String> errors;
+}
@@ -0,0 +1,38 @@
+package com.workconnect.api.dto;
+
+import com.workconnect.api.constants.Enum.JobStatus;
+import com.workconnect.api.constants.Enum.JobType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * The fields of a job that decide when its status changes next, read without loading the job.
+ */
+public record JobLifecycleDates(Long jobId,
+                                JobStatus status,
+                                JobType jobType,
+                                LocalDate startDate,
+                                LocalDate endDate,
+                                LocalDateTime publishAt) {
+
+    public static JobLifecycleDates of(JobListingDto job) {
+        return new JobLifecycleDates(job.getId(), job.getStatus(), job.getJobType(),
+                job.getStartDate(), job.getEndDate(), job.getPublishAt());
+    }
+
+    /**
+     * When the job is due to be published or to expire, or null when no transition is pending.
+     * A one-day job expires once its day is over and a contract once its end date is over.
+     */
+    public LocalDateTime nextTransitionAt() {
+        if (status == JobStatus.SCHEDULED) {
+            return publishAt;
+        }
+        if (status != JobStatus.OPEN) {
+            return null;
+        }
+        LocalDate lastDay = jobType == JobType.CONTRACT ? endDate : jobType == JobType.ONE_DAY ? startDate : null;
+        return lastDay != null ? lastDay.plusDays(1).atStartOfDay() : null;
+    }
+}
@@ -6,10 +6,11 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class JobListingDto {
@@ -23,5 +24,10 @@ public class JobListingDto {
     private JobStatus status;
     private String employerCompanyName;
     private LocalDateTime postedAt;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private LocalDateTime publishAt;
+    private Double latitude;
+    private Double longitude;
     private Integer applicationCount;
 }
@@ -0,0 +1,7 @@
+package com.workconnect.api.dto;
+
+/**
+ * A job and the employer who posted it, read without loading either entity.
+ */
+public record JobOwnerRef(Long jobId, Long employerId) {
+}
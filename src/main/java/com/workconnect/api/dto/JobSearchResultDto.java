@@ -0,0 +1,23 @@
+package com.workconnect.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ranked search results together with facet counts over every job matching the same query and filters.
+ * Facets are keyed by name: jobType, location, salary, startDate and skills.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobSearchResultDto {
+    private List<JobListingDto> jobs;
+    private int totalMatches;
+    private Map<String, List<FacetCountDto>> facets;
+}
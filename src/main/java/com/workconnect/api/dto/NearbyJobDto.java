@@ -0,0 +1,15 @@
+package com.workconnect.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NearbyJobDto {
+    private JobListingDto job;
+    private double distanceKm;
+}
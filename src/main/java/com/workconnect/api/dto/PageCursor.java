@@ -0,0 +1,39 @@
+package com.workconnect.api.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last row returned on a keyset page ordered by (timestamp DESC, id DESC), such as
+ * jobs by postedAt or applications by appliedAt. Serialized as an opaque URL-safe token so clients
+ * cannot depend on its layout.
+ */
+public record PageCursor(LocalDateTime timestamp, Long id) {
+
+    public String encode() {
+        String raw = timestamp + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token produced by {@link #encode()}.
+     *
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static PageCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid page cursor");
+            }
+            return new PageCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid page cursor", e);
+        }
+    }
+}
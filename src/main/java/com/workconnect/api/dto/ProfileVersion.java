@@ -0,0 +1,6 @@
+package com.workconnect.api.dto;
+
+import java.time.LocalDateTime;
+
+public record ProfileVersion(long version, LocalDateTime lastModifiedAt) {
+}
@@ -0,0 +1,21 @@
+package com.workconnect.api.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Validators for a conditional GET: a strong entity tag (unquoted) and the last modification
+ * time in epoch milliseconds, or -1 when it is unknown.
+ */
+public record ResourceVersion(String etag, long lastModified) {
+
+    public static long toEpochMilli(LocalDateTime... timestamps) {
+        long latest = -1;
+        for (LocalDateTime timestamp : timestamps) {
+            if (timestamp != null) {
+                latest = Math.max(latest, timestamp.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+            }
+        }
+        return latest;
+    }
+}
@@ -6,6 +6,7 @@ import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Data
 public class UpdateJobRequestDto {
@@ -28,4 +29,6 @@ public class UpdateJobRequestDto {
     
     private LocalDate startDate;
     private LocalDate endDate;
+    // Optional; a future time keeps the job SCHEDULED until then
+    private LocalDateTime publishAt;
 }
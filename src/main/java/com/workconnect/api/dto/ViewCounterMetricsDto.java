@@ -0,0 +1,19 @@
+package com.workconnect.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ViewCounterMetricsDto {
+    private long pendingViews;
+    private LocalDateTime lastFlushAt;
+    // Age of the oldest view that may still be only in memory
+    private long flushLagMillis;
+}
@@ -2,15 +2,22 @@ package com.workconnect.api.dto;
 
 import com.workconnect.api.constants.Enum.JobApplicationStatus;
 import com.workconnect.api.entity.JobApplication;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
 
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class WorkerApplicationDto {
     private Long applicationId;
     private JobApplicationStatus status;
     private String jobTitle;
     private String companyName;
     private Long jobId;
+    private LocalDateTime appliedAt;
 
     public static WorkerApplicationDto fromEntity(JobApplication application) {
         WorkerApplicationDto dto = new WorkerApplicationDto();
@@ -18,6 +25,7 @@ public class WorkerApplicationDto {
         dto.setStatus(application.getStatus());
         dto.setJobId(application.getJobPosting().getId());
         dto.setJobTitle(application.getJobPosting().getJobTitle());
+        dto.setAppliedAt(application.getAppliedAt());
 
         if (application.getJobPosting().getEmployer().getProfile() instanceof com.workconnect.api.entity.EmployerProfile) {
             dto.setCompanyName(((com.workconnect.api.entity.EmployerProfile) application.getJobPosting().getEmployer().getProfile()).getCompanyName());
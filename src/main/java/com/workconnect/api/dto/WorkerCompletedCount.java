@@ -0,0 +1,4 @@
+package com.workconnect.api.dto;
+
+public record WorkerCompletedCount(Long workerId, Long completedJobs) {
+}
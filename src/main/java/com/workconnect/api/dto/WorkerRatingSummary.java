@@ -0,0 +1,4 @@
+package com.workconnect.api.dto;
+
+public record WorkerRatingSummary(Long workerId, Double averageRating, Long reviewCount) {
+}
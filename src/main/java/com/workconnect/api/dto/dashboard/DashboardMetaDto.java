@@ -0,0 +1,22 @@
+package com.workconnect.api.dto.dashboard;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Dashboard Metadata DTO. {@code partial} is set when any section timed out or failed; its
+ * fields are then left empty in the dashboard.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardMetaDto {
+    private boolean partial;
+    private long elapsedMillis;
+    private List<DashboardSectionDto> sections;
+}
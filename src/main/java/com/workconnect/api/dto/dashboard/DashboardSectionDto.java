@@ -0,0 +1,20 @@
+package com.workconnect.api.dto.dashboard;
+
+import com.workconnect.api.constants.Enum.DashboardSectionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * How one dashboard section was loaded
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardSectionDto {
+    private String name;
+    private DashboardSectionStatus status;
+    private long elapsedMillis;
+}
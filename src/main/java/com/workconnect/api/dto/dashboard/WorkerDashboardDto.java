@@ -25,4 +25,5 @@ public class WorkerDashboardDto {
     private List<JobApplicationDto> recentApplications;
     private List<JobListingDto> recommendedJobs;
     private List<String> profileCompletionTips;
+    private DashboardMetaDto meta;
 }
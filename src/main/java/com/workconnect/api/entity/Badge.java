@@ -14,7 +14,8 @@ import lombok.Setter;
 public class Badge {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "badges_seq")
+    @SequenceGenerator(name = "badges_seq", sequenceName = "badges_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false)
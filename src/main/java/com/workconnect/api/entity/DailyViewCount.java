@@ -0,0 +1,41 @@
+package com.workconnect.api.entity;
+
+import com.workconnect.api.constants.Enum.ViewTarget;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * Views of one job or public profile on one day, written by the view counter's periodic flush.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "daily_view_counts")
+@IdClass(DailyViewCountId.class)
+public class DailyViewCount {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private ViewTarget target;
+
+    @Id
+    private Long targetId;
+
+    @Id
+    private LocalDate viewDay;
+
+    @Column(nullable = false)
+    private long views;
+
+    public DailyViewCount(ViewTarget target, Long targetId, LocalDate viewDay) {
+        this.target = target;
+        this.targetId = targetId;
+        this.viewDay = viewDay;
+    }
+}
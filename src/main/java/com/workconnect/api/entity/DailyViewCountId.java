@@ -0,0 +1,19 @@
+package com.workconnect.api.entity;
+
+import com.workconnect.api.constants.Enum.ViewTarget;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyViewCountId implements Serializable {
+
+    private ViewTarget target;
+    private Long targetId;
+    private LocalDate viewDay;
+}
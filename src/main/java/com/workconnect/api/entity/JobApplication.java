@@ -11,11 +11,20 @@ import java.time.LocalDateTime;
 @Setter
 @NoArgsConstructor
 @Entity
-@Table(name = "job_applications")
+@Table(name = "job_applications", uniqueConstraints = {
+        // One application per worker and job, also under concurrent submissions
+        @UniqueConstraint(name = "uk_job_applications_worker_job", columnNames = {"worker_id", "job_id"})
+}, indexes = {
+        // Applicant lists of a job, filtered and ordered by application time
+        @Index(name = "idx_job_applications_job_applied_at", columnList = "job_id, appliedAt"),
+        // A worker's application history, newest first
+        @Index(name = "idx_job_applications_worker_applied_at", columnList = "worker_id, appliedAt")
+})
 public class JobApplication {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_applications_seq")
+    @SequenceGenerator(name = "job_applications_seq", sequenceName = "job_applications_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -33,6 +42,11 @@ public class JobApplication {
     private LocalDateTime statusUpdatedAt;
     private String coverLetter;
 
+    // Client-supplied key of the request that created the application; a retry carrying the same
+    // key is answered with this application instead of a duplicate error
+    @Column(length = 100)
+    private String idempotencyKey;
+
     @PrePersist
     protected void onCreate() {
         appliedAt = LocalDateTime.now();
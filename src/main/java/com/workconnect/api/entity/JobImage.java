@@ -13,7 +13,8 @@ import lombok.Setter;
 public class JobImage {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_images_seq")
+    @SequenceGenerator(name = "job_images_seq", sequenceName = "job_images_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -6,8 +6,10 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -15,17 +17,31 @@ import java.util.Set;
 @Setter
 @NoArgsConstructor
 @Entity
-@Table(name = "job_postings")
+@Table(name = "job_postings", indexes = {
+        @Index(name = "idx_job_postings_status_posted_at", columnList = "status, postedAt, id"),
+        // Range scans for the lifecycle scheduler's upcoming transitions
+        @Index(name = "idx_job_postings_status_start_date", columnList = "status, startDate"),
+        @Index(name = "idx_job_postings_status_end_date", columnList = "status, endDate"),
+        @Index(name = "idx_job_postings_status_publish_at", columnList = "status, publishAt"),
+        // Incremental pulls of the partner feed
+        @Index(name = "idx_job_postings_last_modified_at", columnList = "lastModifiedAt"),
+        // An employer's postings for the dashboard and its aggregates
+        @Index(name = "idx_job_postings_employer_status", columnList = "employer_id, status")
+})
 public class JobPosting {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_postings_seq")
+    @SequenceGenerator(name = "job_postings_seq", sequenceName = "job_postings_seq", allocationSize = 50)
     private Long id;
 
     private String jobTitle;
     private String description;
     private String requiredSkills;
     private String location;
+    // Resolved from the location text through the gazetteer; null when the place is unknown
+    private Double latitude;
+    private Double longitude;
     private Double salary;
     private LocalDate startDate;
     private LocalDate endDate;
@@ -46,8 +62,53 @@ public class JobPosting {
 
     private LocalDateTime postedAt;
 
+    // When a SCHEDULED job goes live; postedAt is moved to the actual publish time
+    private LocalDateTime publishAt;
+
+    // Denormalized application counters. They are only changed through the atomic
+    // UPDATE statements in JobPostingRepository, never by flushing this entity.
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int applicationCount;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int pendingCount;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int viewedCount;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int acceptedCount;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int rejectedCount;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int completedCount;
+
+    // Incremented on every flush that changes the job; the counters above are not covered
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
+
+    private LocalDateTime lastModifiedAt;
+
     @PrePersist
     protected void onCreate() {
-        postedAt = LocalDateTime.now();
+        // Match the column's microsecond precision so keyset cursors built from a managed
+        // entity compare equal to the stored value
+        postedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        lastModifiedAt = postedAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        lastModifiedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 }
@@ -0,0 +1,29 @@
+package com.workconnect.api.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One stripe of the open jobs listing's version. Each transaction that changes the listing adds one
+ * to a single stripe, so concurrent writers rarely wait on the same row, and the sum over all
+ * stripes only ever grows.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "listing_versions")
+public class ListingVersion {
+
+    @Id
+    private Integer stripe;
+
+    @Column(nullable = false)
+    private long version;
+
+    public ListingVersion(Integer stripe) {
+        this.stripe = stripe;
+    }
+}
@@ -4,12 +4,19 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 @Getter
 @Setter
 @NoArgsConstructor
 @Entity
-@Table(name = "profiles")
+@Table(name = "profiles", indexes = {
+        // Finds the employers whose jobs other instances must reload
+        @Index(name = "idx_profiles_last_modified_at", columnList = "lastModifiedAt")
+})
 @Inheritance(strategy = InheritanceType.JOINED)
 public abstract class Profile {
 
@@ -21,7 +28,21 @@ public abstract class Profile {
     @JoinColumn(name = "id")
     private User user;
 
+    // Shared by worker and employer profiles; also bumped when reviews or badges are added
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
+
+    private LocalDateTime lastModifiedAt;
+
     public Profile(User user) {
         this.user = user;
     }
+
+    @PrePersist
+    @PreUpdate
+    protected void onWrite() {
+        lastModifiedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
 }
@@ -0,0 +1,35 @@
+package com.workconnect.api.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * A named lease that lets one node of the cluster run a scheduled task. The holder renews it on
+ * every run; any node may take it over once it has expired.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "scheduler_leases")
+public class SchedulerLease {
+
+    @Id
+    private String name;
+
+    @Column(nullable = false)
+    private String owner;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    public SchedulerLease(String name, String owner, LocalDateTime expiresAt) {
+        this.name = name;
+        this.owner = owner;
+        this.expiresAt = expiresAt;
+    }
+}
@@ -13,7 +13,8 @@ import lombok.Setter;
 public class Skill {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "skills_seq")
+    @SequenceGenerator(name = "skills_seq", sequenceName = "skills_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false)
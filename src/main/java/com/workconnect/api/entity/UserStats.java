@@ -0,0 +1,161 @@
+package com.workconnect.api.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDate;
+
+/**
+ * Dashboard counters of one user, kept up to date by the write paths so the dashboards read a
+ * single row. For an employer the application counters cover applications to their jobs, for a
+ * worker the applications they made.
+ *
+ * <p>The counters are only changed through the atomic UPDATE statements in UserStatsRepository,
+ * never by flushing this entity.
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "user_stats")
+public class UserStats {
+
+    /**
+     * Number of daily buckets in the ring; a day's applications go to bucket {@code epochDay % DAYS}.
+     */
+    public static final int DAYS = 7;
+
+    @Id
+    private Long userId;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @MapsId
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int jobsPosted;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int activeJobs;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int applicationCount;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int pendingCount;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int viewedCount;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int acceptedCount;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int rejectedCount;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int completedCount;
+
+    // Views of the user's public profile and, for an employer, of their jobs; added by the view
+    // counter's flush, so they trail the live count by up to one flush interval
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private long profileViews;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private long jobViews;
+
+    // Ring of daily application counts. Each bucket remembers the epoch day it counts, so a bucket
+    // left over from an earlier week is recognised as stale on read and restarted on write.
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private long bucketDay0;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int bucketCount0;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private long bucketDay1;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int bucketCount1;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private long bucketDay2;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int bucketCount2;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private long bucketDay3;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int bucketCount3;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private long bucketDay4;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int bucketCount4;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private long bucketDay5;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int bucketCount5;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private long bucketDay6;
+
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int bucketCount6;
+
+    public UserStats(User user) {
+        this.user = user;
+    }
+
+    public static int bucketOf(LocalDate day) {
+        return (int) Math.floorMod(day.toEpochDay(), DAYS);
+    }
+
+    /**
+     * Applications counted in the {@link #DAYS} days ending with {@code today}, today included.
+     */
+    public int applicationsInWeekEnding(LocalDate today) {
+        long[] days = {bucketDay0, bucketDay1, bucketDay2, bucketDay3, bucketDay4, bucketDay5, bucketDay6};
+        int[] counts = {bucketCount0, bucketCount1, bucketCount2, bucketCount3, bucketCount4, bucketCount5, bucketCount6};
+        long last = today.toEpochDay();
+        long first = last - (DAYS - 1);
+        int total = 0;
+        for (int i = 0; i < DAYS; i++) {
+            if (days[i] >= first && days[i] <= last) {
+                total += counts[i];
+            }
+        }
+        return total;
+    }
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -19,6 +20,9 @@ public class WorkerProfile extends Profile {
     private String lastName;
     private String phoneNumber;
     private String location;
+    // Resolved from the location text through the gazetteer; null when the place is unknown
+    private Double latitude;
+    private Double longitude;
     private String bio;
     private String experience;
     private String education;
@@ -26,6 +30,8 @@ public class WorkerProfile extends Profile {
     private String profileImageUrl;
     private String resumeUrl;
 
+    // Loaded for up to 100 profiles per query when a list of workers is shown
+    @BatchSize(size = 100)
     @ManyToMany(cascade = { CascadeType.PERSIST, CascadeType.MERGE })
     @JoinTable(
             name = "worker_profile_skills",
@@ -0,0 +1,18 @@
+package com.workconnect.api.event;
+
+import com.workconnect.api.constants.Enum.JobApplicationStatus;
+
+/**
+ * Published by JobService when a worker applies for a job or an application changes status.
+ *
+ * @param previousStatus null for a newly submitted application
+ */
+public record JobApplicationChangedEvent(Long jobId,
+                                         Long applicationId,
+                                         JobApplicationStatus previousStatus,
+                                         JobApplicationStatus newStatus) {
+
+    public boolean isNewApplication() {
+        return previousStatus == null;
+    }
+}
@@ -0,0 +1,25 @@
+package com.workconnect.api.event;
+
+import com.workconnect.api.dto.JobListingDto;
+
+/**
+ * Published by JobService whenever a job posting is created, edited, changes status or is deleted.
+ * The listing is mapped inside the publishing transaction so listeners never touch lazy state.
+ *
+ * @param jobId   the affected job
+ * @param listing the job as it looks after the change, or null when the job was deleted
+ */
+public record JobChangedEvent(Long jobId, JobListingDto listing) {
+
+    public static JobChangedEvent saved(JobListingDto listing) {
+        return new JobChangedEvent(listing.getId(), listing);
+    }
+
+    public static JobChangedEvent deleted(Long jobId) {
+        return new JobChangedEvent(jobId, null);
+    }
+
+    public boolean isDeleted() {
+        return listing == null;
+    }
+}
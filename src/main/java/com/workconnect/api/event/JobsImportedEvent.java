@@ -0,0 +1,14 @@
+package com.workconnect.api.event;
+
+import com.workconnect.api.dto.JobListingDto;
+
+import java.util.List;
+
+/**
+ * Published by the bulk job import once per request instead of one {@link JobChangedEvent} per
+ * row, so listeners can apply thousands of new jobs in one step.
+ *
+ * @param listings the imported jobs, all newly created
+ */
+public record JobsImportedEvent(List<JobListingDto> listings) {
+}
@@ -0,0 +1,15 @@
+package com.workconnect.api.event;
+
+import com.workconnect.api.dto.JobListingDto;
+
+import java.util.List;
+
+/**
+ * Published by the job catalog resync with jobs that may have changed on another instance, read
+ * back from the database. Job events only reach listeners on the instance that published them.
+ *
+ * @param listings      the jobs as they are now, in any status
+ * @param deletedJobIds jobs that were asked for but no longer exist
+ */
+public record JobsReloadedEvent(List<JobListingDto> listings, List<Long> deletedJobIds) {
+}
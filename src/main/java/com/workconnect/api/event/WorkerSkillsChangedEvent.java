@@ -0,0 +1,9 @@
+package com.workconnect.api.event;
+
+/**
+ * Published by ProfileService when a worker saves their profile with a list of skills.
+ *
+ * @param workerId the worker's user id, which is also their profile id
+ */
+public record WorkerSkillsChangedEvent(Long workerId) {
+}
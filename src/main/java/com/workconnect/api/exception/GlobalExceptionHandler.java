@@ -6,6 +6,7 @@ import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -204,6 +205,29 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
     }
 
+    /**
+     * Handle concurrent modifications of a versioned entity
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponseDto> handleOptimisticLockingFailureException(
+            OptimisticLockingFailureException ex, HttpServletRequest request) {
+
+        String traceId = generateTraceId();
+
+        log.warn("Concurrent modification [TraceId: {}]: {}", traceId, ex.getMessage());
+
+        ErrorResponseDto errorResponse = ErrorResponseDto.builder()
+                .status(HttpStatus.CONFLICT.value())
+                .errorCode("CONCURRENT_MODIFICATION")
+                .message("The resource was modified by another request. Reload it and try again.")
+                .path(request.getRequestURI())
+                .timestamp(java.time.LocalDateTime.now())
+                .traceId(traceId)
+                .build();
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
     /**
      * Handle HTTP message not readable exceptions (malformed JSON)
      */
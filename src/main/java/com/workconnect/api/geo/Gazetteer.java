@@ -0,0 +1,84 @@
+package com.workconnect.api.geo;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Resolves free-text locations to coordinates using the place names bundled in
+ * {@code geo/gazetteer.csv}, without calling any external geocoding service.
+ * <p>
+ * A location such as "Colombo 07, Western Province" is tried as a whole, then per comma-separated
+ * part, and each part with trailing words dropped, so addresses that merely start with a known
+ * place name still resolve.
+ */
+@Component
+public class Gazetteer {
+
+    private static final String RESOURCE = "geo/gazetteer.csv";
+
+    private final Map<String, GeoPoint> places = new HashMap<>();
+
+    public Gazetteer() {
+        try (InputStream in = new ClassPathResource(RESOURCE).getInputStream()) {
+            load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load " + RESOURCE, e);
+        }
+    }
+
+    public Optional<GeoPoint> resolve(String location) {
+        if (location == null || location.isBlank()) {
+            return Optional.empty();
+        }
+        GeoPoint point = places.get(normalize(location));
+        if (point != null) {
+            return Optional.of(point);
+        }
+        for (String part : location.split(",")) {
+            String[] words = normalize(part).split(" ");
+            for (int length = words.length; length > 0; length--) {
+                point = places.get(String.join(" ", Arrays.copyOf(words, length)));
+                if (point != null) {
+                    return Optional.of(point);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    public int size() {
+        return places.size();
+    }
+
+    private void load(InputStream in) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank() || line.startsWith("#") || line.startsWith("name,")) {
+                continue;
+            }
+            String[] columns = line.split(",");
+            if (columns.length != 3) {
+                throw new IllegalStateException("Malformed gazetteer line: " + line);
+            }
+            places.put(normalize(columns[0]),
+                    new GeoPoint(Double.parseDouble(columns[1].trim()), Double.parseDouble(columns[2].trim())));
+        }
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]+", " ").trim();
+    }
+}
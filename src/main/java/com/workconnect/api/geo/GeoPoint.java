@@ -0,0 +1,27 @@
+package com.workconnect.api.geo;
+
+/**
+ * A WGS84 position in decimal degrees.
+ */
+public record GeoPoint(double latitude, double longitude) {
+
+    static final double EARTH_RADIUS_KM = 6371.0088;
+
+    public GeoPoint {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("Coordinates out of range: " + latitude + ", " + longitude);
+        }
+    }
+
+    /**
+     * Great-circle distance in kilometres (haversine formula).
+     */
+    public double distanceKm(GeoPoint other) {
+        double dLat = Math.toRadians(other.latitude - latitude);
+        double dLon = Math.toRadians(other.longitude - longitude);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(latitude)) * Math.cos(Math.toRadians(other.latitude))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+}
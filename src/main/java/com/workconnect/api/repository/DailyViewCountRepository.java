@@ -0,0 +1,10 @@
+package com.workconnect.api.repository;
+
+import com.workconnect.api.entity.DailyViewCount;
+import com.workconnect.api.entity.DailyViewCountId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DailyViewCountRepository extends JpaRepository<DailyViewCount, DailyViewCountId> {
+}
@@ -0,0 +1,31 @@
+package com.workconnect.api.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hands out entity ids from the same pooled sequence blocks Hibernate uses for persist, for
+ * statements that insert rows themselves. Most calls are served from memory; the sequence is
+ * only read once per block.
+ */
+@Component
+public class IdAllocator {
+
+    private final EntityManager entityManager;
+
+    public IdAllocator(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Must be called inside a transaction.
+     */
+    public Long nextId(Class<?> entityType) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        IdentifierGenerator generator = (IdentifierGenerator) session.getFactory().getMappingMetamodel()
+                .getEntityDescriptor(entityType).getGenerator();
+        return (Long) generator.generate(session, null);
+    }
+}
@@ -1,16 +1,26 @@
 package com.workconnect.api.repository;
 
 import com.workconnect.api.constants.Enum.JobApplicationStatus;
+import com.workconnect.api.dto.ApplicantRef;
+import com.workconnect.api.dto.ApplicationOwnership;
+import com.workconnect.api.dto.ApplicationParticipants;
+import com.workconnect.api.dto.WorkerApplicationDto;
+import com.workconnect.api.dto.WorkerCompletedCount;
 import com.workconnect.api.entity.JobApplication;
 import com.workconnect.api.entity.User;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +31,8 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
 
     Optional<JobApplication> findByWorker_UserIdAndJobPosting_Id(Long workerId, Long jobId);
 
+    Optional<JobApplication> findByWorker_EmailAndJobPosting_Id(String workerEmail, Long jobId);
+
     List<JobApplication> findByJobPosting_Id(Long jobId);
 
     /**
@@ -33,7 +45,7 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
      */
     long countByWorkerAndStatus(User worker, JobApplicationStatus status);
 
-    List<JobApplication> findByWorker_Email(String email);
+    List<JobApplication> findByWorker_UserId(Long workerId);
 
     /**
      * Counts all applications for a specific job posting.
@@ -54,4 +66,154 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
 
     @Query("SELECT COUNT(ja) FROM JobApplication ja WHERE ja.id > (SELECT MAX(ja2.id) - 100 FROM JobApplication ja2)")
     Long countByCreatedAtAfter(@Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * Locks the given applications until the transaction ends, in ID order, so status changes
+     * read and write each application's status without another change landing in between.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ja.id FROM JobApplication ja WHERE ja.id IN :ids ORDER BY ja.id")
+    List<Long> lockByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Owner and status of each existing application among the given IDs, in one query.
+     */
+    @Query("SELECT new com.workconnect.api.dto.ApplicationOwnership(ja.id, j.id, e.userId, e.email, ja.worker.userId, ja.status) " +
+            "FROM JobApplication ja JOIN ja.jobPosting j JOIN j.employer e WHERE ja.id IN :ids")
+    List<ApplicationOwnership> findOwnershipByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Every application to the job, as counted in the stats rollups.
+     */
+    @Query("SELECT new com.workconnect.api.dto.ApplicationParticipants(ja.worker.userId, j.employer.userId, ja.status, ja.appliedAt) " +
+            "FROM JobApplication ja JOIN ja.jobPosting j WHERE j.id = :jobId")
+    List<ApplicationParticipants> findParticipantsByJobId(@Param("jobId") Long jobId);
+
+    /**
+     * Every application the user made or received on one of their jobs, as counted in the stats rollups.
+     */
+    @Query("SELECT new com.workconnect.api.dto.ApplicationParticipants(ja.worker.userId, j.employer.userId, ja.status, ja.appliedAt) " +
+            "FROM JobApplication ja JOIN ja.jobPosting j WHERE ja.worker.userId = :userId OR j.employer.userId = :userId")
+    List<ApplicationParticipants> findParticipantsByUserId(@Param("userId") Long userId);
+
+    /**
+     * Deletes every application to the job, ahead of the job itself.
+     */
+    @Modifying
+    @Query("DELETE FROM JobApplication ja WHERE ja.jobPosting.id = :jobId")
+    int deleteByJobId(@Param("jobId") Long jobId);
+
+    /**
+     * Deletes every application the user made or received on one of their jobs, ahead of the user.
+     */
+    @Modifying
+    @Query("DELETE FROM JobApplication ja WHERE ja.worker.userId = :userId " +
+            "OR ja.jobPosting.id IN (SELECT j.id FROM JobPosting j WHERE j.employer.userId = :userId)")
+    int deleteByParticipantId(@Param("userId") Long userId);
+
+    @Query("SELECT new com.workconnect.api.dto.ApplicationOwnership(ja.id, j.id, e.userId, e.email, ja.worker.userId, ja.status) " +
+            "FROM JobApplication ja JOIN ja.jobPosting j JOIN j.employer e WHERE ja.id = :id")
+    Optional<ApplicationOwnership> findOwnershipById(@Param("id") Long id);
+
+    /**
+     * Moves the given applications to {@code status}. Bulk updates skip the entity's
+     * {@code @PreUpdate} callback, so {@code statusUpdatedAt} is set here, and only on rows whose
+     * status actually changes.
+     */
+    @Modifying
+    @Query("UPDATE JobApplication ja SET ja.status = :status, ja.statusUpdatedAt = :now " +
+            "WHERE ja.id IN :ids AND ja.status <> :status")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids,
+                           @Param("status") JobApplicationStatus status,
+                           @Param("now") LocalDateTime now);
+
+    /**
+     * Submits a PENDING application in one statement: the worker is resolved by email, the job
+     * must be OPEN, and nothing is inserted when the worker has already applied.
+     *
+     * @return 1 when the application was created, 0 otherwise
+     */
+    @Modifying
+    @Query("INSERT INTO JobApplication (id, jobPosting, worker, status, appliedAt, statusUpdatedAt, idempotencyKey) " +
+            "SELECT :id, j, w, com.workconnect.api.constants.Enum.JobApplicationStatus.PENDING, :now, :now, :idempotencyKey " +
+            "FROM JobPosting j, User w " +
+            "WHERE j.id = :jobId AND j.status = com.workconnect.api.constants.Enum.JobStatus.OPEN AND w.email = :workerEmail " +
+            "AND NOT EXISTS (SELECT 1 FROM JobApplication ja WHERE ja.worker = w AND ja.jobPosting = j)")
+    int insertIfAbsent(@Param("id") Long id,
+                       @Param("workerEmail") String workerEmail,
+                       @Param("jobId") Long jobId,
+                       @Param("idempotencyKey") String idempotencyKey,
+                       @Param("now") LocalDateTime now);
+
+    /**
+     * A page of a job's applications with each worker and profile fetched in the same query.
+     * The profiles' skills are loaded afterwards in one batch (see {@code WorkerProfile.skills}).
+     * Null filters are ignored; the date bounds are cast so PostgreSQL can type them when null.
+     */
+    @Query(value = "SELECT ja FROM JobApplication ja JOIN FETCH ja.worker w LEFT JOIN FETCH w.profile " +
+            "WHERE ja.jobPosting.id = :jobId " +
+            "AND (:status IS NULL OR ja.status = :status) " +
+            "AND (CAST(:appliedFrom AS LocalDateTime) IS NULL OR ja.appliedAt >= :appliedFrom) " +
+            "AND (CAST(:appliedTo AS LocalDateTime) IS NULL OR ja.appliedAt < :appliedTo)",
+            countQuery = "SELECT COUNT(ja) FROM JobApplication ja " +
+                    "WHERE ja.jobPosting.id = :jobId " +
+                    "AND (:status IS NULL OR ja.status = :status) " +
+                    "AND (CAST(:appliedFrom AS LocalDateTime) IS NULL OR ja.appliedAt >= :appliedFrom) " +
+                    "AND (CAST(:appliedTo AS LocalDateTime) IS NULL OR ja.appliedAt < :appliedTo)")
+    Page<JobApplication> findApplicantsPage(@Param("jobId") Long jobId,
+                                            @Param("status") JobApplicationStatus status,
+                                            @Param("appliedFrom") LocalDateTime appliedFrom,
+                                            @Param("appliedTo") LocalDateTime appliedTo,
+                                            Pageable pageable);
+
+    @Query("SELECT new com.workconnect.api.dto.ApplicantRef(ja.id, ja.worker.userId) " +
+            "FROM JobApplication ja WHERE ja.jobPosting.id = :jobId AND ja.status IN :statuses ORDER BY ja.id")
+    List<ApplicantRef> findApplicantRefsByJobIdAndStatusIn(@Param("jobId") Long jobId,
+                                                           @Param("statuses") Collection<JobApplicationStatus> statuses);
+
+    @Query("SELECT ja FROM JobApplication ja JOIN FETCH ja.worker w LEFT JOIN FETCH w.profile WHERE ja.id IN :ids")
+    List<JobApplication> findAllWithWorkerByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.workconnect.api.dto.WorkerCompletedCount(ja.worker.userId, COUNT(ja)) " +
+            "FROM JobApplication ja " +
+            "WHERE ja.worker.userId IN :workerIds " +
+            "AND ja.status = com.workconnect.api.constants.Enum.JobApplicationStatus.COMPLETED " +
+            "GROUP BY ja.worker.userId")
+    List<WorkerCompletedCount> countCompletedByWorkerIdIn(@Param("workerIds") Collection<Long> workerIds);
+
+    /**
+     * Keyset page of a worker's applications, newest first, read straight into DTOs: one statement
+     * that joins the job and the employer's profile and loads no entities. Rows strictly after the
+     * (afterAppliedAt, afterId) position are returned. A null status returns every status. The
+     * cursor is cast so PostgreSQL can type it on the first page, where it is null.
+     */
+    @Query("SELECT new com.workconnect.api.dto.WorkerApplicationDto(ja.id, ja.status, j.jobTitle, ep.companyName, j.id, ja.appliedAt) " +
+            "FROM JobApplication ja JOIN ja.jobPosting j " +
+            "LEFT JOIN EmployerProfile ep ON ep.id = j.employer.userId " +
+            "WHERE ja.worker.userId = :workerId " +
+            "AND (:status IS NULL OR ja.status = :status) " +
+            "AND (CAST(:afterAppliedAt AS LocalDateTime) IS NULL OR ja.appliedAt < :afterAppliedAt " +
+            "     OR (ja.appliedAt = :afterAppliedAt AND ja.id < :afterId)) " +
+            "ORDER BY ja.appliedAt DESC, ja.id DESC")
+    List<WorkerApplicationDto> findHistoryPage(@Param("workerId") Long workerId,
+                                               @Param("status") JobApplicationStatus status,
+                                               @Param("afterAppliedAt") LocalDateTime afterAppliedAt,
+                                               @Param("afterId") Long afterId,
+                                               Limit limit);
+
+    /**
+     * The most recent applications across all of the employer's jobs, newest first, with the job,
+     * employer and profile fetched in the same statement.
+     */
+    @Query("SELECT ja FROM JobApplication ja JOIN FETCH ja.jobPosting j JOIN FETCH j.employer e LEFT JOIN FETCH e.profile " +
+            "WHERE e.userId = :employerId ORDER BY ja.appliedAt DESC, ja.id DESC")
+    List<JobApplication> findRecentByEmployerId(@Param("employerId") Long employerId, Limit limit);
+
+    /**
+     * The worker's most recent applications, newest first, with the job, employer and profile
+     * fetched in the same statement.
+     */
+    @Query("SELECT ja FROM JobApplication ja JOIN FETCH ja.jobPosting j JOIN FETCH j.employer e LEFT JOIN FETCH e.profile " +
+            "WHERE ja.worker.userId = :workerId ORDER BY ja.appliedAt DESC, ja.id DESC")
+    List<JobApplication> findRecentByWorkerId(@Param("workerId") Long workerId, Limit limit);
 }
@@ -1,28 +1,167 @@
 package com.workconnect.api.repository;
 
 import com.workconnect.api.constants.Enum.JobStatus;
+import com.workconnect.api.constants.Enum.JobType;
+import com.workconnect.api.dto.JobDetailVersion;
+import com.workconnect.api.dto.JobLifecycleDates;
+import com.workconnect.api.dto.JobOwnerRef;
 import com.workconnect.api.entity.JobPosting;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface JobPostingRepository extends JpaRepository<JobPosting, Long> {
 
     List<JobPosting> findByStatus(JobStatus status);
 
-    List<JobPosting> findByStatusAndJobTitleContainingIgnoreCaseOrDescriptionContainingIgnoreCase(
-            JobStatus status, String titleKeyword, String descriptionKeyword
-    );
-
     List<JobPosting> findByEmployer_Email(String employerEmail);
 
+    List<JobPosting> findByEmployer_UserId(Long employerId);
+
+    /**
+     * Keyset page of jobs with the given status, newest first. Rows strictly after the
+     * (afterPostedAt, afterId) position are returned, so the cost of a page does not depend
+     * on how deep into the listing it is. Null filter arguments are ignored; the ones PostgreSQL
+     * cannot infer a type for from {@code IS NULL} alone are cast.
+     * The employer and profile are fetched in the same statement for the listing mapper.
+     */
+    @Query("SELECT j FROM JobPosting j " +
+            "JOIN FETCH j.employer e LEFT JOIN FETCH e.profile " +
+            "WHERE j.status = :status " +
+            "AND (:jobType IS NULL OR j.jobType = :jobType) " +
+            "AND (CAST(:location AS String) IS NULL OR LOWER(j.location) LIKE LOWER(CONCAT('%', CAST(:location AS String), '%'))) " +
+            "AND (:minSalary IS NULL OR j.salary >= :minSalary) " +
+            "AND (:maxSalary IS NULL OR j.salary <= :maxSalary) " +
+            "AND (CAST(:startDateFrom AS LocalDate) IS NULL OR j.startDate >= :startDateFrom) " +
+            "AND (CAST(:startDateTo AS LocalDate) IS NULL OR j.startDate <= :startDateTo) " +
+            "AND (CAST(:afterPostedAt AS LocalDateTime) IS NULL OR j.postedAt < :afterPostedAt " +
+            "     OR (j.postedAt = :afterPostedAt AND j.id < :afterId)) " +
+            "ORDER BY j.postedAt DESC, j.id DESC")
+    List<JobPosting> findPageByStatus(@Param("status") JobStatus status,
+                                      @Param("jobType") JobType jobType,
+                                      @Param("location") String location,
+                                      @Param("minSalary") Double minSalary,
+                                      @Param("maxSalary") Double maxSalary,
+                                      @Param("startDateFrom") LocalDate startDateFrom,
+                                      @Param("startDateTo") LocalDate startDateTo,
+                                      @Param("afterPostedAt") LocalDateTime afterPostedAt,
+                                      @Param("afterId") Long afterId,
+                                      Limit limit);
+
+    /**
+     * Streams every OPEN job in ID order for a full pull of the partner feed.
+     * Rows are fetched from the cursor in batches and loaded read-only; the caller must consume the
+     * stream inside a transaction and close it.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT j FROM JobPosting j " +
+            "JOIN FETCH j.employer e LEFT JOIN FETCH e.profile " +
+            "WHERE j.status = com.workconnect.api.constants.Enum.JobStatus.OPEN " +
+            "ORDER BY j.id")
+    Stream<JobPosting> streamOpenForExport();
+
+    /**
+     * Streams jobs modified at or after {@code since} in ID order for an incremental pull of the
+     * partner feed, so that closed, filled and expired jobs are seen too. SCHEDULED jobs are not public
+     * until they are published, which marks them modified. Served by idx_job_postings_last_modified_at;
+     * streamed the same way as {@link #streamOpenForExport()}.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT j FROM JobPosting j " +
+            "JOIN FETCH j.employer e LEFT JOIN FETCH e.profile " +
+            "WHERE j.lastModifiedAt >= :since " +
+            "AND j.status <> com.workconnect.api.constants.Enum.JobStatus.SCHEDULED " +
+            "ORDER BY j.id")
+    Stream<JobPosting> streamModifiedForExport(@Param("since") LocalDateTime since);
+
+    /**
+     * Reads the versions behind a job's detail view with a single projection, so conditional
+     * requests can be answered without loading the job.
+     */
+    @Query("SELECT new com.workconnect.api.dto.JobDetailVersion(j.version, j.applicationCount, " +
+            "COALESCE(j.lastModifiedAt, j.postedAt), p.version, p.lastModifiedAt) " +
+            "FROM JobPosting j JOIN j.employer e LEFT JOIN e.profile p WHERE j.id = :jobId")
+    Optional<JobDetailVersion> findDetailVersionById(@Param("jobId") Long jobId);
+
+    /**
+     * Jobs with a status change due before {@code until}, including overdue ones: SCHEDULED jobs by
+     * publish time and OPEN jobs whose start (one-day) or end (contract) date is before {@code untilDate}.
+     */
+    @Query("SELECT new com.workconnect.api.dto.JobLifecycleDates(j.id, j.status, j.jobType, j.startDate, j.endDate, j.publishAt) " +
+            "FROM JobPosting j " +
+            "WHERE (j.status = com.workconnect.api.constants.Enum.JobStatus.SCHEDULED AND j.publishAt < :until) " +
+            "OR (j.status = com.workconnect.api.constants.Enum.JobStatus.OPEN " +
+            "    AND j.jobType = com.workconnect.api.constants.Enum.JobType.CONTRACT AND j.endDate < :untilDate) " +
+            "OR (j.status = com.workconnect.api.constants.Enum.JobStatus.OPEN " +
+            "    AND j.jobType = com.workconnect.api.constants.Enum.JobType.ONE_DAY AND j.startDate < :untilDate)")
+    List<JobLifecycleDates> findLifecycleTransitionsBefore(@Param("until") LocalDateTime until,
+                                                           @Param("untilDate") LocalDate untilDate);
+
+    /**
+     * Publishes the given SCHEDULED jobs whose publish time has come. The status and time are
+     * checked again, so jobs edited since they were picked are left alone.
+     */
+    @Modifying
+    @Query("UPDATE JobPosting j SET j.status = com.workconnect.api.constants.Enum.JobStatus.OPEN, " +
+            "j.postedAt = :now, j.lastModifiedAt = :now, j.version = j.version + 1 " +
+            "WHERE j.id IN :jobIds AND j.status = com.workconnect.api.constants.Enum.JobStatus.SCHEDULED " +
+            "AND j.publishAt <= :now")
+    int publishScheduled(@Param("jobIds") Collection<Long> jobIds, @Param("now") LocalDateTime now);
+
+    /**
+     * Expires the given OPEN jobs whose last day is before {@code today}. As with publishing, the
+     * conditions are checked again in the statement itself.
+     */
+    @Modifying
+    @Query("UPDATE JobPosting j SET j.status = com.workconnect.api.constants.Enum.JobStatus.EXPIRED, " +
+            "j.lastModifiedAt = :now, j.version = j.version + 1 " +
+            "WHERE j.id IN :jobIds AND j.status = com.workconnect.api.constants.Enum.JobStatus.OPEN " +
+            "AND ((j.jobType = com.workconnect.api.constants.Enum.JobType.CONTRACT AND j.endDate < :today) " +
+            "  OR (j.jobType = com.workconnect.api.constants.Enum.JobType.ONE_DAY AND j.startDate < :today))")
+    int expireEnded(@Param("jobIds") Collection<Long> jobIds,
+                    @Param("today") LocalDate today,
+                    @Param("now") LocalDateTime now);
+
+    @Query("SELECT j FROM JobPosting j JOIN FETCH j.employer e LEFT JOIN FETCH e.profile WHERE j.id IN :jobIds")
+    List<JobPosting> findAllWithEmployerByIdIn(@Param("jobIds") Collection<Long> jobIds);
+
+    @Query("SELECT j.id FROM JobPosting j WHERE j.status = :status")
+    List<Long> findIdsByStatus(@Param("status") JobStatus status);
+
+    @Query("SELECT j.id FROM JobPosting j WHERE j.lastModifiedAt >= :since")
+    List<Long> findIdsModifiedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Jobs whose listing changed with their employer's profile, which does not touch the jobs themselves.
+     */
+    @Query("SELECT j.id FROM JobPosting j WHERE j.employer.userId IN " +
+            "(SELECT p.id FROM Profile p WHERE p.lastModifiedAt >= :since)")
+    List<Long> findIdsByEmployerProfileModifiedSince(@Param("since") LocalDateTime since);
+
     // Admin-specific queries
     long countByStatus(JobStatus status);
     Long countByEmployer_UserId(Long employerId);
@@ -33,4 +172,69 @@ public interface JobPostingRepository extends JpaRepository<JobPosting, Long> {
 
     @Query("SELECT COUNT(j) FROM JobPosting j WHERE j.id > (SELECT MAX(j2.id) - 100 FROM JobPosting j2)")
     Long countByCreatedAtAfter(@Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * Atomically records a new PENDING application on the job's counters.
+     */
+    @Modifying
+    @Query("UPDATE JobPosting j SET j.applicationCount = j.applicationCount + 1, " +
+            "j.pendingCount = j.pendingCount + 1 WHERE j.id = :jobId")
+    int incrementApplicationCounters(@Param("jobId") Long jobId);
+
+    /**
+     * Atomically applies per-status deltas, e.g. -1 pending / +1 accepted when an application is accepted.
+     */
+    @Modifying
+    @Query("UPDATE JobPosting j SET " +
+            "j.pendingCount = j.pendingCount + :pending, " +
+            "j.viewedCount = j.viewedCount + :viewed, " +
+            "j.acceptedCount = j.acceptedCount + :accepted, " +
+            "j.rejectedCount = j.rejectedCount + :rejected, " +
+            "j.completedCount = j.completedCount + :completed " +
+            "WHERE j.id = :jobId")
+    int adjustStatusCounters(@Param("jobId") Long jobId,
+                             @Param("pending") int pending,
+                             @Param("viewed") int viewed,
+                             @Param("accepted") int accepted,
+                             @Param("rejected") int rejected,
+                             @Param("completed") int completed);
+
+    /**
+     * Locks the jobs in the given ID range until the end of the transaction, in ID order.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j.id FROM JobPosting j WHERE j.id >= :fromId AND j.id < :toId ORDER BY j.id")
+    List<Long> lockIdRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * Recomputes the application counters of jobs in the given ID range from the applications
+     * table, touching only rows whose stored counters have drifted.
+     *
+     * @return The number of jobs that were repaired.
+     */
+    @Modifying
+    @Query("UPDATE JobPosting j SET " +
+            "j.applicationCount = (SELECT COUNT(a) FROM JobApplication a WHERE a.jobPosting.id = j.id), " +
+            "j.pendingCount = (SELECT COUNT(a) FROM JobApplication a WHERE a.jobPosting.id = j.id AND a.status = com.workconnect.api.constants.Enum.JobApplicationStatus.PENDING), " +
+            "j.viewedCount = (SELECT COUNT(a) FROM JobApplication a WHERE a.jobPosting.id = j.id AND a.status = com.workconnect.api.constants.Enum.JobApplicationStatus.VIEWED), " +
+            "j.acceptedCount = (SELECT COUNT(a) FROM JobApplication a WHERE a.jobPosting.id = j.id AND a.status = com.workconnect.api.constants.Enum.JobApplicationStatus.ACCEPTED), " +
+            "j.rejectedCount = (SELECT COUNT(a) FROM JobApplication a WHERE a.jobPosting.id = j.id AND a.status = com.workconnect.api.constants.Enum.JobApplicationStatus.REJECTED), " +
+            "j.completedCount = (SELECT COUNT(a) FROM JobApplication a WHERE a.jobPosting.id = j.id AND a.status = com.workconnect.api.constants.Enum.JobApplicationStatus.COMPLETED) " +
+            "WHERE j.id >= :fromId AND j.id < :toId AND (" +
+            "j.applicationCount <> (SELECT COUNT(a) FROM JobApplication a WHERE a.jobPosting.id = j.id) " +
+            "OR j.pendingCount <> (SELECT COUNT(a) FROM JobApplication a WHERE a.jobPosting.id = j.id AND a.status = com.workconnect.api.constants.Enum.JobApplicationStatus.PENDING) " +
+            "OR j.viewedCount <> (SELECT COUNT(a) FROM JobApplication a WHERE a.jobPosting.id = j.id AND a.status = com.workconnect.api.constants.Enum.JobApplicationStatus.VIEWED) " +
+            "OR j.acceptedCount <> (SELECT COUNT(a) FROM JobApplication a WHERE a.jobPosting.id = j.id AND a.status = com.workconnect.api.constants.Enum.JobApplicationStatus.ACCEPTED) " +
+            "OR j.rejectedCount <> (SELECT COUNT(a) FROM JobApplication a WHERE a.jobPosting.id = j.id AND a.status = com.workconnect.api.constants.Enum.JobApplicationStatus.REJECTED) " +
+            "OR j.completedCount <> (SELECT COUNT(a) FROM JobApplication a WHERE a.jobPosting.id = j.id AND a.status = com.workconnect.api.constants.Enum.JobApplicationStatus.COMPLETED))")
+    int reconcileApplicationCounters(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query("SELECT MAX(j.id) FROM JobPosting j")
+    Long findMaxId();
+
+    @Query("SELECT e.email FROM JobPosting j JOIN j.employer e WHERE j.id = :jobId")
+    Optional<String> findEmployerEmailById(@Param("jobId") Long jobId);
+
+    @Query("SELECT new com.workconnect.api.dto.JobOwnerRef(j.id, j.employer.userId) FROM JobPosting j WHERE j.id IN :jobIds")
+    List<JobOwnerRef> findOwnersByIdIn(@Param("jobIds") Collection<Long> jobIds);
 }
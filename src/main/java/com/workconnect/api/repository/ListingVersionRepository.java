@@ -0,0 +1,25 @@
+package com.workconnect.api.repository;
+
+import com.workconnect.api.entity.ListingVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface ListingVersionRepository extends JpaRepository<ListingVersion, Integer> {
+
+    /**
+     * Adds one to a stripe, in the caller's transaction when there is one. Pending entity changes
+     * are flushed first, so the stripe's row lock is the last one the transaction takes.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ListingVersion v SET v.version = v.version + 1 WHERE v.stripe = :stripe")
+    int increment(@Param("stripe") Integer stripe);
+
+    @Query("SELECT COALESCE(SUM(v.version), 0) FROM ListingVersion v")
+    long sumVersions();
+}
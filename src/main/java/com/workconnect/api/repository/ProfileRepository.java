@@ -1,9 +1,32 @@
 package com.workconnect.api.repository;
 
+import com.workconnect.api.dto.ProfileVersion;
 import com.workconnect.api.entity.Profile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
 
 @Repository
 public interface ProfileRepository extends JpaRepository<Profile, Long> {
+
+    /**
+     * Reads the version of a user's profile without loading it. Profiles share their user's ID.
+     */
+    @Query("SELECT new com.workconnect.api.dto.ProfileVersion(p.version, p.lastModifiedAt) " +
+            "FROM Profile p WHERE p.id = :userId")
+    Optional<ProfileVersion> findVersionByUserId(@Param("userId") Long userId);
+
+    /**
+     * Bumps the profile's version for changes stored outside of it, such as a new review or badge.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Profile p SET p.version = p.version + 1, p.lastModifiedAt = :now WHERE p.id = :userId")
+    int touch(@Param("userId") Long userId, @Param("now") LocalDateTime now);
 }
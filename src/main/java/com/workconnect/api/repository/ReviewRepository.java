@@ -1,10 +1,14 @@
 package com.workconnect.api.repository;
 
+import com.workconnect.api.dto.WorkerRatingSummary;
 import com.workconnect.api.entity.Review;
 import com.workconnect.api.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -19,4 +23,12 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
      */
     List<Review> findByReviewee(User reviewee);
 
+    /**
+     * Average rating and number of reviews received by each of the given users. Users without
+     * reviews are left out.
+     */
+    @Query("SELECT new com.workconnect.api.dto.WorkerRatingSummary(r.reviewee.userId, AVG(r.rating), COUNT(r)) " +
+            "FROM Review r WHERE r.reviewee.userId IN :userIds GROUP BY r.reviewee.userId")
+    List<WorkerRatingSummary> summarizeByRevieweeIdIn(@Param("userIds") Collection<Long> userIds);
+
 }
@@ -0,0 +1,30 @@
+package com.workconnect.api.repository;
+
+import com.workconnect.api.entity.SchedulerLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+    /**
+     * Renews the lease for its current owner or takes it over once it has expired, in one
+     * conditional UPDATE so that two nodes can never both succeed.
+     *
+     * @return 1 when the caller holds the lease until {@code expiresAt}, 0 otherwise
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.owner = :owner, l.expiresAt = :expiresAt " +
+            "WHERE l.name = :name AND (l.owner = :owner OR l.expiresAt < :now)")
+    int acquire(@Param("name") String name,
+                @Param("owner") String owner,
+                @Param("now") LocalDateTime now,
+                @Param("expiresAt") LocalDateTime expiresAt);
+}
@@ -0,0 +1,142 @@
+package com.workconnect.api.repository;
+
+import com.workconnect.api.entity.UserStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface UserStatsRepository extends JpaRepository<UserStats, Long> {
+
+    /**
+     * Atomically adds jobs to an employer's job counters.
+     */
+    @Modifying
+    @Query("UPDATE UserStats s SET s.jobsPosted = s.jobsPosted + :posted, " +
+            "s.activeJobs = s.activeJobs + :active WHERE s.userId = :userId")
+    int adjustJobCounters(@Param("userId") Long userId,
+                          @Param("posted") int posted,
+                          @Param("active") int active);
+
+    /**
+     * Recounts the active jobs of the employers owning the given jobs, for status changes made by
+     * bulk UPDATEs that do not report which jobs they changed.
+     */
+    @Modifying
+    @Query("UPDATE UserStats s SET s.activeJobs = (SELECT COUNT(j) FROM JobPosting j " +
+            "WHERE j.employer.userId = s.userId AND j.status = com.workconnect.api.constants.Enum.JobStatus.OPEN) " +
+            "WHERE s.userId IN (SELECT j.employer.userId FROM JobPosting j WHERE j.id IN :jobIds)")
+    int recountActiveJobs(@Param("jobIds") Collection<Long> jobIds);
+
+    /**
+     * Atomically records a new PENDING application for each of the users, counting it in the daily
+     * bucket of {@code day}. A bucket still holding an older day is restarted at one.
+     */
+    @Modifying
+    @Query("UPDATE UserStats s SET " +
+            "s.applicationCount = s.applicationCount + 1, " +
+            "s.pendingCount = s.pendingCount + 1, " +
+            "s.bucketCount0 = CASE WHEN :bucket <> 0 THEN s.bucketCount0 WHEN s.bucketDay0 = :day THEN s.bucketCount0 + 1 ELSE 1 END, " +
+            "s.bucketDay0 = CASE WHEN :bucket = 0 THEN :day ELSE s.bucketDay0 END, " +
+            "s.bucketCount1 = CASE WHEN :bucket <> 1 THEN s.bucketCount1 WHEN s.bucketDay1 = :day THEN s.bucketCount1 + 1 ELSE 1 END, " +
+            "s.bucketDay1 = CASE WHEN :bucket = 1 THEN :day ELSE s.bucketDay1 END, " +
+            "s.bucketCount2 = CASE WHEN :bucket <> 2 THEN s.bucketCount2 WHEN s.bucketDay2 = :day THEN s.bucketCount2 + 1 ELSE 1 END, " +
+            "s.bucketDay2 = CASE WHEN :bucket = 2 THEN :day ELSE s.bucketDay2 END, " +
+            "s.bucketCount3 = CASE WHEN :bucket <> 3 THEN s.bucketCount3 WHEN s.bucketDay3 = :day THEN s.bucketCount3 + 1 ELSE 1 END, " +
+            "s.bucketDay3 = CASE WHEN :bucket = 3 THEN :day ELSE s.bucketDay3 END, " +
+            "s.bucketCount4 = CASE WHEN :bucket <> 4 THEN s.bucketCount4 WHEN s.bucketDay4 = :day THEN s.bucketCount4 + 1 ELSE 1 END, " +
+            "s.bucketDay4 = CASE WHEN :bucket = 4 THEN :day ELSE s.bucketDay4 END, " +
+            "s.bucketCount5 = CASE WHEN :bucket <> 5 THEN s.bucketCount5 WHEN s.bucketDay5 = :day THEN s.bucketCount5 + 1 ELSE 1 END, " +
+            "s.bucketDay5 = CASE WHEN :bucket = 5 THEN :day ELSE s.bucketDay5 END, " +
+            "s.bucketCount6 = CASE WHEN :bucket <> 6 THEN s.bucketCount6 WHEN s.bucketDay6 = :day THEN s.bucketCount6 + 1 ELSE 1 END, " +
+            "s.bucketDay6 = CASE WHEN :bucket = 6 THEN :day ELSE s.bucketDay6 END " +
+            "WHERE s.userId IN :userIds")
+    int recordNewApplication(@Param("userIds") Collection<Long> userIds,
+                             @Param("day") long day,
+                             @Param("bucket") int bucket);
+
+    /**
+     * Atomically applies the same per-status deltas to each of the users.
+     */
+    @Modifying
+    @Query("UPDATE UserStats s SET " +
+            "s.pendingCount = s.pendingCount + :pending, " +
+            "s.viewedCount = s.viewedCount + :viewed, " +
+            "s.acceptedCount = s.acceptedCount + :accepted, " +
+            "s.rejectedCount = s.rejectedCount + :rejected, " +
+            "s.completedCount = s.completedCount + :completed " +
+            "WHERE s.userId IN :userIds")
+    int adjustStatusCounters(@Param("userIds") Collection<Long> userIds,
+                             @Param("pending") int pending,
+                             @Param("viewed") int viewed,
+                             @Param("accepted") int accepted,
+                             @Param("rejected") int rejected,
+                             @Param("completed") int completed);
+
+    /**
+     * Atomically takes the same number of deleted applications out of each of the users' totals.
+     */
+    @Modifying
+    @Query("UPDATE UserStats s SET s.applicationCount = s.applicationCount - :count WHERE s.userId IN :userIds")
+    int removeApplications(@Param("userIds") Collection<Long> userIds, @Param("count") int count);
+
+    /**
+     * Atomically takes the same number of deleted applications made on {@code day} out of each of
+     * the users' daily bucket, unless the bucket has moved on to a later day.
+     */
+    @Modifying
+    @Query("UPDATE UserStats s SET " +
+            "s.bucketCount0 = CASE WHEN :bucket = 0 AND s.bucketDay0 = :day THEN s.bucketCount0 - :count ELSE s.bucketCount0 END, " +
+            "s.bucketCount1 = CASE WHEN :bucket = 1 AND s.bucketDay1 = :day THEN s.bucketCount1 - :count ELSE s.bucketCount1 END, " +
+            "s.bucketCount2 = CASE WHEN :bucket = 2 AND s.bucketDay2 = :day THEN s.bucketCount2 - :count ELSE s.bucketCount2 END, " +
+            "s.bucketCount3 = CASE WHEN :bucket = 3 AND s.bucketDay3 = :day THEN s.bucketCount3 - :count ELSE s.bucketCount3 END, " +
+            "s.bucketCount4 = CASE WHEN :bucket = 4 AND s.bucketDay4 = :day THEN s.bucketCount4 - :count ELSE s.bucketCount4 END, " +
+            "s.bucketCount5 = CASE WHEN :bucket = 5 AND s.bucketDay5 = :day THEN s.bucketCount5 - :count ELSE s.bucketCount5 END, " +
+            "s.bucketCount6 = CASE WHEN :bucket = 6 AND s.bucketDay6 = :day THEN s.bucketCount6 - :count ELSE s.bucketCount6 END " +
+            "WHERE s.userId IN :userIds")
+    int removeDailyApplications(@Param("userIds") Collection<Long> userIds,
+                                @Param("day") long day,
+                                @Param("bucket") int bucket,
+                                @Param("count") int count);
+
+    /**
+     * Which of the users have a rollup row.
+     */
+    @Query("SELECT s.userId FROM UserStats s WHERE s.userId IN :userIds")
+    List<Long> findUserIdsByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * Creates the user's rollup row, with every counter at zero, unless another transaction already has.
+     */
+    @Modifying
+    @Query("INSERT INTO UserStats (userId) VALUES (:userId) ON CONFLICT (userId) DO NOTHING")
+    int createMissing(@Param("userId") Long userId);
+
+    /**
+     * Locks the users' rollup rows until the end of the transaction, in user ID order.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s.userId FROM UserStats s WHERE s.userId IN :userIds ORDER BY s.userId")
+    List<Long> lockInOrder(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * Atomically adds the same number of profile views to each of the users.
+     */
+    @Modifying
+    @Query("UPDATE UserStats s SET s.profileViews = s.profileViews + :views WHERE s.userId IN :userIds")
+    int addProfileViews(@Param("userIds") Collection<Long> userIds, @Param("views") long views);
+
+    /**
+     * Atomically adds the same number of job views to each of the employers.
+     */
+    @Modifying
+    @Query("UPDATE UserStats s SET s.jobViews = s.jobViews + :views WHERE s.userId IN :userIds")
+    int addJobViews(@Param("userIds") Collection<Long> userIds, @Param("views") long views);
+}
@@ -3,8 +3,12 @@ package com.workconnect.api.repository;
 import com.workconnect.api.entity.User;
 import com.workconnect.api.entity.WorkerProfile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -24,4 +28,16 @@ public interface WorkerProfileRepository extends JpaRepository<WorkerProfile, Lo
      * Check if worker profile exists for user
      */
     boolean existsByUser(User user);
+
+    /**
+     * Worker profile with its skills fetched in the same query, for callers outside a transaction
+     */
+    @Query("SELECT wp FROM WorkerProfile wp LEFT JOIN FETCH wp.skills WHERE wp.id = :id")
+    Optional<WorkerProfile> findWithSkillsById(@Param("id") Long id);
+
+    /**
+     * Worker profiles with their skills fetched in the same query
+     */
+    @Query("SELECT DISTINCT wp FROM WorkerProfile wp LEFT JOIN FETCH wp.skills WHERE wp.id IN :ids")
+    List<WorkerProfile> findAllWithSkillsByIdIn(@Param("ids") Collection<Long> ids);
 }
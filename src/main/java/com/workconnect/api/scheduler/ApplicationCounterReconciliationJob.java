@@ -0,0 +1,74 @@
+package com.workconnect.api.scheduler;
+
+import com.workconnect.api.repository.JobPostingRepository;
+import com.workconnect.api.service.ApplicationCountService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Repairs drift between the counters stored on job postings and the applications table.
+ * Runs once on startup (which also backfills counters for pre-existing jobs) and then nightly.
+ * Each ID range is reconciled in its own short transaction.
+ * <p>
+ * Only the node holding the {@value #LEASE_NAME} lease runs it. The lease is renewed for every range
+ * and outlives the run, so nodes starting up or reaching the cron shortly after a run skip theirs.
+ */
+@Component
+public class ApplicationCounterReconciliationJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationCounterReconciliationJob.class);
+    private static final long CHUNK_SIZE = 1000;
+
+    public static final String LEASE_NAME = "application-counter-reconciliation";
+    static final Duration LEASE_DURATION = Duration.ofMinutes(30);
+
+    private final JobPostingRepository jobPostingRepository;
+    private final ApplicationCountService applicationCountService;
+    private final SchedulerLeases schedulerLeases;
+
+    public ApplicationCounterReconciliationJob(JobPostingRepository jobPostingRepository,
+                                               ApplicationCountService applicationCountService,
+                                               SchedulerLeases schedulerLeases) {
+        this.jobPostingRepository = jobPostingRepository;
+        this.applicationCountService = applicationCountService;
+        this.schedulerLeases = schedulerLeases;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    @Scheduled(cron = "${workconnect.counters.reconcile-cron:0 30 3 * * *}")
+    public void reconcile() {
+        if (!schedulerLeases.tryAcquire(LEASE_NAME, LEASE_DURATION)) {
+            logger.debug("Application counters are being reconciled by another node");
+            return;
+        }
+        Long maxId = jobPostingRepository.findMaxId();
+        if (maxId == null) {
+            return;
+        }
+
+        int repaired = 0;
+        for (long fromId = 0; fromId <= maxId; fromId += CHUNK_SIZE) {
+            if (fromId > 0 && !schedulerLeases.tryAcquire(LEASE_NAME, LEASE_DURATION)) {
+                logger.warn("Lost the {} lease after repairing {} job postings, stopping", LEASE_NAME, repaired);
+                return;
+            }
+            repaired += applicationCountService.reconcileCounters(fromId, fromId + CHUNK_SIZE);
+        }
+
+        if (repaired > 0) {
+            logger.warn("Repaired application counters on {} job postings", repaired);
+        } else {
+            logger.debug("Application counters are consistent");
+        }
+    }
+}
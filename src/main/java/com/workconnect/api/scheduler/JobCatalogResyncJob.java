@@ -0,0 +1,118 @@
+package com.workconnect.api.scheduler;
+
+import com.workconnect.api.cache.OpenJobsCache;
+import com.workconnect.api.constants.Enum.JobStatus;
+import com.workconnect.api.dto.JobListingDto;
+import com.workconnect.api.event.JobsReloadedEvent;
+import com.workconnect.api.repository.JobPostingRepository;
+import com.workconnect.api.service.JobService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Brings this node's open jobs cache, and the search, facet, geo and skill indexes kept from the same
+ * events, up to date with jobs changed on other nodes. Job events only reach the node that published
+ * them, so every node runs this, without a lease.
+ * <p>
+ * Each run reloads the jobs modified since the previous one, and the jobs of employers whose profile
+ * changed. It reads {@link #OVERLAP} further back than that, so a transaction that committed late or
+ * a node whose clock runs slightly behind is not missed. A deleted job leaves no modification time,
+ * so every {@link #MEMBERSHIP_INTERVAL} the ids of the OPEN jobs in the database are compared with
+ * the cached ones and the differences reloaded as well. The first run makes that comparison too,
+ * which also fills a cache whose startup load failed.
+ * <p>
+ * A reload can briefly put back a job that a local change replaced while it was being read. The
+ * job was modified within the overlap, so the next run reads it again.
+ */
+@Component
+public class JobCatalogResyncJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobCatalogResyncJob.class);
+
+    static final Duration OVERLAP = Duration.ofMinutes(2);
+    static final Duration MEMBERSHIP_INTERVAL = Duration.ofMinutes(5);
+    // Keeps the IN lists well below PostgreSQL's bind parameter limit
+    private static final int CHUNK_SIZE = 1000;
+
+    private final JobPostingRepository jobPostingRepository;
+    private final JobService jobService;
+    private final OpenJobsCache openJobsCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    // Only touched by the scheduling thread. Starts before the cache's startup load does.
+    private LocalDateTime lastRunAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    private LocalDateTime nextMembershipCheckAt;
+
+    public JobCatalogResyncJob(JobPostingRepository jobPostingRepository, JobService jobService,
+                               OpenJobsCache openJobsCache, ApplicationEventPublisher eventPublisher,
+                               PlatformTransactionManager transactionManager) {
+        this.jobPostingRepository = jobPostingRepository;
+        this.jobService = jobService;
+        this.openJobsCache = openJobsCache;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @Scheduled(fixedDelayString = "${workconnect.jobs.resync.interval:30s}",
+            initialDelayString = "${workconnect.jobs.resync.initial-delay:30s}")
+    public void resync() {
+        resync(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+    }
+
+    void resync(LocalDateTime now) {
+        LocalDateTime since = lastRunAt.minus(OVERLAP);
+        Set<Long> jobIds = new TreeSet<>(jobPostingRepository.findIdsModifiedSince(since));
+        jobIds.addAll(jobPostingRepository.findIdsByEmployerProfileModifiedSince(since));
+
+        boolean checkMembership = nextMembershipCheckAt == null || !now.isBefore(nextMembershipCheckAt);
+        if (checkMembership) {
+            Set<Long> open = new HashSet<>(jobPostingRepository.findIdsByStatus(JobStatus.OPEN));
+            Set<Long> cached = openJobsCache.snapshot().jobsById().keySet();
+            for (Long jobId : cached) {
+                if (!open.contains(jobId)) {
+                    jobIds.add(jobId);
+                }
+            }
+            for (Long jobId : open) {
+                if (!cached.contains(jobId)) {
+                    jobIds.add(jobId);
+                }
+            }
+        }
+
+        reload(new ArrayList<>(jobIds));
+        // Only advanced once the reload succeeded, so a failed run is repeated in full
+        lastRunAt = now;
+        if (checkMembership) {
+            nextMembershipCheckAt = now.plus(MEMBERSHIP_INTERVAL);
+        }
+        logger.debug("Reloaded {} jobs changed since {}", jobIds.size(), since);
+    }
+
+    private void reload(List<Long> jobIds) {
+        for (int from = 0; from < jobIds.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = jobIds.subList(from, Math.min(from + CHUNK_SIZE, jobIds.size()));
+            List<JobListingDto> listings = transactionTemplate.execute(status ->
+                    jobService.mapToJobListingDtos(jobPostingRepository.findAllWithEmployerByIdIn(chunk)));
+            Set<Long> deleted = new HashSet<>(chunk);
+            listings.forEach(job -> deleted.remove(job.getId()));
+            eventPublisher.publishEvent(new JobsReloadedEvent(listings, List.copyOf(deleted)));
+        }
+    }
+}
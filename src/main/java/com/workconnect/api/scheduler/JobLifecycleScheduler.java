@@ -0,0 +1,141 @@
+package com.workconnect.api.scheduler;
+
+import com.workconnect.api.dto.JobLifecycleDates;
+import com.workconnect.api.event.JobChangedEvent;
+import com.workconnect.api.event.JobsImportedEvent;
+import com.workconnect.api.event.JobsReloadedEvent;
+import com.workconnect.api.service.JobLifecycleService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Publishes scheduled jobs and expires ended ones without scanning the jobs table on every tick.
+ * <p>
+ * Upcoming transitions are kept in a timing wheel covering the next day. The wheel is filled from
+ * an indexed range query every few minutes and kept current between fills by job events, so a tick
+ * only looks at the jobs that are actually due. Events are local to a node, so a job saved on another
+ * node is picked up by the next fill, at most {@link #REFILL_INTERVAL} late.
+ * <p>
+ * Every node keeps its own wheel. Only the node holding the {@value #LEASE_NAME} lease changes the
+ * due jobs in the database; the others read them back when they come due and republish them to their
+ * own caches and indexes. A job the holder has not changed yet is still pending when read back, so
+ * its event puts it on the wheel again for the next tick. The lease outlives a few ticks, so another
+ * node takes over shortly after the holder stops renewing it.
+ */
+@Component
+public class JobLifecycleScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobLifecycleScheduler.class);
+
+    static final String LEASE_NAME = "job-lifecycle";
+    static final Duration LEASE_DURATION = Duration.ofMinutes(3);
+    static final Duration REFILL_INTERVAL = Duration.ofMinutes(10);
+    private static final Duration WHEEL_TICK = Duration.ofMinutes(1);
+    private static final int WHEEL_SLOTS = 24 * 60;
+    // Keeps the IN lists of a tick well below PostgreSQL's bind parameter limit
+    private static final int TRANSITION_CHUNK = 1000;
+
+    private final JobLifecycleService jobLifecycleService;
+    private final SchedulerLeases schedulerLeases;
+    private final TimingWheel wheel;
+
+    // Only touched by the scheduling thread
+    private LocalDateTime nextRefillAt;
+
+    public JobLifecycleScheduler(JobLifecycleService jobLifecycleService,
+                                 SchedulerLeases schedulerLeases) {
+        this.jobLifecycleService = jobLifecycleService;
+        this.schedulerLeases = schedulerLeases;
+        this.wheel = new TimingWheel(WHEEL_TICK.toMillis(), WHEEL_SLOTS, System.currentTimeMillis());
+    }
+
+    @Scheduled(fixedDelayString = "${workconnect.jobs.lifecycle.tick-ms:60000}",
+            initialDelayString = "${workconnect.jobs.lifecycle.initial-delay-ms:30000}")
+    public void tick() {
+        tick(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+    }
+
+    void tick(LocalDateTime now) {
+        boolean leaseHeld = schedulerLeases.tryAcquire(LEASE_NAME, LEASE_DURATION);
+        if (nextRefillAt == null || !now.isBefore(nextRefillAt)) {
+            refill(now);
+        }
+
+        List<Long> due = wheel.advance(toEpochMilli(now));
+        if (due.isEmpty()) {
+            return;
+        }
+        try {
+            int changed = 0;
+            for (int from = 0; from < due.size(); from += TRANSITION_CHUNK) {
+                List<Long> chunk = due.subList(from, Math.min(from + TRANSITION_CHUNK, due.size()));
+                if (leaseHeld) {
+                    changed += jobLifecycleService.applyDueTransitions(chunk, now);
+                } else {
+                    jobLifecycleService.reloadJobs(chunk);
+                }
+            }
+            if (leaseHeld) {
+                logger.info("Published or expired {} of {} due jobs", changed, due.size());
+            }
+        } catch (RuntimeException e) {
+            // The due jobs have left the wheel; the next fill finds them again in the database
+            nextRefillAt = null;
+            throw e;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (event.isDeleted()) {
+            wheel.cancel(event.jobId());
+        } else {
+            schedule(JobLifecycleDates.of(event.listing()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobsImported(JobsImportedEvent event) {
+        event.listings().forEach(job -> schedule(JobLifecycleDates.of(job)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobsReloaded(JobsReloadedEvent event) {
+        event.listings().forEach(job -> schedule(JobLifecycleDates.of(job)));
+        event.deletedJobIds().forEach(wheel::cancel);
+    }
+
+    int pendingTransitions() {
+        return wheel.size();
+    }
+
+    private void refill(LocalDateTime now) {
+        List<JobLifecycleDates> upcoming = jobLifecycleService.findTransitionsDueBefore(now.plus(Duration.ofMillis(wheel.rangeMillis())));
+        upcoming.forEach(this::schedule);
+        nextRefillAt = now.plus(REFILL_INTERVAL);
+        logger.debug("Loaded {} upcoming job transitions", upcoming.size());
+    }
+
+    private void schedule(JobLifecycleDates dates) {
+        LocalDateTime transitionAt = dates.nextTransitionAt();
+        if (transitionAt == null) {
+            wheel.cancel(dates.jobId());
+        } else {
+            // Refused when more than a day away; a later fill brings it in
+            wheel.schedule(dates.jobId(), toEpochMilli(transitionAt));
+        }
+    }
+
+    private static long toEpochMilli(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,49 @@
+package com.workconnect.api.scheduler;
+
+import com.workconnect.api.entity.SchedulerLease;
+import com.workconnect.api.repository.SchedulerLeaseRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+/**
+ * Hands out the named scheduler leases that keep a task to one node of the cluster at a time.
+ * Each JVM is one owner.
+ */
+@Component
+public class SchedulerLeases {
+
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public SchedulerLeases(SchedulerLeaseRepository schedulerLeaseRepository) {
+        this.schedulerLeaseRepository = schedulerLeaseRepository;
+    }
+
+    /**
+     * Takes or renews the lease for {@code duration} from now.
+     *
+     * @return true when this node holds the lease, false when another node does
+     */
+    public boolean tryAcquire(String name, Duration duration) {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        LocalDateTime expiresAt = now.plus(duration);
+        if (schedulerLeaseRepository.acquire(name, nodeId, now, expiresAt) == 1) {
+            return true;
+        }
+        if (schedulerLeaseRepository.existsById(name)) {
+            return false;
+        }
+        try {
+            schedulerLeaseRepository.saveAndFlush(new SchedulerLease(name, nodeId, expiresAt));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // Another node created the lease first
+            return false;
+        }
+    }
+}
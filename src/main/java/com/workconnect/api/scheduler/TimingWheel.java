@@ -0,0 +1,85 @@
+package com.workconnect.api.scheduler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hashed timing wheel of IDs by due time. Scheduling, cancelling and collecting due IDs only touch
+ * the slots involved, however many IDs are waiting. The wheel covers one turn ahead of the current
+ * tick; IDs due later are refused and must be scheduled again once they come within range.
+ * <p>
+ * IDs fire on the first tick boundary at or after their due time.
+ */
+public class TimingWheel {
+
+    private final long tickMillis;
+    private final List<Set<Long>> slots;
+    private final Map<Long, Long> dueTicks = new HashMap<>();
+    private long nextTick;
+
+    public TimingWheel(long tickMillis, int slotCount, long nowMillis) {
+        this.tickMillis = tickMillis;
+        this.slots = new ArrayList<>(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            slots.add(new HashSet<>());
+        }
+        this.nextTick = Math.floorDiv(nowMillis, tickMillis);
+    }
+
+    /**
+     * Schedules the ID, replacing its previous due time. Overdue IDs fire on the next advance.
+     *
+     * @return false when the due time is beyond the wheel's range; the ID is then not scheduled at all
+     */
+    public synchronized boolean schedule(long id, long dueMillis) {
+        cancel(id);
+        long tick = Math.max(Math.ceilDiv(dueMillis, tickMillis), nextTick);
+        if (tick >= nextTick + slots.size()) {
+            return false;
+        }
+        slots.get(slot(tick)).add(id);
+        dueTicks.put(id, tick);
+        return true;
+    }
+
+    public synchronized void cancel(long id) {
+        Long tick = dueTicks.remove(id);
+        if (tick != null) {
+            slots.get(slot(tick)).remove(id);
+        }
+    }
+
+    /**
+     * Removes and returns every ID due at or before the given time.
+     */
+    public synchronized List<Long> advance(long nowMillis) {
+        long lastTick = Math.floorDiv(nowMillis, tickMillis);
+        List<Long> due = new ArrayList<>();
+        // Every ID lies within one turn, so one turn clears them all however far the clock jumped
+        long end = Math.min(lastTick, nextTick + slots.size() - 1);
+        for (long tick = nextTick; tick <= end; tick++) {
+            Set<Long> slot = slots.get(slot(tick));
+            due.addAll(slot);
+            slot.forEach(dueTicks::remove);
+            slot.clear();
+        }
+        nextTick = Math.max(nextTick, lastTick + 1);
+        return due;
+    }
+
+    public long rangeMillis() {
+        return slots.size() * tickMillis;
+    }
+
+    public synchronized int size() {
+        return dueTicks.size();
+    }
+
+    private int slot(long tick) {
+        return (int) Math.floorMod(tick, (long) slots.size());
+    }
+}
@@ -0,0 +1,112 @@
+package com.workconnect.api.search;
+
+import com.workconnect.api.dto.ApplicantRef;
+import com.workconnect.api.dto.JobListingDto;
+import com.workconnect.api.geo.GeoPoint;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Orders a job's applicants by how well they match it: shared skills, distance to the job,
+ * completed jobs and rating, weighted into a score between 0 and 1.
+ * <p>
+ * Worker features come precomputed from the {@link WorkerFeatureStore}, so scoring is arithmetic
+ * over a map lookup per applicant, and only the best {@code limit} are kept in a bounded heap
+ * instead of sorting every applicant.
+ */
+@Component
+public class ApplicantRanker {
+
+    static final double SKILL_WEIGHT = 0.45;
+    static final double DISTANCE_WEIGHT = 0.2;
+    static final double EXPERIENCE_WEIGHT = 0.2;
+    static final double RATING_WEIGHT = 0.15;
+
+    // Beyond this distance location no longer adds to the score
+    static final double MAX_DISTANCE_KM = 50;
+    // Completed jobs at which experience is worth half its weight
+    static final double HALF_EXPERIENCE_JOBS = 5;
+    // A worker's average is pulled towards a neutral rating until they have a few reviews
+    static final double PRIOR_RATING = 3.0;
+    static final double PRIOR_REVIEWS = 3;
+
+    private final WorkerFeatureStore workerFeatureStore;
+    private final SkillMatchIndex skillMatchIndex;
+
+    public ApplicantRanker(WorkerFeatureStore workerFeatureStore, SkillMatchIndex skillMatchIndex) {
+        this.workerFeatureStore = workerFeatureStore;
+        this.skillMatchIndex = skillMatchIndex;
+    }
+
+    /**
+     * The best matching applicants for the job, best first. Applicants with equal scores keep
+     * their order from {@code applicants}. Must be called inside a transaction.
+     */
+    public List<ScoredApplicant> rank(JobListingDto job, List<ApplicantRef> applicants, int limit) {
+        if (limit <= 0 || applicants.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, WorkerFeatures> features = workerFeatureStore.featuresOf(
+                applicants.stream().map(ApplicantRef::workerId).distinct().toList());
+        // Read after the workers' skills are interned: a job that is not open only looks its skills up
+        SkillSet jobSkills = skillMatchIndex.skillsOf(job);
+        GeoPoint jobLocation = job.getLatitude() != null && job.getLongitude() != null
+                ? new GeoPoint(job.getLatitude(), job.getLongitude()) : null;
+
+        // Bounded min-heap: the weakest of the best matches so far sits on top
+        PriorityQueue<Candidate> best = new PriorityQueue<>(limit + 1, Comparator
+                .comparingDouble(Candidate::score)
+                .thenComparing(Comparator.comparingInt(Candidate::position).reversed()));
+        int position = 0;
+        for (ApplicantRef applicant : applicants) {
+            WorkerFeatures worker = features.get(applicant.workerId());
+            Candidate candidate = new Candidate(applicant,
+                    worker == null ? 0 : score(jobSkills, jobLocation, worker), position++);
+            if (best.size() < limit) {
+                best.add(candidate);
+            } else if (best.comparator().compare(candidate, best.peek()) > 0) {
+                best.poll();
+                best.add(candidate);
+            }
+        }
+
+        List<ScoredApplicant> ranked = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            Candidate candidate = best.poll();
+            ranked.add(new ScoredApplicant(candidate.applicant().applicationId(),
+                    candidate.applicant().workerId(), candidate.score()));
+        }
+        return ranked.reversed();
+    }
+
+    static double score(SkillSet jobSkills, GeoPoint jobLocation, WorkerFeatures worker) {
+        int required = jobSkills.size();
+        double skills = required == 0 ? 0 : (double) worker.skills().overlap(jobSkills) / required;
+
+        double distance = 0;
+        if (jobLocation != null && worker.latitude() != null && worker.longitude() != null) {
+            double km = jobLocation.distanceKm(new GeoPoint(worker.latitude(), worker.longitude()));
+            distance = Math.max(0, 1 - km / MAX_DISTANCE_KM);
+        }
+
+        double experience = worker.completedJobs() / (worker.completedJobs() + HALF_EXPERIENCE_JOBS);
+
+        double rating = (worker.averageRating() * worker.reviewCount() + PRIOR_RATING * PRIOR_REVIEWS)
+                / (worker.reviewCount() + PRIOR_REVIEWS);
+        // Ratings run from 1 to 5
+        double normalizedRating = (rating - 1) / 4;
+
+        return SKILL_WEIGHT * skills
+                + DISTANCE_WEIGHT * distance
+                + EXPERIENCE_WEIGHT * experience
+                + RATING_WEIGHT * normalizedRating;
+    }
+
+    private record Candidate(ApplicantRef applicant, double score, int position) {
+    }
+}
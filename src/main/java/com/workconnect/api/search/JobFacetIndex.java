@@ -0,0 +1,235 @@
+package com.workconnect.api.search;
+
+import com.workconnect.api.constants.Enum.JobType;
+import com.workconnect.api.dto.FacetCountDto;
+import com.workconnect.api.dto.JobFilterDto;
+import com.workconnect.api.dto.JobListingDto;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Compressed bitmaps of document ordinals for every facet value of the indexed jobs. Filtering is
+ * an intersection of bitmaps and each facet count is a single intersection cardinality, so a
+ * search page can show all of its facets without grouping queries against the database.
+ * <p>
+ * Salaries and start dates are kept per distinct value in sorted maps, which lets arbitrary
+ * filter ranges and the relative start-date buckets be answered from the same bitmaps.
+ */
+final class JobFacetIndex {
+
+    static final String JOB_TYPE = "jobType";
+    static final String LOCATION = "location";
+    static final String SALARY = "salary";
+    static final String START_DATE = "startDate";
+    static final String SKILLS = "skills";
+
+    private static final double[] SALARY_BUCKET_BOUNDS = {5000, 20000, 50000, 100000};
+    private static final int MAX_LOCATIONS = 20;
+    private static final int MAX_SKILLS = 10;
+
+    private final RoaringBitmap all = new RoaringBitmap();
+    private final Map<JobType, RoaringBitmap> byJobType = new EnumMap<>(JobType.class);
+    private final Map<String, FacetValue> byLocation = new HashMap<>();
+    private final NavigableMap<Double, RoaringBitmap> bySalary = new TreeMap<>();
+    private final NavigableMap<LocalDate, RoaringBitmap> byStartDate = new TreeMap<>();
+    private final Map<String, FacetValue> bySkill = new HashMap<>();
+
+    void add(int doc, JobListingDto job) {
+        all.add(doc);
+        if (job.getJobType() != null) {
+            byJobType.computeIfAbsent(job.getJobType(), key -> new RoaringBitmap()).add(doc);
+        }
+        if (job.getSalary() != null) {
+            bySalary.computeIfAbsent(job.getSalary(), key -> new RoaringBitmap()).add(doc);
+        }
+        if (job.getStartDate() != null) {
+            byStartDate.computeIfAbsent(job.getStartDate(), key -> new RoaringBitmap()).add(doc);
+        }
+        String location = normalize(job.getLocation());
+        if (location != null) {
+            byLocation.computeIfAbsent(location, key -> new FacetValue(job.getLocation().trim())).documents().add(doc);
+        }
+        for (String skill : skillsOf(job)) {
+            bySkill.computeIfAbsent(normalize(skill), key -> new FacetValue(skill)).documents().add(doc);
+        }
+    }
+
+    void remove(int doc, JobListingDto job) {
+        all.remove(doc);
+        if (job.getJobType() != null) {
+            removeFrom(byJobType, job.getJobType(), doc);
+        }
+        if (job.getSalary() != null) {
+            removeFrom(bySalary, job.getSalary(), doc);
+        }
+        if (job.getStartDate() != null) {
+            removeFrom(byStartDate, job.getStartDate(), doc);
+        }
+        String location = normalize(job.getLocation());
+        if (location != null) {
+            removeValue(byLocation, location, doc);
+        }
+        for (String skill : skillsOf(job)) {
+            removeValue(bySkill, normalize(skill), doc);
+        }
+    }
+
+    void clear() {
+        all.clear();
+        byJobType.clear();
+        byLocation.clear();
+        bySalary.clear();
+        byStartDate.clear();
+        bySkill.clear();
+    }
+
+    /**
+     * Returns a new bitmap of the documents satisfying every criterion of the filter.
+     */
+    RoaringBitmap filter(JobFilterDto filter) {
+        RoaringBitmap matches = all.clone();
+        if (filter == null) {
+            return matches;
+        }
+        if (filter.getJobType() != null) {
+            matches.and(byJobType.getOrDefault(filter.getJobType(), new RoaringBitmap()));
+        }
+        String location = normalize(filter.getLocation());
+        if (location != null) {
+            // Same "contains" semantics as the paged listing, resolved against the distinct locations
+            RoaringBitmap locations = new RoaringBitmap();
+            byLocation.forEach((key, value) -> {
+                if (key.contains(location)) {
+                    locations.or(value.documents());
+                }
+            });
+            matches.and(locations);
+        }
+        if (filter.getMinSalary() != null || filter.getMaxSalary() != null) {
+            double min = filter.getMinSalary() != null ? filter.getMinSalary() : Double.NEGATIVE_INFINITY;
+            double max = filter.getMaxSalary() != null ? filter.getMaxSalary() : Double.POSITIVE_INFINITY;
+            matches.and(min <= max ? union(bySalary.subMap(min, true, max, true)) : new RoaringBitmap());
+        }
+        if (filter.getStartDateFrom() != null || filter.getStartDateTo() != null) {
+            LocalDate from = filter.getStartDateFrom() != null ? filter.getStartDateFrom() : LocalDate.MIN;
+            LocalDate to = filter.getStartDateTo() != null ? filter.getStartDateTo() : LocalDate.MAX;
+            matches.and(!from.isAfter(to) ? union(byStartDate.subMap(from, true, to, true)) : new RoaringBitmap());
+        }
+        return matches;
+    }
+
+    /**
+     * Counts, per facet value, how many of the given documents carry it. Values with no match are omitted.
+     */
+    Map<String, List<FacetCountDto>> counts(RoaringBitmap matches, LocalDate today) {
+        Map<String, List<FacetCountDto>> facets = new LinkedHashMap<>();
+
+        List<FacetCountDto> jobTypes = new ArrayList<>();
+        byJobType.forEach((jobType, documents) -> addCount(jobTypes, jobType.name(), documents, matches));
+        facets.put(JOB_TYPE, jobTypes);
+
+        facets.put(LOCATION, topValues(byLocation, matches, MAX_LOCATIONS));
+
+        List<FacetCountDto> salaries = new ArrayList<>();
+        double lower = 0;
+        for (double upper : SALARY_BUCKET_BOUNDS) {
+            addCount(salaries, formatAmount(lower) + "-" + formatAmount(upper),
+                    union(bySalary.subMap(lower, true, upper, false)), matches);
+            lower = upper;
+        }
+        addCount(salaries, formatAmount(lower) + "+", union(bySalary.tailMap(lower, true)), matches);
+        facets.put(SALARY, salaries);
+
+        List<FacetCountDto> startDates = new ArrayList<>();
+        addCount(startDates, "started", union(byStartDate.headMap(today, false)), matches);
+        addCount(startDates, "this-week", union(byStartDate.subMap(today, true, today.plusDays(7), false)), matches);
+        addCount(startDates, "this-month", union(byStartDate.subMap(today.plusDays(7), true, today.plusDays(30), false)), matches);
+        addCount(startDates, "later", union(byStartDate.tailMap(today.plusDays(30), true)), matches);
+        facets.put(START_DATE, startDates);
+
+        facets.put(SKILLS, topValues(bySkill, matches, MAX_SKILLS));
+        return facets;
+    }
+
+    private static List<FacetCountDto> topValues(Map<String, FacetValue> values, RoaringBitmap matches, int limit) {
+        List<FacetCountDto> counts = new ArrayList<>();
+        for (FacetValue value : values.values()) {
+            addCount(counts, value.label(), value.documents(), matches);
+        }
+        counts.sort(Comparator.comparingInt(FacetCountDto::getCount).reversed()
+                .thenComparing(FacetCountDto::getValue));
+        return counts.size() > limit ? new ArrayList<>(counts.subList(0, limit)) : counts;
+    }
+
+    private static void addCount(List<FacetCountDto> counts, String value, RoaringBitmap documents, RoaringBitmap matches) {
+        int count = RoaringBitmap.andCardinality(documents, matches);
+        if (count > 0) {
+            counts.add(new FacetCountDto(value, count));
+        }
+    }
+
+    private static RoaringBitmap union(Map<?, RoaringBitmap> bitmaps) {
+        return RoaringBitmap.or(bitmaps.values().iterator());
+    }
+
+    private static <K> void removeFrom(Map<K, RoaringBitmap> bitmaps, K key, int doc) {
+        RoaringBitmap documents = bitmaps.get(key);
+        if (documents != null) {
+            documents.remove(doc);
+            if (documents.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+
+    private static void removeValue(Map<String, FacetValue> values, String key, int doc) {
+        FacetValue value = values.get(key);
+        if (value != null) {
+            value.documents().remove(doc);
+            if (value.documents().isEmpty()) {
+                values.remove(key);
+            }
+        }
+    }
+
+    private static List<String> skillsOf(JobListingDto job) {
+        List<String> skills = new ArrayList<>();
+        if (job.getRequiredSkills() == null) {
+            return skills;
+        }
+        for (String skill : job.getRequiredSkills().split(",")) {
+            if (!skill.isBlank() && !skills.contains(skill.trim())) {
+                skills.add(skill.trim());
+            }
+        }
+        return skills;
+    }
+
+    private static String normalize(String value) {
+        return value != null && !value.isBlank() ? value.trim().toLowerCase(Locale.ROOT) : null;
+    }
+
+    private static String formatAmount(double amount) {
+        return String.valueOf((long) amount);
+    }
+
+    /**
+     * Documents for one text facet value, labelled with the spelling of the first job that used it.
+     */
+    private record FacetValue(String label, RoaringBitmap documents) {
+        FacetValue(String label) {
+            this(label, new RoaringBitmap());
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.workconnect.api.search;
+
+import com.workconnect.api.cache.OpenJobsCache;
+import com.workconnect.api.cache.OpenJobsSnapshot;
+import com.workconnect.api.constants.Enum.JobStatus;
+import com.workconnect.api.dto.JobListingDto;
+import com.workconnect.api.dto.NearbyJobDto;
+import com.workconnect.api.event.JobChangedEvent;
+import com.workconnect.api.event.JobsImportedEvent;
+import com.workconnect.api.event.JobsReloadedEvent;
+import com.workconnect.api.geo.GeoPoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Uniform latitude/longitude grid over the positions of open jobs. A radius query only visits the
+ * cells overlapping the circle's bounding box and measures distances for the jobs in them, instead
+ * of computing a distance to every open job.
+ * <p>
+ * Only positions are kept here; the listings themselves are read from the open jobs cache when a
+ * query runs, so application counts and other listing changes need no separate bookkeeping.
+ */
+@Component
+public class JobGeoIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobGeoIndex.class);
+
+    // About 11 km north to south; most gig searches cover a handful of cells
+    static final double CELL_DEGREES = 0.1;
+    private static final int ROWS = (int) Math.round(180 / CELL_DEGREES);
+    private static final int COLUMNS = (int) Math.round(360 / CELL_DEGREES);
+    private static final double KM_PER_DEGREE = Math.toRadians(1) * 6371.0088;
+
+    private final OpenJobsCache openJobsCache;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, GeoPoint> positions = new HashMap<>();
+    private final Map<Integer, Set<Long>> jobsByCell = new HashMap<>();
+
+    public JobGeoIndex(OpenJobsCache openJobsCache) {
+        this.openJobsCache = openJobsCache;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        lock.writeLock().lock();
+        try {
+            positions.clear();
+            jobsByCell.clear();
+            openJobsCache.snapshot().jobs().forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Indexed {} open job locations", size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            remove(event.jobId());
+            if (!event.isDeleted()) {
+                add(event.listing());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobsImported(JobsImportedEvent event) {
+        lock.writeLock().lock();
+        try {
+            event.listings().forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobsReloaded(JobsReloadedEvent event) {
+        lock.writeLock().lock();
+        try {
+            for (JobListingDto job : event.listings()) {
+                remove(job.getId());
+                add(job);
+            }
+            event.deletedJobIds().forEach(this::remove);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Open jobs within the radius of the origin, nearest first.
+     */
+    public List<NearbyJobDto> findWithin(GeoPoint origin, double radiusKm, int limit) {
+        OpenJobsSnapshot snapshot = openJobsCache.snapshot();
+        List<NearbyJobDto> matches = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            double latitudeSpan = radiusKm / KM_PER_DEGREE;
+            int firstRow = Math.max(0, row(origin.latitude() - latitudeSpan));
+            int lastRow = Math.min(ROWS - 1, row(origin.latitude() + latitudeSpan));
+
+            // Meridians converge towards the poles; use the widest parallel inside the box
+            double widestLatitude = Math.min(90, Math.abs(origin.latitude()) + latitudeSpan);
+            double cosine = Math.cos(Math.toRadians(widestLatitude));
+            int columnSpan = cosine * 180 * KM_PER_DEGREE > radiusKm
+                    ? (int) Math.ceil(radiusKm / (KM_PER_DEGREE * cosine) / CELL_DEGREES)
+                    : COLUMNS / 2;
+            int columns = Math.min(2 * columnSpan + 1, COLUMNS);
+            int firstColumn = column(origin.longitude()) - columnSpan;
+
+            for (int row = firstRow; row <= lastRow; row++) {
+                for (int i = 0; i < columns; i++) {
+                    // Wrap around the antimeridian
+                    Set<Long> cell = jobsByCell.get(row * COLUMNS + Math.floorMod(firstColumn + i, COLUMNS));
+                    if (cell == null) {
+                        continue;
+                    }
+                    for (Long jobId : cell) {
+                        double distance = origin.distanceKm(positions.get(jobId));
+                        JobListingDto job;
+                        if (distance <= radiusKm && (job = snapshot.get(jobId)) != null) {
+                            matches.add(new NearbyJobDto(job, distance));
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        matches.sort(Comparator.comparingDouble(NearbyJobDto::getDistanceKm)
+                .thenComparing(match -> match.getJob().getId()));
+        return matches.size() > limit ? new ArrayList<>(matches.subList(0, limit)) : matches;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return positions.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(JobListingDto job) {
+        if (job.getStatus() != JobStatus.OPEN || job.getLatitude() == null || job.getLongitude() == null) {
+            return;
+        }
+        GeoPoint position = new GeoPoint(job.getLatitude(), job.getLongitude());
+        positions.put(job.getId(), position);
+        jobsByCell.computeIfAbsent(cell(position), key -> new HashSet<>()).add(job.getId());
+    }
+
+    private void remove(Long jobId) {
+        GeoPoint position = positions.remove(jobId);
+        if (position == null) {
+            return;
+        }
+        int cell = cell(position);
+        Set<Long> jobs = jobsByCell.get(cell);
+        jobs.remove(jobId);
+        if (jobs.isEmpty()) {
+            jobsByCell.remove(cell);
+        }
+    }
+
+    private static int cell(GeoPoint position) {
+        return row(position.latitude()) * COLUMNS + column(position.longitude());
+    }
+
+    private static int row(double latitude) {
+        return Math.min(ROWS - 1, (int) Math.floor((latitude + 90) / CELL_DEGREES));
+    }
+
+    private static int column(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180) / CELL_DEGREES), COLUMNS);
+    }
+}
@@ -0,0 +1,494 @@
+package com.workconnect.api.search;
+
+import com.workconnect.api.constants.Enum.JobStatus;
+import com.workconnect.api.dto.JobFilterDto;
+import com.workconnect.api.dto.JobListingDto;
+import com.workconnect.api.dto.JobSearchResultDto;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.IntToDoubleFunction;
+import java.util.stream.IntStream;
+
+/**
+ * In-memory inverted index over the title, required skills and description of every OPEN job.
+ * Queries are ranked with BM25 and a recency boost and are answered without touching the database.
+ * A trigram dictionary over title and skill terms additionally serves typo-tolerant lookups, and
+ * per-facet bitmaps over the same ordinals serve filtered facet counts.
+ * <p>
+ * Each indexed job gets an int ordinal; re-indexing or removing a job only tombstones its old
+ * ordinal. Once tombstones outnumber half of the live documents, a replacement without them is built
+ * outside the lock and swapped in, with the changes made meanwhile replayed on it. New applications
+ * only add to a per-job counter, without the lock, which results overlay on their listings.
+ */
+@Component
+public class JobSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobSearchIndex.class);
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // A match in the title says more about a job than one buried in the description
+    private static final int TITLE_WEIGHT = 3;
+    private static final int SKILLS_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    // Fresh postings score up to 50% higher; the boost halves every two weeks
+    private static final double RECENCY_BOOST = 0.5;
+    private static final double RECENCY_HALF_LIFE_DAYS = 14.0;
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int MIN_GARBAGE_FOR_COMPACTION = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ConcurrentHashMap<Long, LongAdder> applicationDeltas = new ConcurrentHashMap<>();
+
+    // Guarded by lock
+    private Generation index = new Generation();
+    // Changes made while a compaction builds its replacement, replayed on it before the swap; null
+    // while no compaction runs. Guarded by lock.
+    private List<Consumer<Generation>> changesDuringCompaction;
+
+    /**
+     * Replaces the whole index content with the given jobs.
+     */
+    public void rebuild(Collection<JobListingDto> jobs) {
+        Generation rebuilt = new Generation();
+        for (JobListingDto job : jobs) {
+            if (job.getStatus() == JobStatus.OPEN) {
+                rebuilt.add(job);
+            }
+        }
+        lock.writeLock().lock();
+        try {
+            applicationDeltas.clear();
+            index = rebuilt;
+            // A compaction still building from the replaced content must not swap it back in
+            changesDuringCompaction = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds or replaces a job. Jobs that are no longer OPEN are dropped from the index.
+     */
+    public void index(JobListingDto job) {
+        change(generation -> {
+            generation.tombstone(job.getId());
+            if (job.getStatus() == JobStatus.OPEN) {
+                generation.add(job);
+            }
+        });
+        // The listing carries the count as read from the database
+        resetApplicationCount(job.getId());
+    }
+
+    public void remove(Long jobId) {
+        change(generation -> generation.tombstone(jobId));
+        applicationDeltas.remove(jobId);
+    }
+
+    /**
+     * Keeps the indexed listing's application count in step with new applications. Only adds to the
+     * job's counter, so it never waits for the lock.
+     */
+    public void adjustApplicationCount(Long jobId, int delta) {
+        applicationDeltas.computeIfAbsent(jobId, id -> new LongAdder()).add(delta);
+    }
+
+    /**
+     * Returns the best matching OPEN jobs for a free-text query, highest score first. A job matches
+     * when it contains at least one query term; jobs matching more terms naturally rank higher.
+     */
+    public List<JobListingDto> search(String query, int limit) {
+        List<String> terms = JobTextAnalyzer.distinctTerms(query);
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Generation generation = index;
+            QueryScores scores = score(generation, terms);
+            return top(generation, scores.slots().ordinals(), relevance(generation, scores), limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Searches OPEN jobs within the given filters and counts every facet over the full match set.
+     * Without a query the matches are returned newest first instead of by relevance.
+     */
+    public JobSearchResultDto facetedSearch(String query, JobFilterDto filter, int limit) {
+        List<String> terms = JobTextAnalyzer.distinctTerms(query);
+
+        lock.readLock().lock();
+        try {
+            Generation generation = index;
+            JobListingDto[] documents = generation.documents;
+            RoaringBitmap matches = generation.facets.filter(filter);
+            IntToDoubleFunction ranking;
+            if (terms.isEmpty()) {
+                ranking = doc -> documents[doc].getPostedAt() != null
+                        ? documents[doc].getPostedAt().toEpochSecond(ZoneOffset.UTC) : Double.NEGATIVE_INFINITY;
+            } else {
+                QueryScores scores = score(generation, terms);
+                matches.and(RoaringBitmap.bitmapOf(scores.slots().ordinals().toArray()));
+                ranking = relevance(generation, scores);
+            }
+
+            return JobSearchResultDto.builder()
+                    .jobs(top(generation, matches.stream(), ranking, limit))
+                    .totalMatches(matches.getCardinality())
+                    .facets(generation.facets.counts(matches, LocalDate.now()))
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Typo-tolerant search over job titles and skills. Each query term is expanded to the dictionary
+     * terms within a small edit distance; jobs are ranked by how many query terms they match, then
+     * by trigram overlap, then by edit distance, with newer postings winning ties.
+     */
+    public List<JobListingDto> fuzzySearch(String query, int limit) {
+        List<String> terms = JobTextAnalyzer.distinctTerms(query);
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Generation generation = index;
+            JobListingDto[] documents = generation.documents;
+            List<List<TrigramDictionary.Candidate>> candidatesByTerm = new ArrayList<>(terms.size());
+            int touched = 0;
+            for (String term : terms) {
+                List<TrigramDictionary.Candidate> candidates = generation.dictionary.lookup(term);
+                candidatesByTerm.add(candidates);
+                for (TrigramDictionary.Candidate candidate : candidates) {
+                    touched += candidate.documents().size();
+                }
+            }
+
+            // Accumulators are indexed by slot and sized by the postings read, not by the whole index
+            OrdinalSlots slots = new OrdinalSlots(touched);
+            int[] matchedTerms = new int[touched];
+            int[] overlaps = new int[touched];
+            int[] distances = new int[touched];
+            int[] lastTerm = new int[touched];
+
+            for (int t = 0; t < candidatesByTerm.size(); t++) {
+                // Candidates arrive best first, so the first one to reach a job is its best match for this term
+                for (TrigramDictionary.Candidate candidate : candidatesByTerm.get(t)) {
+                    PostingList postingList = candidate.documents();
+                    for (int i = 0; i < postingList.size(); i++) {
+                        int doc = postingList.doc(i);
+                        if (documents[doc] == null) {
+                            continue;
+                        }
+                        int slot = slots.slot(doc);
+                        if (lastTerm[slot] == t + 1) {
+                            continue;
+                        }
+                        lastTerm[slot] = t + 1;
+                        matchedTerms[slot]++;
+                        overlaps[slot] += candidate.overlap();
+                        distances[slot] += candidate.distance();
+                    }
+                }
+            }
+
+            Comparator<Integer> ranking = Comparator.<Integer>comparingInt(slot -> matchedTerms[slot])
+                    .thenComparingInt(slot -> overlaps[slot])
+                    .thenComparingInt(slot -> -distances[slot])
+                    .thenComparing(slot -> documents[slots.ordinal(slot)].getPostedAt(), Comparator.nullsFirst(Comparator.naturalOrder()));
+            PriorityQueue<Integer> top = new PriorityQueue<>(limit + 1, ranking);
+            for (int slot = 0; slot < slots.size(); slot++) {
+                top.add(slot);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+
+            List<JobListingDto> results = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                results.add(withApplications(documents[slots.ordinal(top.poll())]));
+            }
+            Collections.reverse(results);
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Accumulates the BM25 score of every live document containing one of the terms, keyed by the
+     * slots of the documents that matched at least one.
+     */
+    private static QueryScores score(Generation generation, List<String> terms) {
+        List<PostingList> postingLists = new ArrayList<>(terms.size());
+        int touched = 0;
+        for (String term : terms) {
+            PostingList postingList = generation.postings.get(term);
+            if (postingList != null) {
+                postingLists.add(postingList);
+                touched += postingList.size();
+            }
+        }
+        QueryScores scores = new QueryScores(new OrdinalSlots(touched), new float[touched]);
+        int liveCount = generation.liveCount;
+        if (liveCount == 0) {
+            return scores;
+        }
+        double averageLength = (double) generation.totalLength / liveCount;
+
+        for (PostingList postingList : postingLists) {
+            // Tombstoned postings still count towards df until the next compaction
+            int documentFrequency = Math.min(postingList.size(), liveCount);
+            double idf = Math.log(1 + (liveCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+
+            for (int i = 0; i < postingList.size(); i++) {
+                int doc = postingList.doc(i);
+                if (generation.documents[doc] == null) {
+                    continue;
+                }
+                int tf = postingList.frequency(i);
+                double norm = K1 * (1 - B + B * generation.lengths[doc] / averageLength);
+                scores.values()[scores.slots().slot(doc)] += (float) (idf * tf * (K1 + 1) / (tf + norm));
+            }
+        }
+        return scores;
+    }
+
+    private static IntToDoubleFunction relevance(Generation generation, QueryScores scores) {
+        LocalDateTime now = LocalDateTime.now();
+        return doc -> scores.values()[scores.slots().find(doc)] * recencyFactor(generation.documents[doc].getPostedAt(), now);
+    }
+
+    /**
+     * Selects the {@code limit} highest ranked documents with a bounded min-heap, best first.
+     */
+    private List<JobListingDto> top(Generation generation, IntStream docs, IntToDoubleFunction ranking, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        PriorityQueue<ScoredDoc> top = new PriorityQueue<>(limit + 1, Comparator.comparingDouble(ScoredDoc::score));
+        docs.forEach(doc -> {
+            double score = ranking.applyAsDouble(doc);
+            if (top.size() < limit) {
+                top.add(new ScoredDoc(doc, score));
+            } else if (score > top.peek().score()) {
+                top.poll();
+                top.add(new ScoredDoc(doc, score));
+            }
+        });
+
+        List<JobListingDto> results = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            results.add(withApplications(generation.documents[top.poll().doc()]));
+        }
+        Collections.reverse(results);
+        return results;
+    }
+
+    /**
+     * Applies a change to the index, and records it for the replacement if a compaction is building
+     * one. Starts a compaction, outside the lock, once the index holds enough tombstones.
+     */
+    private void change(Consumer<Generation> change) {
+        List<JobListingDto> live = null;
+        List<Consumer<Generation>> changes;
+        lock.writeLock().lock();
+        try {
+            change.accept(index);
+            if (changesDuringCompaction != null) {
+                changesDuringCompaction.add(change);
+            } else if (index.needsCompaction()) {
+                changesDuringCompaction = new ArrayList<>();
+                live = index.liveDocuments();
+            }
+            changes = changesDuringCompaction;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (live != null) {
+            compact(live, changes);
+        }
+    }
+
+    private void compact(List<JobListingDto> live, List<Consumer<Generation>> changes) {
+        Generation replacement = new Generation();
+        boolean built = false;
+        try {
+            live.forEach(replacement::add);
+            built = true;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                // A rebuild since the compaction started has replaced the index already
+                if (changesDuringCompaction == changes) {
+                    if (built) {
+                        changes.forEach(change -> change.accept(replacement));
+                        logger.debug("Compacted job search index: dropped {} tombstoned documents",
+                                index.nextOrdinal - index.liveCount);
+                        index = replacement;
+                        applicationDeltas.keySet().retainAll(replacement.ordinalsByJobId.keySet());
+                    }
+                    changesDuringCompaction = null;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private JobListingDto withApplications(JobListingDto job) {
+        LongAdder delta = applicationDeltas.get(job.getId());
+        long applications = delta != null ? delta.sum() : 0;
+        if (applications == 0) {
+            return job;
+        }
+        // Copy rather than mutate: the indexed instance is shared with every other result
+        int count = job.getApplicationCount() != null ? job.getApplicationCount() : 0;
+        return job.toBuilder().applicationCount((int) Math.max(0, count + applications)).build();
+    }
+
+    private void resetApplicationCount(Long jobId) {
+        LongAdder delta = applicationDeltas.get(jobId);
+        if (delta != null) {
+            delta.reset();
+        }
+    }
+
+    private static double recencyFactor(LocalDateTime postedAt, LocalDateTime now) {
+        if (postedAt == null) {
+            return 1.0;
+        }
+        double ageDays = Math.max(0, Duration.between(postedAt, now).toMinutes() / 1440.0);
+        return 1.0 + RECENCY_BOOST * Math.pow(0.5, ageDays / RECENCY_HALF_LIFE_DAYS);
+    }
+
+    /**
+     * One build of the index. Ordinals only ever grow within a generation; a compaction starts a new one.
+     */
+    private static final class Generation {
+
+        private final Map<String, PostingList> postings = new HashMap<>();
+        private final TrigramDictionary dictionary = new TrigramDictionary();
+        private final JobFacetIndex facets = new JobFacetIndex();
+        private final Map<Long, Integer> ordinalsByJobId = new HashMap<>();
+        private JobListingDto[] documents = new JobListingDto[INITIAL_CAPACITY];
+        private int[] lengths = new int[INITIAL_CAPACITY];
+        private int nextOrdinal;
+        private int liveCount;
+        private long totalLength;
+
+        void add(JobListingDto job) {
+            int ordinal = nextOrdinal++;
+            ensureCapacity(nextOrdinal);
+
+            Map<String, Integer> frequencies = new HashMap<>();
+            int length = 0;
+            length += collect(frequencies, job.getJobTitle(), TITLE_WEIGHT);
+            length += collect(frequencies, job.getRequiredSkills(), SKILLS_WEIGHT);
+            // Fuzzy lookups deliberately ignore the free-text description
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                dictionary.add(entry.getKey(), ordinal, entry.getValue());
+            }
+            length += collect(frequencies, job.getDescription(), DESCRIPTION_WEIGHT);
+
+            documents[ordinal] = job;
+            lengths[ordinal] = length;
+            ordinalsByJobId.put(job.getId(), ordinal);
+            facets.add(ordinal, job);
+            liveCount++;
+            totalLength += length;
+
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), term -> new PostingList()).add(ordinal, entry.getValue());
+            }
+        }
+
+        private static int collect(Map<String, Integer> frequencies, String text, int weight) {
+            List<String> terms = JobTextAnalyzer.tokenize(text);
+            for (String term : terms) {
+                frequencies.merge(term, weight, Integer::sum);
+            }
+            return terms.size() * weight;
+        }
+
+        void tombstone(Long jobId) {
+            Integer ordinal = ordinalsByJobId.remove(jobId);
+            if (ordinal == null) {
+                return;
+            }
+            facets.remove(ordinal, documents[ordinal]);
+            documents[ordinal] = null;
+            liveCount--;
+            totalLength -= lengths[ordinal];
+        }
+
+        boolean needsCompaction() {
+            int garbage = nextOrdinal - liveCount;
+            return garbage >= MIN_GARBAGE_FOR_COMPACTION && garbage >= liveCount / 2;
+        }
+
+        List<JobListingDto> liveDocuments() {
+            List<JobListingDto> live = new ArrayList<>(liveCount);
+            for (int doc = 0; doc < nextOrdinal; doc++) {
+                if (documents[doc] != null) {
+                    live.add(documents[doc]);
+                }
+            }
+            return live;
+        }
+
+        private void ensureCapacity(int required) {
+            if (required > documents.length) {
+                int capacity = Math.max(required, documents.length * 2);
+                documents = Arrays.copyOf(documents, capacity);
+                lengths = Arrays.copyOf(lengths, capacity);
+            }
+        }
+    }
+
+    private record ScoredDoc(int doc, double score) {
+    }
+
+    private record QueryScores(OrdinalSlots slots, float[] values) {
+    }
+}
@@ -0,0 +1,66 @@
+package com.workconnect.api.search;
+
+import com.workconnect.api.cache.OpenJobsCache;
+import com.workconnect.api.event.JobApplicationChangedEvent;
+import com.workconnect.api.event.JobChangedEvent;
+import com.workconnect.api.event.JobsImportedEvent;
+import com.workconnect.api.event.JobsReloadedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Builds the job search index from the open jobs cache on startup and keeps it current from job
+ * events. Events are applied only after the publishing transaction commits, so rolled back changes
+ * never reach the index.
+ */
+@Component
+public class JobSearchIndexUpdater {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobSearchIndexUpdater.class);
+
+    private final JobSearchIndex jobSearchIndex;
+    private final OpenJobsCache openJobsCache;
+
+    public JobSearchIndexUpdater(JobSearchIndex jobSearchIndex, OpenJobsCache openJobsCache) {
+        this.jobSearchIndex = jobSearchIndex;
+        this.openJobsCache = openJobsCache;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        long started = System.currentTimeMillis();
+        jobSearchIndex.rebuild(openJobsCache.snapshot().jobs());
+        logger.info("Indexed {} open jobs for search in {} ms", jobSearchIndex.size(), System.currentTimeMillis() - started);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (event.isDeleted()) {
+            jobSearchIndex.remove(event.jobId());
+        } else {
+            jobSearchIndex.index(event.listing());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobsImported(JobsImportedEvent event) {
+        event.listings().forEach(jobSearchIndex::index);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobsReloaded(JobsReloadedEvent event) {
+        event.listings().forEach(jobSearchIndex::index);
+        event.deletedJobIds().forEach(jobSearchIndex::remove);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationChanged(JobApplicationChangedEvent event) {
+        if (event.isNewApplication()) {
+            jobSearchIndex.adjustApplicationCount(event.jobId(), 1);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.workconnect.api.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Splits job text into lower-cased terms. Indexing and querying must go through the same
+ * analyzer so that a query term matches exactly the postings it was indexed under.
+ */
+final class JobTextAnalyzer {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is",
+            "it", "of", "on", "or", "the", "to", "with", "we", "you", "our", "will");
+
+    private JobTextAnalyzer() {
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return terms;
+        }
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty() && !STOP_WORDS.contains(token)) {
+                terms.add(token);
+            }
+        }
+        return terms;
+    }
+
+    static List<String> distinctTerms(String text) {
+        return new ArrayList<>(new LinkedHashSet<>(tokenize(text)));
+    }
+}
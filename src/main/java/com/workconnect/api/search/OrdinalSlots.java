@@ -0,0 +1,79 @@
+package com.workconnect.api.search;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Maps the ordinals touched by one query to dense slots {@code 0..size()-1}, in first-touch order.
+ * Per-ordinal accumulators indexed by slot are then sized by the postings the query actually reads,
+ * not by the highest ordinal in the index. Open addressing over primitive arrays, so nothing is boxed.
+ */
+final class OrdinalSlots {
+
+    private final int[] keys;
+    private final int[] slots;
+    private final int[] ordinals;
+    private final int mask;
+    private int size;
+
+    /**
+     * @param maxOrdinals an upper bound on the distinct ordinals that will be added, such as the
+     *                    total length of the postings the query reads
+     */
+    OrdinalSlots(int maxOrdinals) {
+        int capacity = Integer.highestOneBit(Math.max(4, maxOrdinals * 2 - 1)) << 1;
+        keys = new int[capacity];
+        slots = new int[capacity];
+        ordinals = new int[Math.max(0, maxOrdinals)];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Returns the slot of the ordinal, assigning the next free one on first touch.
+     */
+    int slot(int ordinal) {
+        // Keys are stored as ordinal + 1 so that 0 marks an empty cell
+        int i = hash(ordinal) & mask;
+        while (keys[i] != 0) {
+            if (keys[i] == ordinal + 1) {
+                return slots[i];
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = ordinal + 1;
+        slots[i] = size;
+        ordinals[size] = ordinal;
+        return size++;
+    }
+
+    /**
+     * Returns the slot of the ordinal, or -1 when the query never touched it.
+     */
+    int find(int ordinal) {
+        int i = hash(ordinal) & mask;
+        while (keys[i] != 0) {
+            if (keys[i] == ordinal + 1) {
+                return slots[i];
+            }
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int ordinal(int slot) {
+        return ordinals[slot];
+    }
+
+    IntStream ordinals() {
+        return Arrays.stream(ordinals, 0, size);
+    }
+
+    private static int hash(int ordinal) {
+        int h = ordinal * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,39 @@
+package com.workconnect.api.search;
+
+import java.util.Arrays;
+
+/**
+ * Postings for one term as parallel primitive arrays of document ordinals and term frequencies.
+ * Ordinals are handed out in increasing order, so the list stays sorted by appending.
+ */
+final class PostingList {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] docs = new int[INITIAL_CAPACITY];
+    private int[] frequencies = new int[INITIAL_CAPACITY];
+    private int size;
+
+    void add(int doc, int frequency) {
+        if (size == docs.length) {
+            int capacity = size + (size >> 1) + 1;
+            docs = Arrays.copyOf(docs, capacity);
+            frequencies = Arrays.copyOf(frequencies, capacity);
+        }
+        docs[size] = doc;
+        frequencies[size] = frequency;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int doc(int index) {
+        return docs[index];
+    }
+
+    int frequency(int index) {
+        return frequencies[index];
+    }
+}
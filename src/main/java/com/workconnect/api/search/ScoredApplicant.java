@@ -0,0 +1,7 @@
+package com.workconnect.api.search;
+
+/**
+ * An application with its match score for the job, between 0 and 1.
+ */
+public record ScoredApplicant(Long applicationId, Long workerId, double score) {
+}
@@ -0,0 +1,76 @@
+package com.workconnect.api.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Interns normalized skill names to dense int ids, so skills can be held as {@link SkillSet}s
+ * instead of strings. Names are compared case-insensitively with surrounding and repeated whitespace
+ * ignored, matching how skills are looked up in the skills table.
+ * <p>
+ * Ids are assigned on first sight and live as long as the application; they are never persisted.
+ * Only skills of saved open jobs and worker profiles are interned. Anything else is encoded with
+ * {@link #lookup}, which leaves unknown names out: no interned set can share them anyway.
+ */
+@Component
+public class SkillDictionary {
+
+    private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    public int intern(String skill) {
+        return ids.computeIfAbsent(normalize(skill), name -> nextId.getAndIncrement());
+    }
+
+    /**
+     * Encodes skill names, interning the new ones; blank names are skipped.
+     */
+    public SkillSet encode(Collection<String> skills) {
+        if (skills == null) {
+            return SkillSet.EMPTY;
+        }
+        return SkillSet.of(skills.stream()
+                .filter(skill -> skill != null && !skill.isBlank())
+                .mapToInt(this::intern)
+                .toArray());
+    }
+
+    /**
+     * Encodes a comma-separated list such as a job's required skills, interning the new ones.
+     */
+    public SkillSet parse(String skills) {
+        if (skills == null || skills.isBlank()) {
+            return SkillSet.EMPTY;
+        }
+        return encode(Arrays.asList(skills.split(",")));
+    }
+
+    /**
+     * Encodes a comma-separated list without interning: names never interned are left out.
+     */
+    public SkillSet lookup(String skills) {
+        if (skills == null || skills.isBlank()) {
+            return SkillSet.EMPTY;
+        }
+        return SkillSet.of(Arrays.stream(skills.split(","))
+                .filter(skill -> !skill.isBlank())
+                .map(skill -> ids.get(normalize(skill)))
+                .filter(Objects::nonNull)
+                .mapToInt(Integer::intValue)
+                .toArray());
+    }
+
+    public int size() {
+        return ids.size();
+    }
+
+    private static String normalize(String skill) {
+        return skill.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,129 @@
+package com.workconnect.api.search;
+
+import com.workconnect.api.cache.OpenJobsCache;
+import com.workconnect.api.constants.Enum.JobStatus;
+import com.workconnect.api.dto.JobListingDto;
+import com.workconnect.api.entity.Skill;
+import com.workconnect.api.entity.WorkerProfile;
+import com.workconnect.api.event.JobChangedEvent;
+import com.workconnect.api.event.JobsImportedEvent;
+import com.workconnect.api.event.JobsReloadedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Skill sets of open jobs, so skill matching is a merge of two small sorted arrays instead of
+ * splitting and comparing skill strings on every request.
+ * <p>
+ * Job sets are built from the open jobs cache on startup and follow job events after commit. Worker
+ * sets are not kept here: a profile has a handful of skills, and the {@link WorkerFeatureStore}
+ * already caches the sets it ranks applicants with.
+ */
+@Component
+public class SkillMatchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(SkillMatchIndex.class);
+
+    private final SkillDictionary skillDictionary;
+    private final OpenJobsCache openJobsCache;
+    private final Map<Long, SkillSet> jobSkills = new ConcurrentHashMap<>();
+
+    public SkillMatchIndex(SkillDictionary skillDictionary, OpenJobsCache openJobsCache) {
+        this.skillDictionary = skillDictionary;
+        this.openJobsCache = openJobsCache;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        jobSkills.clear();
+        openJobsCache.snapshot().jobs().forEach(this::index);
+        logger.info("Encoded skills of {} open jobs ({} distinct skills)", jobSkills.size(), skillDictionary.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (event.isDeleted()) {
+            jobSkills.remove(event.jobId());
+        } else {
+            index(event.listing());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobsImported(JobsImportedEvent event) {
+        event.listings().forEach(this::index);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobsReloaded(JobsReloadedEvent event) {
+        event.listings().forEach(this::index);
+        event.deletedJobIds().forEach(jobSkills::remove);
+    }
+
+    /**
+     * The worker's saved skills. Must be called where the profile's skills can still be loaded.
+     */
+    public SkillSet skillsOf(WorkerProfile workerProfile) {
+        return workerProfile.getSkills() == null ? SkillSet.EMPTY
+                : skillDictionary.encode(workerProfile.getSkills().stream().map(Skill::getName).toList());
+    }
+
+    public SkillSet skillsOf(JobListingDto job) {
+        SkillSet skills = jobSkills.get(job.getId());
+        // Jobs that are not open are not kept or interned, so look them up on the spot
+        return skills != null ? skills : skillDictionary.lookup(job.getRequiredSkills());
+    }
+
+    /**
+     * The jobs sharing the most skills with the worker, best first. Jobs with equal overlap keep
+     * their order from the candidates; jobs sharing no skill are still returned after the others.
+     */
+    public List<JobListingDto> rank(Collection<JobListingDto> candidates, SkillSet worker, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        // Bounded min-heap: the weakest of the best matches so far sits on top
+        PriorityQueue<Match> best = new PriorityQueue<>(Comparator
+                .comparingInt(Match::overlap)
+                .thenComparing(Comparator.comparingInt(Match::position).reversed()));
+        int position = 0;
+        for (JobListingDto job : candidates) {
+            Match match = new Match(job, worker.overlap(skillsOf(job)), position++);
+            if (best.size() < limit) {
+                best.add(match);
+            } else if (best.comparator().compare(match, best.peek()) > 0) {
+                best.poll();
+                best.add(match);
+            }
+        }
+
+        List<JobListingDto> ranked = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            ranked.add(best.poll().job());
+        }
+        return ranked.reversed();
+    }
+
+    private void index(JobListingDto job) {
+        if (job.getStatus() == JobStatus.OPEN) {
+            jobSkills.put(job.getId(), skillDictionary.parse(job.getRequiredSkills()));
+        } else {
+            jobSkills.remove(job.getId());
+        }
+    }
+
+    private record Match(JobListingDto job, int overlap, int position) {
+    }
+}
@@ -0,0 +1,79 @@
+package com.workconnect.api.search;
+
+import java.util.Arrays;
+
+/**
+ * Immutable set of skill ids from the {@link SkillDictionary}, held as a sorted array so its size
+ * follows the number of skills rather than the highest id. The overlap of two skill sets is a merge
+ * of their arrays, computed without allocating.
+ */
+public final class SkillSet {
+
+    public static final SkillSet EMPTY = new SkillSet(new int[0]);
+
+    private final int[] ids;
+
+    private SkillSet(int[] ids) {
+        this.ids = ids;
+    }
+
+    static SkillSet of(int... skillIds) {
+        if (skillIds.length == 0) {
+            return EMPTY;
+        }
+        int[] sorted = skillIds.clone();
+        Arrays.sort(sorted);
+        int size = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[size - 1]) {
+                sorted[size++] = sorted[i];
+            }
+        }
+        return new SkillSet(size == sorted.length ? sorted : Arrays.copyOf(sorted, size));
+    }
+
+    /**
+     * Number of skills present in both sets.
+     */
+    public int overlap(SkillSet other) {
+        int[] a = ids;
+        int[] b = other.ids;
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                count++;
+                i++;
+                j++;
+            }
+        }
+        return count;
+    }
+
+    public boolean contains(int skillId) {
+        return Arrays.binarySearch(ids, skillId) >= 0;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public boolean isEmpty() {
+        return ids.length == 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof SkillSet other && Arrays.equals(ids, other.ids);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(ids);
+    }
+}
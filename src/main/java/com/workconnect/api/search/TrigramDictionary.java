@@ -0,0 +1,144 @@
+package com.workconnect.api.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Typo-tolerant lookup over the vocabulary of job titles and skills. Every distinct term is split
+ * into padded character trigrams, and each trigram maps to the ids of the terms containing it.
+ * A misspelled query term is resolved by counting shared trigrams per dictionary term and then
+ * confirming the best candidates with an edit distance that gives up once it exceeds the bound.
+ * <p>
+ * Per term it also keeps postings of the document ordinals whose title or skills contain it, so
+ * that fuzzy matches never pick up jobs that only mention the word somewhere in their description.
+ */
+final class TrigramDictionary {
+
+    private static final char PADDING = '$';
+
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private final List<String> terms = new ArrayList<>();
+    private final List<PostingList> documents = new ArrayList<>();
+    private final Map<Long, PostingList> termsByTrigram = new HashMap<>();
+
+    void add(String term, int doc, int frequency) {
+        Integer termId = termIds.get(term);
+        if (termId == null) {
+            termId = terms.size();
+            termIds.put(term, termId);
+            terms.add(term);
+            documents.add(new PostingList());
+            for (long trigram : trigrams(term)) {
+                termsByTrigram.computeIfAbsent(trigram, key -> new PostingList()).add(termId, 1);
+            }
+        }
+        documents.get(termId).add(doc, frequency);
+    }
+
+    void clear() {
+        termIds.clear();
+        terms.clear();
+        documents.clear();
+        termsByTrigram.clear();
+    }
+
+    /**
+     * Returns dictionary terms within the edit bound of the query term, best candidates first:
+     * most shared trigrams, then smallest edit distance.
+     */
+    List<Candidate> lookup(String queryTerm) {
+        long[] queryTrigrams = trigrams(queryTerm);
+        int maxEdits = maxEdits(queryTerm.length());
+        // Each edit destroys at most three trigrams, which bounds the overlap a real match must reach
+        int minOverlap = Math.max(1, queryTrigrams.length - 3 * maxEdits);
+
+        // Only terms sharing a trigram with the query are counted, however large the vocabulary
+        List<PostingList> termLists = new ArrayList<>(queryTrigrams.length);
+        int touched = 0;
+        for (long trigram : queryTrigrams) {
+            PostingList termList = termsByTrigram.get(trigram);
+            if (termList != null) {
+                termLists.add(termList);
+                touched += termList.size();
+            }
+        }
+        OrdinalSlots slots = new OrdinalSlots(touched);
+        int[] overlaps = new int[touched];
+        for (PostingList termList : termLists) {
+            for (int i = 0; i < termList.size(); i++) {
+                overlaps[slots.slot(termList.doc(i))]++;
+            }
+        }
+
+        List<Candidate> candidates = new ArrayList<>();
+        for (int slot = 0; slot < slots.size(); slot++) {
+            if (overlaps[slot] < minOverlap) {
+                continue;
+            }
+            int termId = slots.ordinal(slot);
+            String term = terms.get(termId);
+            if (Math.abs(term.length() - queryTerm.length()) > maxEdits) {
+                continue;
+            }
+            int distance = boundedEditDistance(queryTerm, term, maxEdits);
+            if (distance <= maxEdits) {
+                candidates.add(new Candidate(documents.get(termId), overlaps[slot], distance));
+            }
+        }
+        candidates.sort(Comparator.comparingInt(Candidate::overlap).reversed()
+                .thenComparingInt(Candidate::distance));
+        return candidates;
+    }
+
+    static int maxEdits(int length) {
+        if (length <= 2) {
+            return 0;
+        }
+        return length <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Levenshtein distance that stops early and returns {@code bound + 1} once every cell in the
+     * current row exceeds the bound.
+     */
+    static int boundedEditDistance(String a, String b, int bound) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > bound) {
+                return bound + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    private static long[] trigrams(String term) {
+        String padded = PADDING + term + PADDING;
+        long[] trigrams = new long[Math.max(0, padded.length() - 2)];
+        for (int i = 0; i < trigrams.length; i++) {
+            trigrams[i] = ((long) padded.charAt(i) << 32) | ((long) padded.charAt(i + 1) << 16) | padded.charAt(i + 2);
+        }
+        // Repeated trigrams would be counted twice against the same term
+        return Arrays.stream(trigrams).distinct().toArray();
+    }
+
+    record Candidate(PostingList documents, int overlap, int distance) {
+    }
+}
@@ -0,0 +1,146 @@
+package com.workconnect.api.search;
+
+import com.workconnect.api.dto.WorkerCompletedCount;
+import com.workconnect.api.dto.WorkerRatingSummary;
+import com.workconnect.api.entity.WorkerProfile;
+import com.workconnect.api.event.WorkerSkillsChangedEvent;
+import com.workconnect.api.repository.JobApplicationRepository;
+import com.workconnect.api.repository.ReviewRepository;
+import com.workconnect.api.repository.WorkerProfileRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of {@link WorkerFeatures} by worker id. Workers missing from the cache are loaded together
+ * with three set-based queries: profiles with their skills, completed-job counts and review averages.
+ * <p>
+ * A skills change evicts the worker right away. Completed jobs, ratings and locations change
+ * slowly and only nudge a ranking, so those are picked up when the entry expires.
+ * <p>
+ * Expired entries are swept out periodically. When more workers than the configured maximum are
+ * cached, expired entries go first and then arbitrary ones, until a quarter of the room is free.
+ */
+@Component
+public class WorkerFeatureStore {
+
+    static final Duration MAX_AGE = Duration.ofMinutes(10);
+    private static final int LOAD_CHUNK = 1000;
+
+    private final WorkerProfileRepository workerProfileRepository;
+    private final JobApplicationRepository jobApplicationRepository;
+    private final ReviewRepository reviewRepository;
+    private final SkillMatchIndex skillMatchIndex;
+    private final int maxEntries;
+    private final Map<Long, WorkerFeatures> features = new ConcurrentHashMap<>();
+
+    public WorkerFeatureStore(WorkerProfileRepository workerProfileRepository,
+                              JobApplicationRepository jobApplicationRepository,
+                              ReviewRepository reviewRepository,
+                              SkillMatchIndex skillMatchIndex,
+                              @Value("${workconnect.ranking.worker-features.max-entries:50000}") int maxEntries) {
+        this.workerProfileRepository = workerProfileRepository;
+        this.jobApplicationRepository = jobApplicationRepository;
+        this.reviewRepository = reviewRepository;
+        this.skillMatchIndex = skillMatchIndex;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Features of the given workers, keyed by worker id. Workers without a worker profile are
+     * left out. Must be called inside a transaction.
+     */
+    public Map<Long, WorkerFeatures> featuresOf(Collection<Long> workerIds) {
+        long now = System.nanoTime();
+        Map<Long, WorkerFeatures> result = new HashMap<>(workerIds.size() * 2);
+        List<Long> missing = new ArrayList<>();
+        for (Long workerId : workerIds) {
+            WorkerFeatures cached = features.get(workerId);
+            if (cached != null && !isExpired(cached, now)) {
+                result.put(workerId, cached);
+            } else {
+                missing.add(workerId);
+            }
+        }
+
+        for (int from = 0; from < missing.size(); from += LOAD_CHUNK) {
+            List<Long> chunk = missing.subList(from, Math.min(from + LOAD_CHUNK, missing.size()));
+            load(chunk, now).forEach((workerId, loaded) -> {
+                features.put(workerId, loaded);
+                result.put(workerId, loaded);
+            });
+        }
+        if (features.size() > maxEntries) {
+            trim(now);
+        }
+        return result;
+    }
+
+    @Scheduled(fixedDelayString = "${workconnect.ranking.worker-features.sweep-interval:10m}")
+    public void evictExpired() {
+        long now = System.nanoTime();
+        features.values().removeIf(cached -> isExpired(cached, now));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWorkerSkillsChanged(WorkerSkillsChangedEvent event) {
+        features.remove(event.workerId());
+    }
+
+    public void invalidateAll() {
+        features.clear();
+    }
+
+    int size() {
+        return features.size();
+    }
+
+    private void trim(long now) {
+        features.values().removeIf(cached -> isExpired(cached, now));
+        int target = maxEntries - maxEntries / 4;
+        Iterator<Long> workerIds = features.keySet().iterator();
+        while (features.size() > target && workerIds.hasNext()) {
+            workerIds.next();
+            workerIds.remove();
+        }
+    }
+
+    private static boolean isExpired(WorkerFeatures cached, long now) {
+        return now - cached.loadedAt() >= MAX_AGE.toNanos();
+    }
+
+    private Map<Long, WorkerFeatures> load(List<Long> workerIds, long now) {
+        Map<Long, Integer> completed = new HashMap<>();
+        for (WorkerCompletedCount count : jobApplicationRepository.countCompletedByWorkerIdIn(workerIds)) {
+            completed.put(count.workerId(), count.completedJobs().intValue());
+        }
+        Map<Long, WorkerRatingSummary> ratings = new HashMap<>();
+        for (WorkerRatingSummary summary : reviewRepository.summarizeByRevieweeIdIn(workerIds)) {
+            ratings.put(summary.workerId(), summary);
+        }
+
+        Map<Long, WorkerFeatures> loaded = new HashMap<>();
+        for (WorkerProfile profile : workerProfileRepository.findAllWithSkillsByIdIn(workerIds)) {
+            WorkerRatingSummary rating = ratings.get(profile.getId());
+            loaded.put(profile.getId(), new WorkerFeatures(
+                    skillMatchIndex.skillsOf(profile),
+                    profile.getLatitude(),
+                    profile.getLongitude(),
+                    completed.getOrDefault(profile.getId(), 0),
+                    rating != null ? rating.averageRating() : 0,
+                    rating != null ? rating.reviewCount().intValue() : 0,
+                    now));
+        }
+        return loaded;
+    }
+}
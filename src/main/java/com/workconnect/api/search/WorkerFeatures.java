@@ -0,0 +1,18 @@
+package com.workconnect.api.search;
+
+/**
+ * What applicant ranking needs to know about a worker, precomputed so a ranking touches no
+ * entities and runs no per-applicant queries.
+ *
+ * @param latitude      null when the worker's location is unknown
+ * @param averageRating 0 when the worker has no reviews
+ * @param loadedAt      {@link System#nanoTime()} when the features were read
+ */
+public record WorkerFeatures(SkillSet skills,
+                             Double latitude,
+                             Double longitude,
+                             int completedJobs,
+                             double averageRating,
+                             int reviewCount,
+                             long loadedAt) {
+}
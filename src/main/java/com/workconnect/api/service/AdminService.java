@@ -9,6 +9,7 @@ public interface AdminService {
     
     // Statistics
     AdminStatsDto getSystemStatistics();
+    ViewCounterMetricsDto getViewCounterMetrics();
     
     // User Management
     Page<AdminUserDto> getAllUsers(Pageable pageable);
@@ -0,0 +1,34 @@
+package com.workconnect.api.service;
+
+import com.workconnect.api.constants.Enum.JobApplicationStatus;
+
+import java.util.Collection;
+
+/**
+ * Maintains the denormalized application counters stored on each job posting.
+ */
+public interface ApplicationCountService {
+
+    /**
+     * Records a new PENDING application for the job. Must run in the caller's transaction.
+     */
+    void recordNewApplication(Long jobId);
+
+    /**
+     * Moves one application from {@code from} to {@code to} in the job's per-status counters.
+     */
+    void recordStatusChange(Long jobId, JobApplicationStatus from, JobApplicationStatus to);
+
+    /**
+     * Moves several applications of the same job to {@code to} with a single counter update,
+     * one entry of {@code from} per application.
+     */
+    void recordStatusChanges(Long jobId, Collection<JobApplicationStatus> from, JobApplicationStatus to);
+
+    /**
+     * Recomputes counters for jobs with {@code fromId <= id < toId} from the applications table.
+     *
+     * @return the number of jobs whose counters had drifted and were repaired
+     */
+    int reconcileCounters(Long fromId, Long toId);
+}
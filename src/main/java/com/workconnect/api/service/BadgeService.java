@@ -2,8 +2,12 @@ package com.workconnect.api.service;
 
 import com.workconnect.api.entity.User;
 
+import java.util.Collection;
+
 public interface BadgeService {
 
     void checkAndAwardBadges(User user);
 
+    void checkAndAwardBadges(Collection<Long> userIds);
+
 }
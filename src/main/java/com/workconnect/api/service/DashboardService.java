@@ -2,50 +2,54 @@ package com.workconnect.api.service;
 
 import com.workconnect.api.dto.dashboard.*;
 
+/**
+ * Every section takes the user's ID, which is also their profile ID, as resolved when the request
+ * was authenticated; none of them looks the user up again.
+ */
 public interface DashboardService {
 
     /**
      * Get comprehensive worker dashboard data
      */
-    WorkerDashboardDto getWorkerDashboard(String userEmail);
+    WorkerDashboardDto getWorkerDashboard(Long workerId);
 
     /**
      * Get comprehensive employer dashboard data
      */
-    EmployerDashboardDto getEmployerDashboard(String userEmail);
+    EmployerDashboardDto getEmployerDashboard(Long employerId);
 
     /**
      * Get personalized job recommendations for worker
      */
-    JobRecommendationsDto getWorkerRecommendations(String userEmail, int limit);
+    JobRecommendationsDto getWorkerRecommendations(Long workerId, int limit);
 
     /**
      * Get worker's recent job applications
      */
-    RecentApplicationsDto getWorkerRecentApplications(String userEmail, int limit);
+    RecentApplicationsDto getWorkerRecentApplications(Long workerId, int limit);
 
     /**
      * Get employer's active job postings
      */
-    ActiveJobsDto getEmployerActiveJobs(String userEmail, int limit);
+    ActiveJobsDto getEmployerActiveJobs(Long employerId, int limit);
 
     /**
      * Get recent applications for employer's jobs
      */
-    RecentApplicationsDto getEmployerRecentApplications(String userEmail, int limit);
+    RecentApplicationsDto getEmployerRecentApplications(Long employerId, int limit);
 
     /**
      * Get worker profile completion status
      */
-    ProfileCompletionDto getWorkerProfileCompletion(String userEmail);
+    ProfileCompletionDto getWorkerProfileCompletion(Long workerId);
 
     /**
      * Get worker statistics
      */
-    WorkerStatsDto getWorkerStats(String userEmail);
+    WorkerStatsDto getWorkerStats(Long workerId);
 
     /**
      * Get employer statistics
      */
-    EmployerStatsDto getEmployerStats(String userEmail);
+    EmployerStatsDto getEmployerStats(Long employerId);
 }
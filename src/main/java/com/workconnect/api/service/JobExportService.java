@@ -0,0 +1,18 @@
+package com.workconnect.api.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+public interface JobExportService {
+
+    /**
+     * Writes jobs to the stream as newline-delimited JSON, one listing per line, without holding
+     * the catalog in memory. Without {@code since} every OPEN job is written; with it, every published
+     * job modified at or after that time, whatever its status. Deleted jobs are not written at all, so
+     * consumers of incremental pulls must periodically take a full pull and drop the jobs missing from it.
+     *
+     * @return The number of jobs written.
+     */
+    long exportJobs(LocalDateTime since, OutputStream out) throws IOException;
+}
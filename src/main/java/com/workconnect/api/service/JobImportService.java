@@ -0,0 +1,26 @@
+package com.workconnect.api.service;
+
+import com.workconnect.api.dto.JobImportReportDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+
+/**
+ * Creates many jobs for one employer in a single request. Rows are read as a stream, checked with
+ * the same rules as a single job posting and inserted in JDBC batches; invalid rows are reported
+ * and skipped without failing the rest.
+ */
+public interface JobImportService {
+
+    /**
+     * Imports CSV whose header row names the job fields, e.g. {@code jobTitle,description,location,
+     * salary,jobType,startDate,endDate}. Header names are case-insensitive and unknown columns are ignored.
+     */
+    JobImportReportDto importCsv(String employerEmail, Reader csv) throws IOException;
+
+    /**
+     * Imports a JSON array of job objects shaped like a single job posting request.
+     */
+    JobImportReportDto importJson(String employerEmail, InputStream json) throws IOException;
+}
@@ -0,0 +1,35 @@
+package com.workconnect.api.service;
+
+import com.workconnect.api.dto.JobLifecycleDates;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Moves jobs through the statuses that change with time: SCHEDULED jobs are published when their
+ * publish time comes, OPEN jobs expire once their last day is over.
+ */
+public interface JobLifecycleService {
+
+    /**
+     * Jobs with a status change due before the given time, including overdue ones.
+     */
+    List<JobLifecycleDates> findTransitionsDueBefore(LocalDateTime until);
+
+    /**
+     * Publishes or expires whichever of the given jobs are due at {@code now}, with one UPDATE per
+     * kind of transition. Jobs that are no longer due are left as they are. The IDs are bound as a
+     * single list, so callers pass them in chunks.
+     *
+     * @return the number of jobs whose status changed
+     */
+    int applyDueTransitions(Collection<Long> jobIds, LocalDateTime now);
+
+    /**
+     * Reads the given jobs back and republishes them to this node's caches and indexes, for nodes
+     * that leave the transitions to another one. Like {@link #applyDueTransitions}, callers pass the
+     * IDs in chunks.
+     */
+    void reloadJobs(Collection<Long> jobIds);
+}
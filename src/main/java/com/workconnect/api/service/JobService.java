@@ -1,16 +1,28 @@
 package com.workconnect.api.service;
 
 import com.workconnect.api.constants.Enum.JobApplicationStatus;
+import com.workconnect.api.constants.Enum.SearchMode;
 import com.workconnect.api.dto.CreateJobRequestDto;
+import com.workconnect.api.dto.CursorPageDto;
+import com.workconnect.api.dto.JobFilterDto;
 import com.workconnect.api.dto.UpdateJobRequestDto;
 import com.workconnect.api.dto.JobApplicationDto;
 import com.workconnect.api.dto.JobDetailDto;
 import com.workconnect.api.dto.JobListingDto;
+import com.workconnect.api.dto.JobSearchResultDto;
+import com.workconnect.api.dto.NearbyJobDto;
+import com.workconnect.api.dto.ResourceVersion;
 import com.workconnect.api.dto.ApplicationStatusResponse;
+import com.workconnect.api.dto.BulkApplicationStatusResultDto;
 import com.workconnect.api.entity.JobApplication;
 import com.workconnect.api.entity.JobImage;
 import com.workconnect.api.entity.JobPosting;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface JobService {
@@ -25,20 +37,101 @@ public interface JobService {
 
     List<JobListingDto> getAllOpenJobs();
 
-    List<JobListingDto> searchOpenJobs(String keyword);
+    /**
+     * Keyset-paginated listing of open jobs, newest first.
+     *
+     * @param filter optional filters, null fields are ignored
+     * @param cursor token from a previous page's {@code nextCursor}, or null for the first page
+     * @param size   requested page size, clamped to a sane maximum
+     */
+    CursorPageDto<JobListingDto> getOpenJobsPage(JobFilterDto filter, String cursor, int size);
+
+    /**
+     * Validators for {@link #getOpenJobsPage}. Every page gets a new tag whenever any open job changes.
+     */
+    ResourceVersion getOpenJobsVersion();
+
+    /**
+     * The validators this instance read last, without reading the database again. They may be older
+     * than the listing, which only costs a client one full response, so use them where nothing is
+     * validated against them, such as a request without {@code If-None-Match}.
+     */
+    ResourceVersion getLastOpenJobsVersion();
+
+    /**
+     * Searches open jobs from the in-memory index. KEYWORD ranks exact term matches with BM25;
+     * FUZZY tolerates typos in title and skill terms.
+     */
+    List<JobListingDto> searchOpenJobs(String keyword, SearchMode mode);
+
+    /**
+     * Searches open jobs within the given filters and returns facet counts alongside the results.
+     * The keyword is optional; without one the newest matching jobs are returned.
+     */
+    JobSearchResultDto searchOpenJobsWithFacets(String keyword, JobFilterDto filter);
+
+    /**
+     * Open jobs within the radius, nearest first. The origin is either the given coordinates or,
+     * when they are missing, the gazetteer position of the location text.
+     */
+    List<NearbyJobDto> findOpenJobsNear(Double latitude, Double longitude, String location, double radiusKm);
 
     JobDetailDto getJobById(Long jobId);
 
-    void applyForJob(String workerEmail, Long jobId);
+    /**
+     * Validators for the job detail view, read from the version columns without loading the job.
+     */
+    ResourceVersion getJobDetailVersion(Long jobId);
+
+    /**
+     * Returns the job detail view as UTF-8 JSON, served from the job detail cache when it holds
+     * the given version.
+     */
+    byte[] getJobDetailJson(Long jobId, ResourceVersion version);
+
+    /**
+     * Submits a PENDING application. A retry that carries the idempotency key of the request which
+     * created the application succeeds without side effects.
+     *
+     * @param idempotencyKey optional client key, at most 100 characters
+     * @return true when the application was created, false when this was a retry of that request
+     */
+    boolean applyForJob(String workerEmail, Long jobId, String idempotencyKey);
 
     ApplicationStatusResponse checkApplicationStatus(String workerEmail, Long jobId);
 
     List<JobApplicationDto> getApplicationsForJob(String employerEmail, Long jobId);
 
+    /**
+     * The job's best matching applicants awaiting a decision (PENDING or VIEWED), best first, each with
+     * its match score. Applicants are scored on shared skills, distance to the job, completed jobs and rating.
+     *
+     * @param limit how many applicants to return, between 1 and 100
+     */
+    List<JobApplicationDto> getTopApplicants(String employerEmail, Long jobId, int limit);
+
+    /**
+     * One page of a job's applicants, optionally filtered by status and by application time
+     * ({@code appliedFrom} inclusive, {@code appliedTo} exclusive). Sortable by appliedAt,
+     * statusUpdatedAt, status and id; newest applications first by default.
+     */
+    Page<JobApplicationDto> getApplicantsPage(String employerEmail, Long jobId, JobApplicationStatus status,
+                                              LocalDateTime appliedFrom, LocalDateTime appliedTo, Pageable pageable);
+
     JobApplication updateApplicationStatus(String employerEmail, Long applicationId, JobApplicationStatus status);
 
+    /**
+     * Moves many applications to the same status at once. Ownership is checked for all of them in
+     * one query and the owned ones are updated with one statement; IDs that do not exist or belong to
+     * another employer's jobs are reported rather than failing the whole request.
+     */
+    BulkApplicationStatusResultDto updateApplicationStatuses(String employerEmail, Collection<Long> applicationIds,
+                                                             JobApplicationStatus status);
+
     JobListingDto mapToJobListingDto(JobPosting job);
 
+    List<JobListingDto> mapToJobListingDtos(List<JobPosting> jobs);
+
     JobImage addImageToJob(String employerEmail, Long jobId, String imageUrl);
 
     List<JobListingDto> getJobsByEmployer(String employerEmail);
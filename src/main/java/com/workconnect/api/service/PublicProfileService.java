@@ -1,7 +1,16 @@
 package com.workconnect.api.service;
 
+import com.workconnect.api.dto.ResourceVersion;
+
 import java.util.Map;
+import java.util.Optional;
 
 public interface PublicProfileService {
     Map<String, Object> getPublicProfileData(Long userId);
+
+    /**
+     * Validators for {@link #getPublicProfileData}, read without loading the profile.
+     * Empty when the user has no profile.
+     */
+    Optional<ResourceVersion> getPublicProfileVersion(Long userId);
 }
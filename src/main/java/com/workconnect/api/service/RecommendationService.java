@@ -1,9 +1,22 @@
 package com.workconnect.api.service;
 
 import com.workconnect.api.dto.JobListingDto;
+import com.workconnect.api.entity.WorkerProfile;
 import java.util.List;
 
 public interface RecommendationService {
 
     List<JobListingDto> getJobRecommendations(String workerEmail);
+
+    /**
+     * Same as {@link #getJobRecommendations(String)} for an already authenticated worker, without
+     * looking the user up again. Empty when the ID has no worker profile.
+     */
+    List<JobListingDto> getJobRecommendations(Long workerId);
+
+    /**
+     * Same as {@link #getJobRecommendations(Long)} for a profile the caller has already loaded with
+     * its skills. Makes no database call, so it can run outside a transaction.
+     */
+    List<JobListingDto> getJobRecommendations(WorkerProfile workerProfile);
 }
@@ -0,0 +1,66 @@
+package com.workconnect.api.service;
+
+import com.workconnect.api.constants.Enum.JobApplicationStatus;
+import com.workconnect.api.constants.Enum.JobStatus;
+import com.workconnect.api.constants.Enum.ViewTarget;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maintains the per-user stats rollups the dashboards read. Every change must be recorded in the
+ * transaction that makes it, so the rollups commit or roll back together with the data.
+ */
+public interface UserStatsService {
+
+    /**
+     * Records {@code posted} new jobs of the employer, {@code active} of them OPEN.
+     */
+    void recordJobsCreated(Long employerId, int posted, int active);
+
+    /**
+     * Records a status change of one of the employer's jobs.
+     */
+    void recordJobStatusChange(Long employerId, JobStatus from, JobStatus to);
+
+    /**
+     * Takes one of the employer's jobs, in the given status, and every application to it out of the
+     * rollups. Call it before deleting the job, while its applications can still be read.
+     */
+    void recordJobDeleted(Long employerId, Long jobId, JobStatus status);
+
+    /**
+     * Takes every application the user made, or received on one of their jobs, out of the other
+     * side's rollups and deletes the user's own. Call it before deleting the user.
+     */
+    void recordUserDeleted(Long userId);
+
+    /**
+     * Recounts the active jobs of the employers owning the given jobs after a bulk status change.
+     */
+    void recordJobStatusChanges(Collection<Long> jobIds);
+
+    /**
+     * Records a new PENDING application made today, for both the worker and the job's employer.
+     */
+    void recordNewApplication(Long workerId, Long employerId);
+
+    /**
+     * Moves one application from {@code from} to {@code to} for both the worker and the employer.
+     */
+    void recordApplicationStatusChange(Long workerId, Long employerId, JobApplicationStatus from, JobApplicationStatus to);
+
+    /**
+     * Moves several of the employer's applications to {@code to}, given the previous status of each
+     * application grouped by the worker who made it.
+     */
+    void recordApplicationStatusChanges(Long employerId, Map<Long, List<JobApplicationStatus>> previousByWorker,
+                                        JobApplicationStatus to);
+
+    /**
+     * Adds views to the users' rollups: profile views for {@link ViewTarget#PROFILE}, views of their
+     * jobs for {@link ViewTarget#JOB}.
+     */
+    void recordViews(ViewTarget target, Map<Long, Long> viewsByUserId);
+}
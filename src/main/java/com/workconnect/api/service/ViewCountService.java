@@ -0,0 +1,18 @@
+package com.workconnect.api.service;
+
+import com.workconnect.api.constants.Enum.ViewTarget;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Persists the view counts buffered in memory by the view counter.
+ */
+public interface ViewCountService {
+
+    /**
+     * Adds one day's views of each target to its daily row, creating missing rows, and to the stats
+     * rollup of the profile's user or the job's employer, all in one transaction.
+     */
+    void addViews(ViewTarget target, LocalDate day, Map<Long, Long> viewsByTargetId);
+}
@@ -1,8 +1,21 @@
 package com.workconnect.api.service;
 
+import com.workconnect.api.constants.Enum.JobApplicationStatus;
+import com.workconnect.api.dto.CursorPageDto;
 import com.workconnect.api.dto.WorkerApplicationDto;
 import java.util.List;
 
 public interface WorkerService {
-    List<WorkerApplicationDto> getApplicationsForWorker(String workerEmail);
+    List<WorkerApplicationDto> getApplicationsForWorker(Long workerId);
+
+    /**
+     * Keyset-paginated application history of the worker, newest first.
+     *
+     * @param status optional filter; null returns applications in every status
+     * @param cursor token from a previous page's {@code nextCursor}, or null for the first page
+     * @param size   page size, capped at 100
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    CursorPageDto<WorkerApplicationDto> getApplicationHistory(Long workerId, JobApplicationStatus status,
+                                                              String cursor, int size);
 }
@@ -1,10 +1,14 @@
 package com.workconnect.api.service.impl;
 
+import com.workconnect.api.cache.ViewCounter;
 import com.workconnect.api.constants.Enum.*;
 import com.workconnect.api.dto.*;
 import com.workconnect.api.entity.*;
+import com.workconnect.api.event.JobChangedEvent;
 import com.workconnect.api.repository.*;
 import com.workconnect.api.service.AdminService;
+import com.workconnect.api.service.UserStatsService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -14,8 +18,12 @@ import org.springframework.transaction.annotation.Transactional;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 @Service
 @Transactional
@@ -26,17 +34,26 @@ public class AdminServiceImpl implements AdminService {
     private final JobApplicationRepository jobApplicationRepository;
     private final ReviewRepository reviewRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserStatsService userStatsService;
+    private final ViewCounter viewCounter;
 
     public AdminServiceImpl(UserRepository userRepository,
                            JobPostingRepository jobPostingRepository,
                            JobApplicationRepository jobApplicationRepository,
                            ReviewRepository reviewRepository,
-                           PasswordEncoder passwordEncoder) {
+                           PasswordEncoder passwordEncoder,
+                           ApplicationEventPublisher eventPublisher,
+                           UserStatsService userStatsService,
+                           ViewCounter viewCounter) {
         this.userRepository = userRepository;
         this.jobPostingRepository = jobPostingRepository;
         this.jobApplicationRepository = jobApplicationRepository;
         this.reviewRepository = reviewRepository;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
+        this.userStatsService = userStatsService;
+        this.viewCounter = viewCounter;
     }
 
     @Override
@@ -85,6 +102,16 @@ public class AdminServiceImpl implements AdminService {
         return stats;
     }
 
+    @Override
+    public ViewCounterMetricsDto getViewCounterMetrics() {
+        Instant lastFlushAt = viewCounter.getLastFlushAt();
+        return ViewCounterMetricsDto.builder()
+                .pendingViews(viewCounter.getPendingViews())
+                .lastFlushAt(LocalDateTime.ofInstant(lastFlushAt, ZoneId.systemDefault()))
+                .flushLagMillis(Duration.between(lastFlushAt, Instant.now()).toMillis())
+                .build();
+    }
+
     @Override
     public Page<AdminUserDto> getAllUsers(Pageable pageable) {
         return userRepository.findAll(pageable).map(this::convertToAdminUserDto);
@@ -116,7 +143,13 @@ public class AdminServiceImpl implements AdminService {
         if (!userRepository.existsById(userId)) {
             throw new RuntimeException("User not found");
         }
+        // Applications are not cascaded from users or jobs; take them out of the rollups, then delete them
+        userStatsService.recordUserDeleted(userId);
+        jobApplicationRepository.deleteByParticipantId(userId);
+        // An employer's jobs are cascaded from the user, so nothing else tells the caches they are gone
+        List<Long> jobIds = jobPostingRepository.findByEmployer_UserId(userId).stream().map(JobPosting::getId).toList();
         userRepository.deleteById(userId);
+        jobIds.forEach(jobId -> eventPublisher.publishEvent(JobChangedEvent.deleted(jobId)));
     }
 
     @Override
@@ -139,10 +172,13 @@ public class AdminServiceImpl implements AdminService {
 
     @Override
     public void deleteJob(Long jobId) {
-        if (!jobPostingRepository.existsById(jobId)) {
-            throw new RuntimeException("Job not found");
-        }
-        jobPostingRepository.deleteById(jobId);
+        JobPosting job = jobPostingRepository.findById(jobId)
+                .orElseThrow(() -> new RuntimeException("Job not found"));
+        // Applications are not cascaded from jobs; take them out of the rollups, then delete them
+        userStatsService.recordJobDeleted(job.getEmployer().getUserId(), jobId, job.getStatus());
+        jobApplicationRepository.deleteByJobId(jobId);
+        jobPostingRepository.delete(job);
+        eventPublisher.publishEvent(JobChangedEvent.deleted(jobId));
     }
 
     @Override
@@ -329,14 +365,11 @@ public class AdminServiceImpl implements AdminService {
             dto.setEmployerCompanyName(employerProfile.getCompanyName());
         }
 
-        // Calculate application statistics
-        dto.setTotalApplications(Math.toIntExact(jobApplicationRepository.countByJobPosting_Id(job.getId())));
-        dto.setApprovedApplications(Math.toIntExact(jobApplicationRepository.countByJobPosting_IdAndStatus(
-                job.getId(), JobApplicationStatus.ACCEPTED)));
-        dto.setRejectedApplications(Math.toIntExact(jobApplicationRepository.countByJobPosting_IdAndStatus(
-                job.getId(), JobApplicationStatus.REJECTED)));
-        dto.setPendingApplications(Math.toIntExact(jobApplicationRepository.countByJobPosting_IdAndStatus(
-                job.getId(), JobApplicationStatus.PENDING)));
+        // Application statistics come from the counters maintained on the job row
+        dto.setTotalApplications(job.getApplicationCount());
+        dto.setApprovedApplications(job.getAcceptedCount());
+        dto.setRejectedApplications(job.getRejectedCount());
+        dto.setPendingApplications(job.getPendingCount());
 
         return dto;
     }
@@ -0,0 +1,84 @@
+package com.workconnect.api.service.impl;
+
+import com.workconnect.api.cache.OpenJobsVersions;
+import com.workconnect.api.constants.Enum.JobApplicationStatus;
+import com.workconnect.api.repository.JobPostingRepository;
+import com.workconnect.api.service.ApplicationCountService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Service
+public class ApplicationCountServiceImpl implements ApplicationCountService {
+
+    private final JobPostingRepository jobPostingRepository;
+    private final OpenJobsVersions openJobsVersions;
+
+    public ApplicationCountServiceImpl(JobPostingRepository jobPostingRepository, OpenJobsVersions openJobsVersions) {
+        this.jobPostingRepository = jobPostingRepository;
+        this.openJobsVersions = openJobsVersions;
+    }
+
+    @Transactional
+    @Override
+    public void recordNewApplication(Long jobId) {
+        jobPostingRepository.incrementApplicationCounters(jobId);
+    }
+
+    @Transactional
+    @Override
+    public void recordStatusChange(Long jobId, JobApplicationStatus from, JobApplicationStatus to) {
+        recordStatusChanges(jobId, Collections.singletonList(from), to);
+    }
+
+    @Transactional
+    @Override
+    public void recordStatusChanges(Long jobId, Collection<JobApplicationStatus> from, JobApplicationStatus to) {
+        Map<JobApplicationStatus, Integer> deltas = new EnumMap<>(JobApplicationStatus.class);
+        for (JobApplicationStatus status : JobApplicationStatus.values()) {
+            deltas.put(status, 0);
+        }
+        boolean changed = false;
+        for (JobApplicationStatus previous : from) {
+            if (previous == to) {
+                continue;
+            }
+            if (previous != null) {
+                deltas.merge(previous, -1, Integer::sum);
+            }
+            if (to != null) {
+                deltas.merge(to, 1, Integer::sum);
+            }
+            changed = true;
+        }
+        if (!changed) {
+            return;
+        }
+
+        jobPostingRepository.adjustStatusCounters(jobId,
+                deltas.get(JobApplicationStatus.PENDING),
+                deltas.get(JobApplicationStatus.VIEWED),
+                deltas.get(JobApplicationStatus.ACCEPTED),
+                deltas.get(JobApplicationStatus.REJECTED),
+                deltas.get(JobApplicationStatus.COMPLETED));
+    }
+
+    @Transactional
+    @Override
+    public int reconcileCounters(Long fromId, Long toId) {
+        // Applies increment the counters without reading them, so an increment committed between the
+        // recount's subqueries and its write would be overwritten. Locking the range first makes
+        // applies wait for the recount, and the recount see every apply that committed before it.
+        jobPostingRepository.lockIdRange(fromId, toId);
+        int repaired = jobPostingRepository.reconcileApplicationCounters(fromId, toId);
+        if (repaired > 0) {
+            // The listing shows the counters, and the UPDATE publishes no job events
+            openJobsVersions.markChanged();
+        }
+        return repaired;
+    }
+}
@@ -5,10 +5,15 @@ import com.workconnect.api.constants.Enum.JobApplicationStatus;
 import com.workconnect.api.entity.*;
 import com.workconnect.api.repository.BadgeRepository;
 import com.workconnect.api.repository.JobApplicationRepository;
+import com.workconnect.api.repository.ProfileRepository;
 import com.workconnect.api.repository.ReviewRepository;
 import com.workconnect.api.repository.UserBadgeRepository;
+import com.workconnect.api.repository.UserRepository;
 import com.workconnect.api.service.BadgeService;
 import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Service
@@ -18,12 +23,17 @@ public class BadgeServiceImpl implements BadgeService {
     private final UserBadgeRepository userBadgeRepository;
     private final JobApplicationRepository applicationRepository;
     private final ReviewRepository reviewRepository;
+    private final ProfileRepository profileRepository;
+    private final UserRepository userRepository;
 
-    public BadgeServiceImpl(BadgeRepository badgeRepository, UserBadgeRepository userBadgeRepository, JobApplicationRepository applicationRepository, ReviewRepository reviewRepository) {
+    public BadgeServiceImpl(BadgeRepository badgeRepository, UserBadgeRepository userBadgeRepository, JobApplicationRepository applicationRepository,
+                            ReviewRepository reviewRepository, ProfileRepository profileRepository, UserRepository userRepository) {
         this.badgeRepository = badgeRepository;
         this.userBadgeRepository = userBadgeRepository;
         this.applicationRepository = applicationRepository;
         this.reviewRepository = reviewRepository;
+        this.profileRepository = profileRepository;
+        this.userRepository = userRepository;
     }
 
     @Override
@@ -57,10 +67,17 @@ public class BadgeServiceImpl implements BadgeService {
         }
     }
 
+    @Override
+    public void checkAndAwardBadges(Collection<Long> userIds) {
+        userRepository.findAllById(userIds).forEach(this::checkAndAwardBadges);
+    }
+
     private void awardBadge(User user, Badge badge) {
         UserBadge userBadge = new UserBadge();
         userBadge.setUser(user);
         userBadge.setBadge(badge);
         userBadgeRepository.save(userBadge);
+        // Badges are part of the user's public profile
+        profileRepository.touch(user.getUserId(), LocalDateTime.now());
     }
 }
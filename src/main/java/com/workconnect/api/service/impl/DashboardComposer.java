@@ -0,0 +1,165 @@
+package com.workconnect.api.service.impl;
+
+import com.workconnect.api.constants.Enum.DashboardSectionStatus;
+import com.workconnect.api.dto.dashboard.DashboardMetaDto;
+import com.workconnect.api.dto.dashboard.DashboardSectionDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Loads independent dashboard sections concurrently, each on its own virtual thread and in its own
+ * read-only transaction, and waits for each one only until its deadline. A section that misses its
+ * deadline or fails is reported in the metadata and left out, so a slow recommendation service
+ * cannot hold up the rest of the dashboard.
+ * <p>
+ * Every transactional section holds a pooled connection while it runs, and virtual threads are not
+ * bounded, so the number of such sections running at once across all dashboards is capped below the
+ * connection pool (Hikari's default is 10). A section that cannot get a permit before its deadline
+ * times out like any other slow section instead of queueing on the pool.
+ */
+@Component
+public class DashboardComposer {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardComposer.class);
+
+    private final ExecutorService executor;
+    private final TransactionTemplate transactionTemplate;
+    private final Semaphore transactionPermits;
+
+    public DashboardComposer(@Qualifier("dashboardExecutor") ExecutorService executor,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${workconnect.dashboard.max-concurrent-sections:5}") int maxConcurrentSections) {
+        this.executor = executor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionPermits = new Semaphore(maxConcurrentSections);
+    }
+
+    public Composition begin() {
+        return new Composition();
+    }
+
+    /**
+     * One dashboard being composed. Fork every section first, then join them; deadlines count from
+     * when the section was forked, so sections wait on each other's time rather than adding to it.
+     */
+    public class Composition {
+
+        private final long startedAt = System.nanoTime();
+        private final List<DashboardSectionDto> sections = new ArrayList<>();
+        private boolean partial;
+
+        public <T> Section<T> fork(String name, Duration deadline, Supplier<T> loader) {
+            Section<T> section = new Section<>(name, System.nanoTime() + deadline.toNanos());
+            section.future = executor.submit(() -> {
+                try {
+                    if (!transactionPermits.tryAcquire(Math.max(0, section.deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                        throw new TimeoutException("No connection available for dashboard section '" + name + "'");
+                    }
+                    try {
+                        return transactionTemplate.execute(status -> loader.get());
+                    } finally {
+                        transactionPermits.release();
+                    }
+                } finally {
+                    section.finishedAt = System.nanoTime();
+                }
+            });
+            return section;
+        }
+
+        /**
+         * Like {@link #fork} for a section that mostly waits on something other than the database,
+         * such as the recommendation service. It runs outside any transaction and takes no permit, so
+         * its repository calls borrow a connection only for each statement; whatever it reads must be
+         * fetched eagerly.
+         */
+        public <T> Section<T> forkWithoutTransaction(String name, Duration deadline, Supplier<T> loader) {
+            Section<T> section = new Section<>(name, System.nanoTime() + deadline.toNanos());
+            section.future = executor.submit(() -> {
+                try {
+                    return loader.get();
+                } finally {
+                    section.finishedAt = System.nanoTime();
+                }
+            });
+            return section;
+        }
+
+        /**
+         * The section's result, or {@code fallback} if it did not complete by its deadline or failed.
+         */
+        public <T> T join(Section<T> section, T fallback) {
+            DashboardSectionStatus status;
+            T result = fallback;
+            try {
+                result = section.future.get(Math.max(0, section.deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                status = DashboardSectionStatus.COMPLETE;
+            } catch (TimeoutException e) {
+                section.future.cancel(true);
+                logger.warn("Dashboard section '{}' missed its deadline", section.name);
+                status = DashboardSectionStatus.TIMED_OUT;
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof TimeoutException) {
+                    // Waited out its deadline for a permit
+                    logger.warn("Dashboard section '{}' missed its deadline", section.name);
+                    status = DashboardSectionStatus.TIMED_OUT;
+                } else {
+                    logger.warn("Dashboard section '{}' failed", section.name, e.getCause());
+                    status = DashboardSectionStatus.FAILED;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                section.future.cancel(true);
+                status = DashboardSectionStatus.TIMED_OUT;
+            }
+
+            long finishedAt = status == DashboardSectionStatus.TIMED_OUT ? System.nanoTime() : section.finishedAt;
+            partial |= status != DashboardSectionStatus.COMPLETE;
+            sections.add(DashboardSectionDto.builder()
+                    .name(section.name)
+                    .status(status)
+                    .elapsedMillis(TimeUnit.NANOSECONDS.toMillis(finishedAt - section.startedAt))
+                    .build());
+            return result;
+        }
+
+        public DashboardMetaDto meta() {
+            return DashboardMetaDto.builder()
+                    .partial(partial)
+                    .elapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt))
+                    .sections(List.copyOf(sections))
+                    .build();
+        }
+    }
+
+    public static final class Section<T> {
+
+        private final String name;
+        private final long startedAt = System.nanoTime();
+        private final long deadline;
+        private Future<T> future;
+        private volatile long finishedAt;
+
+        private Section(String name, long deadline) {
+            this.name = name;
+            this.deadline = deadline;
+        }
+    }
+}
@@ -1,21 +1,27 @@
 package com.workconnect.api.service.impl;
 
-import com.workconnect.api.constants.Enum.JobApplicationStatus;
+import com.workconnect.api.cache.OpenJobsCache;
 import com.workconnect.api.constants.Enum.JobStatus;
 import com.workconnect.api.dto.JobApplicationDto;
 import com.workconnect.api.dto.JobListingDto;
+import com.workconnect.api.dto.NearbyJobDto;
 import com.workconnect.api.dto.dashboard.*;
 import com.workconnect.api.entity.*;
+import com.workconnect.api.geo.Gazetteer;
+import com.workconnect.api.geo.GeoPoint;
 import com.workconnect.api.repository.*;
+import com.workconnect.api.search.JobGeoIndex;
+import com.workconnect.api.search.SkillMatchIndex;
 import com.workconnect.api.service.DashboardService;
 import com.workconnect.api.service.RecommendationService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.ArrayList;
@@ -25,48 +31,73 @@ public class DashboardServiceImpl implements DashboardService {
 
     private static final Logger logger = LoggerFactory.getLogger(DashboardServiceImpl.class);
 
-    private final UserRepository userRepository;
+    private static final double FALLBACK_RADIUS_KM = 25;
+    private static final int FALLBACK_CANDIDATES = 200;
+
     private final WorkerProfileRepository workerProfileRepository;
     private final EmployerProfileRepository employerProfileRepository;
     private final JobPostingRepository jobPostingRepository;
     private final JobApplicationRepository jobApplicationRepository;
     private final RecommendationService recommendationService;
+    private final OpenJobsCache openJobsCache;
+    private final JobGeoIndex jobGeoIndex;
+    private final Gazetteer gazetteer;
+    private final SkillMatchIndex skillMatchIndex;
+    private final DashboardComposer dashboardComposer;
+    private final UserStatsRepository userStatsRepository;
+    private final Duration sectionTimeout;
+    private final Duration recommendationsTimeout;
 
     public DashboardServiceImpl(
-            UserRepository userRepository,
             WorkerProfileRepository workerProfileRepository,
             EmployerProfileRepository employerProfileRepository,
             JobPostingRepository jobPostingRepository,
             JobApplicationRepository jobApplicationRepository,
-            RecommendationService recommendationService) {
-        this.userRepository = userRepository;
+            RecommendationService recommendationService,
+            OpenJobsCache openJobsCache,
+            JobGeoIndex jobGeoIndex,
+            Gazetteer gazetteer,
+            SkillMatchIndex skillMatchIndex,
+            DashboardComposer dashboardComposer,
+            UserStatsRepository userStatsRepository,
+            @Value("${workconnect.dashboard.section-timeout:2s}") Duration sectionTimeout,
+            @Value("${workconnect.dashboard.recommendations-timeout:3s}") Duration recommendationsTimeout) {
         this.workerProfileRepository = workerProfileRepository;
         this.employerProfileRepository = employerProfileRepository;
         this.jobPostingRepository = jobPostingRepository;
         this.jobApplicationRepository = jobApplicationRepository;
         this.recommendationService = recommendationService;
+        this.openJobsCache = openJobsCache;
+        this.jobGeoIndex = jobGeoIndex;
+        this.gazetteer = gazetteer;
+        this.skillMatchIndex = skillMatchIndex;
+        this.dashboardComposer = dashboardComposer;
+        this.userStatsRepository = userStatsRepository;
+        this.sectionTimeout = sectionTimeout;
+        this.recommendationsTimeout = recommendationsTimeout;
     }
 
     @Override
-    public WorkerDashboardDto getWorkerDashboard(String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
-
-        // Verify user is a worker
-        WorkerProfile workerProfile = workerProfileRepository.findByUser(user)
+    public WorkerDashboardDto getWorkerDashboard(Long workerId) {
+        // Verify user is a worker; the profile is read once, with its skills, and shared by the sections
+        WorkerProfile workerProfile = workerProfileRepository.findWithSkillsById(workerId)
                 .orElseThrow(() -> new IllegalStateException("Worker profile not found"));
 
-        // Get statistics
-        WorkerStatsDto stats = getWorkerStats(userEmail);
-
-        // Get profile completion
-        ProfileCompletionDto completion = getWorkerProfileCompletion(userEmail);
-
-        // Get recent applications
-        RecentApplicationsDto recentApps = getWorkerRecentApplications(userEmail, 5);
-
-        // Get recommendations
-        JobRecommendationsDto recommendations = getWorkerRecommendations(userEmail, 6);
+        // Sections are independent; load them concurrently and skip any that miss their deadline
+        DashboardComposer.Composition composition = dashboardComposer.begin();
+        DashboardComposer.Section<WorkerStatsDto> statsSection =
+                composition.fork("stats", sectionTimeout, () -> getWorkerStats(workerId));
+        DashboardComposer.Section<RecentApplicationsDto> recentAppsSection =
+                composition.fork("recentApplications", sectionTimeout, () -> getWorkerRecentApplications(workerId, 5));
+        DashboardComposer.Section<JobRecommendationsDto> recommendationsSection =
+                composition.forkWithoutTransaction("recommendations", recommendationsTimeout, () -> getWorkerRecommendations(workerProfile, 6));
+
+        ProfileCompletionDto completion = getWorkerProfileCompletion(workerProfile);
+        WorkerStatsDto stats = composition.join(statsSection, WorkerStatsDto.builder().build());
+        RecentApplicationsDto recentApps = composition.join(recentAppsSection,
+                RecentApplicationsDto.builder().applications(List.of()).build());
+        JobRecommendationsDto recommendations = composition.join(recommendationsSection,
+                JobRecommendationsDto.builder().recommendations(List.of()).build());
 
         return WorkerDashboardDto.builder()
                 .totalApplications(stats.getTotalApplications())
@@ -77,26 +108,25 @@ public class DashboardServiceImpl implements DashboardService {
                 .recentApplications(recentApps.getApplications())
                 .recommendedJobs(recommendations.getRecommendations())
                 .profileCompletionTips(completion.getTips())
+                .meta(composition.meta())
                 .build();
     }
 
     @Override
-    public EmployerDashboardDto getEmployerDashboard(String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
-
+    public EmployerDashboardDto getEmployerDashboard(Long employerId) {
         // Verify user is an employer
-        EmployerProfile employerProfile = employerProfileRepository.findByUser(user)
-                .orElseThrow(() -> new IllegalStateException("Employer profile not found"));
+        if (!employerProfileRepository.existsById(employerId)) {
+            throw new IllegalStateException("Employer profile not found");
+        }
 
         // Get statistics
-        EmployerStatsDto stats = getEmployerStats(userEmail);
+        EmployerStatsDto stats = getEmployerStats(employerId);
 
         // Get active jobs
-        ActiveJobsDto activeJobs = getEmployerActiveJobs(userEmail, 5);
+        ActiveJobsDto activeJobs = getEmployerActiveJobs(employerId, 5);
 
         // Get recent applications
-        RecentApplicationsDto recentApps = getEmployerRecentApplications(userEmail, 5);
+        RecentApplicationsDto recentApps = getEmployerRecentApplications(employerId, 5);
 
         return EmployerDashboardDto.builder()
                 .activeJobs(stats.getActiveJobs())
@@ -109,20 +139,21 @@ public class DashboardServiceImpl implements DashboardService {
     }
 
     @Override
-    public JobRecommendationsDto getWorkerRecommendations(String userEmail, int limit) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
-
-        WorkerProfile workerProfile = workerProfileRepository.findByUser(user)
+    public JobRecommendationsDto getWorkerRecommendations(Long workerId, int limit) {
+        WorkerProfile workerProfile = workerProfileRepository.findWithSkillsById(workerId)
                 .orElseThrow(() -> new IllegalStateException("Worker profile not found"));
+        return getWorkerRecommendations(workerProfile, limit);
+    }
 
+    private JobRecommendationsDto getWorkerRecommendations(WorkerProfile workerProfile, int limit) {
+        Long workerId = workerProfile.getId();
         List<JobListingDto> recommendations;
         String recommendationReason;
 
         try {
             // Try to get AI-powered recommendations
-            logger.info("Attempting to get AI-powered job recommendations for user: {}", userEmail);
-            recommendations = recommendationService.getJobRecommendations(userEmail);
+            logger.info("Attempting to get AI-powered job recommendations for worker: {}", workerId);
+            recommendations = recommendationService.getJobRecommendations(workerProfile);
 
             if (recommendations.isEmpty()) {
                 recommendations = getFallbackRecommendations(workerProfile, limit);
@@ -134,14 +165,14 @@ public class DashboardServiceImpl implements DashboardService {
                 }
 
                 recommendationReason = "AI-powered recommendations based on your skills and experience";
-                logger.info("Successfully retrieved {} AI-powered recommendations for user: {}",
-                        recommendations.size(), userEmail);
+                logger.info("Successfully retrieved {} AI-powered recommendations for worker: {}",
+                        recommendations.size(), workerId);
             }
 
         } catch (Exception e) {
             // Fallback to basic recommendation logic if AI service fails
-            logger.warn("AI recommendation service failed for user: {}. Falling back to basic recommendations. Error: {}",
-                       userEmail, e.getMessage());
+            logger.warn("AI recommendation service failed for worker: {}. Falling back to basic recommendations. Error: {}",
+                       workerId, e.getMessage());
 
             recommendations = getFallbackRecommendations(workerProfile, limit);
             recommendationReason = "Basic recommendations based on your location and profile (AI service unavailable)";
@@ -160,31 +191,31 @@ public class DashboardServiceImpl implements DashboardService {
     private List<JobListingDto> getFallbackRecommendations(WorkerProfile workerProfile, int limit) {
         logger.info("Using fallback recommendation logic for worker profile: {}", workerProfile.getId());
 
-        // Get all open jobs
-        List<JobPosting> openJobs = jobPostingRepository.findByStatus(JobStatus.OPEN);
-
-        // Filter jobs based on worker location if available
-        List<JobPosting> filteredJobs = openJobs.stream()
-                .filter(job -> workerProfile.getLocation() == null ||
-                              job.getLocation() == null ||
-                              job.getLocation().toLowerCase().contains(workerProfile.getLocation().toLowerCase()))
-                .limit(limit)
-                .collect(Collectors.toList());
+        GeoPoint workerPosition = workerProfile.getLatitude() != null && workerProfile.getLongitude() != null
+                ? new GeoPoint(workerProfile.getLatitude(), workerProfile.getLongitude())
+                : gazetteer.resolve(workerProfile.getLocation()).orElse(null);
+        List<JobListingDto> candidates;
+        if (workerPosition != null) {
+            candidates = jobGeoIndex.findWithin(workerPosition, FALLBACK_RADIUS_KM, FALLBACK_CANDIDATES).stream()
+                    .map(NearbyJobDto::getJob)
+                    .collect(Collectors.toList());
+        } else {
+            // Location not on the map: match the text instead
+            candidates = openJobsCache.snapshot().jobs().stream()
+                    .filter(job -> workerProfile.getLocation() == null ||
+                                  job.getLocation() == null ||
+                                  job.getLocation().toLowerCase().contains(workerProfile.getLocation().toLowerCase()))
+                    .collect(Collectors.toList());
+        }
 
-        return filteredJobs.stream()
-                .map(this::convertToJobListingDto)
-                .collect(Collectors.toList());
+        // Jobs sharing the most skills with the worker first; nearer or newer first among equals
+        return skillMatchIndex.rank(candidates, skillMatchIndex.skillsOf(workerProfile), limit);
     }
 
     @Override
-    public RecentApplicationsDto getWorkerRecentApplications(String userEmail, int limit) {
-        List<JobApplication> applications = jobApplicationRepository.findByWorker_Email(userEmail)
+    public RecentApplicationsDto getWorkerRecentApplications(Long workerId, int limit) {
+        List<JobApplicationDto> applicationDtos = jobApplicationRepository.findRecentByWorkerId(workerId, Limit.of(limit))
                 .stream()
-                .sorted((a, b) -> b.getAppliedAt().compareTo(a.getAppliedAt()))
-                .limit(limit)
-                .collect(Collectors.toList());
-
-        List<JobApplicationDto> applicationDtos = applications.stream()
                 .map(this::convertToJobApplicationDto)
                 .collect(Collectors.toList());
 
@@ -195,17 +226,15 @@ public class DashboardServiceImpl implements DashboardService {
     }
 
     @Override
-    public ActiveJobsDto getEmployerActiveJobs(String userEmail, int limit) {
-        List<JobPosting> activeJobs = jobPostingRepository.findByEmployer_Email(userEmail)
+    public ActiveJobsDto getEmployerActiveJobs(Long employerId, int limit) {
+        List<JobPosting> activeJobs = jobPostingRepository.findByEmployer_UserId(employerId)
                 .stream()
                 .filter(job -> job.getStatus() == JobStatus.OPEN)
                 .sorted((a, b) -> b.getPostedAt().compareTo(a.getPostedAt()))
                 .limit(limit)
                 .collect(Collectors.toList());
 
-        List<JobListingDto> jobDtos = activeJobs.stream()
-                .map(this::convertToJobListingDto)
-                .collect(Collectors.toList());
+        List<JobListingDto> jobDtos = convertToJobListingDtos(activeJobs);
 
         return ActiveJobsDto.builder()
                 .jobs(jobDtos)
@@ -214,18 +243,10 @@ public class DashboardServiceImpl implements DashboardService {
     }
 
     @Override
-    public RecentApplicationsDto getEmployerRecentApplications(String userEmail, int limit) {
-        // Get applications for employer's jobs
-        List<JobPosting> employerJobs = jobPostingRepository.findByEmployer_Email(userEmail);
-        
-        List<JobApplication> applications = new ArrayList<>();
-        for (JobPosting job : employerJobs) {
-            applications.addAll(jobApplicationRepository.findByJobPosting_Id(job.getId()));
-        }
-
-        List<JobApplicationDto> applicationDtos = applications.stream()
-                .sorted((a, b) -> b.getAppliedAt().compareTo(a.getAppliedAt()))
-                .limit(limit)
+    public RecentApplicationsDto getEmployerRecentApplications(Long employerId, int limit) {
+        List<JobApplicationDto> applicationDtos = jobApplicationRepository
+                .findRecentByEmployerId(employerId, Limit.of(limit))
+                .stream()
                 .map(this::convertToJobApplicationDto)
                 .collect(Collectors.toList());
 
@@ -236,13 +257,12 @@ public class DashboardServiceImpl implements DashboardService {
     }
 
     @Override
-    public ProfileCompletionDto getWorkerProfileCompletion(String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
-
+    public ProfileCompletionDto getWorkerProfileCompletion(Long workerId) {
         // Get worker profile
-        WorkerProfile workerProfile = workerProfileRepository.findByUser(user).orElse(null);
+        return getWorkerProfileCompletion(workerProfileRepository.findById(workerId).orElse(null));
+    }
 
+    private ProfileCompletionDto getWorkerProfileCompletion(WorkerProfile workerProfile) {
         List<String> missingFields = new ArrayList<>();
         List<String> tips = new ArrayList<>();
         int totalFields = 10;
@@ -348,31 +368,26 @@ public class DashboardServiceImpl implements DashboardService {
     }
 
     @Override
-    public WorkerStatsDto getWorkerStats(String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
-
-        // Get total applications
-        List<JobApplication> allApplications = jobApplicationRepository.findByWorker_Email(userEmail);
-        int totalApplications = allApplications.size();
+    public WorkerStatsDto getWorkerStats(Long workerId) {
+        // Counters are maintained by the write paths
+        UserStats rollup = rollupOf(workerId);
 
-        // Get pending applications
-        long pendingApplications = jobApplicationRepository.countByWorkerAndStatus(user, JobApplicationStatus.PENDING);
+        int totalApplications = rollup.getApplicationCount();
+        int pendingApplications = rollup.getPendingCount();
 
         // Get interviews scheduled (applications with INTERVIEWED status)
-        long interviewsScheduled = jobApplicationRepository.countByWorkerAndStatus(user, JobApplicationStatus.COMPLETED);
+        int interviewsScheduled = rollup.getCompletedCount();
 
-        // Profile views (simplified - could be tracked separately)
-//        int profileViews = totalApplications * 3 + 15;
-        int profileViews = 0;
+        // Public profile views, as of the view counter's last flush
+        int profileViews = Math.toIntExact(rollup.getProfileViews());
 
         // Job matches this week (simplified)
-        int jobMatchesThisWeek = (int) jobPostingRepository.findByStatus(JobStatus.OPEN).size();
+        int jobMatchesThisWeek = openJobsCache.snapshot().size();
 
         return WorkerStatsDto.builder()
                 .totalApplications(totalApplications)
-                .pendingApplications((int) pendingApplications)
-                .interviewsScheduled((int) interviewsScheduled)
+                .pendingApplications(pendingApplications)
+                .interviewsScheduled(interviewsScheduled)
                 .profileViews(profileViews)
                 .jobMatchesThisWeek(jobMatchesThisWeek)
                 .averageResponseTime(3.5)
@@ -380,38 +395,17 @@ public class DashboardServiceImpl implements DashboardService {
     }
 
     @Override
-    public EmployerStatsDto getEmployerStats(String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+    public EmployerStatsDto getEmployerStats(Long employerId) {
+        // Counters are maintained by the write paths
+        UserStats rollup = rollupOf(employerId);
 
-        // Get all employer's jobs
-        List<JobPosting> employerJobs = jobPostingRepository.findByEmployer_Email(userEmail);
+        int activeJobs = rollup.getActiveJobs();
+        int totalJobsPosted = rollup.getJobsPosted();
+        int totalApplications = rollup.getApplicationCount();
+        int newApplicationsThisWeek = rollup.applicationsInWeekEnding(LocalDate.now());
 
-        // Get active jobs
-        int activeJobs = (int) employerJobs.stream()
-                .filter(job -> job.getStatus() == JobStatus.OPEN)
-                .count();
-
-        // Get total jobs posted
-        int totalJobsPosted = employerJobs.size();
-
-        // Get total applications for employer's jobs
-        int totalApplications = 0;
-        int newApplicationsThisWeek = 0;
-        LocalDateTime oneWeekAgo = LocalDateTime.now().minus(7, ChronoUnit.DAYS);
-
-        for (JobPosting job : employerJobs) {
-            List<JobApplication> jobApplications = jobApplicationRepository.findByJobPosting_Id(job.getId());
-            totalApplications += jobApplications.size();
-
-            // Count new applications this week
-            newApplicationsThisWeek += (int) jobApplications.stream()
-                    .filter(app -> app.getAppliedAt().isAfter(oneWeekAgo))
-                    .count();
-        }
-
-        // Total views (simplified - could be tracked separately)
-        int totalViews = totalJobsPosted * 25 + totalApplications * 3; // Placeholder logic
+        // Views of the employer's jobs, as of the view counter's last flush
+        int totalViews = Math.toIntExact(rollup.getJobViews());
 
         // Average applications per job
         double averageApplicationsPerJob = totalJobsPosted > 0 ?
@@ -427,7 +421,25 @@ public class DashboardServiceImpl implements DashboardService {
                 .build();
     }
 
+    /**
+     * The user's stats rollup. Every user gets one at registration or from db/user-stats-rollups.sql,
+     * so a missing row means the script was not run; it is reported rather than shown as a user
+     * without activity, and the user's next change creates it.
+     */
+    private UserStats rollupOf(Long userId) {
+        return userStatsRepository.findById(userId).orElseGet(() -> {
+            logger.error("User {} has no stats rollup; run db/user-stats-rollups.sql to create and fill it", userId);
+            return new UserStats();
+        });
+    }
+
     // Helper methods for DTO conversion
+    private List<JobListingDto> convertToJobListingDtos(List<JobPosting> jobPostings) {
+        return jobPostings.stream()
+                .map(this::convertToJobListingDto)
+                .collect(Collectors.toList());
+    }
+
     private JobListingDto convertToJobListingDto(JobPosting jobPosting) {
         // Get employer company name from EmployerProfile
         String employerCompanyName = "Company";
@@ -437,9 +449,6 @@ public class DashboardServiceImpl implements DashboardService {
                     employerProfile.getCompanyName() : "Company";
         }
 
-        // Get application count for this job
-        int applicationCount = jobApplicationRepository.findByJobPosting_Id(jobPosting.getId()).size();
-
         return JobListingDto.builder()
                 .id(jobPosting.getId())
                 .jobTitle(jobPosting.getJobTitle())
@@ -451,7 +460,10 @@ public class DashboardServiceImpl implements DashboardService {
                 .status(jobPosting.getStatus())
                 .employerCompanyName(employerCompanyName)
                 .postedAt(jobPosting.getPostedAt())
-                .applicationCount(applicationCount)
+                .startDate(jobPosting.getStartDate())
+                .latitude(jobPosting.getLatitude())
+                .longitude(jobPosting.getLongitude())
+                .applicationCount(jobPosting.getApplicationCount())
                 .build();
     }
 
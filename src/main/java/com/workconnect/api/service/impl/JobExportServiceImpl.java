@@ -0,0 +1,65 @@
+package com.workconnect.api.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.workconnect.api.entity.JobPosting;
+import com.workconnect.api.repository.JobPostingRepository;
+import com.workconnect.api.service.JobExportService;
+import com.workconnect.api.service.JobService;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+public class JobExportServiceImpl implements JobExportService {
+
+    // Matches the fetch size of the export query
+    private static final int BATCH_SIZE = 500;
+
+    private final JobPostingRepository jobPostingRepository;
+    private final JobService jobService;
+    private final ObjectWriter writer;
+    private final EntityManager entityManager;
+
+    public JobExportServiceImpl(JobPostingRepository jobPostingRepository, JobService jobService,
+                                ObjectMapper objectMapper, EntityManager entityManager) {
+        this.jobPostingRepository = jobPostingRepository;
+        this.jobService = jobService;
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.entityManager = entityManager;
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public long exportJobs(LocalDateTime since, OutputStream out) throws IOException {
+        long written = 0;
+        try (Stream<JobPosting> jobs = since != null
+                ? jobPostingRepository.streamModifiedForExport(since) : jobPostingRepository.streamOpenForExport();
+             JsonGenerator generator = writer.createGenerator(out)) {
+            // The response stream belongs to the caller, and lines are delimited explicitly below
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            Iterator<JobPosting> iterator = jobs.iterator();
+            while (iterator.hasNext()) {
+                writer.writeValue(generator, jobService.mapToJobListingDto(iterator.next()));
+                generator.writeRaw('\n');
+                if (++written % BATCH_SIZE == 0) {
+                    // Drop the rows already written so the persistence context does not grow with the
+                    // catalog, and hand the batch to the client
+                    entityManager.clear();
+                    generator.flush();
+                }
+            }
+        }
+        return written;
+    }
+}
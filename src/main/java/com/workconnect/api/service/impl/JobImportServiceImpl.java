@@ -0,0 +1,342 @@
+package com.workconnect.api.service.impl;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workconnect.api.constants.Enum.ImportRowStatus;
+import com.workconnect.api.constants.Enum.JobStatus;
+import com.workconnect.api.constants.Enum.JobType;
+import com.workconnect.api.dto.CreateJobRequestDto;
+import com.workconnect.api.dto.JobImportReportDto;
+import com.workconnect.api.dto.JobImportRowResultDto;
+import com.workconnect.api.dto.JobListingDto;
+import com.workconnect.api.entity.EmployerProfile;
+import com.workconnect.api.entity.JobPosting;
+import com.workconnect.api.entity.User;
+import com.workconnect.api.event.JobsImportedEvent;
+import com.workconnect.api.geo.Gazetteer;
+import com.workconnect.api.geo.GeoPoint;
+import com.workconnect.api.repository.UserRepository;
+import com.workconnect.api.service.JobImportService;
+import com.workconnect.api.service.UserStatsService;
+import com.workconnect.api.validation.JobDatesValidator;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+@Service
+public class JobImportServiceImpl implements JobImportService {
+
+    static final int MAX_ROWS = 10_000;
+    private static final int BATCH_SIZE = 500;
+
+    private static final Map<String, BiConsumer<CreateJobRequestDto, String>> CSV_COLUMNS = Map.of(
+            "jobtitle", CreateJobRequestDto::setJobTitle,
+            "description", CreateJobRequestDto::setDescription,
+            "requiredskills", CreateJobRequestDto::setRequiredSkills,
+            "location", CreateJobRequestDto::setLocation,
+            "salary", (job, value) -> job.setSalary(Double.valueOf(value)),
+            "jobtype", (job, value) -> job.setJobType(JobType.valueOf(value.toUpperCase(Locale.ROOT))),
+            "startdate", (job, value) -> job.setStartDate(LocalDate.parse(value)),
+            "enddate", (job, value) -> job.setEndDate(LocalDate.parse(value)),
+            "publishat", (job, value) -> job.setPublishAt(LocalDateTime.parse(value)));
+
+    private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final Gazetteer gazetteer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserStatsService userStatsService;
+
+    public JobImportServiceImpl(UserRepository userRepository, EntityManager entityManager, ObjectMapper objectMapper,
+                                Validator validator, Gazetteer gazetteer, ApplicationEventPublisher eventPublisher,
+                                UserStatsService userStatsService) {
+        this.userRepository = userRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.gazetteer = gazetteer;
+        this.eventPublisher = eventPublisher;
+        this.userStatsService = userStatsService;
+    }
+
+    @Transactional
+    @Override
+    public JobImportReportDto importCsv(String employerEmail, Reader csv) throws IOException {
+        Import batch = new Import(findEmployer(employerEmail));
+        CsvReader reader = new CsvReader(csv);
+
+        List<String> header = reader.next();
+        if (header == null) {
+            throw new IllegalArgumentException("The CSV file is empty");
+        }
+        List<String> columns = header.stream()
+                .map(name -> name.trim().toLowerCase(Locale.ROOT).replace("_", ""))
+                .toList();
+        if (!columns.contains("jobtitle")) {
+            throw new IllegalArgumentException("The CSV header must name the job fields, starting with jobTitle");
+        }
+
+        List<String> fields;
+        while ((fields = reader.next()) != null) {
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+            CreateJobRequestDto job = new CreateJobRequestDto();
+            List<String> errors = new ArrayList<>();
+            for (int i = 0; i < columns.size() && i < fields.size(); i++) {
+                BiConsumer<CreateJobRequestDto, String> setter = CSV_COLUMNS.get(columns.get(i));
+                String value = fields.get(i).trim();
+                if (setter == null || value.isEmpty()) {
+                    continue;
+                }
+                try {
+                    setter.accept(job, value);
+                } catch (RuntimeException e) {
+                    errors.add(header.get(i).trim() + ": invalid value '" + value + "'");
+                }
+            }
+            batch.add(job, errors);
+        }
+        return batch.finish();
+    }
+
+    @Transactional
+    @Override
+    public JobImportReportDto importJson(String employerEmail, InputStream json) throws IOException {
+        Import batch = new Import(findEmployer(employerEmail));
+
+        try (JsonParser parser = objectMapper.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("Expected a JSON array of jobs");
+            }
+            // One element at a time; a malformed row is reported without losing the rest
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (parser.currentToken() == null) {
+                    throw new IllegalArgumentException("Unexpected end of the JSON array");
+                }
+                JsonNode node = parser.readValueAsTree();
+                List<String> errors = new ArrayList<>();
+                CreateJobRequestDto job = null;
+                try {
+                    job = objectMapper.treeToValue(node, CreateJobRequestDto.class);
+                } catch (JsonProcessingException e) {
+                    errors.add(e.getOriginalMessage());
+                }
+                batch.add(job, errors);
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed JSON: " + e.getOriginalMessage());
+        }
+        return batch.finish();
+    }
+
+    private User findEmployer(String employerEmail) {
+        return userRepository.findByEmail(employerEmail)
+                .orElseThrow(() -> new UsernameNotFoundException("Employer not found"));
+    }
+
+    private List<String> validate(CreateJobRequestDto job) {
+        List<String> errors = new ArrayList<>();
+        for (ConstraintViolation<CreateJobRequestDto> violation : validator.validate(job)) {
+            errors.add(violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+        // Same rules as a single posting: the date checks of @ValidJobDates and the one-day start date
+        String dates = JobDatesValidator.checkDates(job.getJobType(), job.getStartDate(), job.getEndDate());
+        if (dates != null) {
+            errors.add(dates);
+        }
+        if (job.getJobType() == JobType.ONE_DAY && job.getStartDate() == null) {
+            errors.add("A start date (jobDate) is required for a one-day job.");
+        }
+        return errors;
+    }
+
+    /**
+     * State of one import request: valid rows are buffered and flushed to the database a batch at a time.
+     */
+    private final class Import {
+
+        private final User employer;
+        private final String companyName;
+        private final LocalDateTime now = LocalDateTime.now();
+        private final List<JobImportRowResultDto> results = new ArrayList<>();
+        private final List<JobListingDto> imported = new ArrayList<>();
+        private final List<Pending> pending = new ArrayList<>(BATCH_SIZE);
+
+        Import(User employer) {
+            this.employer = employer;
+            this.companyName = employer.getProfile() instanceof EmployerProfile profile ? profile.getCompanyName() : null;
+        }
+
+        void add(CreateJobRequestDto job, List<String> errors) {
+            if (results.size() == MAX_ROWS) {
+                throw new IllegalArgumentException("An import may contain at most " + MAX_ROWS + " jobs");
+            }
+            if (job != null && errors.isEmpty()) {
+                errors = validate(job);
+            }
+            JobImportRowResultDto result = JobImportRowResultDto.builder()
+                    .row(results.size() + 1)
+                    .status(errors.isEmpty() ? ImportRowStatus.CREATED : ImportRowStatus.REJECTED)
+                    .errors(errors.isEmpty() ? null : errors)
+                    .build();
+            results.add(result);
+            if (errors.isEmpty()) {
+                JobPosting posting = posting(job);
+                entityManager.persist(posting);
+                pending.add(new Pending(posting, result));
+                if (pending.size() == BATCH_SIZE) {
+                    flush();
+                }
+            }
+        }
+
+        JobImportReportDto finish() {
+            flush();
+            if (!imported.isEmpty()) {
+                int open = (int) imported.stream().filter(job -> job.getStatus() == JobStatus.OPEN).count();
+                userStatsService.recordJobsCreated(employer.getUserId(), imported.size(), open);
+                eventPublisher.publishEvent(new JobsImportedEvent(List.copyOf(imported)));
+            }
+            return JobImportReportDto.builder()
+                    .totalRows(results.size())
+                    .createdCount(imported.size())
+                    .rejectedCount(results.size() - imported.size())
+                    .rows(results)
+                    .build();
+        }
+
+        private JobPosting posting(CreateJobRequestDto job) {
+            boolean scheduled = job.getPublishAt() != null && job.getPublishAt().isAfter(now);
+            GeoPoint position = gazetteer.resolve(job.getLocation()).orElse(null);
+            JobPosting posting = new JobPosting();
+            posting.setJobTitle(job.getJobTitle());
+            posting.setDescription(job.getDescription());
+            posting.setRequiredSkills(job.getRequiredSkills());
+            posting.setLocation(job.getLocation());
+            posting.setLatitude(position != null ? position.latitude() : null);
+            posting.setLongitude(position != null ? position.longitude() : null);
+            posting.setSalary(job.getSalary());
+            posting.setJobType(job.getJobType());
+            posting.setStartDate(job.getStartDate());
+            // One-day jobs have no end date, as in a single posting
+            posting.setEndDate(job.getJobType() == JobType.CONTRACT ? job.getEndDate() : null);
+            posting.setPublishAt(scheduled ? job.getPublishAt() : null);
+            posting.setStatus(scheduled ? JobStatus.SCHEDULED : JobStatus.OPEN);
+            posting.setEmployer(employer);
+            return posting;
+        }
+
+        private JobListingDto listing(JobPosting posting) {
+            return JobListingDto.builder()
+                    .id(posting.getId())
+                    .jobTitle(posting.getJobTitle())
+                    .description(posting.getDescription())
+                    .requiredSkills(posting.getRequiredSkills())
+                    .location(posting.getLocation())
+                    .latitude(posting.getLatitude())
+                    .longitude(posting.getLongitude())
+                    .salary(posting.getSalary())
+                    .jobType(posting.getJobType())
+                    .startDate(posting.getStartDate())
+                    .endDate(posting.getEndDate())
+                    .publishAt(posting.getPublishAt())
+                    .status(posting.getStatus())
+                    .postedAt(posting.getPostedAt())
+                    .employerCompanyName(companyName)
+                    .applicationCount(0)
+                    .build();
+        }
+
+        /**
+         * Writes the buffered jobs; Hibernate sends them as JDBC batches since ids come from a pooled
+         * sequence. Flushed jobs are detached so the persistence context stays one batch in size.
+         */
+        private void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            entityManager.flush();
+            for (Pending row : pending) {
+                row.result().setJobId(row.posting().getId());
+                imported.add(listing(row.posting()));
+                entityManager.detach(row.posting());
+            }
+            pending.clear();
+        }
+    }
+
+    private record Pending(JobPosting posting, JobImportRowResultDto result) {
+    }
+
+    /**
+     * Minimal RFC 4180 reader: quoted fields may contain commas, doubled quotes and line breaks.
+     */
+    private static final class CsvReader {
+
+        private final Reader in;
+
+        CsvReader(Reader in) {
+            this.in = in instanceof BufferedReader ? in : new BufferedReader(in);
+        }
+
+        /**
+         * The next record's fields, or null at the end of the input.
+         */
+        List<String> next() throws IOException {
+            int c = in.read();
+            if (c == -1) {
+                return null;
+            }
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        throw new IllegalArgumentException("Unterminated quoted field in the CSV input");
+                    }
+                    if (c == '"') {
+                        c = in.read();
+                        if (c != '"') {
+                            quoted = false;
+                            continue;
+                        }
+                    }
+                    field.append((char) c);
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n' || c == -1) {
+                    fields.add(field.toString());
+                    return fields;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+                c = in.read();
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.workconnect.api.service.impl;
+
+import com.workconnect.api.dto.JobLifecycleDates;
+import com.workconnect.api.dto.JobListingDto;
+import com.workconnect.api.event.JobChangedEvent;
+import com.workconnect.api.repository.JobPostingRepository;
+import com.workconnect.api.service.JobLifecycleService;
+import com.workconnect.api.service.JobService;
+import com.workconnect.api.service.UserStatsService;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Service
+public class JobLifecycleServiceImpl implements JobLifecycleService {
+
+    private final JobPostingRepository jobPostingRepository;
+    private final JobService jobService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserStatsService userStatsService;
+
+    public JobLifecycleServiceImpl(JobPostingRepository jobPostingRepository, JobService jobService,
+                                   ApplicationEventPublisher eventPublisher, UserStatsService userStatsService) {
+        this.jobPostingRepository = jobPostingRepository;
+        this.jobService = jobService;
+        this.eventPublisher = eventPublisher;
+        this.userStatsService = userStatsService;
+    }
+
+    @Override
+    public List<JobLifecycleDates> findTransitionsDueBefore(LocalDateTime until) {
+        return jobPostingRepository.findLifecycleTransitionsBefore(until, until.toLocalDate());
+    }
+
+    @Transactional
+    @Override
+    public int applyDueTransitions(Collection<Long> jobIds, LocalDateTime now) {
+        int changed = jobPostingRepository.publishScheduled(jobIds, now)
+                + jobPostingRepository.expireEnded(jobIds, now.toLocalDate(), now);
+        if (changed == 0) {
+            return 0;
+        }
+        userStatsService.recordJobStatusChanges(jobIds);
+
+        // The UPDATEs bypass the entities, so read the jobs back for the caches and indexes.
+        // Any that were not due after all are republished unchanged, which is harmless.
+        reloadJobs(jobIds);
+        return changed;
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public void reloadJobs(Collection<Long> jobIds) {
+        for (JobListingDto job : jobService.mapToJobListingDtos(jobPostingRepository.findAllWithEmployerByIdIn(jobIds))) {
+            eventPublisher.publishEvent(JobChangedEvent.saved(job));
+        }
+    }
+}
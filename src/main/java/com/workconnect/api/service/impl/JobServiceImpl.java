@@ -1,41 +1,108 @@
 package com.workconnect.api.service.impl;
 
+import com.workconnect.api.cache.JobDetailCache;
+import com.workconnect.api.cache.OpenJobsCache;
+import com.workconnect.api.cache.OpenJobsVersions;
 import com.workconnect.api.constants.Enum.JobApplicationStatus;
 import com.workconnect.api.constants.Enum.JobStatus;
 import com.workconnect.api.constants.Enum.JobType;
+import com.workconnect.api.constants.Enum.SearchMode;
+import com.workconnect.api.constants.Enum.StatusChangeOutcome;
 import com.workconnect.api.dto.*;
 import com.workconnect.api.entity.*;
 import com.workconnect.api.dto.ApplicationStatusResponse;
+import com.workconnect.api.event.JobApplicationChangedEvent;
+import com.workconnect.api.event.JobChangedEvent;
+import com.workconnect.api.geo.Gazetteer;
+import com.workconnect.api.geo.GeoPoint;
+import com.workconnect.api.repository.IdAllocator;
 import com.workconnect.api.repository.JobApplicationRepository;
 import com.workconnect.api.repository.JobImageRepository;
 import com.workconnect.api.repository.JobPostingRepository;
 import com.workconnect.api.repository.UserRepository;
+import com.workconnect.api.service.ApplicationCountService;
+import com.workconnect.api.search.ApplicantRanker;
+import com.workconnect.api.search.JobGeoIndex;
+import com.workconnect.api.search.JobSearchIndex;
+import com.workconnect.api.search.ScoredApplicant;
 import com.workconnect.api.service.JobService;
+import com.workconnect.api.service.UserStatsService;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 public class JobServiceImpl implements JobService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_TOP_APPLICANTS = 100;
+    private static final Set<JobApplicationStatus> UNDECIDED_STATUSES =
+            EnumSet.of(JobApplicationStatus.PENDING, JobApplicationStatus.VIEWED);
+    private static final int MAX_SEARCH_RESULTS = 100;
+    private static final double MAX_RADIUS_KM = 200;
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 100;
+    private static final List<String> APPLICANT_SORT_PROPERTIES = List.of("appliedAt", "statusUpdatedAt", "status", "id");
+
     private final JobPostingRepository jobPostingRepository;
     private final UserRepository userRepository;
     private final JobApplicationRepository jobApplicationRepository;
     private final JobImageRepository jobImageRepository;
+    private final ApplicationCountService applicationCountService;
+    private final JobSearchIndex jobSearchIndex;
+    private final OpenJobsCache openJobsCache;
+    private final JobDetailCache jobDetailCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JobGeoIndex jobGeoIndex;
+    private final Gazetteer gazetteer;
+    private final IdAllocator idAllocator;
+    private final ApplicantRanker applicantRanker;
+    private final UserStatsService userStatsService;
+    private final OpenJobsVersions openJobsVersions;
 
     public JobServiceImpl(JobPostingRepository jobPostingRepository, UserRepository userRepository, JobApplicationRepository jobApplicationRepository,
-                          JobImageRepository jobImageRepository) {
+                          JobImageRepository jobImageRepository, ApplicationCountService applicationCountService,
+                          JobSearchIndex jobSearchIndex, OpenJobsCache openJobsCache, JobDetailCache jobDetailCache,
+                          ApplicationEventPublisher eventPublisher, JobGeoIndex jobGeoIndex, Gazetteer gazetteer,
+                          IdAllocator idAllocator, ApplicantRanker applicantRanker, UserStatsService userStatsService,
+                          OpenJobsVersions openJobsVersions) {
         this.jobPostingRepository = jobPostingRepository;
         this.userRepository = userRepository;
         this.jobApplicationRepository = jobApplicationRepository;
         this.jobImageRepository = jobImageRepository;
+        this.applicationCountService = applicationCountService;
+        this.jobSearchIndex = jobSearchIndex;
+        this.openJobsCache = openJobsCache;
+        this.jobDetailCache = jobDetailCache;
+        this.eventPublisher = eventPublisher;
+        this.jobGeoIndex = jobGeoIndex;
+        this.gazetteer = gazetteer;
+        this.idAllocator = idAllocator;
+        this.applicantRanker = applicantRanker;
+        this.userStatsService = userStatsService;
+        this.openJobsVersions = openJobsVersions;
     }
 
+    @Transactional
     @Override
     public JobPosting createJob(String employerEmail, CreateJobRequestDto jobDto) {
         User employer = userRepository.findByEmail(employerEmail)
@@ -46,11 +113,18 @@ public class JobServiceImpl implements JobService {
         newJob.setDescription(jobDto.getDescription());
         newJob.setJobType(jobDto.getJobType());
         newJob.setEmployer(employer);
-        newJob.setStatus(JobStatus.OPEN);
+        if (jobDto.getPublishAt() != null && jobDto.getPublishAt().isAfter(LocalDateTime.now())) {
+            // Goes live through the lifecycle scheduler
+            newJob.setStatus(JobStatus.SCHEDULED);
+            newJob.setPublishAt(jobDto.getPublishAt());
+        } else {
+            newJob.setStatus(JobStatus.OPEN);
+        }
 
         // FIX: Set the missing critical fields
         newJob.setSalary(jobDto.getSalary());
         newJob.setLocation(jobDto.getLocation());
+        applyCoordinates(newJob);
         newJob.setRequiredSkills(jobDto.getRequiredSkills());
 
         if (jobDto.getJobType() == JobType.ONE_DAY) {
@@ -67,7 +141,10 @@ public class JobServiceImpl implements JobService {
             newJob.setEndDate(jobDto.getEndDate());
         }
 
-        return jobPostingRepository.save(newJob);
+        JobPosting savedJob = jobPostingRepository.save(newJob);
+        userStatsService.recordJobsCreated(employer.getUserId(), 1, savedJob.getStatus() == JobStatus.OPEN ? 1 : 0);
+        eventPublisher.publishEvent(JobChangedEvent.saved(mapToJobListingDto(savedJob)));
+        return savedJob;
     }
 
     @Transactional
@@ -86,8 +163,12 @@ public class JobServiceImpl implements JobService {
         existingJob.setDescription(jobDto.getDescription());
         existingJob.setRequiredSkills(jobDto.getRequiredSkills());
         existingJob.setLocation(jobDto.getLocation());
+        applyCoordinates(existingJob);
         existingJob.setSalary(jobDto.getSalary());
         existingJob.setJobType(jobDto.getJobType());
+        if (existingJob.getStatus() == JobStatus.SCHEDULED && jobDto.getPublishAt() != null) {
+            existingJob.setPublishAt(jobDto.getPublishAt());
+        }
 
         // Update date fields based on job type
         if (jobDto.getJobType() == JobType.ONE_DAY) {
@@ -104,7 +185,9 @@ public class JobServiceImpl implements JobService {
             existingJob.setEndDate(jobDto.getEndDate());
         }
 
-        return jobPostingRepository.save(existingJob);
+        JobPosting savedJob = jobPostingRepository.save(existingJob);
+        eventPublisher.publishEvent(JobChangedEvent.saved(mapToJobListingDto(savedJob)));
+        return savedJob;
     }
 
     @Transactional
@@ -124,7 +207,9 @@ public class JobServiceImpl implements JobService {
             throw new IllegalStateException("Cannot delete job with existing applications. Please close the job instead.");
         }
 
+        userStatsService.recordJobDeleted(existingJob.getEmployer().getUserId(), jobId, existingJob.getStatus());
         jobPostingRepository.delete(existingJob);
+        eventPublisher.publishEvent(JobChangedEvent.deleted(jobId));
     }
 
     @Transactional
@@ -138,25 +223,107 @@ public class JobServiceImpl implements JobService {
             throw new org.springframework.security.access.AccessDeniedException("You are not authorized to update this job status.");
         }
 
+        JobStatus previousStatus = existingJob.getStatus();
         existingJob.setStatus(status);
-        return jobPostingRepository.save(existingJob);
+        JobPosting savedJob = jobPostingRepository.save(existingJob);
+        userStatsService.recordJobStatusChange(existingJob.getEmployer().getUserId(), previousStatus, status);
+        eventPublisher.publishEvent(JobChangedEvent.saved(mapToJobListingDto(savedJob)));
+        return savedJob;
     }
 
     @Override
     public List<JobListingDto> getAllOpenJobs() {
-        List<JobPosting> openJobs = jobPostingRepository.findByStatus(JobStatus.OPEN);
-        return openJobs.stream()
-                .map(this::mapToJobListingDto)
-                .collect(Collectors.toList());
+        return openJobsCache.snapshot().jobs();
+    }
+
+    @Override
+    public ResourceVersion getOpenJobsVersion() {
+        return openJobsVersions.current();
+    }
+
+    @Override
+    public ResourceVersion getLastOpenJobsVersion() {
+        return openJobsVersions.lastRead();
+    }
+
+    @Override
+    public CursorPageDto<JobListingDto> getOpenJobsPage(JobFilterDto filter, String cursor, int size) {
+        int pageSize = size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        JobFilterDto criteria = filter != null ? filter : new JobFilterDto();
+        PageCursor after = cursor != null && !cursor.isBlank() ? PageCursor.decode(cursor) : null;
+
+        String location = criteria.getLocation() != null && !criteria.getLocation().isBlank()
+                ? criteria.getLocation().trim() : null;
+
+        // Fetch one extra row to learn whether another page exists without a COUNT query
+        List<JobPosting> rows = jobPostingRepository.findPageByStatus(
+                JobStatus.OPEN,
+                criteria.getJobType(),
+                location,
+                criteria.getMinSalary(),
+                criteria.getMaxSalary(),
+                criteria.getStartDateFrom(),
+                criteria.getStartDateTo(),
+                after != null ? after.timestamp() : null,
+                after != null ? after.id() : null,
+                Limit.of(pageSize + 1));
+
+        boolean hasMore = rows.size() > pageSize;
+        List<JobListingDto> items = mapToJobListingDtos(hasMore ? rows.subList(0, pageSize) : rows);
+
+        String nextCursor = null;
+        if (hasMore) {
+            JobListingDto last = items.get(items.size() - 1);
+            nextCursor = new PageCursor(last.getPostedAt(), last.getId()).encode();
+        }
+
+        return CursorPageDto.<JobListingDto>builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    @Override
+    public List<JobListingDto> searchOpenJobs(String keyword, SearchMode mode) {
+        if (mode == SearchMode.FUZZY) {
+            return jobSearchIndex.fuzzySearch(keyword, MAX_SEARCH_RESULTS);
+        }
+        return jobSearchIndex.search(keyword, MAX_SEARCH_RESULTS);
+    }
+
+    @Override
+    public JobSearchResultDto searchOpenJobsWithFacets(String keyword, JobFilterDto filter) {
+        return jobSearchIndex.facetedSearch(keyword, filter, MAX_SEARCH_RESULTS);
     }
 
     @Override
-    public List<JobListingDto> searchOpenJobs(String keyword) {
-        List<JobPosting> foundJobs = jobPostingRepository
-                .findByStatusAndJobTitleContainingIgnoreCaseOrDescriptionContainingIgnoreCase(
-                        JobStatus.OPEN, keyword, keyword
-                );
-        return foundJobs.stream()
+    public List<NearbyJobDto> findOpenJobsNear(Double latitude, Double longitude, String location, double radiusKm) {
+        if (!(radiusKm > 0 && radiusKm <= MAX_RADIUS_KM)) {
+            throw new IllegalArgumentException("Radius must be between 0 and " + (int) MAX_RADIUS_KM + " km");
+        }
+
+        GeoPoint origin;
+        if (latitude != null && longitude != null) {
+            origin = new GeoPoint(latitude, longitude);
+        } else if (location != null && !location.isBlank()) {
+            origin = gazetteer.resolve(location)
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown location: " + location));
+        } else {
+            throw new IllegalArgumentException("Either latitude and longitude or a location is required");
+        }
+        return jobGeoIndex.findWithin(origin, radiusKm, MAX_SEARCH_RESULTS);
+    }
+
+    private void applyCoordinates(JobPosting job) {
+        GeoPoint position = gazetteer.resolve(job.getLocation()).orElse(null);
+        job.setLatitude(position != null ? position.latitude() : null);
+        job.setLongitude(position != null ? position.longitude() : null);
+    }
+
+    @Override
+    public List<JobListingDto> mapToJobListingDtos(List<JobPosting> jobs) {
+        return jobs.stream()
                 .map(this::mapToJobListingDto)
                 .collect(Collectors.toList());
     }
@@ -173,15 +340,26 @@ public class JobServiceImpl implements JobService {
         dto.setJobType(job.getJobType());
         dto.setStatus(job.getStatus());
         dto.setPostedAt(job.getPostedAt());
+        dto.setStartDate(job.getStartDate());
+        dto.setEndDate(job.getEndDate());
+        dto.setPublishAt(job.getPublishAt());
+        if (job.getLatitude() != null && job.getLongitude() != null) {
+            dto.setLatitude(job.getLatitude());
+            dto.setLongitude(job.getLongitude());
+        } else {
+            // Jobs saved before coordinates were stored
+            gazetteer.resolve(job.getLocation()).ifPresent(position -> {
+                dto.setLatitude(position.latitude());
+                dto.setLongitude(position.longitude());
+            });
+        }
 
         if (job.getEmployer().getProfile() instanceof EmployerProfile) {
             EmployerProfile employerProfile = (EmployerProfile) job.getEmployer().getProfile();
             dto.setEmployerCompanyName(employerProfile.getCompanyName());
         }
 
-        // Get application count for this job
-        int applicationCount = jobApplicationRepository.findByJobPosting_Id(job.getId()).size();
-        dto.setApplicationCount(applicationCount);
+        dto.setApplicationCount(job.getApplicationCount());
 
         return dto;
     }
@@ -194,6 +372,22 @@ public class JobServiceImpl implements JobService {
         return mapToJobDetailDto(job);
     }
 
+    @Override
+    public byte[] getJobDetailJson(Long jobId, ResourceVersion version) {
+        return jobDetailCache.get(jobId, version.etag(), () -> getJobById(jobId));
+    }
+
+    @Override
+    public ResourceVersion getJobDetailVersion(Long jobId) {
+        JobDetailVersion version = jobPostingRepository.findDetailVersionById(jobId)
+                .orElseThrow(() -> new RuntimeException("Job not found with id: " + jobId));
+        // The counters are not covered by the job's version, and the company name comes from the employer profile
+        String etag = jobId + "-" + version.version() + "-" + version.applicationCount()
+                + "-" + (version.employerProfileVersion() != null ? version.employerProfileVersion() : 0);
+        return new ResourceVersion(etag,
+                ResourceVersion.toEpochMilli(version.lastModifiedAt(), version.employerProfileModifiedAt()));
+    }
+
     private JobDetailDto mapToJobDetailDto(JobPosting job) {
         JobDetailDto dto = new JobDetailDto();
         dto.setId(job.getId());
@@ -209,9 +403,7 @@ public class JobServiceImpl implements JobService {
             dto.setEmployerCompanyName(((EmployerProfile) job.getEmployer().getProfile()).getCompanyName());
         }
 
-        // Get application count for this job
-        int applicationCount = jobApplicationRepository.findByJobPosting_Id(job.getId()).size();
-        dto.setApplicationCount(applicationCount);
+        dto.setApplicationCount(job.getApplicationCount());
 
         if (job.getJobImages() != null) {
             dto.setImageUrls(job.getJobImages().stream()
@@ -231,26 +423,44 @@ public class JobServiceImpl implements JobService {
 
     @Transactional
     @Override
-    public void applyForJob(String workerEmail, Long jobId) {
-        User worker = userRepository.findByEmail(workerEmail)
-                .orElseThrow(() -> new UsernameNotFoundException("Worker not found"));
-
-        JobPosting job = jobPostingRepository.findById(jobId)
-                .orElseThrow(() -> new RuntimeException("Job not found"));
-
-        if (job.getStatus() != JobStatus.OPEN) {
-            throw new IllegalStateException("This job is no longer open for applications.");
+    public boolean applyForJob(String workerEmail, Long jobId, String idempotencyKey) {
+        if (idempotencyKey != null && (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH)) {
+            throw new IllegalArgumentException("Idempotency key must be 1 to " + MAX_IDEMPOTENCY_KEY_LENGTH + " characters");
         }
-        if (jobApplicationRepository.existsByWorker_UserIdAndJobPosting_Id(worker.getUserId(), jobId)) {
+
+        // The worker lookup, the open-job guard and the duplicate check all happen in the INSERT itself
+        Long applicationId = idAllocator.nextId(JobApplication.class);
+        int inserted;
+        try {
+            inserted = jobApplicationRepository.insertIfAbsent(applicationId, workerEmail, jobId, idempotencyKey, LocalDateTime.now());
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent request for the same worker and job committed first
             throw new IllegalStateException("You have already applied for this job.");
         }
 
-        JobApplication application = new JobApplication();
-        application.setWorker(worker);
-        application.setJobPosting(job);
-        application.setStatus(JobApplicationStatus.PENDING);
+        if (inserted == 1) {
+            applicationCountService.recordNewApplication(jobId);
+            jobApplicationRepository.findOwnershipById(applicationId).ifPresent(ownership ->
+                    userStatsService.recordNewApplication(ownership.workerId(), ownership.employerId()));
+            eventPublisher.publishEvent(new JobApplicationChangedEvent(jobId, applicationId, null, JobApplicationStatus.PENDING));
+            return true;
+        }
 
-        jobApplicationRepository.save(application);
+        // Nothing was inserted; only now find out why
+        JobApplication existing = jobApplicationRepository.findByWorker_EmailAndJobPosting_Id(workerEmail, jobId).orElse(null);
+        if (existing != null) {
+            if (idempotencyKey != null && idempotencyKey.equals(existing.getIdempotencyKey())) {
+                return false;
+            }
+            throw new IllegalStateException("You have already applied for this job.");
+        }
+        if (userRepository.findByEmail(workerEmail).isEmpty()) {
+            throw new UsernameNotFoundException("Worker not found");
+        }
+        if (!jobPostingRepository.existsById(jobId)) {
+            throw new RuntimeException("Job not found");
+        }
+        throw new IllegalStateException("This job is no longer open for applications.");
     }
 
     @Override
@@ -294,9 +504,74 @@ public class JobServiceImpl implements JobService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public List<JobApplicationDto> getTopApplicants(String employerEmail, Long jobId, int limit) {
+        if (limit < 1 || limit > MAX_TOP_APPLICANTS) {
+            throw new IllegalArgumentException("Top applicants must be between 1 and " + MAX_TOP_APPLICANTS);
+        }
+        JobPosting job = jobPostingRepository.findById(jobId)
+                .orElseThrow(() -> new RuntimeException("Job not found"));
+        if (!job.getEmployer().getEmail().equals(employerEmail)) {
+            throw new org.springframework.security.access.AccessDeniedException("You are not authorized to view applications for this job.");
+        }
+
+        // Only applications still awaiting the employer's decision are worth ranking
+        List<ScoredApplicant> ranked = applicantRanker.rank(mapToJobListingDto(job),
+                jobApplicationRepository.findApplicantRefsByJobIdAndStatusIn(jobId, UNDECIDED_STATUSES), limit);
+        if (ranked.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, JobApplication> applications = new HashMap<>();
+        for (JobApplication application : jobApplicationRepository.findAllWithWorkerByIdIn(
+                ranked.stream().map(ScoredApplicant::applicationId).toList())) {
+            applications.put(application.getId(), application);
+        }
+        List<JobApplicationDto> result = new ArrayList<>(ranked.size());
+        for (ScoredApplicant scored : ranked) {
+            JobApplication application = applications.get(scored.applicationId());
+            // Withdrawn between the two reads
+            if (application != null) {
+                JobApplicationDto dto = mapToJobApplicationDto(application);
+                dto.setMatchScore(scored.score());
+                result.add(dto);
+            }
+        }
+        return result;
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Page<JobApplicationDto> getApplicantsPage(String employerEmail, Long jobId, JobApplicationStatus status,
+                                                     LocalDateTime appliedFrom, LocalDateTime appliedTo, Pageable pageable) {
+        String ownerEmail = jobPostingRepository.findEmployerEmailById(jobId)
+                .orElseThrow(() -> new RuntimeException("Job not found"));
+        if (!ownerEmail.equals(employerEmail)) {
+            throw new org.springframework.security.access.AccessDeniedException("You are not authorized to view applications for this job.");
+        }
+
+        Sort sort = Sort.unsorted();
+        for (Sort.Order order : pageable.getSortOr(Sort.by(Sort.Direction.DESC, "appliedAt"))) {
+            if (!APPLICANT_SORT_PROPERTIES.contains(order.getProperty())) {
+                throw new IllegalArgumentException("Applicants can be sorted by " + String.join(", ", APPLICANT_SORT_PROPERTIES));
+            }
+            sort = sort.and(Sort.by(order));
+        }
+        // Applications that tie on the requested order keep a stable position across pages
+        sort = sort.and(Sort.by(Sort.Direction.ASC, "id"));
+        int pageSize = Math.min(Math.max(pageable.getPageSize(), 1), MAX_PAGE_SIZE);
+
+        return jobApplicationRepository.findApplicantsPage(jobId, status, appliedFrom, appliedTo,
+                        PageRequest.of(pageable.getPageNumber(), pageSize, sort))
+                .map(this::mapToJobApplicationDto);
+    }
+
     @Transactional
     @Override
     public JobApplication updateApplicationStatus(String employerEmail, Long applicationId, JobApplicationStatus status) {
+        // The previous status moves the counters, so it must not change before this update commits
+        jobApplicationRepository.lockByIdIn(List.of(applicationId));
         JobApplication application = jobApplicationRepository.findById(applicationId)
                 .orElseThrow(() -> new RuntimeException("Application not found"));
 
@@ -304,12 +579,80 @@ public class JobServiceImpl implements JobService {
             throw new org.springframework.security.access.AccessDeniedException("You are not authorized to update this application.");
         }
 
+        JobApplicationStatus previousStatus = application.getStatus();
         application.setStatus(status);
         jobApplicationRepository.save(application);
+        applicationCountService.recordStatusChange(application.getJobPosting().getId(), previousStatus, status);
+        userStatsService.recordApplicationStatusChange(application.getWorker().getUserId(),
+                application.getJobPosting().getEmployer().getUserId(), previousStatus, status);
+        eventPublisher.publishEvent(new JobApplicationChangedEvent(application.getJobPosting().getId(), applicationId, previousStatus, status));
 
         return application;
     }
 
+    @Transactional
+    @Override
+    public BulkApplicationStatusResultDto updateApplicationStatuses(String employerEmail, Collection<Long> applicationIds,
+                                                                    JobApplicationStatus status) {
+        Set<Long> ids = new LinkedHashSet<>(applicationIds);
+        // The previous statuses move the counters, so they must not change before this update commits
+        jobApplicationRepository.lockByIdIn(ids);
+        Map<Long, ApplicationOwnership> owners = new HashMap<>();
+        for (ApplicationOwnership ownership : jobApplicationRepository.findOwnershipByIdIn(ids)) {
+            owners.put(ownership.applicationId(), ownership);
+        }
+
+        List<ApplicationStatusOutcomeDto> results = new ArrayList<>(ids.size());
+        List<ApplicationOwnership> changing = new ArrayList<>();
+        for (Long id : ids) {
+            ApplicationOwnership ownership = owners.get(id);
+            StatusChangeOutcome outcome;
+            if (ownership == null) {
+                outcome = StatusChangeOutcome.NOT_FOUND;
+            } else if (!ownership.employerEmail().equals(employerEmail)) {
+                // Nothing about another employer's application is reported back
+                outcome = StatusChangeOutcome.FORBIDDEN;
+                ownership = null;
+            } else if (ownership.status() == status) {
+                outcome = StatusChangeOutcome.UNCHANGED;
+            } else {
+                outcome = StatusChangeOutcome.UPDATED;
+                changing.add(ownership);
+            }
+            results.add(ApplicationStatusOutcomeDto.builder()
+                    .applicationId(id)
+                    .outcome(outcome)
+                    .workerId(ownership != null ? ownership.workerId() : null)
+                    .previousStatus(ownership != null ? ownership.status() : null)
+                    .build());
+        }
+
+        int updated = 0;
+        if (!changing.isEmpty()) {
+            updated = jobApplicationRepository.updateStatusByIdIn(
+                    changing.stream().map(ApplicationOwnership::applicationId).toList(), status, LocalDateTime.now());
+
+            Map<Long, List<JobApplicationStatus>> previousByJob = changing.stream()
+                    .collect(Collectors.groupingBy(ApplicationOwnership::jobId,
+                            Collectors.mapping(ApplicationOwnership::status, Collectors.toList())));
+            previousByJob.forEach((jobId, previous) -> applicationCountService.recordStatusChanges(jobId, previous, status));
+            // Only the caller's own applications get this far, so they share one employer
+            userStatsService.recordApplicationStatusChanges(changing.get(0).employerId(), changing.stream()
+                    .collect(Collectors.groupingBy(ApplicationOwnership::workerId,
+                            Collectors.mapping(ApplicationOwnership::status, Collectors.toList()))), status);
+            for (ApplicationOwnership ownership : changing) {
+                eventPublisher.publishEvent(new JobApplicationChangedEvent(
+                        ownership.jobId(), ownership.applicationId(), ownership.status(), status));
+            }
+        }
+
+        return BulkApplicationStatusResultDto.builder()
+                .status(status)
+                .updatedCount(updated)
+                .results(results)
+                .build();
+    }
+
     private JobApplicationDto mapToJobApplicationDto(JobApplication application) {
         JobApplicationDto dto = new JobApplicationDto();
         dto.setId(application.getId());
@@ -349,14 +692,16 @@ public class JobServiceImpl implements JobService {
         jobImage.setImageUrl(imageUrl);
         jobImage.setJobPosting(job);
 
-        return jobImageRepository.save(jobImage);
+        JobImage savedImage = jobImageRepository.save(jobImage);
+        // Images are part of the detail view, so the job's version has to move with them
+        job.setLastModifiedAt(LocalDateTime.now());
+        eventPublisher.publishEvent(JobChangedEvent.saved(mapToJobListingDto(job)));
+        return savedImage;
     }
 
     @Override
     public List<JobListingDto> getJobsByEmployer(String employerEmail) {
         List<JobPosting> jobs = jobPostingRepository.findByEmployer_Email(employerEmail);
-        return jobs.stream()
-                .map(this::mapToJobListingDto)
-                .collect(Collectors.toList());
+        return mapToJobListingDtos(jobs);
     }
 }
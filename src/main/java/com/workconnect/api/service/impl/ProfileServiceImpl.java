@@ -1,11 +1,19 @@
 package com.workconnect.api.service.impl;
 
 import com.workconnect.api.dto.EmployerProfileDto;
+import com.workconnect.api.dto.JobListingDto;
 import com.workconnect.api.dto.WorkerProfileDto;
 import com.workconnect.api.entity.*;
+import com.workconnect.api.event.JobChangedEvent;
+import com.workconnect.api.event.WorkerSkillsChangedEvent;
+import com.workconnect.api.geo.Gazetteer;
+import com.workconnect.api.geo.GeoPoint;
+import com.workconnect.api.repository.JobPostingRepository;
 import com.workconnect.api.repository.SkillRepository;
 import com.workconnect.api.repository.UserRepository;
+import com.workconnect.api.service.JobService;
 import com.workconnect.api.service.ProfileService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,10 +26,20 @@ public class ProfileServiceImpl implements ProfileService {
 
     private final UserRepository userRepository;
     private final SkillRepository skillRepository;
-
-    public ProfileServiceImpl(UserRepository userRepository, SkillRepository skillRepository) {
+    private final JobPostingRepository jobPostingRepository;
+    private final JobService jobService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Gazetteer gazetteer;
+
+    public ProfileServiceImpl(UserRepository userRepository, SkillRepository skillRepository,
+                              JobPostingRepository jobPostingRepository, JobService jobService,
+                              ApplicationEventPublisher eventPublisher, Gazetteer gazetteer) {
         this.userRepository = userRepository;
         this.skillRepository = skillRepository;
+        this.jobPostingRepository = jobPostingRepository;
+        this.jobService = jobService;
+        this.eventPublisher = eventPublisher;
+        this.gazetteer = gazetteer;
     }
 
     @Override
@@ -50,6 +68,9 @@ public class ProfileServiceImpl implements ProfileService {
         workerProfile.setLastName(workerProfileDto.getLastName());
         workerProfile.setPhoneNumber(workerProfileDto.getPhoneNumber());
         workerProfile.setLocation(workerProfileDto.getLocation());
+        GeoPoint position = gazetteer.resolve(workerProfileDto.getLocation()).orElse(null);
+        workerProfile.setLatitude(position != null ? position.latitude() : null);
+        workerProfile.setLongitude(position != null ? position.longitude() : null);
         workerProfile.setBio(workerProfileDto.getBio());
         workerProfile.setExperience(workerProfileDto.getExperience());
         workerProfile.setEducation(workerProfileDto.getEducation());
@@ -63,6 +84,7 @@ public class ProfileServiceImpl implements ProfileService {
                 skillEntities.add(skill);
             }
             workerProfile.setSkills(skillEntities);
+            eventPublisher.publishEvent(new WorkerSkillsChangedEvent(user.getUserId()));
         }
 
         userRepository.save(user);
@@ -83,6 +105,11 @@ public class ProfileServiceImpl implements ProfileService {
         employerProfile.setLocation(employerProfileDto.getLocation());
 
         userRepository.save(user);
+
+        // Job views show the company name, so the employer's jobs are republished to the caches built from them
+        for (JobListingDto job : jobService.mapToJobListingDtos(jobPostingRepository.findByEmployer_Email(email))) {
+            eventPublisher.publishEvent(JobChangedEvent.saved(job));
+        }
         return mapToEmployerDto(employerProfile);
     }
 
@@ -2,9 +2,11 @@ package com.workconnect.api.service.impl;
 
 import com.workconnect.api.dto.BadgeDto;
 import com.workconnect.api.dto.EmployerProfileDto;
+import com.workconnect.api.dto.ResourceVersion;
 import com.workconnect.api.dto.ReviewDto;
 import com.workconnect.api.dto.WorkerProfileDto;
 import com.workconnect.api.entity.*;
+import com.workconnect.api.repository.ProfileRepository;
 import com.workconnect.api.repository.ReviewRepository;
 import com.workconnect.api.repository.UserBadgeRepository;
 import com.workconnect.api.repository.UserRepository;
@@ -14,6 +16,7 @@ import org.springframework.stereotype.Service;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,11 +25,14 @@ public class PublicProfileServiceImpl implements PublicProfileService {
     private final UserRepository userRepository;
     private final ReviewRepository reviewRepository;
     private final UserBadgeRepository userBadgeRepository;
+    private final ProfileRepository profileRepository;
 
-    public PublicProfileServiceImpl(UserRepository userRepository, ReviewRepository reviewRepository, UserBadgeRepository userBadgeRepository) {
+    public PublicProfileServiceImpl(UserRepository userRepository, ReviewRepository reviewRepository,
+                                    UserBadgeRepository userBadgeRepository, ProfileRepository profileRepository) {
         this.userRepository = userRepository;
         this.reviewRepository = reviewRepository;
         this.userBadgeRepository = userBadgeRepository;
+        this.profileRepository = profileRepository;
     }
 
     @Override
@@ -56,4 +62,12 @@ public class PublicProfileServiceImpl implements PublicProfileService {
 
         return response;
     }
+
+    @Override
+    public Optional<ResourceVersion> getPublicProfileVersion(Long userId) {
+        // Reviews and badges bump the profile's version too, so it covers the whole response
+        return profileRepository.findVersionByUserId(userId)
+                .map(version -> new ResourceVersion(userId + "-" + version.version(),
+                        ResourceVersion.toEpochMilli(version.lastModifiedAt())));
+    }
 }
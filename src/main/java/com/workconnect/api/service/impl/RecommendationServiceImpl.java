@@ -1,12 +1,12 @@
 package com.workconnect.api.service.impl;
 
-import com.workconnect.api.constants.Enum.JobStatus;
+import com.workconnect.api.cache.OpenJobsCache;
+import com.workconnect.api.cache.OpenJobsSnapshot;
 import com.workconnect.api.dto.JobListingDto;
 import com.workconnect.api.dto.ai.*;
 import com.workconnect.api.entity.*;
-import com.workconnect.api.repository.JobPostingRepository;
 import com.workconnect.api.repository.UserRepository;
-import com.workconnect.api.service.JobService;
+import com.workconnect.api.repository.WorkerProfileRepository;
 import com.workconnect.api.service.RecommendationService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,7 +18,6 @@ import org.springframework.web.client.RestTemplate;
 
 import java.time.Duration;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
@@ -30,8 +29,8 @@ public class RecommendationServiceImpl implements RecommendationService {
 
     private final RestTemplate restTemplate;
     private final UserRepository userRepository;
-    private final JobPostingRepository jobPostingRepository;
-    private final JobService jobService;
+    private final WorkerProfileRepository workerProfileRepository;
+    private final OpenJobsCache openJobsCache;
 
     @Value("${ai.service.url:http://127.0.0.1:8000/recommendations/jobs}")
     private String aiServiceUrl;
@@ -39,11 +38,12 @@ public class RecommendationServiceImpl implements RecommendationService {
     @Value("${ai.service.enabled:true}")
     private boolean aiServiceEnabled;
 
-    public RecommendationServiceImpl(RestTemplate restTemplate, UserRepository userRepository, JobPostingRepository jobPostingRepository, JobService jobService) {
+    public RecommendationServiceImpl(RestTemplate restTemplate, UserRepository userRepository,
+                                     WorkerProfileRepository workerProfileRepository, OpenJobsCache openJobsCache) {
         this.restTemplate = restTemplate;
         this.userRepository = userRepository;
-        this.jobPostingRepository = jobPostingRepository;
-        this.jobService = jobService;
+        this.workerProfileRepository = workerProfileRepository;
+        this.openJobsCache = openJobsCache;
     }
 
     @Override
@@ -57,11 +57,32 @@ public class RecommendationServiceImpl implements RecommendationService {
             logger.warn("User {} is not a worker, returning empty recommendations", workerEmail);
             return List.of(); // Not a worker
         }
-        WorkerProfile workerProfile = (WorkerProfile) worker.getProfile();
+        return recommend((WorkerProfile) worker.getProfile());
+    }
+
+    @Override
+    public List<JobListingDto> getJobRecommendations(Long workerId) {
+        logger.info("Getting job recommendations for worker: {}", workerId);
+
+        // 1. Get worker profile; its skills are fetched up front because the AI call runs outside a transaction
+        WorkerProfile workerProfile = workerProfileRepository.findWithSkillsById(workerId).orElse(null);
+        if (workerProfile == null) {
+            logger.warn("User {} is not a worker, returning empty recommendations", workerId);
+            return List.of(); // Not a worker
+        }
+        return recommend(workerProfile);
+    }
+
+    @Override
+    public List<JobListingDto> getJobRecommendations(WorkerProfile workerProfile) {
+        logger.info("Getting job recommendations for worker: {}", workerProfile.getId());
+        return recommend(workerProfile);
+    }
 
+    private List<JobListingDto> recommend(WorkerProfile workerProfile) {
         // 2. Get all open job postings
-        List<JobPosting> openJobs = jobPostingRepository.findByStatus(JobStatus.OPEN);
-        if (openJobs.isEmpty()) {
+        OpenJobsSnapshot openJobs = openJobsCache.snapshot();
+        if (openJobs.jobs().isEmpty()) {
             logger.info("No open jobs available for recommendations");
             return List.of();
         }
@@ -75,8 +96,8 @@ public class RecommendationServiceImpl implements RecommendationService {
         try {
             return getAiPoweredRecommendations(workerProfile, openJobs);
         } catch (Exception e) {
-            logger.error("AI service failed for user {}: {}. Falling back to basic recommendations",
-                        workerEmail, e.getMessage());
+            logger.error("AI service failed for worker {}: {}. Falling back to basic recommendations",
+                        workerProfile.getId(), e.getMessage());
             return List.of();
         }
     }
@@ -84,7 +105,7 @@ public class RecommendationServiceImpl implements RecommendationService {
     /**
      * Get AI-powered recommendations using the external AI service
      */
-    private List<JobListingDto> getAiPoweredRecommendations(WorkerProfile workerProfile, List<JobPosting> openJobs) {
+    private List<JobListingDto> getAiPoweredRecommendations(WorkerProfile workerProfile, OpenJobsSnapshot openJobs) {
         logger.info("Attempting AI-powered recommendations for worker profile: {}", workerProfile.getId());
 
         // Convert the Set<Skill> into a single space-separated string
@@ -103,7 +124,7 @@ public class RecommendationServiceImpl implements RecommendationService {
         AiWorkerProfileDto workerPayload = new AiWorkerProfileDto(skillsString);
 
         // Prepare job postings for AI service
-        List<AiJobPostingDto> jobPayloads = openJobs.stream()
+        List<AiJobPostingDto> jobPayloads = openJobs.jobs().stream()
                 .map(job -> new AiJobPostingDto(job.getId(), job.getRequiredSkills() != null ? job.getRequiredSkills() : ""))
                 .collect(Collectors.toList());
 
@@ -125,17 +146,10 @@ public class RecommendationServiceImpl implements RecommendationService {
             List<Long> rankedJobIds = response.ranked_job_ids();
             logger.info("AI service returned {} ranked job IDs", rankedJobIds.size());
 
-            List<JobPosting> recommendedJobs = jobPostingRepository.findAllById(rankedJobIds);
-
-            // Create a map for quick lookups to preserve the ranked order from the AI
-            Map<Long, JobPosting> jobMap = recommendedJobs.stream()
-                    .collect(Collectors.toMap(JobPosting::getId, job -> job));
-
-            // Map the jobs to DTOs in the order provided by the recommendation service
+            // Resolve from the same snapshot the AI ranked, preserving its order; unknown ids are dropped
             List<JobListingDto> result = rankedJobIds.stream()
-                    .map(jobMap::get)
+                    .map(openJobs::get)
                     .filter(Objects::nonNull)
-                    .map(jobService::mapToJobListingDto)
                     .collect(Collectors.toList());
 
             logger.info("Successfully generated {} AI-powered recommendations", result.size());
@@ -150,14 +164,12 @@ public class RecommendationServiceImpl implements RecommendationService {
     /**
      * Fallback recommendation method when AI service is unavailable
      */
-    private List<JobListingDto> getFallbackRecommendations(List<JobPosting> openJobs) {
+    private List<JobListingDto> getFallbackRecommendations(OpenJobsSnapshot openJobs) {
         logger.info("Using fallback recommendation logic with {} open jobs", openJobs.size());
 
-        // Simple fallback: return most recent jobs (up to 10)
-        return openJobs.stream()
-                .sorted((a, b) -> b.getPostedAt().compareTo(a.getPostedAt()))
+        // Simple fallback: return most recent jobs (up to 10); the snapshot is already newest first
+        return openJobs.jobs().stream()
                 .limit(10)
-                .map(jobService::mapToJobListingDto)
                 .collect(Collectors.toList());
     }
 }
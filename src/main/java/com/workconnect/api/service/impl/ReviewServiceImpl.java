@@ -9,6 +9,8 @@ import com.workconnect.api.service.ReviewService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 @Service
 public class ReviewServiceImpl implements ReviewService {
 
@@ -16,13 +18,15 @@ public class ReviewServiceImpl implements ReviewService {
     private final JobApplicationRepository applicationRepository;
     private final UserRepository userRepository;
     private final BadgeService badgeService;
+    private final ProfileRepository profileRepository;
 
     public ReviewServiceImpl(ReviewRepository reviewRepository, JobApplicationRepository applicationRepository,
-                             UserRepository userRepository, BadgeService badgeService) {
+                             UserRepository userRepository, BadgeService badgeService, ProfileRepository profileRepository) {
         this.reviewRepository = reviewRepository;
         this.applicationRepository = applicationRepository;
         this.userRepository = userRepository;
         this.badgeService = badgeService;
+        this.profileRepository = profileRepository;
     }
 
     @Transactional
@@ -56,6 +60,8 @@ public class ReviewServiceImpl implements ReviewService {
         review.setReviewee(reviewee);
 
         reviewRepository.save(review);
+        // Reviews are part of the reviewee's public profile
+        profileRepository.touch(reviewee.getUserId(), LocalDateTime.now());
 
         badgeService.checkAndAwardBadges(reviewee);
     }
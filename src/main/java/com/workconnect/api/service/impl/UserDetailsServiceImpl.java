@@ -1,5 +1,6 @@
 package com.workconnect.api.service.impl;
 
+import com.workconnect.api.config.ResolvedPrincipal;
 import com.workconnect.api.constants.Enum.UserStatus;
 import com.workconnect.api.entity.User;
 import com.workconnect.api.repository.UserRepository;
@@ -31,14 +32,7 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         boolean isEnabled = user.getStatus() == UserStatus.ACTIVE;
         boolean isAccountNonLocked = user.getStatus() != UserStatus.BANNED;
 
-        return new org.springframework.security.core.userdetails.User(
-                user.getEmail(),
-                user.getPassword(),
-                isEnabled,
-                true,
-                true,
-                isAccountNonLocked,
-                List.of(authority)
-        );
+        // The profile is loaded together with the user, so its ID comes at no extra cost
+        return new ResolvedPrincipal(user, isEnabled, isAccountNonLocked, List.of(authority));
     }
 }
@@ -9,8 +9,10 @@ import com.workconnect.api.dto.RefreshTokenRequestDto;
 import com.workconnect.api.dto.RegistrationRequestDto;
 import com.workconnect.api.entity.EmployerProfile;
 import com.workconnect.api.entity.User;
+import com.workconnect.api.entity.UserStats;
 import com.workconnect.api.entity.WorkerProfile;
 import com.workconnect.api.repository.UserRepository;
+import com.workconnect.api.repository.UserStatsRepository;
 import com.workconnect.api.service.UserService;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -31,9 +33,12 @@ public class UserServiceImpl implements UserService {
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
+    private final UserStatsRepository userStatsRepository;
 
-    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder, AuthenticationManager authenticationManager, JwtUtil jwtUtil) {
+    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder, AuthenticationManager authenticationManager, JwtUtil jwtUtil,
+                           UserStatsRepository userStatsRepository) {
         this.userRepository = userRepository;
+        this.userStatsRepository = userStatsRepository;
         this.passwordEncoder = passwordEncoder;
         this.authenticationManager = authenticationManager;
         this.jwtUtil = jwtUtil;
@@ -58,7 +63,10 @@ public class UserServiceImpl implements UserService {
             newUser.setProfile(new EmployerProfile(newUser));
         }
 
-        return userRepository.save(newUser);
+        User savedUser = userRepository.save(newUser);
+        // The dashboard rollups only ever update this row, so it has to exist from the start
+        userStatsRepository.save(new UserStats(savedUser));
+        return savedUser;
     }
 
     @Override
@@ -0,0 +1,289 @@
+package com.workconnect.api.service.impl;
+
+import com.workconnect.api.constants.Enum.JobApplicationStatus;
+import com.workconnect.api.constants.Enum.JobStatus;
+import com.workconnect.api.constants.Enum.ViewTarget;
+import com.workconnect.api.dto.ApplicationParticipants;
+import com.workconnect.api.entity.UserStats;
+import com.workconnect.api.repository.JobApplicationRepository;
+import com.workconnect.api.repository.UserStatsRepository;
+import com.workconnect.api.service.UserStatsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.ToIntFunction;
+
+@Service
+public class UserStatsServiceImpl implements UserStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserStatsServiceImpl.class);
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final UserStatsRepository userStatsRepository;
+    private final JobApplicationRepository jobApplicationRepository;
+
+    public UserStatsServiceImpl(UserStatsRepository userStatsRepository, JobApplicationRepository jobApplicationRepository) {
+        this.userStatsRepository = userStatsRepository;
+        this.jobApplicationRepository = jobApplicationRepository;
+    }
+
+    @Transactional
+    @Override
+    public void recordJobsCreated(Long employerId, int posted, int active) {
+        if (posted > 0) {
+            update(List.of(employerId), ids -> userStatsRepository.adjustJobCounters(employerId, posted, active));
+        }
+    }
+
+    @Transactional
+    @Override
+    public void recordJobStatusChange(Long employerId, JobStatus from, JobStatus to) {
+        int active = (to == JobStatus.OPEN ? 1 : 0) - (from == JobStatus.OPEN ? 1 : 0);
+        if (active != 0) {
+            update(List.of(employerId), ids -> userStatsRepository.adjustJobCounters(employerId, 0, active));
+        }
+    }
+
+    @Transactional
+    @Override
+    public void recordJobDeleted(Long employerId, Long jobId, JobStatus status) {
+        List<ApplicationParticipants> applications = jobApplicationRepository.findParticipantsByJobId(jobId);
+        Set<Long> userIds = participants(applications);
+        userIds.add(employerId);
+        lockInOrder(userIds);
+
+        update(List.of(employerId), ids -> userStatsRepository.adjustJobCounters(employerId, -1, status == JobStatus.OPEN ? -1 : 0));
+        removeApplications(applications, Set.of());
+    }
+
+    @Transactional
+    @Override
+    public void recordUserDeleted(Long userId) {
+        List<ApplicationParticipants> applications = jobApplicationRepository.findParticipantsByUserId(userId);
+        Set<Long> userIds = participants(applications);
+        userIds.add(userId);
+        lockInOrder(userIds);
+
+        removeApplications(applications, Set.of(userId));
+        userStatsRepository.deleteById(userId);
+    }
+
+    @Transactional
+    @Override
+    public void recordJobStatusChanges(Collection<Long> jobIds) {
+        if (!jobIds.isEmpty()) {
+            userStatsRepository.recountActiveJobs(jobIds);
+        }
+    }
+
+    @Transactional
+    @Override
+    public void recordNewApplication(Long workerId, Long employerId) {
+        LocalDate today = LocalDate.now();
+        update(sorted(List.of(workerId, employerId)),
+                ids -> userStatsRepository.recordNewApplication(ids, today.toEpochDay(), UserStats.bucketOf(today)));
+    }
+
+    @Transactional
+    @Override
+    public void recordApplicationStatusChange(Long workerId, Long employerId, JobApplicationStatus from, JobApplicationStatus to) {
+        adjust(sorted(List.of(workerId, employerId)), deltas(Collections.singletonList(from), to));
+    }
+
+    @Transactional
+    @Override
+    public void recordApplicationStatusChanges(Long employerId, Map<Long, List<JobApplicationStatus>> previousByWorker,
+                                               JobApplicationStatus to) {
+        Set<Long> userIds = new HashSet<>(previousByWorker.keySet());
+        userIds.add(employerId);
+        lockInOrder(userIds);
+
+        // Workers whose applications moved the same way share one UPDATE; the employer gets the sum
+        int[] employerDeltas = new int[JobApplicationStatus.values().length];
+        Map<List<Integer>, List<Long>> workersByDeltas = new HashMap<>();
+        previousByWorker.forEach((workerId, previous) -> {
+            int[] deltas = deltas(previous, to);
+            for (int i = 0; i < deltas.length; i++) {
+                employerDeltas[i] += deltas[i];
+            }
+            workersByDeltas.computeIfAbsent(Arrays.stream(deltas).boxed().toList(), key -> new ArrayList<>()).add(workerId);
+        });
+
+        workersByDeltas.forEach((deltas, workerIds) ->
+                adjust(sorted(workerIds), deltas.stream().mapToInt(Integer::intValue).toArray()));
+        adjust(List.of(employerId), employerDeltas);
+    }
+
+    @Transactional
+    @Override
+    public void recordViews(ViewTarget target, Map<Long, Long> viewsByUserId) {
+        // The rows are locked in user ID order first, like every other rollup writer, because the
+        // UPDATEs below are grouped by view count rather than ordered by user
+        List<Long> userIds = sorted(viewsByUserId.keySet());
+        for (int from = 0; from < userIds.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + CHUNK_SIZE, userIds.size()));
+            userStatsRepository.lockInOrder(chunk);
+
+            // Users with the same number of new views share one UPDATE
+            Map<Long, List<Long>> usersByViews = new HashMap<>();
+            chunk.forEach(userId -> usersByViews.computeIfAbsent(viewsByUserId.get(userId), key -> new ArrayList<>()).add(userId));
+            usersByViews.forEach((views, group) -> update(group, target == ViewTarget.PROFILE
+                    ? ids -> userStatsRepository.addProfileViews(ids, views)
+                    : ids -> userStatsRepository.addJobViews(ids, views)));
+        }
+    }
+
+    /**
+     * Per-status deltas, indexed by ordinal, for moving one application from each of {@code from} to {@code to}.
+     */
+    private static int[] deltas(Collection<JobApplicationStatus> from, JobApplicationStatus to) {
+        int[] deltas = new int[JobApplicationStatus.values().length];
+        for (JobApplicationStatus previous : from) {
+            if (previous == to) {
+                continue;
+            }
+            if (previous != null) {
+                deltas[previous.ordinal()]--;
+            }
+            if (to != null) {
+                deltas[to.ordinal()]++;
+            }
+        }
+        return deltas;
+    }
+
+    private void adjust(Collection<Long> userIds, int[] deltas) {
+        if (Arrays.stream(deltas).allMatch(delta -> delta == 0)) {
+            return;
+        }
+        update(userIds, ids -> userStatsRepository.adjustStatusCounters(ids,
+                deltas[JobApplicationStatus.PENDING.ordinal()],
+                deltas[JobApplicationStatus.VIEWED.ordinal()],
+                deltas[JobApplicationStatus.ACCEPTED.ordinal()],
+                deltas[JobApplicationStatus.REJECTED.ordinal()],
+                deltas[JobApplicationStatus.COMPLETED.ordinal()]));
+    }
+
+    /**
+     * Takes the applications out of the rollups of their workers and employers, except {@code skipped}.
+     * Users losing the same applications per status and per day of the current week share UPDATEs;
+     * days before that have already dropped out of the buckets.
+     */
+    private void removeApplications(List<ApplicationParticipants> applications, Set<Long> skipped) {
+        long firstDay = LocalDate.now().toEpochDay() - (UserStats.DAYS - 1);
+        Map<Long, Removal> removals = new TreeMap<>();
+        for (ApplicationParticipants application : applications) {
+            for (Long userId : List.of(application.workerId(), application.employerId())) {
+                if (!skipped.contains(userId)) {
+                    removals.computeIfAbsent(userId, id -> new Removal()).add(application, firstDay);
+                }
+            }
+        }
+
+        Map<Removal, List<Long>> usersByRemoval = new LinkedHashMap<>();
+        removals.forEach((userId, removal) -> usersByRemoval.computeIfAbsent(removal, key -> new ArrayList<>()).add(userId));
+        usersByRemoval.forEach((removal, userIds) -> {
+            update(userIds, ids -> userStatsRepository.removeApplications(ids, removal.total));
+            adjust(userIds, removal.byStatus);
+            removal.byDay.forEach((day, count) -> update(userIds,
+                    ids -> userStatsRepository.removeDailyApplications(ids, day, (int) Math.floorMod(day, UserStats.DAYS), count)));
+        });
+    }
+
+    private static Set<Long> participants(List<ApplicationParticipants> applications) {
+        Set<Long> userIds = new HashSet<>();
+        for (ApplicationParticipants application : applications) {
+            userIds.add(application.workerId());
+            userIds.add(application.employerId());
+        }
+        return userIds;
+    }
+
+    /**
+     * Locks the users' rollup rows in user ID order, for changes whose UPDATEs are grouped by delta
+     * rather than ordered by user; without it they could deadlock against other rollup writers.
+     */
+    private void lockInOrder(Collection<Long> userIds) {
+        List<Long> ordered = sorted(userIds);
+        for (int from = 0; from < ordered.size(); from += CHUNK_SIZE) {
+            userStatsRepository.lockInOrder(ordered.subList(from, Math.min(from + CHUNK_SIZE, ordered.size())));
+        }
+    }
+
+    /**
+     * Runs a rollup UPDATE for the users. Rows are created at registration and by
+     * db/user-stats-rollups.sql, so a user without one means the script was not run on this database.
+     * Instead of the change being dropped, the row is created and the change applied to it, and the
+     * gap is logged, because the row has missed everything before.
+     */
+    private void update(Collection<Long> userIds, ToIntFunction<Collection<Long>> statement) {
+        if (statement.applyAsInt(userIds) >= userIds.size()) {
+            return;
+        }
+        List<Long> missing = new ArrayList<>(userIds);
+        missing.removeAll(userStatsRepository.findUserIdsByUserIdIn(userIds));
+        if (missing.isEmpty()) {
+            return;
+        }
+        logger.error("Users {} had no stats rollup; creating it, but it only counts from now on. " +
+                "Run db/user-stats-rollups.sql to recount it", missing);
+        missing.forEach(userStatsRepository::createMissing);
+        statement.applyAsInt(missing);
+    }
+
+    /**
+     * The IDs in ascending order, so concurrent transactions lock the same rollup rows in the same order.
+     */
+    private static List<Long> sorted(Collection<Long> userIds) {
+        return userIds.stream().sorted().toList();
+    }
+
+    /**
+     * What one user loses when applications are deleted: the total, minus one per status (as
+     * per-status deltas), and the number made on each day of the current week.
+     */
+    private static final class Removal {
+
+        private int total;
+        private final int[] byStatus = new int[JobApplicationStatus.values().length];
+        private final Map<Long, Integer> byDay = new TreeMap<>();
+
+        void add(ApplicationParticipants application, long firstDay) {
+            total++;
+            if (application.status() != null) {
+                byStatus[application.status().ordinal()]--;
+            }
+            long day = application.appliedAt().toLocalDate().toEpochDay();
+            if (day >= firstDay) {
+                byDay.merge(day, 1, Integer::sum);
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Removal other && total == other.total
+                    && Arrays.equals(byStatus, other.byStatus) && byDay.equals(other.byDay);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(total, Arrays.hashCode(byStatus), byDay);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.workconnect.api.service.impl;
+
+import com.workconnect.api.constants.Enum.ViewTarget;
+import com.workconnect.api.dto.JobOwnerRef;
+import com.workconnect.api.repository.JobPostingRepository;
+import com.workconnect.api.service.UserStatsService;
+import com.workconnect.api.service.ViewCountService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+@Service
+public class ViewCountServiceImpl implements ViewCountService {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    /**
+     * Upserts of 1, 2, 4, ... 256 rows. Statements only come in these sizes, so no more than nine
+     * are ever parsed and cached however many targets a flush has.
+     */
+    private static final String[] UPSERTS = new String[9];
+
+    static {
+        for (int i = 0; i < UPSERTS.length; i++) {
+            StringJoiner rows = new StringJoiner(", ",
+                    "INSERT INTO DailyViewCount v (target, targetId, viewDay, views) VALUES ",
+                    " ON CONFLICT (target, targetId, viewDay) DO UPDATE SET views = v.views + excluded.views");
+            for (int row = 0; row < 1 << i; row++) {
+                rows.add("(:target, :targetId" + row + ", :day, :views" + row + ")");
+            }
+            UPSERTS[i] = rows.toString();
+        }
+    }
+
+    private final JobPostingRepository jobPostingRepository;
+    private final UserStatsService userStatsService;
+    private final EntityManager entityManager;
+
+    public ViewCountServiceImpl(JobPostingRepository jobPostingRepository,
+                                UserStatsService userStatsService,
+                                EntityManager entityManager) {
+        this.jobPostingRepository = jobPostingRepository;
+        this.userStatsService = userStatsService;
+        this.entityManager = entityManager;
+    }
+
+    @Transactional
+    @Override
+    public void addViews(ViewTarget target, LocalDate day, Map<Long, Long> viewsByTargetId) {
+        if (viewsByTargetId.isEmpty()) {
+            return;
+        }
+
+        // In ascending order, so flushes from several instances lock the same daily rows in the same order
+        List<Long> targetIds = viewsByTargetId.keySet().stream().sorted().toList();
+        upsert(target, day, targetIds, viewsByTargetId);
+
+        if (target == ViewTarget.PROFILE) {
+            // A profile's target ID is its user's ID
+            userStatsService.recordViews(target, viewsByTargetId);
+        } else {
+            Map<Long, Long> viewsByEmployer = new HashMap<>();
+            for (int from = 0; from < targetIds.size(); from += CHUNK_SIZE) {
+                List<Long> chunk = targetIds.subList(from, Math.min(from + CHUNK_SIZE, targetIds.size()));
+                for (JobOwnerRef owner : jobPostingRepository.findOwnersByIdIn(chunk)) {
+                    viewsByEmployer.merge(owner.employerId(), viewsByTargetId.get(owner.jobId()), Long::sum);
+                }
+            }
+            userStatsService.recordViews(target, viewsByEmployer);
+        }
+    }
+
+    /**
+     * Adds the views to the targets' daily rows with multi-row INSERT ... ON CONFLICT DO UPDATE
+     * statements, so a row another instance creates at the same time is added to instead of failing
+     * the whole flush on the primary key.
+     */
+    private void upsert(ViewTarget target, LocalDate day, List<Long> targetIds, Map<Long, Long> viewsByTargetId) {
+        int from = 0;
+        while (from < targetIds.size()) {
+            int rows = Math.min(Integer.highestOneBit(targetIds.size() - from), 1 << (UPSERTS.length - 1));
+            Query upsert = entityManager.createQuery(UPSERTS[Integer.numberOfTrailingZeros(rows)])
+                    .setParameter("target", target)
+                    .setParameter("day", day);
+            for (int row = 0; row < rows; row++) {
+                Long targetId = targetIds.get(from + row);
+                upsert.setParameter("targetId" + row, targetId).setParameter("views" + row, viewsByTargetId.get(targetId));
+            }
+            upsert.executeUpdate();
+            from += rows;
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.workconnect.api.service.impl;
 
+import com.workconnect.api.constants.Enum.JobApplicationStatus;
+import com.workconnect.api.dto.CursorPageDto;
+import com.workconnect.api.dto.PageCursor;
 import com.workconnect.api.dto.WorkerApplicationDto;
 import com.workconnect.api.entity.JobApplication;
 import com.workconnect.api.repository.JobApplicationRepository;
 import com.workconnect.api.service.WorkerService;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -11,6 +15,9 @@ import java.util.stream.Collectors;
 @Service
 public class WorkerServiceImpl implements WorkerService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final JobApplicationRepository applicationRepository;
 
     public WorkerServiceImpl(JobApplicationRepository applicationRepository) {
@@ -18,10 +25,37 @@ public class WorkerServiceImpl implements WorkerService {
     }
 
     @Override
-    public List<WorkerApplicationDto> getApplicationsForWorker(String workerEmail) {
-        List<JobApplication> applications = applicationRepository.findByWorker_Email(workerEmail);
+    public List<WorkerApplicationDto> getApplicationsForWorker(Long workerId) {
+        List<JobApplication> applications = applicationRepository.findByWorker_UserId(workerId);
         return applications.stream()
                 .map(WorkerApplicationDto::fromEntity)
                 .collect(Collectors.toList());
     }
+
+    @Override
+    public CursorPageDto<WorkerApplicationDto> getApplicationHistory(Long workerId, JobApplicationStatus status,
+                                                                     String cursor, int size) {
+        int pageSize = size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        PageCursor after = cursor != null && !cursor.isBlank() ? PageCursor.decode(cursor) : null;
+
+        // Fetch one extra row to learn whether another page exists without a COUNT query
+        List<WorkerApplicationDto> rows = applicationRepository.findHistoryPage(workerId, status,
+                after != null ? after.timestamp() : null,
+                after != null ? after.id() : null,
+                Limit.of(pageSize + 1));
+
+        boolean hasMore = rows.size() > pageSize;
+        List<WorkerApplicationDto> items = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            WorkerApplicationDto last = items.get(items.size() - 1);
+            nextCursor = new PageCursor(last.getAppliedAt(), last.getApplicationId()).encode();
+        }
+
+        return CursorPageDto.<WorkerApplicationDto>builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
+    }
 }
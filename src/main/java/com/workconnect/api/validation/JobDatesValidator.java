@@ -38,29 +38,38 @@ public class JobDatesValidator implements ConstraintValidator<ValidJobDates, Obj
             endDate = dto.getEndDate();
         }
 
+        String violation = checkDates(jobType, startDate, endDate);
+        if (violation != null) {
+            context.disableDefaultConstraintViolation();
+            context.buildConstraintViolationWithTemplate(violation)
+                .addConstraintViolation();
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * The date rules on their own, for callers validating outside of bean validation.
+     *
+     * @return the violation message, or null when the dates are consistent
+     */
+    public static String checkDates(JobType jobType, LocalDate startDate, LocalDate endDate) {
         if (jobType == null) {
-            return true; // Let other validators handle this
+            return null; // Let other validators handle this
         }
 
         // For CONTRACT jobs, validate date consistency
         if (jobType == JobType.CONTRACT) {
             if (startDate == null || endDate == null) {
-                context.disableDefaultConstraintViolation();
-                context.buildConstraintViolationWithTemplate(
-                    "Start date and end date are required for contract jobs")
-                    .addConstraintViolation();
-                return false;
+                return "Start date and end date are required for contract jobs";
             }
-            
+
             if (!endDate.isAfter(startDate)) {
-                context.disableDefaultConstraintViolation();
-                context.buildConstraintViolationWithTemplate(
-                    "End date must be after start date for contract jobs")
-                    .addConstraintViolation();
-                return false;
+                return "End date must be after start date for contract jobs";
             }
         }
 
-        return true;
+        return null;
     }
 }
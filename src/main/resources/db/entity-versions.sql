@@ -0,0 +1,12 @@
+-- Adds the optimistic locking versions and modification times of job postings and profiles to an
+-- existing PostgreSQL database. Run it once before starting the new version, and before
+-- job-export-index.sql; running it again changes nothing. Existing rows start at version 0. Jobs
+-- count as last modified when they were posted, profiles when this script runs.
+ALTER TABLE job_postings ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
+ALTER TABLE job_postings ADD COLUMN IF NOT EXISTS last_modified_at timestamp(6);
+UPDATE job_postings SET last_modified_at = COALESCE(posted_at, now()) WHERE last_modified_at IS NULL;
+ALTER TABLE job_postings ALTER COLUMN last_modified_at SET DEFAULT now();
+ALTER TABLE job_postings ALTER COLUMN last_modified_at SET NOT NULL;
+
+ALTER TABLE profiles ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
+ALTER TABLE profiles ADD COLUMN IF NOT EXISTS last_modified_at timestamp(6) NOT NULL DEFAULT now();
@@ -0,0 +1,9 @@
+-- Adds the coordinates of job and worker locations to an existing PostgreSQL database. Run it once
+-- before starting the new version; running it again changes nothing. The coordinates are resolved
+-- from the location text by the application's gazetteer, so existing jobs and workers get them the
+-- next time they are saved and stay out of radius searches until then.
+ALTER TABLE job_postings ADD COLUMN IF NOT EXISTS latitude double precision;
+ALTER TABLE job_postings ADD COLUMN IF NOT EXISTS longitude double precision;
+
+ALTER TABLE worker_profiles ADD COLUMN IF NOT EXISTS latitude double precision;
+ALTER TABLE worker_profiles ADD COLUMN IF NOT EXISTS longitude double precision;
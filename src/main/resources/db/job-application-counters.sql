@@ -0,0 +1,31 @@
+-- Adds the denormalized application counters to job_postings on an existing PostgreSQL database and
+-- fills them from the applications. Run it once before starting the new version, while nothing is
+-- writing applications; running it again recounts every job. Counters that drift later are repaired
+-- by the nightly reconciliation.
+ALTER TABLE job_postings ADD COLUMN IF NOT EXISTS application_count integer NOT NULL DEFAULT 0;
+ALTER TABLE job_postings ADD COLUMN IF NOT EXISTS pending_count integer NOT NULL DEFAULT 0;
+ALTER TABLE job_postings ADD COLUMN IF NOT EXISTS viewed_count integer NOT NULL DEFAULT 0;
+ALTER TABLE job_postings ADD COLUMN IF NOT EXISTS accepted_count integer NOT NULL DEFAULT 0;
+ALTER TABLE job_postings ADD COLUMN IF NOT EXISTS rejected_count integer NOT NULL DEFAULT 0;
+ALTER TABLE job_postings ADD COLUMN IF NOT EXISTS completed_count integer NOT NULL DEFAULT 0;
+
+WITH counts AS (
+    SELECT job_id,
+           COUNT(*) AS total,
+           COUNT(*) FILTER (WHERE status = 'PENDING') AS pending,
+           COUNT(*) FILTER (WHERE status = 'VIEWED') AS viewed,
+           COUNT(*) FILTER (WHERE status = 'ACCEPTED') AS accepted,
+           COUNT(*) FILTER (WHERE status = 'REJECTED') AS rejected,
+           COUNT(*) FILTER (WHERE status = 'COMPLETED') AS completed
+    FROM job_applications GROUP BY job_id
+)
+UPDATE job_postings j SET
+    application_count = COALESCE(counts.total, 0),
+    pending_count     = COALESCE(counts.pending, 0),
+    viewed_count      = COALESCE(counts.viewed, 0),
+    accepted_count    = COALESCE(counts.accepted, 0),
+    rejected_count    = COALESCE(counts.rejected, 0),
+    completed_count   = COALESCE(counts.completed, 0)
+FROM job_postings p
+    LEFT JOIN counts ON counts.job_id = p.id
+WHERE p.id = j.id;
@@ -0,0 +1,14 @@
+-- Adds the idempotency key column and the one-application-per-worker-and-job constraint to an
+-- existing PostgreSQL database. Run it once before starting the new version; it can safely be run
+-- again. Adding the constraint fails while duplicate applications exist; list them with
+--   SELECT worker_id, job_id, COUNT(*) FROM job_applications GROUP BY worker_id, job_id HAVING COUNT(*) > 1;
+-- and decide which of each pair to keep before running it.
+ALTER TABLE job_applications ADD COLUMN IF NOT EXISTS idempotency_key varchar(100);
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'uk_job_applications_worker_job') THEN
+        ALTER TABLE job_applications
+            ADD CONSTRAINT uk_job_applications_worker_job UNIQUE (worker_id, job_id);
+    END IF;
+END $$;
@@ -0,0 +1,3 @@
+-- Supports the periodic job catalog resync on an existing PostgreSQL database. Run it once, after
+-- entity-versions.sql and before starting the new version; running it again changes nothing.
+CREATE INDEX IF NOT EXISTS idx_profiles_last_modified_at ON profiles (last_modified_at);
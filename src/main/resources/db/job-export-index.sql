@@ -0,0 +1,6 @@
+-- Supports incremental pulls of the partner job feed on an existing PostgreSQL database. Run it once
+-- before starting the new version; running it again changes nothing. Jobs saved before modification
+-- times were recorded are stamped with their posting time, so the feed can filter on the column alone.
+UPDATE job_postings SET last_modified_at = posted_at WHERE last_modified_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_job_postings_last_modified_at ON job_postings (last_modified_at);
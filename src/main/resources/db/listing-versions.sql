@@ -0,0 +1,11 @@
+-- Adds the stripes behind the open jobs listing's entity tag to an existing PostgreSQL database. Run
+-- it once before starting the new version; running it again changes nothing. Instances also create
+-- missing stripes when they start.
+CREATE TABLE IF NOT EXISTS listing_versions (
+    stripe  integer NOT NULL PRIMARY KEY,
+    version bigint  NOT NULL
+);
+
+INSERT INTO listing_versions (stripe, version)
+SELECT stripe, 0 FROM generate_series(0, 15) AS stripe
+ON CONFLICT (stripe) DO NOTHING;
@@ -0,0 +1,33 @@
+-- Moves entity ids on an existing PostgreSQL database from identity columns to the pooled
+-- sequences the entities now use (<table>_seq, 50 ids per call). Run it once before starting the
+-- new version; 'validate' in prod fails without the sequences. It can safely be run again.
+--
+-- Hibernate's pooled optimizer treats each value it reads from a sequence as the top of a block of
+-- 50 ids, so every sequence is set to at least the highest id in its table: the next block then
+-- starts above all existing rows. Dropping the identity default makes a stray INSERT without an id
+-- fail instead of taking an id the sequence will hand out later.
+DO $$
+DECLARE
+    entity record;
+    sequence_name text;
+BEGIN
+    FOR entity IN
+        SELECT * FROM (VALUES
+            ('users', 'user_id'),
+            ('skills', 'id'),
+            ('badges', 'id'),
+            ('user_badges', 'id'),
+            ('job_postings', 'id'),
+            ('job_images', 'id'),
+            ('job_applications', 'id'),
+            ('reviews', 'id')
+        ) AS entities(table_name, id_column)
+    LOOP
+        sequence_name := entity.table_name || '_seq';
+        EXECUTE format('CREATE SEQUENCE IF NOT EXISTS %I START WITH 1 INCREMENT BY 50', sequence_name);
+        EXECUTE format('ALTER SEQUENCE %I INCREMENT BY 50', sequence_name);
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN %I DROP IDENTITY IF EXISTS', entity.table_name, entity.id_column);
+        EXECUTE format('SELECT setval(%L, GREATEST((SELECT COALESCE(MAX(%I), 1) FROM %I), (SELECT last_value FROM %I)))',
+                       sequence_name, entity.id_column, entity.table_name, sequence_name);
+    END LOOP;
+END $$;
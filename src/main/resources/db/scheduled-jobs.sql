@@ -0,0 +1,19 @@
+-- Adds scheduled publishing and the scheduler leases to an existing PostgreSQL database. Run it once
+-- before starting the new version; running it again changes nothing. ddl-auto 'update' never changes
+-- an existing check constraint, so without this script saving a SCHEDULED job fails.
+ALTER TABLE job_postings ADD COLUMN IF NOT EXISTS publish_at timestamp(6);
+
+ALTER TABLE job_postings DROP CONSTRAINT IF EXISTS job_postings_status_check;
+ALTER TABLE job_postings ADD CONSTRAINT job_postings_status_check
+    CHECK (status IN ('OPEN', 'CLOSED', 'FILLED', 'EXPIRED', 'SCHEDULED'));
+
+-- Range scans for the lifecycle scheduler's upcoming transitions
+CREATE INDEX IF NOT EXISTS idx_job_postings_status_start_date ON job_postings (status, start_date);
+CREATE INDEX IF NOT EXISTS idx_job_postings_status_end_date ON job_postings (status, end_date);
+CREATE INDEX IF NOT EXISTS idx_job_postings_status_publish_at ON job_postings (status, publish_at);
+
+CREATE TABLE IF NOT EXISTS scheduler_leases (
+    name       varchar(255) NOT NULL PRIMARY KEY,
+    owner      varchar(255) NOT NULL,
+    expires_at timestamp(6) NOT NULL
+);
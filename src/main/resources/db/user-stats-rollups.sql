@@ -0,0 +1,86 @@
+-- Creates the per-user dashboard rollups (user_stats) on an existing PostgreSQL database and fills
+-- them from the current jobs and applications. Run it once before starting the new version, while
+-- nothing is writing jobs or applications; running it again recomputes every row. The daily buckets
+-- use the database's CURRENT_DATE, so run it in the time zone the application runs in.
+CREATE TABLE IF NOT EXISTS user_stats (
+    user_id           bigint  NOT NULL PRIMARY KEY REFERENCES users (user_id),
+    jobs_posted       integer NOT NULL DEFAULT 0,
+    active_jobs       integer NOT NULL DEFAULT 0,
+    application_count integer NOT NULL DEFAULT 0,
+    pending_count     integer NOT NULL DEFAULT 0,
+    viewed_count      integer NOT NULL DEFAULT 0,
+    accepted_count    integer NOT NULL DEFAULT 0,
+    rejected_count    integer NOT NULL DEFAULT 0,
+    completed_count   integer NOT NULL DEFAULT 0,
+    bucket_day0       bigint  NOT NULL DEFAULT 0,
+    bucket_count0     integer NOT NULL DEFAULT 0,
+    bucket_day1       bigint  NOT NULL DEFAULT 0,
+    bucket_count1     integer NOT NULL DEFAULT 0,
+    bucket_day2       bigint  NOT NULL DEFAULT 0,
+    bucket_count2     integer NOT NULL DEFAULT 0,
+    bucket_day3       bigint  NOT NULL DEFAULT 0,
+    bucket_count3     integer NOT NULL DEFAULT 0,
+    bucket_day4       bigint  NOT NULL DEFAULT 0,
+    bucket_count4     integer NOT NULL DEFAULT 0,
+    bucket_day5       bigint  NOT NULL DEFAULT 0,
+    bucket_count5     integer NOT NULL DEFAULT 0,
+    bucket_day6       bigint  NOT NULL DEFAULT 0,
+    bucket_count6     integer NOT NULL DEFAULT 0
+);
+
+INSERT INTO user_stats (user_id) SELECT user_id FROM users ON CONFLICT (user_id) DO NOTHING;
+
+-- Every application counts for the worker who made it and for the employer of the job
+DROP TABLE IF EXISTS pg_temp.application_participants;
+CREATE TEMPORARY TABLE application_participants AS
+    SELECT a.worker_id AS user_id, a.status, a.applied_at FROM job_applications a
+    UNION ALL
+    SELECT j.employer_id, a.status, a.applied_at FROM job_applications a JOIN job_postings j ON j.id = a.job_id;
+
+WITH jobs AS (
+    SELECT employer_id AS user_id,
+           COUNT(*) AS posted,
+           COUNT(*) FILTER (WHERE status = 'OPEN') AS active
+    FROM job_postings GROUP BY employer_id
+), applications AS (
+    SELECT user_id,
+           COUNT(*) AS total,
+           COUNT(*) FILTER (WHERE status = 'PENDING') AS pending,
+           COUNT(*) FILTER (WHERE status = 'VIEWED') AS viewed,
+           COUNT(*) FILTER (WHERE status = 'ACCEPTED') AS accepted,
+           COUNT(*) FILTER (WHERE status = 'REJECTED') AS rejected,
+           COUNT(*) FILTER (WHERE status = 'COMPLETED') AS completed
+    FROM application_participants GROUP BY user_id
+)
+UPDATE user_stats s SET
+    jobs_posted       = COALESCE(jobs.posted, 0),
+    active_jobs       = COALESCE(jobs.active, 0),
+    application_count = COALESCE(applications.total, 0),
+    pending_count     = COALESCE(applications.pending, 0),
+    viewed_count      = COALESCE(applications.viewed, 0),
+    accepted_count    = COALESCE(applications.accepted, 0),
+    rejected_count    = COALESCE(applications.rejected, 0),
+    completed_count   = COALESCE(applications.completed, 0)
+FROM users u
+    LEFT JOIN jobs ON jobs.user_id = u.user_id
+    LEFT JOIN applications ON applications.user_id = u.user_id
+WHERE u.user_id = s.user_id;
+
+-- One bucket per day of the last week; a day's bucket is its epoch day modulo 7
+DO $$
+DECLARE
+    day date;
+    epoch_day bigint;
+BEGIN
+    FOR days_ago IN 0..6 LOOP
+        day := CURRENT_DATE - days_ago;
+        epoch_day := day - DATE '1970-01-01';
+        EXECUTE format(
+            'UPDATE user_stats s SET bucket_day%1$s = %2$s, bucket_count%1$s = ('
+                || 'SELECT COUNT(*) FROM application_participants p '
+                || 'WHERE p.user_id = s.user_id AND p.applied_at >= %3$L AND p.applied_at < %4$L)',
+            epoch_day % 7, epoch_day, day, day + 1);
+    END LOOP;
+END $$;
+
+DROP TABLE application_participants;
@@ -0,0 +1,13 @@
+-- Adds the tables the view counter writes to on an existing PostgreSQL database. Run it once before
+-- starting the new version; running it again changes nothing. Views before this point were not
+-- recorded, so every count starts at zero.
+ALTER TABLE user_stats ADD COLUMN IF NOT EXISTS profile_views bigint NOT NULL DEFAULT 0;
+ALTER TABLE user_stats ADD COLUMN IF NOT EXISTS job_views bigint NOT NULL DEFAULT 0;
+
+CREATE TABLE IF NOT EXISTS daily_view_counts (
+    target    varchar(20) NOT NULL,
+    target_id bigint      NOT NULL,
+    view_day  date        NOT NULL,
+    views     bigint      NOT NULL,
+    PRIMARY KEY (target, target_id, view_day)
+);
@@ -0,0 +1,131 @@
+package com.workconnect.api.benchmark;
+
+import com.workconnect.api.constants.Enum.*;
+import com.workconnect.api.entity.JobApplication;
+import com.workconnect.api.entity.JobPosting;
+import com.workconnect.api.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Bulk write throughput through JPA: users, job postings and applications persisted in one
+ * transaction, flushed and cleared every {@value #FLUSH_EVERY} rows. Logs rows per second and how
+ * many JDBC statements were prepared, which shows whether Hibernate batched the inserts.
+ * <p>
+ * Skipped in normal builds. Run against the in-memory H2 database with
+ * {@code mvn test -Dtest=BulkInsertBenchmark -Dbenchmark=true}, or against PostgreSQL by also passing
+ * {@code -Dtest.datasource.url=jdbc:postgresql://...?reWriteBatchedInserts=true -Dtest.datasource.username=... -Dtest.datasource.password=...
+ * -Dtest.datasource.driver-class-name=org.postgresql.Driver -Dtest.jpa.dialect=org.hibernate.dialect.PostgreSQLDialect}
+ * (see application-test.properties).
+ * The schema is created and dropped by the test, so point it at a scratch database.
+ */
+// The local profile only adds console logging, which the testing profile leaves off
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.profiles.active=testing,local"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(locations = "classpath:application-test.properties")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class BulkInsertBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkInsertBenchmark.class);
+    private static final int ROWS = 5_000;
+    private static final int FLUSH_EVERY = 500;
+    private static final int ROUNDS = 5;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void persistUsersJobsAndApplications() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // The first round warms up the JIT and the connection pool
+        for (int round = 0; round <= ROUNDS; round++) {
+            statistics.clear();
+            long started = System.nanoTime();
+            transactionTemplate.executeWithoutResult(status -> insertRound());
+            double seconds = (System.nanoTime() - started) / 1e9;
+
+            if (round > 0) {
+                logger.info("round {}: {} rows in {} s, {} rows/s, {} statements prepared, {} entities inserted",
+                        round, 3 * ROWS, String.format("%.2f", seconds), Math.round(3 * ROWS / seconds),
+                        statistics.getPrepareStatementCount(), statistics.getEntityInsertCount());
+            }
+        }
+    }
+
+    private void insertRound() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        List<Long> workerIds = new ArrayList<>(ROWS);
+        List<Long> jobIds = new ArrayList<>(ROWS);
+
+        User employer = user("bench-employer-" + run + "@test.com", Role.EMPLOYER);
+        entityManager.persist(employer);
+        for (int i = 0; i < ROWS; i++) {
+            User worker = user("bench-worker-" + run + "-" + i + "@test.com", Role.WORKER);
+            entityManager.persist(worker);
+            workerIds.add(worker.getUserId());
+            flushEvery(i);
+        }
+        for (int i = 0; i < ROWS; i++) {
+            JobPosting job = new JobPosting();
+            job.setJobTitle("Bench job " + i);
+            job.setDescription("Benchmark");
+            job.setJobType(JobType.ONE_DAY);
+            job.setStatus(JobStatus.OPEN);
+            job.setEmployer(entityManager.getReference(User.class, employer.getUserId()));
+            entityManager.persist(job);
+            jobIds.add(job.getId());
+            flushEvery(i);
+        }
+        for (int i = 0; i < ROWS; i++) {
+            JobApplication application = new JobApplication();
+            application.setJobPosting(entityManager.getReference(JobPosting.class, jobIds.get(i)));
+            application.setWorker(entityManager.getReference(User.class, workerIds.get(i)));
+            application.setStatus(JobApplicationStatus.PENDING);
+            entityManager.persist(application);
+            flushEvery(i);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private void flushEvery(int i) {
+        if ((i + 1) % FLUSH_EVERY == 0) {
+            entityManager.flush();
+            entityManager.clear();
+        }
+    }
+
+    private static User user(String email, Role role) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPassword("password");
+        user.setRole(role);
+        user.setStatus(UserStatus.ACTIVE);
+        return user;
+    }
+}
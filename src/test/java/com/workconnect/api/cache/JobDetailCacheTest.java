@@ -0,0 +1,180 @@
+package com.workconnect.api.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workconnect.api.constants.Enum.JobApplicationStatus;
+import com.workconnect.api.event.JobApplicationChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JobDetailCache Tests")
+class JobDetailCacheTest {
+
+    private JobDetailCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new JobDetailCache(new ObjectMapper(), 2);
+    }
+
+    @Test
+    @DisplayName("get_givenRepeatedRequests_thenShouldSerializeOnce")
+    void get_givenRepeatedRequests_thenShouldSerializeOnce() {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        byte[] first = cache.get(1L, "1", () -> {
+            loads.incrementAndGet();
+            return Map.of("id", 1);
+        });
+        byte[] second = cache.get(1L, "1", () -> {
+            loads.incrementAndGet();
+            return Map.of("id", 1);
+        });
+
+        // Assert
+        assertEquals("{\"id\":1}", new String(first, StandardCharsets.UTF_8));
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("get_givenConcurrentMisses_thenShouldRunSingleLoad")
+    void get_givenConcurrentMisses_thenShouldRunSingleLoad() throws Exception {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            Future<byte[]> leader = executor.submit(() -> cache.get(1L, "1", () -> {
+                loads.incrementAndGet();
+                loaderStarted.countDown();
+                await(releaseLoader);
+                return Map.of("id", 1);
+            }));
+            assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+
+            List<Future<byte[]>> followers = new ArrayList<>();
+            for (int i = 0; i < 7; i++) {
+                followers.add(executor.submit(() -> cache.get(1L, "1", () -> {
+                    loads.incrementAndGet();
+                    return Map.of("id", 1);
+                })));
+            }
+
+            // Act
+            releaseLoader.countDown();
+
+            // Assert
+            byte[] expected = leader.get(5, TimeUnit.SECONDS);
+            for (Future<byte[]> follower : followers) {
+                assertArrayEquals(expected, follower.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("get_givenLoaderFailure_thenShouldNotCacheAndRethrow")
+    void get_givenLoaderFailure_thenShouldNotCacheAndRethrow() {
+        // Act & Assert
+        RuntimeException ex = assertThrows(RuntimeException.class, () -> cache.get(1L, "1", () -> {
+            throw new RuntimeException("Job not found with id: 1");
+        }));
+        assertEquals("Job not found with id: 1", ex.getMessage());
+        assertEquals("{\"id\":1}", new String(cache.get(1L, "1", () -> Map.of("id", 1)), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("onApplicationChanged_givenNewApplication_thenShouldReloadJob")
+    void onApplicationChanged_givenNewApplication_thenShouldReloadJob() {
+        // Arrange
+        cache.get(1L, "1", () -> Map.of("applicationCount", 0));
+
+        // Act
+        cache.onApplicationChanged(new JobApplicationChangedEvent(1L, 10L, null, JobApplicationStatus.PENDING));
+
+        // Assert
+        byte[] reloaded = cache.get(1L, "1", () -> Map.of("applicationCount", 1));
+        assertEquals("{\"applicationCount\":1}", new String(reloaded, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("get_givenNewerVersion_thenShouldNotServeOlderBytes")
+    void get_givenNewerVersion_thenShouldNotServeOlderBytes() {
+        // Arrange
+        cache.get(1L, "1", () -> Map.of("title", "old"));
+
+        // Act
+        byte[] fresh = cache.get(1L, "2", () -> Map.of("title", "new"));
+
+        // Assert
+        assertEquals("{\"title\":\"new\"}", new String(fresh, StandardCharsets.UTF_8));
+        assertSame(fresh, cache.get(1L, "2", () -> Map.of("title", "other")));
+    }
+
+    @Test
+    @DisplayName("get_givenMoreJobsThanCapacity_thenShouldEvictLeastRecentlyUsed")
+    void get_givenMoreJobsThanCapacity_thenShouldEvictLeastRecentlyUsed() {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(1L, "1", () -> Map.of("id", loads.incrementAndGet()));
+        cache.get(2L, "1", () -> Map.of("id", loads.incrementAndGet()));
+        cache.get(1L, "1", () -> Map.of("id", loads.incrementAndGet()));
+
+        // Act
+        cache.get(3L, "1", () -> Map.of("id", loads.incrementAndGet()));
+        cache.get(1L, "1", () -> Map.of("id", loads.incrementAndGet()));
+        cache.get(2L, "1", () -> Map.of("id", loads.incrementAndGet()));
+
+        // Assert
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    @DisplayName("get_givenStripedCache_thenShouldStayWithinCapacity")
+    void get_givenStripedCache_thenShouldStayWithinCapacity() {
+        // Arrange
+        JobDetailCache striped = new JobDetailCache(new ObjectMapper(), 1024);
+        AtomicInteger loads = new AtomicInteger();
+        for (long id = 1; id <= 2000; id++) {
+            striped.get(id, "1", () -> Map.of("id", loads.incrementAndGet()));
+        }
+
+        // Act
+        loads.set(0);
+        for (long id = 2000; id >= 1; id--) {
+            striped.get(id, "1", () -> Map.of("id", loads.incrementAndGet()));
+        }
+
+        // Assert
+        int hits = 2000 - loads.get();
+        assertTrue(hits > 0 && hits <= 1024, "cached entries: " + hits);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
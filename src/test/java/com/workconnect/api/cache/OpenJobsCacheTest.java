@@ -0,0 +1,119 @@
+package com.workconnect.api.cache;
+
+import com.workconnect.api.constants.Enum.JobStatus;
+import com.workconnect.api.dto.JobListingDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OpenJobsCache Tests")
+class OpenJobsCacheTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    private OpenJobsCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new OpenJobsCache();
+    }
+
+    @Test
+    @DisplayName("replaceAll_givenMixedJobs_thenShouldKeepOpenJobsNewestFirst")
+    void replaceAll_givenMixedJobs_thenShouldKeepOpenJobsNewestFirst() {
+        // Act
+        cache.replaceAll(List.of(
+                job(1L, NOW.minusDays(2), JobStatus.OPEN),
+                job(2L, NOW, JobStatus.OPEN),
+                job(3L, NOW.minusDays(1), JobStatus.CLOSED)));
+
+        // Assert
+        assertEquals(List.of(2L, 1L), ids(cache.snapshot()));
+        assertNull(cache.snapshot().get(3L));
+    }
+
+    @Test
+    @DisplayName("put_givenNewAndClosedJobs_thenShouldInsertInOrderAndDropClosed")
+    void put_givenNewAndClosedJobs_thenShouldInsertInOrderAndDropClosed() {
+        // Arrange
+        cache.replaceAll(List.of(job(1L, NOW.minusDays(2), JobStatus.OPEN), job(2L, NOW, JobStatus.OPEN)));
+
+        // Act
+        cache.put(job(3L, NOW.minusDays(1), JobStatus.OPEN));
+        cache.put(job(2L, NOW, JobStatus.CLOSED));
+
+        // Assert
+        assertEquals(List.of(3L, 1L), ids(cache.snapshot()));
+    }
+
+    @Test
+    @DisplayName("adjustApplicationCount_givenPublishedSnapshot_thenShouldOverlayCountWithoutCopying")
+    void adjustApplicationCount_givenPublishedSnapshot_thenShouldOverlayCountWithoutCopying() {
+        // Arrange
+        JobListingDto published = job(1L, NOW, JobStatus.OPEN);
+        cache.replaceAll(List.of(published));
+        OpenJobsSnapshot before = cache.snapshot();
+
+        // Act
+        cache.adjustApplicationCount(1L, 1);
+        cache.adjustApplicationCount(1L, 1);
+
+        // Assert
+        assertSame(before, cache.snapshot());
+        assertEquals(0, published.getApplicationCount());
+        assertEquals(2, cache.snapshot().get(1L).getApplicationCount());
+        assertEquals(2, cache.snapshot().jobs().get(0).getApplicationCount());
+    }
+
+    @Test
+    @DisplayName("adjustApplicationCount_givenLaterSnapshots_thenShouldFoldCountsOnceAndResetOnPut")
+    void adjustApplicationCount_givenLaterSnapshots_thenShouldFoldCountsOnceAndResetOnPut() {
+        // Arrange
+        cache.replaceAll(List.of(job(1L, NOW, JobStatus.OPEN), job(2L, NOW.minusDays(1), JobStatus.OPEN)));
+        cache.adjustApplicationCount(1L, 3);
+        cache.adjustApplicationCount(2L, 1);
+
+        // Act
+        cache.put(job(3L, NOW.minusDays(2), JobStatus.OPEN));
+        int folded = cache.snapshot().get(1L).getApplicationCount();
+        cache.put(job(2L, NOW.minusDays(1), JobStatus.OPEN).toBuilder().applicationCount(5).build());
+        cache.remove(3L);
+
+        // Assert
+        assertEquals(3, folded);
+        assertEquals(3, cache.snapshot().get(1L).getApplicationCount());
+        assertEquals(5, cache.snapshot().get(2L).getApplicationCount());
+    }
+
+    @Test
+    @DisplayName("remove_givenCachedJob_thenShouldDropIt")
+    void remove_givenCachedJob_thenShouldDropIt() {
+        // Arrange
+        cache.replaceAll(List.of(job(1L, NOW, JobStatus.OPEN)));
+
+        // Act
+        cache.remove(1L);
+
+        // Assert
+        assertEquals(0, cache.snapshot().size());
+    }
+
+    private List<Long> ids(OpenJobsSnapshot snapshot) {
+        return snapshot.jobs().stream().map(JobListingDto::getId).toList();
+    }
+
+    private JobListingDto job(Long id, LocalDateTime postedAt, JobStatus status) {
+        return JobListingDto.builder()
+                .id(id)
+                .jobTitle("Job " + id)
+                .status(status)
+                .postedAt(postedAt)
+                .applicationCount(0)
+                .build();
+    }
+}
@@ -0,0 +1,97 @@
+package com.workconnect.api.cache;
+
+import com.workconnect.api.constants.Enum.JobStatus;
+import com.workconnect.api.dto.JobListingDto;
+import com.workconnect.api.entity.JobPosting;
+import com.workconnect.api.event.JobChangedEvent;
+import com.workconnect.api.repository.JobPostingRepository;
+import com.workconnect.api.service.JobService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.InvalidDataAccessResourceUsageException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OpenJobsCacheUpdater Tests")
+class OpenJobsCacheUpdaterTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    @Mock
+    private JobPostingRepository jobPostingRepository;
+
+    @Mock
+    private JobService jobService;
+
+    private OpenJobsCache cache;
+    private OpenJobsCacheUpdater updater;
+
+    @BeforeEach
+    void setUp() {
+        cache = new OpenJobsCache();
+        updater = new OpenJobsCacheUpdater(cache, jobPostingRepository, jobService);
+    }
+
+    @Test
+    @DisplayName("loadOnStartup_givenEventsDuringLoad_thenShouldReplayThemOverTheLoadedJobs")
+    void loadOnStartup_givenEventsDuringLoad_thenShouldReplayThemOverTheLoadedJobs() {
+        // Arrange: while the page is being read, job 1 closes and job 3 is created
+        List<JobPosting> page = List.of(new JobPosting(), new JobPosting());
+        when(jobPostingRepository.findPageByStatus(eq(JobStatus.OPEN), isNull(), isNull(), isNull(), isNull(),
+                isNull(), isNull(), isNull(), isNull(), any())).thenAnswer(invocation -> {
+            updater.onJobChanged(JobChangedEvent.saved(job(1L, JobStatus.CLOSED)));
+            updater.onJobChanged(JobChangedEvent.saved(job(3L, JobStatus.OPEN)));
+            return page;
+        });
+        when(jobService.mapToJobListingDtos(page)).thenReturn(List.of(job(1L, JobStatus.OPEN), job(2L, JobStatus.OPEN)));
+
+        // Act
+        updater.loadOnStartup();
+        updater.onJobChanged(JobChangedEvent.deleted(2L));
+
+        // Assert
+        assertNull(cache.snapshot().get(1L));
+        assertNull(cache.snapshot().get(2L));
+        assertNotNull(cache.snapshot().get(3L));
+    }
+
+    @Test
+    @DisplayName("loadOnStartup_givenDatabaseFailure_thenShouldStartAndKeepApplyingEvents")
+    void loadOnStartup_givenDatabaseFailure_thenShouldStartAndKeepApplyingEvents() {
+        // Arrange: job 3 is created while the failing load runs
+        when(jobPostingRepository.findPageByStatus(eq(JobStatus.OPEN), isNull(), isNull(), isNull(), isNull(),
+                isNull(), isNull(), isNull(), isNull(), any())).thenAnswer(invocation -> {
+            updater.onJobChanged(JobChangedEvent.saved(job(3L, JobStatus.OPEN)));
+            throw new InvalidDataAccessResourceUsageException("relation \"job_postings\" does not exist");
+        });
+
+        // Act
+        assertDoesNotThrow(() -> updater.loadOnStartup());
+        updater.onJobChanged(JobChangedEvent.saved(job(4L, JobStatus.OPEN)));
+
+        // Assert
+        assertEquals(List.of(3L, 4L), cache.snapshot().jobs().stream().map(JobListingDto::getId).toList());
+    }
+
+    private JobListingDto job(Long id, JobStatus status) {
+        return JobListingDto.builder()
+                .id(id)
+                .jobTitle("Job " + id)
+                .status(status)
+                .postedAt(NOW.minusHours(id))
+                .applicationCount(0)
+                .build();
+    }
+}
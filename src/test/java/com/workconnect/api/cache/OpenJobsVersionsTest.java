@@ -0,0 +1,116 @@
+package com.workconnect.api.cache;
+
+import com.workconnect.api.dto.ResourceVersion;
+import com.workconnect.api.event.JobApplicationChangedEvent;
+import com.workconnect.api.event.JobChangedEvent;
+import com.workconnect.api.repository.ListingVersionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OpenJobsVersions Tests")
+class OpenJobsVersionsTest {
+
+    @Mock
+    private ListingVersionRepository listingVersionRepository;
+
+    private OpenJobsVersions openJobsVersions;
+
+    @BeforeEach
+    void setUp() {
+        openJobsVersions = new OpenJobsVersions(listingVersionRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clear();
+        }
+    }
+
+    @Test
+    @DisplayName("markChanged_givenNoTransaction_thenShouldIncrementAStripeRightAway")
+    void markChanged_givenNoTransaction_thenShouldIncrementAStripeRightAway() {
+        // Act
+        openJobsVersions.onJobChanged(JobChangedEvent.deleted(1L));
+
+        // Assert
+        verify(listingVersionRepository).increment(intThat(stripe -> stripe >= 0 && stripe < OpenJobsVersions.STRIPES));
+    }
+
+    @Test
+    @DisplayName("markChanged_givenSeveralChangesInOneTransaction_thenShouldIncrementOnceBeforeCommit")
+    void markChanged_givenSeveralChangesInOneTransaction_thenShouldIncrementOnceBeforeCommit() {
+        // Arrange
+        beginTransaction(false);
+
+        // Act
+        openJobsVersions.onJobChanged(JobChangedEvent.deleted(1L));
+        openJobsVersions.onApplicationChanged(new JobApplicationChangedEvent(2L, 3L, null, null));
+        verify(listingVersionRepository, never()).increment(anyInt());
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.beforeCommit(false));
+
+        // Assert
+        verify(listingVersionRepository, times(1)).increment(anyInt());
+    }
+
+    @Test
+    @DisplayName("markChanged_givenReadOnlyTransaction_thenShouldNotIncrement")
+    void markChanged_givenReadOnlyTransaction_thenShouldNotIncrement() {
+        // Arrange
+        beginTransaction(true);
+
+        // Act
+        openJobsVersions.onJobChanged(JobChangedEvent.deleted(1L));
+
+        // Assert
+        assertTrue(TransactionSynchronizationManager.getSynchronizations().isEmpty());
+        verify(listingVersionRepository, never()).increment(anyInt());
+    }
+
+    @Test
+    @DisplayName("current_givenStripesIncremented_thenShouldChangeEtag")
+    void current_givenStripesIncremented_thenShouldChangeEtag() {
+        // Arrange
+        when(listingVersionRepository.sumVersions()).thenReturn(41L, 42L);
+
+        // Act
+        ResourceVersion before = openJobsVersions.current();
+        ResourceVersion after = openJobsVersions.current();
+
+        // Assert
+        assertNotEquals(before.etag(), after.etag());
+        assertEquals(-1, after.lastModified());
+    }
+
+    @Test
+    @DisplayName("lastRead_givenEarlierRead_thenShouldReturnItWithoutQuerying")
+    void lastRead_givenEarlierRead_thenShouldReturnItWithoutQuerying() {
+        // Arrange
+        when(listingVersionRepository.sumVersions()).thenReturn(41L);
+        ResourceVersion read = openJobsVersions.current();
+
+        // Act
+        ResourceVersion last = openJobsVersions.lastRead();
+
+        // Assert
+        assertEquals(read, last);
+        verify(listingVersionRepository, times(1)).sumVersions();
+    }
+
+    private static void beginTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+}
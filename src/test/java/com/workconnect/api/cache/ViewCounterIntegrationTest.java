@@ -0,0 +1,137 @@
+package com.workconnect.api.cache;
+
+import com.workconnect.api.constants.Enum.JobType;
+import com.workconnect.api.constants.Enum.Role;
+import com.workconnect.api.constants.Enum.ViewTarget;
+import com.workconnect.api.dto.CreateJobRequestDto;
+import com.workconnect.api.dto.RegistrationRequestDto;
+import com.workconnect.api.entity.DailyViewCountId;
+import com.workconnect.api.entity.JobPosting;
+import com.workconnect.api.entity.User;
+import com.workconnect.api.entity.UserStats;
+import com.workconnect.api.repository.DailyViewCountRepository;
+import com.workconnect.api.repository.UserStatsRepository;
+import com.workconnect.api.service.JobService;
+import com.workconnect.api.service.UserService;
+import com.workconnect.api.service.ViewCountService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(locations = "classpath:application-test.properties")
+class ViewCounterIntegrationTest {
+
+    @Autowired
+    private ViewCounter viewCounter;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ViewCountService viewCountService;
+
+    @Autowired
+    private DailyViewCountRepository dailyViewCountRepository;
+
+    @Autowired
+    private UserStatsRepository userStatsRepository;
+
+    @Test
+    void flush_givenRecordedViews_thenShouldAddThemToDailyRowsAndRollups() {
+        // Arrange
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        User employer = newUser("employer-" + run + "@test.com", Role.EMPLOYER);
+        User worker = newUser("worker-" + run + "@test.com", Role.WORKER);
+        JobPosting first = jobService.createJob(employer.getEmail(), job("First shift"));
+        JobPosting second = jobService.createJob(employer.getEmail(), job("Second shift"));
+        LocalDate today = LocalDate.now();
+
+        // Act: the second flush adds to the rows the first one created
+        record(ViewTarget.JOB, first.getId(), 3);
+        record(ViewTarget.PROFILE, worker.getUserId(), 2);
+        viewCounter.flush();
+        record(ViewTarget.JOB, first.getId(), 1);
+        record(ViewTarget.JOB, second.getId(), 4);
+        viewCounter.flush();
+
+        // Assert
+        assertEquals(4, views(ViewTarget.JOB, first.getId(), today));
+        assertEquals(4, views(ViewTarget.JOB, second.getId(), today));
+        assertEquals(2, views(ViewTarget.PROFILE, worker.getUserId(), today));
+
+        UserStats employerStats = userStatsRepository.findById(employer.getUserId()).orElseThrow();
+        assertEquals(8, employerStats.getJobViews());
+        assertEquals(0, employerStats.getProfileViews());
+        assertEquals(2, userStatsRepository.findById(worker.getUserId()).orElseThrow().getProfileViews());
+    }
+
+    @Test
+    void addViews_givenMoreTargetsThanOneStatementHolds_thenShouldAddToExistingRowsAndCreateTheRest() {
+        // Arrange: jobs nobody owns, so only the daily rows are written
+        long base = 1_000_000_000L + UUID.randomUUID().getMostSignificantBits() % 1_000_000 * 1000;
+        LocalDate day = LocalDate.now().minusDays(1);
+        viewCountService.addViews(ViewTarget.JOB, day, views(base, 0, 300, 1));
+
+        // Act: half of these rows exist, half are new
+        viewCountService.addViews(ViewTarget.JOB, day, views(base, 150, 450, 2));
+
+        // Assert
+        assertEquals(1, views(ViewTarget.JOB, base, day));
+        assertEquals(1, views(ViewTarget.JOB, base + 149, day));
+        assertEquals(3, views(ViewTarget.JOB, base + 150, day));
+        assertEquals(3, views(ViewTarget.JOB, base + 299, day));
+        assertEquals(2, views(ViewTarget.JOB, base + 300, day));
+        assertEquals(2, views(ViewTarget.JOB, base + 449, day));
+    }
+
+    private static Map<Long, Long> views(long base, int from, int to, long views) {
+        Map<Long, Long> viewsByTargetId = new HashMap<>();
+        for (int i = from; i < to; i++) {
+            viewsByTargetId.put(base + i, views);
+        }
+        return viewsByTargetId;
+    }
+
+    private void record(ViewTarget target, Long targetId, int views) {
+        for (int i = 0; i < views; i++) {
+            viewCounter.record(target, targetId);
+        }
+    }
+
+    private long views(ViewTarget target, Long targetId, LocalDate day) {
+        return dailyViewCountRepository.findById(new DailyViewCountId(target, targetId, day)).orElseThrow().getViews();
+    }
+
+    private CreateJobRequestDto job(String title) {
+        CreateJobRequestDto job = new CreateJobRequestDto();
+        job.setJobTitle(title);
+        job.setDescription("Warehouse shift");
+        job.setLocation("Colombo");
+        job.setSalary(5000.0);
+        job.setJobType(JobType.ONE_DAY);
+        job.setStartDate(LocalDate.now().plusDays(3));
+        return job;
+    }
+
+    private User newUser(String email, Role role) {
+        RegistrationRequestDto request = new RegistrationRequestDto();
+        request.setEmail(email);
+        request.setPassword("password123");
+        request.setRole(role);
+        return userService.registerUser(request);
+    }
+}
@@ -14,7 +14,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.util.ArrayList;
 import java.util.List;
 
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -46,7 +46,7 @@ class DashboardControllerTest {
                 .profileCompletionTips(new ArrayList<>())
                 .build();
 
-        when(dashboardService.getWorkerDashboard(anyString())).thenReturn(mockDashboard);
+        when(dashboardService.getWorkerDashboard(anyLong())).thenReturn(mockDashboard);
 
         // When & Then
         mockMvc.perform(get("/api/dashboard/worker"))
@@ -72,7 +72,7 @@ class DashboardControllerTest {
                 .activeJobPostings(new ArrayList<>())
                 .build();
 
-        when(dashboardService.getEmployerDashboard(anyString())).thenReturn(mockDashboard);
+        when(dashboardService.getEmployerDashboard(anyLong())).thenReturn(mockDashboard);
 
         // When & Then
         mockMvc.perform(get("/api/dashboard/employer"))
@@ -108,7 +108,7 @@ class DashboardControllerTest {
                 .tips(List.of("Write a professional bio", "Add your education background"))
                 .build();
 
-        when(dashboardService.getWorkerProfileCompletion(anyString())).thenReturn(mockCompletion);
+        when(dashboardService.getWorkerProfileCompletion(anyLong())).thenReturn(mockCompletion);
 
         // When & Then
         mockMvc.perform(get("/api/dashboard/worker/profile-completion"))
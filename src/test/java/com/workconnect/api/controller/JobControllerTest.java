@@ -0,0 +1,138 @@
+package com.workconnect.api.controller;
+
+import com.workconnect.api.cache.ViewCounter;
+import com.workconnect.api.constants.Enum.ViewTarget;
+import com.workconnect.api.dto.CursorPageDto;
+import com.workconnect.api.dto.ResourceVersion;
+import com.workconnect.api.service.FileUploadService;
+import com.workconnect.api.service.JobExportService;
+import com.workconnect.api.service.JobImportService;
+import com.workconnect.api.service.JobService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JobController Tests")
+class JobControllerTest {
+
+    @Mock
+    private JobService jobService;
+
+    @Mock
+    private FileUploadService fileUploadService;
+
+    @Mock
+    private JobExportService jobExportService;
+
+    @Mock
+    private JobImportService jobImportService;
+
+    @Mock
+    private ViewCounter viewCounter;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new JobController(jobService, fileUploadService, jobExportService, jobImportService, viewCounter)).build();
+    }
+
+    @Test
+    @DisplayName("getJobDetails_givenFirstRequest_thenShouldReturnBodyWithValidators")
+    void getJobDetails_givenFirstRequest_thenShouldReturnBodyWithValidators() throws Exception {
+        // Arrange
+        ResourceVersion version = new ResourceVersion("1-3-4-2", 1_700_000_000_000L);
+        when(jobService.getJobDetailVersion(1L)).thenReturn(version);
+        when(jobService.getJobDetailJson(1L, version)).thenReturn("{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/jobs/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1-3-4-2\""))
+                .andExpect(header().exists("Last-Modified"))
+                .andExpect(content().json("{\"id\":1}"));
+    }
+
+    @Test
+    @DisplayName("getJobDetails_givenMatchingIfNoneMatch_thenShouldReturnNotModifiedWithoutLoading")
+    void getJobDetails_givenMatchingIfNoneMatch_thenShouldReturnNotModifiedWithoutLoading() throws Exception {
+        // Arrange
+        when(jobService.getJobDetailVersion(1L)).thenReturn(new ResourceVersion("1-3-4-2", 1_700_000_000_000L));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/jobs/1").header("If-None-Match", "\"1-3-4-2\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"1-3-4-2\""))
+                .andExpect(content().bytes(new byte[0]));
+        verify(jobService, never()).getJobDetailJson(any(), any());
+        verify(viewCounter).record(ViewTarget.JOB, 1L);
+    }
+
+    @Test
+    @DisplayName("getOpenJobs_givenUnchangedListing_thenShouldReturnNotModifiedWithoutQuerying")
+    void getOpenJobs_givenUnchangedListing_thenShouldReturnNotModifiedWithoutQuerying() throws Exception {
+        // Arrange
+        when(jobService.getOpenJobsVersion()).thenReturn(new ResourceVersion("a1b2c3d4-7", 1_700_000_000_000L));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/jobs").header("If-None-Match", "\"a1b2c3d4-7\""))
+                .andExpect(status().isNotModified());
+        verify(jobService, never()).getOpenJobsPage(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("getOpenJobs_givenNoIfNoneMatch_thenShouldTagWithLastVersionWithoutReadingIt")
+    void getOpenJobs_givenNoIfNoneMatch_thenShouldTagWithLastVersionWithoutReadingIt() throws Exception {
+        // Arrange
+        when(jobService.getLastOpenJobsVersion()).thenReturn(new ResourceVersion("jobs-41", -1));
+        when(jobService.getOpenJobsPage(any(), isNull(), anyInt())).thenReturn(new CursorPageDto<>(List.of(), null, false));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/jobs"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"jobs-41\""));
+        verify(jobService, never()).getOpenJobsVersion();
+    }
+
+    @Test
+    @DisplayName("exportJobs_givenGzipAccepted_thenShouldWriteCompressedNdjson")
+    void exportJobs_givenGzipAccepted_thenShouldWriteCompressedNdjson() throws Exception {
+        // Arrange
+        when(jobExportService.exportJobs(isNull(), any())).thenAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write("{\"id\":1}\n{\"id\":2}\n".getBytes(StandardCharsets.UTF_8));
+            return 2L;
+        });
+
+        // Act
+        byte[] body = mockMvc.perform(get("/api/jobs/export").header("Accept-Encoding", "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson;charset=UTF-8"))
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Assert
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertEquals("{\"id\":1}\n{\"id\":2}\n", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.workconnect.api.exception;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.workconnect.api.dto.ErrorResponseDto;
+import com.workconnect.api.entity.JobPosting;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,6 +13,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.validation.BindingResult;
@@ -138,6 +140,22 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().getMessage()).isEqualTo("A record with this information already exists");
     }
 
+    @Test
+    void shouldHandleOptimisticLockingFailureAsConflict() {
+        // Given
+        ObjectOptimisticLockingFailureException exception =
+                new ObjectOptimisticLockingFailureException(JobPosting.class, 1L);
+
+        // When
+        ResponseEntity<ErrorResponseDto> response = globalExceptionHandler
+                .handleOptimisticLockingFailureException(exception, request);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getErrorCode()).isEqualTo("CONCURRENT_MODIFICATION");
+    }
+
     @Test
     void shouldHandleIllegalArgumentException() {
         // Given
@@ -0,0 +1,48 @@
+package com.workconnect.api.geo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Gazetteer Tests")
+class GazetteerTest {
+
+    private final Gazetteer gazetteer = new Gazetteer();
+
+    @Test
+    @DisplayName("resolve_givenAddressStartingWithKnownPlace_thenShouldReturnThatPlace")
+    void resolve_givenAddressStartingWithKnownPlace_thenShouldReturnThatPlace() {
+        // Act
+        Optional<GeoPoint> colombo = gazetteer.resolve("Colombo");
+        Optional<GeoPoint> address = gazetteer.resolve("Colombo 07, Western Province");
+
+        // Assert
+        assertTrue(colombo.isPresent());
+        assertEquals(colombo, address);
+        assertEquals(colombo, gazetteer.resolve("  COLOMBO! "));
+    }
+
+    @Test
+    @DisplayName("resolve_givenUnknownOrBlankLocation_thenShouldReturnEmpty")
+    void resolve_givenUnknownOrBlankLocation_thenShouldReturnEmpty() {
+        // Act & Assert
+        assertTrue(gazetteer.resolve("New York, NY").isEmpty());
+        assertTrue(gazetteer.resolve(" ").isEmpty());
+        assertTrue(gazetteer.resolve(null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("distanceKm_givenColomboAndKandy_thenShouldReturnGreatCircleDistance")
+    void distanceKm_givenColomboAndKandy_thenShouldReturnGreatCircleDistance() {
+        // Arrange
+        GeoPoint colombo = gazetteer.resolve("Colombo").orElseThrow();
+        GeoPoint kandy = gazetteer.resolve("Kandy").orElseThrow();
+
+        // Act & Assert
+        assertEquals(94, colombo.distanceKm(kandy), 3);
+        assertEquals(0, colombo.distanceKm(colombo), 1e-9);
+    }
+}
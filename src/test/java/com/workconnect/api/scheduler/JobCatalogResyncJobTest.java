@@ -0,0 +1,109 @@
+package com.workconnect.api.scheduler;
+
+import com.workconnect.api.cache.OpenJobsCache;
+import com.workconnect.api.constants.Enum.JobStatus;
+import com.workconnect.api.dto.JobListingDto;
+import com.workconnect.api.entity.JobPosting;
+import com.workconnect.api.event.JobsReloadedEvent;
+import com.workconnect.api.repository.JobPostingRepository;
+import com.workconnect.api.service.JobService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JobCatalogResyncJob Tests")
+class JobCatalogResyncJobTest {
+
+    @Mock
+    private JobPostingRepository jobPostingRepository;
+
+    @Mock
+    private JobService jobService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OpenJobsCache openJobsCache;
+    private JobCatalogResyncJob resyncJob;
+
+    @BeforeEach
+    void setUp() {
+        openJobsCache = new OpenJobsCache();
+        resyncJob = new JobCatalogResyncJob(jobPostingRepository, jobService, openJobsCache, eventPublisher, transactionManager);
+    }
+
+    @Test
+    @DisplayName("resync_givenFirstRun_thenShouldReloadJobsMissingFromOrLeftInTheCache")
+    void resync_givenFirstRun_thenShouldReloadJobsMissingFromOrLeftInTheCache() {
+        // Arrange: job 1 was deleted and job 3 created on another node
+        openJobsCache.replaceAll(List.of(job(1L), job(2L)));
+        when(jobPostingRepository.findIdsByStatus(JobStatus.OPEN)).thenReturn(List.of(2L, 3L));
+        List<JobPosting> rows = List.of(new JobPosting());
+        when(jobPostingRepository.findAllWithEmployerByIdIn(List.of(1L, 3L))).thenReturn(rows);
+        when(jobService.mapToJobListingDtos(rows)).thenReturn(List.of(job(3L)));
+
+        // Act
+        resyncJob.resync(LocalDateTime.now());
+
+        // Assert
+        JobsReloadedEvent event = publishedEvent();
+        assertEquals(List.of(3L), event.listings().stream().map(JobListingDto::getId).toList());
+        assertEquals(List.of(1L), event.deletedJobIds());
+    }
+
+    @Test
+    @DisplayName("resync_givenLaterRun_thenShouldReloadOnlyJobsModifiedSinceThePreviousRunWithOverlap")
+    void resync_givenLaterRun_thenShouldReloadOnlyJobsModifiedSinceThePreviousRunWithOverlap() {
+        // Arrange
+        LocalDateTime firstRun = LocalDateTime.now();
+        LocalDateTime secondRun = firstRun.plusSeconds(30);
+        resyncJob.resync(firstRun);
+        when(jobPostingRepository.findIdsModifiedSince(firstRun.minus(JobCatalogResyncJob.OVERLAP))).thenReturn(List.of(7L));
+        when(jobPostingRepository.findIdsByEmployerProfileModifiedSince(firstRun.minus(JobCatalogResyncJob.OVERLAP)))
+                .thenReturn(List.of(5L, 7L));
+        List<JobPosting> rows = List.of(new JobPosting(), new JobPosting());
+        when(jobPostingRepository.findAllWithEmployerByIdIn(List.of(5L, 7L))).thenReturn(rows);
+        when(jobService.mapToJobListingDtos(rows)).thenReturn(List.of(job(5L), job(7L)));
+
+        // Act
+        resyncJob.resync(secondRun);
+
+        // Assert: the membership check waits for its own interval
+        JobsReloadedEvent event = publishedEvent();
+        assertEquals(List.of(5L, 7L), event.listings().stream().map(JobListingDto::getId).toList());
+        assertTrue(event.deletedJobIds().isEmpty());
+        verify(jobPostingRepository, times(1)).findIdsByStatus(any());
+    }
+
+    private JobsReloadedEvent publishedEvent() {
+        ArgumentCaptor<JobsReloadedEvent> captor = ArgumentCaptor.forClass(JobsReloadedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        return captor.getValue();
+    }
+
+    private static JobListingDto job(Long id) {
+        return JobListingDto.builder()
+                .id(id)
+                .jobTitle("Job " + id)
+                .status(JobStatus.OPEN)
+                .postedAt(LocalDateTime.now().minusHours(id))
+                .build();
+    }
+}
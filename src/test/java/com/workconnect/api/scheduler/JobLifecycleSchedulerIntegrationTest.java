@@ -0,0 +1,151 @@
+package com.workconnect.api.scheduler;
+
+import com.workconnect.api.cache.OpenJobsCache;
+import com.workconnect.api.constants.Enum.*;
+import com.workconnect.api.dto.JobListingDto;
+import com.workconnect.api.entity.*;
+import com.workconnect.api.event.JobChangedEvent;
+import com.workconnect.api.repository.JobPostingRepository;
+import com.workconnect.api.repository.SchedulerLeaseRepository;
+import com.workconnect.api.repository.UserRepository;
+import com.workconnect.api.service.JobService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(locations = "classpath:application-test.properties",
+        properties = "workconnect.jobs.lifecycle.initial-delay-ms=3600000")
+class JobLifecycleSchedulerIntegrationTest {
+
+    @Autowired
+    private JobLifecycleScheduler scheduler;
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @Autowired
+    private SchedulerLeaseRepository schedulerLeaseRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OpenJobsCache openJobsCache;
+
+    @Autowired
+    private JobService jobService;
+
+    private User employer;
+
+    @BeforeEach
+    void setUp() {
+        employer = new User();
+        employer.setEmail("employer-" + UUID.randomUUID().toString().substring(0, 8) + "@test.com");
+        employer.setPassword("password");
+        employer.setRole(Role.EMPLOYER);
+        employer.setStatus(UserStatus.ACTIVE);
+        employer.setProfile(new EmployerProfile(employer));
+        userRepository.save(employer);
+    }
+
+    @Test
+    void tick_givenDueJobs_thenShouldPublishAndExpireOnlyThoseDue() {
+        // Arrange
+        JobPosting pastOneDay = save(JobType.ONE_DAY, JobStatus.OPEN, LocalDate.now().minusDays(1), null, null);
+        JobPosting endedContract = save(JobType.CONTRACT, JobStatus.OPEN, LocalDate.now().minusDays(10), LocalDate.now().minusDays(1), null);
+        JobPosting runningContract = save(JobType.CONTRACT, JobStatus.OPEN, LocalDate.now().minusDays(1), LocalDate.now(), null);
+        JobPosting duePublish = save(JobType.ONE_DAY, JobStatus.SCHEDULED, LocalDate.now().plusDays(3), null, LocalDateTime.now().minusMinutes(5));
+        JobPosting laterPublish = save(JobType.ONE_DAY, JobStatus.SCHEDULED, LocalDate.now().plusDays(3), null, LocalDateTime.now().plusHours(2));
+
+        // Act
+        scheduler.tick();
+
+        // Assert
+        assertEquals(JobStatus.EXPIRED, statusOf(pastOneDay));
+        assertEquals(JobStatus.EXPIRED, statusOf(endedContract));
+        assertEquals(JobStatus.OPEN, statusOf(runningContract));
+        assertEquals(JobStatus.OPEN, statusOf(duePublish));
+        assertEquals(JobStatus.SCHEDULED, statusOf(laterPublish));
+        assertNotNull(openJobsCache.snapshot().get(duePublish.getId()));
+        assertNull(openJobsCache.snapshot().get(pastOneDay.getId()));
+        assertTrue(scheduler.pendingTransitions() >= 2);
+    }
+
+    @Test
+    void tick_givenLeaseHeldByAnotherNode_thenShouldNotTransitionJobs() {
+        // Arrange
+        scheduler.tick();
+        SchedulerLease lease = schedulerLeaseRepository.findById(JobLifecycleScheduler.LEASE_NAME).orElseThrow();
+        lease.setOwner("another-node");
+        lease.setExpiresAt(LocalDateTime.now().plusMinutes(5));
+        schedulerLeaseRepository.save(lease);
+        JobPosting pastOneDay = save(JobType.ONE_DAY, JobStatus.OPEN, LocalDate.now().minusDays(2), null, null);
+
+        try {
+            // Act
+            scheduler.tick();
+
+            // Assert
+            assertEquals(JobStatus.OPEN, statusOf(pastOneDay));
+        } finally {
+            lease.setExpiresAt(LocalDateTime.now().minusMinutes(1));
+            schedulerLeaseRepository.save(lease);
+        }
+    }
+
+    @Test
+    void tick_givenLeaseHeldByAnotherNode_thenShouldRefreshLocalCachesFromTheDatabase() {
+        // Arrange
+        scheduler.tick();
+        SchedulerLease lease = schedulerLeaseRepository.findById(JobLifecycleScheduler.LEASE_NAME).orElseThrow();
+        lease.setOwner("another-node");
+        lease.setExpiresAt(LocalDateTime.now().plusMinutes(5));
+        schedulerLeaseRepository.save(lease);
+        JobPosting pastOneDay = save(JobType.ONE_DAY, JobStatus.OPEN, LocalDate.now().minusDays(2), null, null);
+        JobListingDto listing = jobService.mapToJobListingDto(pastOneDay);
+        openJobsCache.put(listing);
+        scheduler.onJobChanged(JobChangedEvent.saved(listing));
+        // The lease holder expires the job
+        pastOneDay.setStatus(JobStatus.EXPIRED);
+        jobPostingRepository.save(pastOneDay);
+
+        try {
+            // Act
+            scheduler.tick(LocalDateTime.now().plusMinutes(2));
+
+            // Assert
+            assertNull(openJobsCache.snapshot().get(pastOneDay.getId()));
+        } finally {
+            lease.setExpiresAt(LocalDateTime.now().minusMinutes(1));
+            schedulerLeaseRepository.save(lease);
+        }
+    }
+
+    private JobStatus statusOf(JobPosting job) {
+        return jobPostingRepository.findById(job.getId()).orElseThrow().getStatus();
+    }
+
+    private JobPosting save(JobType jobType, JobStatus status, LocalDate startDate, LocalDate endDate, LocalDateTime publishAt) {
+        JobPosting job = new JobPosting();
+        job.setJobTitle("Event Staff");
+        job.setDescription("Crew");
+        job.setJobType(jobType);
+        job.setStatus(status);
+        job.setStartDate(startDate);
+        job.setEndDate(endDate);
+        job.setPublishAt(publishAt);
+        job.setEmployer(employer);
+        return jobPostingRepository.save(job);
+    }
+}
@@ -0,0 +1,84 @@
+package com.workconnect.api.scheduler;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TimingWheel Tests")
+class TimingWheelTest {
+
+    private static final long TICK = 1000;
+
+    @Test
+    @DisplayName("advance_givenScheduledIds_thenShouldReturnOnlyThoseDue")
+    void advance_givenScheduledIds_thenShouldReturnOnlyThoseDue() {
+        // Arrange
+        TimingWheel wheel = new TimingWheel(TICK, 60, 10_000);
+        wheel.schedule(1L, 12_000);
+        wheel.schedule(2L, 12_500);
+        wheel.schedule(3L, 30_000);
+
+        // Act & Assert
+        assertEquals(List.of(1L), wheel.advance(12_000));
+        assertTrue(wheel.advance(12_999).isEmpty());
+        assertEquals(List.of(2L), wheel.advance(13_000));
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    @DisplayName("schedule_givenRescheduledOrCancelledIds_thenShouldFireOnceAtTheLatestTime")
+    void schedule_givenRescheduledOrCancelledIds_thenShouldFireOnceAtTheLatestTime() {
+        // Arrange
+        TimingWheel wheel = new TimingWheel(TICK, 60, 0);
+        wheel.schedule(1L, 5_000);
+        wheel.schedule(2L, 5_000);
+
+        // Act
+        wheel.schedule(1L, 20_000);
+        wheel.cancel(2L);
+
+        // Assert
+        assertTrue(wheel.advance(10_000).isEmpty());
+        assertEquals(List.of(1L), wheel.advance(20_000));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("schedule_givenOverdueOrOutOfRangeTimes_thenShouldFireNextOrRefuse")
+    void schedule_givenOverdueOrOutOfRangeTimes_thenShouldFireNextOrRefuse() {
+        // Arrange
+        TimingWheel wheel = new TimingWheel(TICK, 60, 100_000);
+
+        // Act
+        boolean overdue = wheel.schedule(1L, 1_000);
+        boolean tooFar = wheel.schedule(2L, 100_000 + 60 * TICK);
+
+        // Assert
+        assertTrue(overdue);
+        assertFalse(tooFar);
+        assertEquals(List.of(1L), wheel.advance(100_000));
+    }
+
+    @Test
+    @DisplayName("advance_givenClockJumpedPastSeveralTurns_thenShouldReturnEverythingOnce")
+    void advance_givenClockJumpedPastSeveralTurns_thenShouldReturnEverythingOnce() {
+        // Arrange
+        TimingWheel wheel = new TimingWheel(TICK, 10, 0);
+        for (long id = 1; id <= 9; id++) {
+            wheel.schedule(id, id * TICK);
+        }
+
+        // Act
+        List<Long> due = wheel.advance(1_000_000);
+
+        // Assert
+        assertEquals(9, due.size());
+        assertEquals(Set.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L), Set.copyOf(due));
+        assertTrue(wheel.schedule(10L, 1_000_000 + 9 * TICK));
+        assertTrue(wheel.advance(1_000_000 + 8 * TICK).isEmpty());
+    }
+}
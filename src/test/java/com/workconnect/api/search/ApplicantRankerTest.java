@@ -0,0 +1,118 @@
+package com.workconnect.api.search;
+
+import com.workconnect.api.cache.OpenJobsCache;
+import com.workconnect.api.constants.Enum.JobStatus;
+import com.workconnect.api.dto.ApplicantRef;
+import com.workconnect.api.dto.JobListingDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ApplicantRanker Tests")
+class ApplicantRankerTest {
+
+    @Mock
+    private WorkerFeatureStore workerFeatureStore;
+
+    private SkillDictionary dictionary;
+    private ApplicantRanker ranker;
+
+    @BeforeEach
+    void setUp() {
+        dictionary = new SkillDictionary();
+        ranker = new ApplicantRanker(workerFeatureStore, new SkillMatchIndex(dictionary, new OpenJobsCache()));
+    }
+
+    @Test
+    @DisplayName("rank_givenApplicants_thenShouldOrderBySkillsDistanceExperienceAndRating")
+    void rank_givenApplicants_thenShouldOrderBySkillsDistanceExperienceAndRating() {
+        // Arrange
+        Map<Long, WorkerFeatures> features = Map.of(
+                1L, features("Forklift", 7.0, 80.0, 0, 0, 0),
+                2L, features("Forklift, First aid", 8.0, 81.0, 0, 0, 0),
+                3L, features("Forklift, First aid", 7.0, 80.0, 12, 4.8, 10),
+                4L, features("Forklift, First aid", null, null, 12, 4.8, 10));
+        when(workerFeatureStore.featuresOf(anyCollection())).thenReturn(features);
+
+        // Act
+        List<ScoredApplicant> result = ranker.rank(job("Forklift, First aid"),
+                List.of(applicant(11L, 1L), applicant(12L, 2L), applicant(13L, 3L), applicant(14L, 4L)), 10);
+
+        // Assert
+        assertEquals(List.of(13L, 14L, 12L, 11L), result.stream().map(ScoredApplicant::applicationId).toList());
+        assertTrue(result.get(0).score() <= 1);
+        assertTrue(result.get(3).score() > 0);
+    }
+
+    @Test
+    @DisplayName("rank_givenLimit_thenShouldKeepBestAndKeepApplicationOrderForTies")
+    void rank_givenLimit_thenShouldKeepBestAndKeepApplicationOrderForTies() {
+        // Arrange
+        Map<Long, WorkerFeatures> features = new HashMap<>();
+        List<ApplicantRef> applicants = new ArrayList<>();
+        for (long workerId = 1; workerId <= 5000; workerId++) {
+            // Every hundredth worker has the skill; all others score the same
+            features.put(workerId, features(workerId % 100 == 0 ? "Welding" : "Painting", null, null, 0, 0, 0));
+            applicants.add(applicant(workerId + 10_000, workerId));
+        }
+        when(workerFeatureStore.featuresOf(anyCollection())).thenReturn(features);
+
+        // Act
+        List<ScoredApplicant> result = ranker.rank(job("Welding"), applicants, 55);
+
+        // Assert
+        assertEquals(55, result.size());
+        assertEquals(100L, result.get(0).workerId());
+        assertEquals(5000L, result.get(49).workerId());
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L),
+                result.subList(50, 55).stream().map(ScoredApplicant::workerId).toList());
+    }
+
+    @Test
+    @DisplayName("rank_givenWorkerWithoutProfile_thenShouldRankThemLast")
+    void rank_givenWorkerWithoutProfile_thenShouldRankThemLast() {
+        // Arrange
+        when(workerFeatureStore.featuresOf(anyCollection()))
+                .thenReturn(Map.of(2L, features("Cooking", null, null, 0, 0, 0)));
+
+        // Act
+        List<ScoredApplicant> result = ranker.rank(job("Cooking"), List.of(applicant(11L, 1L), applicant(12L, 2L)), 10);
+
+        // Assert
+        assertEquals(List.of(12L, 11L), result.stream().map(ScoredApplicant::applicationId).toList());
+        assertEquals(0, result.get(1).score());
+    }
+
+    private WorkerFeatures features(String skills, Double latitude, Double longitude,
+                                    int completedJobs, double averageRating, int reviewCount) {
+        return new WorkerFeatures(dictionary.parse(skills), latitude, longitude,
+                completedJobs, averageRating, reviewCount, System.nanoTime());
+    }
+
+    private ApplicantRef applicant(Long applicationId, Long workerId) {
+        return new ApplicantRef(applicationId, workerId);
+    }
+
+    private JobListingDto job(String skills) {
+        return JobListingDto.builder()
+                .id(1L)
+                .requiredSkills(skills)
+                .status(JobStatus.CLOSED)
+                .latitude(7.0)
+                .longitude(80.0)
+                .build();
+    }
+}
@@ -0,0 +1,133 @@
+package com.workconnect.api.search;
+
+import com.workconnect.api.cache.OpenJobsCache;
+import com.workconnect.api.constants.Enum.JobStatus;
+import com.workconnect.api.dto.JobListingDto;
+import com.workconnect.api.dto.NearbyJobDto;
+import com.workconnect.api.event.JobChangedEvent;
+import com.workconnect.api.geo.GeoPoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JobGeoIndex Tests")
+class JobGeoIndexTest {
+
+    private static final GeoPoint COLOMBO = new GeoPoint(6.9271, 79.8612);
+
+    private OpenJobsCache openJobsCache;
+    private JobGeoIndex index;
+
+    @BeforeEach
+    void setUp() {
+        openJobsCache = new OpenJobsCache();
+        index = new JobGeoIndex(openJobsCache);
+    }
+
+    @Test
+    @DisplayName("findWithin_givenJobsAroundOrigin_thenShouldReturnOnlyJobsInsideRadiusNearestFirst")
+    void findWithin_givenJobsAroundOrigin_thenShouldReturnOnlyJobsInsideRadiusNearestFirst() {
+        // Arrange
+        save(job(1L, 6.8211, 79.8900));  // Mount Lavinia, about 12 km
+        save(job(2L, 6.9147, 79.8778));  // Borella, about 2 km
+        save(job(3L, 7.2906, 80.6337));  // Kandy, about 94 km
+        save(job(4L, null, null));
+
+        // Act
+        List<NearbyJobDto> result = index.findWithin(COLOMBO, 20, 10);
+
+        // Assert
+        assertEquals(List.of(2L, 1L), ids(result));
+        assertTrue(result.get(0).getDistanceKm() < result.get(1).getDistanceKm());
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    @DisplayName("findWithin_givenLimit_thenShouldKeepTheNearestJobs")
+    void findWithin_givenLimit_thenShouldKeepTheNearestJobs() {
+        // Arrange
+        save(job(1L, 6.9300, 79.8612));
+        save(job(2L, 6.9500, 79.8612));
+        save(job(3L, 6.9280, 79.8612));
+
+        // Act & Assert
+        assertEquals(List.of(3L, 1L), ids(index.findWithin(COLOMBO, 10, 2)));
+    }
+
+    @Test
+    @DisplayName("onJobChanged_givenClosedMovedOrDeletedJob_thenShouldUpdatePositions")
+    void onJobChanged_givenClosedMovedOrDeletedJob_thenShouldUpdatePositions() {
+        // Arrange
+        save(job(1L, 6.9300, 79.8612));
+        save(job(2L, 6.9300, 79.8612));
+        save(job(3L, 6.9300, 79.8612));
+
+        // Act
+        JobListingDto closed = job(1L, 6.9300, 79.8612);
+        closed.setStatus(JobStatus.CLOSED);
+        openJobsCache.remove(1L);
+        index.onJobChanged(JobChangedEvent.saved(closed));
+        save(job(2L, 7.2906, 80.6337));
+        openJobsCache.remove(3L);
+        index.onJobChanged(JobChangedEvent.deleted(3L));
+
+        // Assert
+        assertTrue(index.findWithin(COLOMBO, 10, 10).isEmpty());
+        assertEquals(List.of(2L), ids(index.findWithin(new GeoPoint(7.2906, 80.6337), 1, 10)));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    @DisplayName("findWithin_givenOriginNearAntimeridian_thenShouldFindJobsAcrossIt")
+    void findWithin_givenOriginNearAntimeridian_thenShouldFindJobsAcrossIt() {
+        // Arrange
+        save(job(1L, -17.0, -179.98));
+
+        // Act
+        List<NearbyJobDto> result = index.findWithin(new GeoPoint(-17.0, 179.98), 10, 10);
+
+        // Assert
+        assertEquals(List.of(1L), ids(result));
+        assertEquals(4.25, result.get(0).getDistanceKm(), 0.1);
+    }
+
+    @Test
+    @DisplayName("loadOnStartup_givenCachedOpenJobs_thenShouldIndexTheirPositions")
+    void loadOnStartup_givenCachedOpenJobs_thenShouldIndexTheirPositions() {
+        // Arrange
+        openJobsCache.replaceAll(List.of(job(1L, 6.9300, 79.8612), job(2L, null, null)));
+
+        // Act
+        index.loadOnStartup();
+
+        // Assert
+        assertEquals(1, index.size());
+        assertEquals(List.of(1L), ids(index.findWithin(COLOMBO, 5, 10)));
+    }
+
+    private void save(JobListingDto job) {
+        openJobsCache.put(job);
+        index.onJobChanged(JobChangedEvent.saved(job));
+    }
+
+    private List<Long> ids(List<NearbyJobDto> matches) {
+        return matches.stream().map(match -> match.getJob().getId()).toList();
+    }
+
+    private JobListingDto job(Long id, Double latitude, Double longitude) {
+        return JobListingDto.builder()
+                .id(id)
+                .jobTitle("Job " + id)
+                .status(JobStatus.OPEN)
+                .latitude(latitude)
+                .longitude(longitude)
+                .postedAt(LocalDateTime.now())
+                .applicationCount(0)
+                .build();
+    }
+}
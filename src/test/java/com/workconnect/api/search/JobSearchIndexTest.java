@@ -0,0 +1,276 @@
+package com.workconnect.api.search;
+
+import com.workconnect.api.constants.Enum.JobStatus;
+import com.workconnect.api.constants.Enum.JobType;
+import com.workconnect.api.dto.FacetCountDto;
+import com.workconnect.api.dto.JobFilterDto;
+import com.workconnect.api.dto.JobListingDto;
+import com.workconnect.api.dto.JobSearchResultDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JobSearchIndex Tests")
+class JobSearchIndexTest {
+
+    private JobSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new JobSearchIndex();
+    }
+
+    @Test
+    @DisplayName("search_givenMultiTermQuery_thenShouldRankJobsMatchingMoreTermsFirst")
+    void search_givenMultiTermQuery_thenShouldRankJobsMatchingMoreTermsFirst() {
+        // Arrange
+        index.index(job(1L, "Warehouse Assistant", "Loading and unloading trucks", "Forklift", JobStatus.OPEN));
+        index.index(job(2L, "Java Developer", "Build Spring Boot services", "Java, Spring Boot", JobStatus.OPEN));
+        index.index(job(3L, "Spring Cleaning Crew", "Deep clean offices", "Cleaning", JobStatus.OPEN));
+
+        // Act
+        List<JobListingDto> result = index.search("java spring", 10);
+
+        // Assert
+        assertEquals(List.of(2L, 3L), result.stream().map(JobListingDto::getId).toList());
+    }
+
+    @Test
+    @DisplayName("search_givenTitleAndDescriptionMatches_thenShouldRankTitleMatchHigher")
+    void search_givenTitleAndDescriptionMatches_thenShouldRankTitleMatchHigher() {
+        // Arrange
+        index.index(job(1L, "Site Helper", "Assist the plumber on site", null, JobStatus.OPEN));
+        index.index(job(2L, "Plumber", "Fix leaking pipes on site", null, JobStatus.OPEN));
+
+        // Act
+        List<JobListingDto> result = index.search("Plumber", 10);
+
+        // Assert
+        assertEquals(2L, result.get(0).getId());
+        assertEquals(2, result.size());
+    }
+
+    @Test
+    @DisplayName("search_givenEqualTextScores_thenShouldRankNewerJobFirst")
+    void search_givenEqualTextScores_thenShouldRankNewerJobFirst() {
+        // Arrange
+        JobListingDto older = job(1L, "Painter", "Paint walls", null, JobStatus.OPEN);
+        older.setPostedAt(LocalDateTime.now().minusDays(60));
+        JobListingDto newer = job(2L, "Painter", "Paint walls", null, JobStatus.OPEN);
+        index.index(older);
+        index.index(newer);
+
+        // Act
+        List<JobListingDto> result = index.search("painter", 10);
+
+        // Assert
+        assertEquals(List.of(2L, 1L), result.stream().map(JobListingDto::getId).toList());
+    }
+
+    @Test
+    @DisplayName("index_givenJobNoLongerOpen_thenShouldDropItFromResults")
+    void index_givenJobNoLongerOpen_thenShouldDropItFromResults() {
+        // Arrange
+        index.index(job(1L, "Driver", "Deliver parcels", null, JobStatus.OPEN));
+        index.index(job(2L, "Driver", "Deliver furniture", null, JobStatus.OPEN));
+
+        // Act
+        index.index(job(1L, "Driver", "Deliver parcels", null, JobStatus.CLOSED));
+        index.remove(2L);
+
+        // Assert
+        assertTrue(index.search("driver", 10).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    @DisplayName("index_givenEditedJob_thenShouldMatchOnlyTheNewText")
+    void index_givenEditedJob_thenShouldMatchOnlyTheNewText() {
+        // Arrange
+        index.index(job(1L, "Cook", "Prepare meals", null, JobStatus.OPEN));
+
+        // Act
+        index.index(job(1L, "Barista", "Prepare coffee", null, JobStatus.OPEN));
+
+        // Assert
+        assertTrue(index.search("cook", 10).isEmpty());
+        assertEquals(1, index.search("barista", 10).size());
+    }
+
+    @Test
+    @DisplayName("index_givenManyRewrites_thenShouldCompactAndKeepResultsCorrect")
+    void index_givenManyRewrites_thenShouldCompactAndKeepResultsCorrect() {
+        // Arrange & Act
+        for (int round = 0; round < 5; round++) {
+            for (long id = 1; id <= 1000; id++) {
+                index.index(job(id, "Cashier " + round, "Retail shift", null, JobStatus.OPEN));
+            }
+        }
+
+        // Assert
+        assertEquals(1000, index.size());
+        assertEquals(25, index.search("cashier", 25).size());
+        assertTrue(index.search("0", 10).isEmpty());
+        assertEquals(10, index.search("4", 10).size());
+    }
+
+    @Test
+    @DisplayName("adjustApplicationCount_givenIndexedJob_thenShouldReturnUpdatedCount")
+    void adjustApplicationCount_givenIndexedJob_thenShouldReturnUpdatedCount() {
+        // Arrange
+        index.index(job(1L, "Gardener", "Mow lawns", null, JobStatus.OPEN));
+
+        // Act
+        index.adjustApplicationCount(1L, 1);
+
+        // Assert
+        assertEquals(1, index.search("gardener", 10).get(0).getApplicationCount());
+    }
+
+    @Test
+    @DisplayName("adjustApplicationCount_givenCompactionAndReindex_thenShouldKeepCountsUntilJobIsReindexed")
+    void adjustApplicationCount_givenCompactionAndReindex_thenShouldKeepCountsUntilJobIsReindexed() {
+        // Arrange
+        index.index(job(1L, "Gardener", "Mow lawns", null, JobStatus.OPEN));
+        index.adjustApplicationCount(1L, 2);
+
+        // Act: enough rewrites of other jobs to compact, then the job is read back from the database
+        for (int round = 0; round < 3; round++) {
+            for (long id = 2; id <= 1001; id++) {
+                index.index(job(id, "Cashier", "Retail shift", null, JobStatus.OPEN));
+            }
+        }
+        int countedBeforeReindex = index.search("gardener", 10).get(0).getApplicationCount();
+        index.index(job(1L, "Gardener", "Mow lawns", null, JobStatus.OPEN).toBuilder().applicationCount(5).build());
+
+        // Assert
+        assertEquals(2, countedBeforeReindex);
+        assertEquals(5, index.search("gardener", 10).get(0).getApplicationCount());
+    }
+
+    @Test
+    @DisplayName("fuzzySearch_givenMisspelledTerms_thenShouldMatchClosestTitlesAndSkills")
+    void fuzzySearch_givenMisspelledTerms_thenShouldMatchClosestTitlesAndSkills() {
+        // Arrange
+        index.index(job(1L, "Plumber", "Fix leaking pipes", "Plumbing", JobStatus.OPEN));
+        index.index(job(2L, "Electrician", "Rewire houses", "Wiring", JobStatus.OPEN));
+        index.index(job(3L, "Carpenter", "Build cabinets", "Woodwork", JobStatus.OPEN));
+
+        // Act & Assert
+        assertEquals(List.of(1L), ids(index.fuzzySearch("plumer", 10)));
+        assertEquals(List.of(2L), ids(index.fuzzySearch("electrcian", 10)));
+        assertEquals(List.of(3L), ids(index.fuzzySearch("carpentr", 10)));
+    }
+
+    @Test
+    @DisplayName("fuzzySearch_givenExactAndNearMatches_thenShouldRankExactMatchFirst")
+    void fuzzySearch_givenExactAndNearMatches_thenShouldRankExactMatchFirst() {
+        // Arrange
+        index.index(job(1L, "Painter", "Paint fences", null, JobStatus.OPEN));
+        index.index(job(2L, "Printer Operator", "Run the presses", null, JobStatus.OPEN));
+
+        // Act
+        List<JobListingDto> result = index.fuzzySearch("painter", 10);
+
+        // Assert
+        assertEquals(List.of(1L, 2L), ids(result));
+    }
+
+    @Test
+    @DisplayName("fuzzySearch_givenTermOnlyInDescription_thenShouldNotMatch")
+    void fuzzySearch_givenTermOnlyInDescription_thenShouldNotMatch() {
+        // Arrange
+        index.index(job(1L, "Site Helper", "Assist the plumber", null, JobStatus.OPEN));
+
+        // Act & Assert
+        assertTrue(index.fuzzySearch("plumer", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("facetedSearch_givenFilters_thenShouldCountFacetsOverFilteredMatches")
+    void facetedSearch_givenFilters_thenShouldCountFacetsOverFilteredMatches() {
+        // Arrange
+        index.index(facetJob(1L, "Plumber", JobType.ONE_DAY, "Colombo", 3000.0, LocalDate.now().plusDays(2), "Plumbing, Tools"));
+        index.index(facetJob(2L, "Plumber Assistant", JobType.CONTRACT, "Colombo", 60000.0, LocalDate.now().plusDays(10), "Plumbing"));
+        index.index(facetJob(3L, "Electrician", JobType.ONE_DAY, "Kandy", 4000.0, LocalDate.now().plusDays(45), "Wiring, Tools"));
+        JobListingDto closedJob = facetJob(4L, "Closed Plumber", JobType.ONE_DAY, "Colombo", 3000.0, LocalDate.now(), "Plumbing");
+        index.index(closedJob);
+        closedJob.setStatus(JobStatus.CLOSED);
+        index.index(closedJob);
+
+        JobFilterDto filter = new JobFilterDto();
+        filter.setLocation("colombo");
+
+        // Act
+        JobSearchResultDto result = index.facetedSearch(null, filter, 10);
+
+        // Assert
+        assertEquals(2, result.getTotalMatches());
+        assertEquals(Set.of(1L, 2L), Set.copyOf(ids(result.getJobs())));
+        assertEquals(Map.of("ONE_DAY", 1, "CONTRACT", 1), counts(result, "jobType"));
+        assertEquals(Map.of("Colombo", 2), counts(result, "location"));
+        assertEquals(Map.of("0-5000", 1, "50000-100000", 1), counts(result, "salary"));
+        assertEquals(Map.of("this-week", 1, "this-month", 1), counts(result, "startDate"));
+        assertEquals(Map.of("Plumbing", 2, "Tools", 1), counts(result, "skills"));
+    }
+
+    @Test
+    @DisplayName("facetedSearch_givenKeywordAndSalaryRange_thenShouldIntersectBoth")
+    void facetedSearch_givenKeywordAndSalaryRange_thenShouldIntersectBoth() {
+        // Arrange
+        index.index(facetJob(1L, "Plumber", JobType.ONE_DAY, "Colombo", 3000.0, null, null));
+        index.index(facetJob(2L, "Plumber", JobType.CONTRACT, "Galle", 60000.0, null, null));
+        index.index(facetJob(3L, "Electrician", JobType.CONTRACT, "Galle", 70000.0, null, null));
+
+        JobFilterDto filter = new JobFilterDto();
+        filter.setMinSalary(10000.0);
+
+        // Act
+        JobSearchResultDto result = index.facetedSearch("plumber", filter, 10);
+
+        // Assert
+        assertEquals(List.of(2L), ids(result.getJobs()));
+        assertEquals(Map.of("CONTRACT", 1), counts(result, "jobType"));
+        assertTrue(result.getFacets().get("startDate").isEmpty());
+    }
+
+    private JobListingDto facetJob(Long id, String title, JobType jobType, String location, Double salary,
+                                   LocalDate startDate, String skills) {
+        JobListingDto job = job(id, title, "Description", skills, JobStatus.OPEN);
+        job.setJobType(jobType);
+        job.setLocation(location);
+        job.setSalary(salary);
+        job.setStartDate(startDate);
+        return job;
+    }
+
+    private Map<String, Integer> counts(JobSearchResultDto result, String facet) {
+        return result.getFacets().get(facet).stream()
+                .collect(Collectors.toMap(FacetCountDto::getValue, FacetCountDto::getCount));
+    }
+
+    private List<Long> ids(List<JobListingDto> jobs) {
+        return jobs.stream().map(JobListingDto::getId).toList();
+    }
+
+    private JobListingDto job(Long id, String title, String description, String skills, JobStatus status) {
+        return JobListingDto.builder()
+                .id(id)
+                .jobTitle(title)
+                .description(description)
+                .requiredSkills(skills)
+                .status(status)
+                .postedAt(LocalDateTime.now())
+                .applicationCount(0)
+                .build();
+    }
+}
@@ -0,0 +1,55 @@
+package com.workconnect.api.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OrdinalSlots Tests")
+class OrdinalSlotsTest {
+
+    @Test
+    @DisplayName("slot_givenRepeatedAndLargeOrdinals_thenShouldAssignDenseSlotsInFirstTouchOrder")
+    void slot_givenRepeatedAndLargeOrdinals_thenShouldAssignDenseSlotsInFirstTouchOrder() {
+        // Arrange
+        OrdinalSlots slots = new OrdinalSlots(6);
+
+        // Act
+        int first = slots.slot(5_000_000);
+        int second = slots.slot(0);
+        int repeated = slots.slot(5_000_000);
+        int third = slots.slot(42);
+
+        // Assert
+        assertEquals(0, first);
+        assertEquals(1, second);
+        assertEquals(0, repeated);
+        assertEquals(2, third);
+        assertEquals(3, slots.size());
+        assertEquals(List.of(5_000_000, 0, 42), slots.ordinals().boxed().toList());
+        assertEquals(1, slots.find(0));
+        assertEquals(-1, slots.find(7));
+    }
+
+    @Test
+    @DisplayName("slot_givenExactlyMaxOrdinals_thenShouldKeepEveryOrdinal")
+    void slot_givenExactlyMaxOrdinals_thenShouldKeepEveryOrdinal() {
+        // Arrange
+        int max = 1000;
+        OrdinalSlots slots = new OrdinalSlots(max);
+
+        // Act
+        for (int i = 0; i < max; i++) {
+            slots.slot(i * 1024);
+        }
+
+        // Assert
+        assertEquals(max, slots.size());
+        for (int i = 0; i < max; i++) {
+            assertEquals(i, slots.find(i * 1024));
+            assertEquals(i * 1024, slots.ordinal(i));
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.workconnect.api.search;
+
+import com.workconnect.api.cache.OpenJobsCache;
+import com.workconnect.api.constants.Enum.JobStatus;
+import com.workconnect.api.dto.JobListingDto;
+import com.workconnect.api.entity.Skill;
+import com.workconnect.api.entity.WorkerProfile;
+import com.workconnect.api.event.JobChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SkillMatchIndex Tests")
+class SkillMatchIndexTest {
+
+    private SkillDictionary dictionary;
+    private SkillMatchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        dictionary = new SkillDictionary();
+        index = new SkillMatchIndex(dictionary, new OpenJobsCache());
+    }
+
+    @Test
+    @DisplayName("parse_givenDifferentSpellingsOfOneSkill_thenShouldInternThemToTheSameId")
+    void parse_givenDifferentSpellingsOfOneSkill_thenShouldInternThemToTheSameId() {
+        // Act
+        SkillSet job = dictionary.parse("Spring  Boot, JAVA, , java");
+        SkillSet worker = dictionary.encode(List.of("spring boot", " Java "));
+
+        // Assert
+        assertEquals(2, job.size());
+        assertEquals(job, worker);
+        assertEquals(2, dictionary.size());
+        assertTrue(job.contains(dictionary.intern("java")));
+    }
+
+    @Test
+    @DisplayName("overlap_givenSkillIdsAcrossSeveralWords_thenShouldCountSharedSkills")
+    void overlap_givenSkillIdsAcrossSeveralWords_thenShouldCountSharedSkills() {
+        // Arrange
+        SkillSet a = SkillSet.of(1, 63, 64, 200);
+        SkillSet b = SkillSet.of(1, 64, 130);
+
+        // Act & Assert
+        assertEquals(2, a.overlap(b));
+        assertEquals(2, b.overlap(a));
+        assertEquals(0, a.overlap(SkillSet.EMPTY));
+    }
+
+    @Test
+    @DisplayName("rank_givenCandidates_thenShouldOrderByOverlapAndKeepCandidateOrderForTies")
+    void rank_givenCandidates_thenShouldOrderByOverlapAndKeepCandidateOrderForTies() {
+        // Arrange
+        List<JobListingDto> candidates = List.of(
+                job(1L, "Cooking"),
+                job(2L, "Driving, Cooking"),
+                job(3L, "Driving"),
+                job(4L, "Driving, Cooking, First Aid"),
+                job(5L, null));
+        candidates.forEach(job -> index.onJobChanged(JobChangedEvent.saved(job)));
+        SkillSet worker = dictionary.encode(List.of("driving", "cooking"));
+
+        // Act & Assert
+        assertEquals(List.of(2L, 4L, 1L), ids(index.rank(candidates, worker, 3)));
+        assertEquals(List.of(2L, 4L, 1L, 3L, 5L), ids(index.rank(candidates, worker, 10)));
+        assertTrue(index.rank(candidates, worker, 0).isEmpty());
+    }
+
+    @Test
+    @DisplayName("skillsOf_givenWorkerSavedNewSkills_thenShouldUseTheSavedSkills")
+    void skillsOf_givenWorkerSavedNewSkills_thenShouldUseTheSavedSkills() {
+        // Arrange
+        WorkerProfile worker = new WorkerProfile();
+        worker.setId(7L);
+        worker.setSkills(Set.of(new Skill("Carpentry")));
+        assertEquals(dictionary.encode(List.of("carpentry")), index.skillsOf(worker));
+
+        // Act
+        worker.setSkills(Set.of(new Skill("Painting"), new Skill("Tiling")));
+
+        // Assert
+        assertEquals(dictionary.encode(List.of("painting", "tiling")), index.skillsOf(worker));
+    }
+
+    @Test
+    @DisplayName("skillsOf_givenJobThatIsNotOpen_thenShouldNotInternItsSkills")
+    void skillsOf_givenJobThatIsNotOpen_thenShouldNotInternItsSkills() {
+        // Arrange
+        index.onJobChanged(JobChangedEvent.saved(job(1L, "Welding")));
+        JobListingDto closed = job(2L, "Welding, Glassblowing").toBuilder().status(JobStatus.CLOSED).build();
+
+        // Act
+        SkillSet skills = index.skillsOf(closed);
+
+        // Assert
+        assertEquals(dictionary.parse("welding"), skills);
+        assertEquals(1, dictionary.size());
+    }
+
+    @Test
+    @DisplayName("skillsOf_givenJobEditedAfterIndexing_thenShouldReflectTheNewSkills")
+    void skillsOf_givenJobEditedAfterIndexing_thenShouldReflectTheNewSkills() {
+        // Arrange
+        index.onJobChanged(JobChangedEvent.saved(job(1L, "Welding")));
+
+        // Act
+        JobListingDto edited = job(1L, "Masonry");
+        index.onJobChanged(JobChangedEvent.saved(edited));
+
+        // Assert
+        assertEquals(dictionary.parse("masonry"), index.skillsOf(edited));
+    }
+
+    private List<Long> ids(List<JobListingDto> jobs) {
+        return jobs.stream().map(JobListingDto::getId).toList();
+    }
+
+    private JobListingDto job(Long id, String skills) {
+        return JobListingDto.builder()
+                .id(id)
+                .jobTitle("Job " + id)
+                .requiredSkills(skills)
+                .status(JobStatus.OPEN)
+                .postedAt(LocalDateTime.now())
+                .applicationCount(0)
+                .build();
+    }
+}
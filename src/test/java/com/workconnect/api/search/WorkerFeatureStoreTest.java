@@ -0,0 +1,110 @@
+package com.workconnect.api.search;
+
+import com.workconnect.api.cache.OpenJobsCache;
+import com.workconnect.api.dto.WorkerCompletedCount;
+import com.workconnect.api.dto.WorkerRatingSummary;
+import com.workconnect.api.entity.WorkerProfile;
+import com.workconnect.api.event.WorkerSkillsChangedEvent;
+import com.workconnect.api.repository.JobApplicationRepository;
+import com.workconnect.api.repository.ReviewRepository;
+import com.workconnect.api.repository.WorkerProfileRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WorkerFeatureStore Tests")
+class WorkerFeatureStoreTest {
+
+    @Mock
+    private WorkerProfileRepository workerProfileRepository;
+
+    @Mock
+    private JobApplicationRepository jobApplicationRepository;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    private WorkerFeatureStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new WorkerFeatureStore(workerProfileRepository, jobApplicationRepository, reviewRepository,
+                new SkillMatchIndex(new SkillDictionary(), new OpenJobsCache()), 100);
+    }
+
+    @Test
+    @DisplayName("featuresOf_givenUncachedWorkers_thenShouldLoadThemWithOneQueryPerSource")
+    void featuresOf_givenUncachedWorkers_thenShouldLoadThemWithOneQueryPerSource() {
+        // Arrange
+        when(workerProfileRepository.findAllWithSkillsByIdIn(List.of(1L, 2L, 3L)))
+                .thenReturn(List.of(profile(1L, 6.9, 79.9), profile(2L, null, null)));
+        when(jobApplicationRepository.countCompletedByWorkerIdIn(List.of(1L, 2L, 3L)))
+                .thenReturn(List.of(new WorkerCompletedCount(1L, 4L)));
+        when(reviewRepository.summarizeByRevieweeIdIn(List.of(1L, 2L, 3L)))
+                .thenReturn(List.of(new WorkerRatingSummary(1L, 4.5, 2L)));
+
+        // Act
+        Map<Long, WorkerFeatures> result = store.featuresOf(List.of(1L, 2L, 3L));
+
+        // Assert
+        assertEquals(Set.of(1L, 2L), result.keySet());
+        assertEquals(4, result.get(1L).completedJobs());
+        assertEquals(4.5, result.get(1L).averageRating());
+        assertEquals(2, result.get(1L).reviewCount());
+        assertEquals(6.9, result.get(1L).latitude());
+        assertEquals(0, result.get(2L).completedJobs());
+        assertEquals(0, result.get(2L).reviewCount());
+    }
+
+    @Test
+    @DisplayName("featuresOf_givenCachedWorker_thenShouldOnlyReloadAfterSkillsChange")
+    void featuresOf_givenCachedWorker_thenShouldOnlyReloadAfterSkillsChange() {
+        // Arrange
+        when(workerProfileRepository.findAllWithSkillsByIdIn(List.of(1L))).thenReturn(List.of(profile(1L, null, null)));
+        store.featuresOf(List.of(1L));
+
+        // Act
+        store.featuresOf(List.of(1L));
+        store.onWorkerSkillsChanged(new WorkerSkillsChangedEvent(1L));
+        store.featuresOf(List.of(1L));
+
+        // Assert
+        verify(workerProfileRepository, times(2)).findAllWithSkillsByIdIn(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("featuresOf_givenMoreWorkersThanCapacity_thenShouldEvictDownToBound")
+    void featuresOf_givenMoreWorkersThanCapacity_thenShouldEvictDownToBound() {
+        // Arrange
+        List<Long> workerIds = LongStream.rangeClosed(1, 120).boxed().toList();
+        when(workerProfileRepository.findAllWithSkillsByIdIn(workerIds))
+                .thenReturn(workerIds.stream().map(id -> profile(id, null, null)).toList());
+
+        // Act
+        Map<Long, WorkerFeatures> result = store.featuresOf(workerIds);
+
+        // Assert
+        assertEquals(120, result.size());
+        assertEquals(75, store.size());
+    }
+
+    private WorkerProfile profile(Long id, Double latitude, Double longitude) {
+        WorkerProfile profile = new WorkerProfile();
+        profile.setId(id);
+        profile.setLatitude(latitude);
+        profile.setLongitude(longitude);
+        return profile;
+    }
+}
@@ -0,0 +1,264 @@
+package com.workconnect.api.service;
+
+import com.workconnect.api.constants.Enum.*;
+import com.workconnect.api.dto.BulkApplicationStatusResultDto;
+import com.workconnect.api.entity.*;
+import com.workconnect.api.repository.JobPostingRepository;
+import com.workconnect.api.repository.UserRepository;
+import com.workconnect.api.scheduler.ApplicationCounterReconciliationJob;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(locations = "classpath:application-test.properties")
+class ApplicationCounterConcurrencyTest {
+
+    private static final int WORKERS = 40;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @Autowired
+    private ApplicationCounterReconciliationJob reconciliationJob;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private JobPosting job;
+    private List<String> workerEmails;
+
+    @BeforeEach
+    void setUp() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+
+        User employer = newUser("employer-" + run + "@test.com", Role.EMPLOYER);
+        employer.setProfile(new EmployerProfile(employer));
+        userRepository.save(employer);
+
+        job = new JobPosting();
+        job.setJobTitle("Event Staff");
+        job.setDescription("One day event crew");
+        job.setJobType(JobType.ONE_DAY);
+        job.setStatus(JobStatus.OPEN);
+        job.setEmployer(employer);
+        job = jobPostingRepository.save(job);
+
+        workerEmails = new ArrayList<>();
+        for (int i = 0; i < WORKERS; i++) {
+            String email = "worker-" + run + "-" + i + "@test.com";
+            userRepository.save(newUser(email, Role.WORKER));
+            workerEmails.add(email);
+        }
+    }
+
+    @Test
+    void applyForJob_givenParallelApplicants_thenShouldNotLoseCounterUpdates() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (String email : workerEmails) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                jobService.applyForJob(email, job.getId(), null);
+                return null;
+            }));
+        }
+
+        // Act
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert
+        JobPosting reloaded = jobPostingRepository.findById(job.getId()).orElseThrow();
+        assertEquals(WORKERS, reloaded.getApplicationCount());
+        assertEquals(WORKERS, reloaded.getPendingCount());
+    }
+
+    @Test
+    void applyForJob_givenRepeatedTaps_thenShouldCreateOneApplicationAndReplayTheKeyedRetry() throws Exception {
+        // Arrange
+        String email = workerEmails.get(0);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> taps = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            taps.add(executor.submit(() -> {
+                start.await();
+                try {
+                    return jobService.applyForJob(email, job.getId(), null);
+                } catch (IllegalStateException duplicate) {
+                    return false;
+                }
+            }));
+        }
+
+        // Act
+        start.countDown();
+        int created = 0;
+        for (Future<Boolean> tap : taps) {
+            created += tap.get(30, TimeUnit.SECONDS) ? 1 : 0;
+        }
+        executor.shutdown();
+        boolean keyed = jobService.applyForJob(workerEmails.get(1), job.getId(), "retry-1");
+        boolean replayed = jobService.applyForJob(workerEmails.get(1), job.getId(), "retry-1");
+
+        // Assert
+        assertEquals(1, created);
+        assertTrue(keyed);
+        assertFalse(replayed);
+        assertThrows(IllegalStateException.class, () -> jobService.applyForJob(workerEmails.get(1), job.getId(), "retry-2"));
+        JobPosting reloaded = jobPostingRepository.findById(job.getId()).orElseThrow();
+        assertEquals(2, reloaded.getApplicationCount());
+        assertEquals(2, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM job_applications WHERE job_id = ?", Integer.class, job.getId()));
+    }
+
+    @Test
+    void reconcile_givenDriftedCounters_thenShouldRecomputeFromApplications() {
+        // Arrange
+        jobService.applyForJob(workerEmails.get(0), job.getId(), null);
+        jobService.applyForJob(workerEmails.get(1), job.getId(), null);
+        jdbcTemplate.update("UPDATE job_postings SET application_count = 7, pending_count = 0 WHERE id = ?", job.getId());
+
+        // Act
+        reconciliationJob.reconcile();
+
+        // Assert
+        JobPosting reloaded = jobPostingRepository.findById(job.getId()).orElseThrow();
+        assertEquals(2, reloaded.getApplicationCount());
+        assertEquals(2, reloaded.getPendingCount());
+    }
+
+    @Test
+    void updateApplicationStatuses_givenMixedStatuses_thenShouldMoveEveryCounterInOneUpdate() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            jobService.applyForJob(workerEmails.get(i), job.getId(), null);
+        }
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM job_applications WHERE job_id = ? ORDER BY id", Long.class, job.getId());
+        jobService.updateApplicationStatus(job.getEmployer().getEmail(), ids.get(0), JobApplicationStatus.VIEWED);
+
+        // Act
+        BulkApplicationStatusResultDto result = jobService.updateApplicationStatuses(job.getEmployer().getEmail(),
+                List.of(ids.get(0), ids.get(1), ids.get(2), -1L), JobApplicationStatus.ACCEPTED);
+        BulkApplicationStatusResultDto repeated = jobService.updateApplicationStatuses(job.getEmployer().getEmail(),
+                ids, JobApplicationStatus.ACCEPTED);
+
+        // Assert
+        assertEquals(3, result.getUpdatedCount());
+        assertEquals(StatusChangeOutcome.NOT_FOUND, result.getResults().get(3).getOutcome());
+        assertEquals(0, repeated.getUpdatedCount());
+        JobPosting reloaded = jobPostingRepository.findById(job.getId()).orElseThrow();
+        assertEquals(3, reloaded.getApplicationCount());
+        assertEquals(0, reloaded.getPendingCount());
+        assertEquals(0, reloaded.getViewedCount());
+        assertEquals(3, reloaded.getAcceptedCount());
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM job_applications " +
+                "WHERE job_id = ? AND status = 'ACCEPTED' AND status_updated_at >= applied_at", Integer.class, job.getId()));
+    }
+
+    @Test
+    void updateApplicationStatuses_givenConcurrentSingleUpdate_thenShouldMoveCountersFromItsStatus() throws Exception {
+        // Arrange
+        jobService.applyForJob(workerEmails.get(0), job.getId(), null);
+        Long id = jdbcTemplate.queryForObject("SELECT id FROM job_applications WHERE job_id = ?", Long.class, job.getId());
+        String employerEmail = job.getEmployer().getEmail();
+        CountDownLatch singleUpdated = new CountDownLatch(1);
+        CountDownLatch commitSingle = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<?> single = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                jobService.updateApplicationStatus(employerEmail, id, JobApplicationStatus.VIEWED);
+                singleUpdated.countDown();
+                awaitQuietly(commitSingle);
+            }));
+            assertTrue(singleUpdated.await(5, TimeUnit.SECONDS));
+
+            // Act
+            Future<BulkApplicationStatusResultDto> bulk = executor.submit(() ->
+                    jobService.updateApplicationStatuses(employerEmail, List.of(id), JobApplicationStatus.ACCEPTED));
+            Thread.sleep(300);
+            commitSingle.countDown();
+            single.get(5, TimeUnit.SECONDS);
+            BulkApplicationStatusResultDto result = bulk.get(5, TimeUnit.SECONDS);
+
+            // Assert
+            assertEquals(1, result.getUpdatedCount());
+            assertEquals(JobApplicationStatus.VIEWED, result.getResults().get(0).getPreviousStatus());
+            JobPosting reloaded = jobPostingRepository.findById(job.getId()).orElseThrow();
+            assertEquals(0, reloaded.getPendingCount());
+            assertEquals(0, reloaded.getViewedCount());
+            assertEquals(1, reloaded.getAcceptedCount());
+        } finally {
+            commitSingle.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void reconcile_givenLeaseHeldByAnotherNode_thenShouldLeaveCountersAlone() {
+        // Arrange
+        jobService.applyForJob(workerEmails.get(0), job.getId(), null);
+        jdbcTemplate.update("UPDATE job_postings SET application_count = 7 WHERE id = ?", job.getId());
+        jdbcTemplate.update("UPDATE scheduler_leases SET owner = 'another-node', expires_at = ? WHERE name = ?",
+                LocalDateTime.now().plusMinutes(5), ApplicationCounterReconciliationJob.LEASE_NAME);
+
+        try {
+            // Act
+            reconciliationJob.reconcile();
+
+            // Assert
+            assertEquals(7, jobPostingRepository.findById(job.getId()).orElseThrow().getApplicationCount());
+        } finally {
+            jdbcTemplate.update("UPDATE scheduler_leases SET expires_at = ? WHERE name = ?",
+                    LocalDateTime.now().minusMinutes(1), ApplicationCounterReconciliationJob.LEASE_NAME);
+        }
+    }
+
+    private User newUser(String email, Role role) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPassword("password");
+        user.setRole(role);
+        user.setStatus(UserStatus.ACTIVE);
+        return user;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.workconnect.api.service;
+
+import com.workconnect.api.constants.Enum.DashboardSectionStatus;
+import com.workconnect.api.dto.dashboard.DashboardMetaDto;
+import com.workconnect.api.dto.dashboard.DashboardSectionDto;
+import com.workconnect.api.service.impl.DashboardComposer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DashboardComposer Tests")
+class DashboardComposerTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ExecutorService executor;
+    private DashboardComposer composer;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        composer = new DashboardComposer(executor, transactionManager, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    @DisplayName("join_givenSlowSections_thenShouldWaitForTheSlowestInParallelNotTheSum")
+    void join_givenSlowSections_thenShouldWaitForTheSlowestInParallelNotTheSum() {
+        // Arrange
+        DashboardComposer.Composition composition = composer.begin();
+        long startedAt = System.nanoTime();
+
+        // Act
+        DashboardComposer.Section<String> first = composition.fork("first", Duration.ofSeconds(5), () -> sleepThen(300, "a"));
+        DashboardComposer.Section<String> second = composition.fork("second", Duration.ofSeconds(5), () -> sleepThen(300, "b"));
+        DashboardComposer.Section<String> third = composition.fork("third", Duration.ofSeconds(5), () -> sleepThen(300, "c"));
+        String result = composition.join(first, null) + composition.join(second, null) + composition.join(third, null);
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+
+        // Assert
+        assertEquals("abc", result);
+        assertTrue(elapsedMillis < 800, "took " + elapsedMillis + " ms");
+        DashboardMetaDto meta = composition.meta();
+        assertFalse(meta.isPartial());
+        assertTrue(meta.getSections().stream().allMatch(section -> section.getStatus() == DashboardSectionStatus.COMPLETE
+                && section.getElapsedMillis() >= 300));
+    }
+
+    @Test
+    @DisplayName("join_givenSectionMissingItsDeadline_thenShouldReturnFallbackAndMarkPartial")
+    void join_givenSectionMissingItsDeadline_thenShouldReturnFallbackAndMarkPartial() {
+        // Arrange
+        DashboardComposer.Composition composition = composer.begin();
+        long startedAt = System.nanoTime();
+
+        // Act
+        DashboardComposer.Section<String> fast = composition.fork("fast", Duration.ofSeconds(5), () -> "ready");
+        DashboardComposer.Section<String> slow = composition.fork("slow", Duration.ofMillis(200), () -> sleepThen(30_000, "late"));
+        String fastResult = composition.join(fast, "fallback");
+        String slowResult = composition.join(slow, "fallback");
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+
+        // Assert
+        assertEquals("ready", fastResult);
+        assertEquals("fallback", slowResult);
+        assertTrue(elapsedMillis < 2_000, "took " + elapsedMillis + " ms");
+        DashboardMetaDto meta = composition.meta();
+        assertTrue(meta.isPartial());
+        assertEquals(Map.of("fast", DashboardSectionStatus.COMPLETE, "slow", DashboardSectionStatus.TIMED_OUT), statuses(meta));
+    }
+
+    @Test
+    @DisplayName("join_givenFailingSection_thenShouldReturnFallbackAndReportFailure")
+    void join_givenFailingSection_thenShouldReturnFallbackAndReportFailure() {
+        // Arrange
+        DashboardComposer.Composition composition = composer.begin();
+
+        // Act
+        DashboardComposer.Section<Integer> failing = composition.fork("stats", Duration.ofSeconds(5), () -> {
+            throw new IllegalStateException("database unavailable");
+        });
+        Integer result = composition.join(failing, -1);
+
+        // Assert
+        assertEquals(-1, result);
+        assertEquals(Map.of("stats", DashboardSectionStatus.FAILED), statuses(composition.meta()));
+        assertTrue(composition.meta().isPartial());
+    }
+
+    @Test
+    @DisplayName("fork_givenMoreSectionsThanPermits_thenShouldRunAtMostThatManyTransactionsAtOnce")
+    void fork_givenMoreSectionsThanPermits_thenShouldRunAtMostThatManyTransactionsAtOnce() {
+        // Arrange
+        DashboardComposer.Composition composition = composer.begin();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger mostRunning = new AtomicInteger();
+
+        // Act
+        List<DashboardComposer.Section<String>> forked = IntStream.range(0, 6)
+                .mapToObj(i -> composition.fork("section" + i, Duration.ofSeconds(5), () -> {
+                    mostRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        return sleepThen(100, "done");
+                    } finally {
+                        running.decrementAndGet();
+                    }
+                }))
+                .toList();
+        forked.forEach(section -> assertEquals("done", composition.join(section, null)));
+
+        // Assert
+        assertEquals(2, mostRunning.get());
+        assertFalse(composition.meta().isPartial());
+    }
+
+    @Test
+    @DisplayName("fork_givenNoPermitBeforeDeadline_thenShouldTimeOutTheSection")
+    void fork_givenNoPermitBeforeDeadline_thenShouldTimeOutTheSection() {
+        // Arrange
+        DashboardComposer.Composition composition = composer.begin();
+        composition.fork("first", Duration.ofSeconds(5), () -> sleepThen(1_000, "a"));
+        composition.fork("second", Duration.ofSeconds(5), () -> sleepThen(1_000, "b"));
+
+        // Act
+        DashboardComposer.Section<String> starved = composition.fork("starved", Duration.ofMillis(200), () -> "never");
+        String result = composition.join(starved, "fallback");
+
+        // Assert
+        assertEquals("fallback", result);
+        assertEquals(DashboardSectionStatus.TIMED_OUT, statuses(composition.meta()).get("starved"));
+    }
+
+    @Test
+    @DisplayName("forkWithoutTransaction_givenAllPermitsTaken_thenShouldRunOutsideAnyTransaction")
+    void forkWithoutTransaction_givenAllPermitsTaken_thenShouldRunOutsideAnyTransaction() {
+        // Arrange
+        DashboardComposer.Composition composition = composer.begin();
+        DashboardComposer.Section<String> first = composition.fork("first", Duration.ofSeconds(5), () -> sleepThen(500, "a"));
+        DashboardComposer.Section<String> second = composition.fork("second", Duration.ofSeconds(5), () -> sleepThen(500, "b"));
+
+        // Act
+        DashboardComposer.Section<String> remote = composition.forkWithoutTransaction("recommendations",
+                Duration.ofMillis(300), () -> "ranked");
+        String result = composition.join(remote, "fallback");
+        composition.join(first, null);
+        composition.join(second, null);
+
+        // Assert
+        assertEquals("ranked", result);
+        assertEquals(DashboardSectionStatus.COMPLETE, statuses(composition.meta()).get("recommendations"));
+        verify(transactionManager, times(2)).getTransaction(any());
+    }
+
+    private Map<String, DashboardSectionStatus> statuses(DashboardMetaDto meta) {
+        return meta.getSections().stream()
+                .collect(Collectors.toMap(DashboardSectionDto::getName, DashboardSectionDto::getStatus));
+    }
+
+    private static String sleepThen(long millis, String value) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+        return value;
+    }
+}
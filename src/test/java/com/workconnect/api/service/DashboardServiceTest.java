@@ -1,9 +1,18 @@
 package com.workconnect.api.service;
 
+import com.workconnect.api.cache.OpenJobsCache;
 import com.workconnect.api.constants.Enum.*;
+import com.workconnect.api.dto.JobListingDto;
+import com.workconnect.api.dto.NearbyJobDto;
 import com.workconnect.api.dto.dashboard.*;
 import com.workconnect.api.entity.*;
+import com.workconnect.api.geo.Gazetteer;
+import com.workconnect.api.geo.GeoPoint;
 import com.workconnect.api.repository.*;
+import com.workconnect.api.search.JobGeoIndex;
+import com.workconnect.api.search.SkillDictionary;
+import com.workconnect.api.search.SkillMatchIndex;
+import com.workconnect.api.service.impl.DashboardComposer;
 import com.workconnect.api.service.impl.DashboardServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,11 +21,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -25,9 +39,6 @@ import static org.mockito.Mockito.*;
 @DisplayName("DashboardService Tests")
 class DashboardServiceTest {
 
-    @Mock
-    private UserRepository userRepository;
-
     @Mock
     private WorkerProfileRepository workerProfileRepository;
 
@@ -40,6 +51,21 @@ class DashboardServiceTest {
     @Mock
     private JobApplicationRepository jobApplicationRepository;
 
+    @Spy
+    private OpenJobsCache openJobsCache = new OpenJobsCache();
+
+    @Mock
+    private JobGeoIndex jobGeoIndex;
+
+    @Mock
+    private UserStatsRepository userStatsRepository;
+
+    @Spy
+    private Gazetteer gazetteer = new Gazetteer();
+
+    @Spy
+    private SkillMatchIndex skillMatchIndex = new SkillMatchIndex(new SkillDictionary(), new OpenJobsCache());
+
     @InjectMocks
     private DashboardServiceImpl dashboardService;
 
@@ -142,26 +168,45 @@ class DashboardServiceTest {
     class WorkerDashboardTests {
 
         @Test
-        @DisplayName("getWorkerDashboard_givenNonExistentWorker_thenShouldThrowUsernameNotFoundException")
-        void getWorkerDashboard_givenNonExistentWorker_thenShouldThrowUsernameNotFoundException() {
+        @DisplayName("getWorkerDashboard_givenWorkerWithoutProfile_thenShouldThrowIllegalStateException")
+        void getWorkerDashboard_givenWorkerWithoutProfile_thenShouldThrowIllegalStateException() {
             // Arrange
-            when(userRepository.findByEmail("nonexistent@test.com")).thenReturn(Optional.empty());
+            when(workerProfileRepository.findWithSkillsById(1L)).thenReturn(Optional.empty());
 
             // Act & Assert
-            assertThrows(UsernameNotFoundException.class, () -> 
-                dashboardService.getWorkerDashboard("nonexistent@test.com"));
+            assertThrows(IllegalStateException.class, () ->
+                dashboardService.getWorkerDashboard(1L));
+            verifyNoInteractions(userStatsRepository, jobApplicationRepository);
         }
 
         @Test
-        @DisplayName("getWorkerDashboard_givenWorkerWithoutProfile_thenShouldThrowIllegalStateException")
-        void getWorkerDashboard_givenWorkerWithoutProfile_thenShouldThrowIllegalStateException() {
+        @DisplayName("getWorkerDashboard_givenWorker_thenShouldReadTheProfileOnceForAllSections")
+        void getWorkerDashboard_givenWorker_thenShouldReadTheProfileOnceForAllSections() {
             // Arrange
-            when(userRepository.findByEmail("worker@test.com")).thenReturn(Optional.of(workerUser));
-            when(workerProfileRepository.findByUser(workerUser)).thenReturn(Optional.empty());
-
-            // Act & Assert
-            assertThrows(IllegalStateException.class, () -> 
-                dashboardService.getWorkerDashboard("worker@test.com"));
+            RecommendationService recommendationService = mock(RecommendationService.class);
+            PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+            JobListingDto recommended = openListing(jobPosting1);
+            when(workerProfileRepository.findWithSkillsById(1L)).thenReturn(Optional.of(workerProfile));
+            when(userStatsRepository.findById(1L)).thenReturn(Optional.of(new UserStats()));
+            when(recommendationService.getJobRecommendations(workerProfile)).thenReturn(List.of(recommended));
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                DashboardServiceImpl service = new DashboardServiceImpl(workerProfileRepository, employerProfileRepository,
+                        jobPostingRepository, jobApplicationRepository, recommendationService, openJobsCache, jobGeoIndex,
+                        gazetteer, skillMatchIndex, new DashboardComposer(executor, transactionManager, 5), userStatsRepository,
+                        Duration.ofSeconds(5), Duration.ofSeconds(5));
+
+                // Act
+                WorkerDashboardDto result = service.getWorkerDashboard(1L);
+
+                // Assert
+                assertFalse(result.getMeta().isPartial());
+                assertEquals(100, result.getProfileCompletionPercentage());
+                assertEquals(List.of(recommended), result.getRecommendedJobs());
+                verify(workerProfileRepository).findWithSkillsById(1L);
+                verifyNoMoreInteractions(workerProfileRepository);
+                verify(recommendationService, never()).getJobRecommendations(anyLong());
+            }
         }
     }
 
@@ -169,27 +214,16 @@ class DashboardServiceTest {
     @DisplayName("Employer Dashboard Tests")
     class EmployerDashboardTests {
 
-        @Test
-        @DisplayName("getEmployerDashboard_givenNonExistentEmployer_thenShouldThrowUsernameNotFoundException")
-        void getEmployerDashboard_givenNonExistentEmployer_thenShouldThrowUsernameNotFoundException() {
-            // Arrange
-            when(userRepository.findByEmail("nonexistent@test.com")).thenReturn(Optional.empty());
-
-            // Act & Assert
-            assertThrows(UsernameNotFoundException.class, () -> 
-                dashboardService.getEmployerDashboard("nonexistent@test.com"));
-        }
-
         @Test
         @DisplayName("getEmployerDashboard_givenEmployerWithoutProfile_thenShouldThrowIllegalStateException")
         void getEmployerDashboard_givenEmployerWithoutProfile_thenShouldThrowIllegalStateException() {
             // Arrange
-            when(userRepository.findByEmail("employer@test.com")).thenReturn(Optional.of(employerUser));
-            when(employerProfileRepository.findByUser(employerUser)).thenReturn(Optional.empty());
+            when(employerProfileRepository.existsById(2L)).thenReturn(false);
 
             // Act & Assert
             assertThrows(IllegalStateException.class, () -> 
-                dashboardService.getEmployerDashboard("employer@test.com"));
+                dashboardService.getEmployerDashboard(2L));
+            verifyNoInteractions(userStatsRepository, jobPostingRepository, jobApplicationRepository);
         }
     }
 
@@ -203,12 +237,11 @@ class DashboardServiceTest {
             // Arrange
             List<JobPosting> openJobs = Arrays.asList(jobPosting1); // jobPosting1 has matching location
             
-            when(userRepository.findByEmail("worker@test.com")).thenReturn(Optional.of(workerUser));
-            when(workerProfileRepository.findByUser(workerUser)).thenReturn(Optional.of(workerProfile));
-            when(jobPostingRepository.findByStatus(JobStatus.OPEN)).thenReturn(openJobs);
+            when(workerProfileRepository.findWithSkillsById(1L)).thenReturn(Optional.of(workerProfile));
+            openJobsCache.replaceAll(openJobs.stream().map(DashboardServiceTest.this::openListing).toList());
 
             // Act
-            JobRecommendationsDto result = dashboardService.getWorkerRecommendations("worker@test.com", 5);
+            JobRecommendationsDto result = dashboardService.getWorkerRecommendations(1L, 5);
 
             // Assert
             assertNotNull(result);
@@ -224,17 +257,58 @@ class DashboardServiceTest {
             workerProfile.setLocation(null);
             List<JobPosting> openJobs = Arrays.asList(jobPosting1);
             
-            when(userRepository.findByEmail("worker@test.com")).thenReturn(Optional.of(workerUser));
-            when(workerProfileRepository.findByUser(workerUser)).thenReturn(Optional.of(workerProfile));
-            when(jobPostingRepository.findByStatus(JobStatus.OPEN)).thenReturn(openJobs);
+            when(workerProfileRepository.findWithSkillsById(1L)).thenReturn(Optional.of(workerProfile));
+            openJobsCache.replaceAll(openJobs.stream().map(DashboardServiceTest.this::openListing).toList());
 
             // Act
-            JobRecommendationsDto result = dashboardService.getWorkerRecommendations("worker@test.com", 5);
+            JobRecommendationsDto result = dashboardService.getWorkerRecommendations(1L, 5);
 
             // Assert
             assertNotNull(result);
             assertEquals(1, result.getTotalCount());
         }
+
+        @Test
+        @DisplayName("getWorkerRecommendations_givenWorkerWithCoordinates_thenShouldRecommendJobsWithinRadius")
+        void getWorkerRecommendations_givenWorkerWithCoordinates_thenShouldRecommendJobsWithinRadius() {
+            // Arrange
+            workerProfile.setLocation("Colombo");
+            workerProfile.setLatitude(6.9271);
+            workerProfile.setLongitude(79.8612);
+            JobListingDto nearbyJob = openListing(jobPosting2);
+
+            when(workerProfileRepository.findWithSkillsById(1L)).thenReturn(Optional.of(workerProfile));
+            when(jobGeoIndex.findWithin(new GeoPoint(6.9271, 79.8612), 25, 200))
+                    .thenReturn(List.of(new NearbyJobDto(nearbyJob, 8.4)));
+
+            // Act
+            JobRecommendationsDto result = dashboardService.getWorkerRecommendations(1L, 5);
+
+            // Assert
+            assertEquals(List.of(nearbyJob.getId()), result.getRecommendations().stream().map(JobListingDto::getId).toList());
+        }
+
+        @Test
+        @DisplayName("getWorkerRecommendations_givenJobsSharingWorkerSkills_thenShouldRankBestSkillMatchFirst")
+        void getWorkerRecommendations_givenJobsSharingWorkerSkills_thenShouldRankBestSkillMatchFirst() {
+            // Arrange
+            workerProfile.setLocation(null);
+            JobListingDto unrelated = openListing(jobPosting1);
+            unrelated.setRequiredSkills("Plumbing");
+            JobListingDto partial = openListing(jobPosting2);
+            partial.setRequiredSkills("java, Docker");
+            JobListingDto full = JobListingDto.builder().id(3L).status(JobStatus.OPEN).postedAt(LocalDateTime.now())
+                    .requiredSkills("Java,  spring boot").build();
+
+            when(workerProfileRepository.findWithSkillsById(1L)).thenReturn(Optional.of(workerProfile));
+            openJobsCache.replaceAll(List.of(unrelated, partial, full));
+
+            // Act
+            JobRecommendationsDto result = dashboardService.getWorkerRecommendations(1L, 2);
+
+            // Assert
+            assertEquals(List.of(3L, partial.getId()), result.getRecommendations().stream().map(JobListingDto::getId).toList());
+        }
     }
 
     @Nested
@@ -245,11 +319,10 @@ class DashboardServiceTest {
         @DisplayName("getWorkerProfileCompletion_givenCompleteProfile_thenShouldReturn100Percent")
         void getWorkerProfileCompletion_givenCompleteProfile_thenShouldReturn100Percent() {
             // Arrange
-            when(userRepository.findByEmail("worker@test.com")).thenReturn(Optional.of(workerUser));
-            when(workerProfileRepository.findByUser(workerUser)).thenReturn(Optional.of(workerProfile));
+            when(workerProfileRepository.findById(1L)).thenReturn(Optional.of(workerProfile));
 
             // Act
-            ProfileCompletionDto result = dashboardService.getWorkerProfileCompletion("worker@test.com");
+            ProfileCompletionDto result = dashboardService.getWorkerProfileCompletion(1L);
 
             // Assert
             assertNotNull(result);
@@ -266,11 +339,10 @@ class DashboardServiceTest {
             workerProfile.setProfileImageUrl(null);
             workerProfile.setSkills(null);
 
-            when(userRepository.findByEmail("worker@test.com")).thenReturn(Optional.of(workerUser));
-            when(workerProfileRepository.findByUser(workerUser)).thenReturn(Optional.of(workerProfile));
+            when(workerProfileRepository.findById(1L)).thenReturn(Optional.of(workerProfile));
 
             // Act
-            ProfileCompletionDto result = dashboardService.getWorkerProfileCompletion("worker@test.com");
+            ProfileCompletionDto result = dashboardService.getWorkerProfileCompletion(1L);
 
             // Assert
             assertNotNull(result);
@@ -291,11 +363,10 @@ class DashboardServiceTest {
             workerProfile.setPhoneNumber(null);
             workerProfile.setBio(null);
 
-            when(userRepository.findByEmail("worker@test.com")).thenReturn(Optional.of(workerUser));
-            when(workerProfileRepository.findByUser(workerUser)).thenReturn(Optional.of(workerProfile));
+            when(workerProfileRepository.findById(1L)).thenReturn(Optional.of(workerProfile));
 
             // Act
-            ProfileCompletionDto result = dashboardService.getWorkerProfileCompletion("worker@test.com");
+            ProfileCompletionDto result = dashboardService.getWorkerProfileCompletion(1L);
 
             // Assert
             assertNotNull(result);
@@ -312,17 +383,18 @@ class DashboardServiceTest {
         @DisplayName("getWorkerStats_givenVariousApplicationStatuses_thenShouldCalculateCorrectStats")
         void getWorkerStats_givenVariousApplicationStatuses_thenShouldCalculateCorrectStats() {
             // Arrange
-            List<JobApplication> applications = Arrays.asList(jobApplication1, jobApplication2);
             List<JobPosting> openJobs = Arrays.asList(jobPosting1);
 
-            when(userRepository.findByEmail("worker@test.com")).thenReturn(Optional.of(workerUser));
-            when(jobApplicationRepository.findByWorker_Email("worker@test.com")).thenReturn(applications);
-            when(jobApplicationRepository.countByWorkerAndStatus(workerUser, JobApplicationStatus.PENDING)).thenReturn(1L);
-            when(jobApplicationRepository.countByWorkerAndStatus(workerUser, JobApplicationStatus.COMPLETED)).thenReturn(1L);
-            when(jobPostingRepository.findByStatus(JobStatus.OPEN)).thenReturn(openJobs);
+            UserStats rollup = new UserStats(workerUser);
+            ReflectionTestUtils.setField(rollup, "applicationCount", 2);
+            ReflectionTestUtils.setField(rollup, "pendingCount", 1);
+            ReflectionTestUtils.setField(rollup, "completedCount", 1);
+            ReflectionTestUtils.setField(rollup, "profileViews", 40L);
+            when(userStatsRepository.findById(1L)).thenReturn(Optional.of(rollup));
+            openJobsCache.replaceAll(openJobs.stream().map(DashboardServiceTest.this::openListing).toList());
 
             // Act
-            WorkerStatsDto result = dashboardService.getWorkerStats("worker@test.com");
+            WorkerStatsDto result = dashboardService.getWorkerStats(1L);
 
             // Assert
             assertNotNull(result);
@@ -330,7 +402,33 @@ class DashboardServiceTest {
             assertEquals(1, result.getPendingApplications());
             assertEquals(1, result.getInterviewsScheduled());
             assertEquals(1, result.getJobMatchesThisWeek());
-            assertEquals(0, result.getProfileViews()); // Default implementation
+            assertEquals(40, result.getProfileViews());
+            verifyNoInteractions(jobApplicationRepository);
+        }
+
+        @Test
+        @DisplayName("getWorkerStats_givenWorkerWithoutRollup_thenShouldReturnZeroCounts")
+        void getWorkerStats_givenWorkerWithoutRollup_thenShouldReturnZeroCounts() {
+            // Arrange
+            when(userStatsRepository.findById(1L)).thenReturn(Optional.empty());
+
+            // Act
+            WorkerStatsDto result = dashboardService.getWorkerStats(1L);
+
+            // Assert
+            assertEquals(0, result.getTotalApplications());
+            assertEquals(0, result.getPendingApplications());
+            assertEquals(0, result.getInterviewsScheduled());
         }
     }
+
+    private JobListingDto openListing(JobPosting job) {
+        return JobListingDto.builder()
+                .id(job.getId())
+                .jobTitle(job.getJobTitle())
+                .location(job.getLocation())
+                .status(JobStatus.OPEN)
+                .postedAt(job.getPostedAt())
+                .build();
+    }
 }
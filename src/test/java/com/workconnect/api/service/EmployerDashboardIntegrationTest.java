@@ -0,0 +1,165 @@
+package com.workconnect.api.service;
+
+import com.workconnect.api.constants.Enum.*;
+import com.workconnect.api.dto.CreateJobRequestDto;
+import com.workconnect.api.dto.JobApplicationDto;
+import com.workconnect.api.dto.RegistrationRequestDto;
+import com.workconnect.api.dto.dashboard.EmployerStatsDto;
+import com.workconnect.api.dto.dashboard.RecentApplicationsDto;
+import com.workconnect.api.entity.*;
+import com.workconnect.api.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(locations = "classpath:application-test.properties")
+class EmployerDashboardIntegrationTest {
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private String employerEmail;
+    private Long employerId;
+    private Long latestApplicationId;
+
+    @BeforeEach
+    void setUp() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        employerEmail = "employer-" + run + "@test.com";
+        employerId = register(employerEmail, Role.EMPLOYER).getUserId();
+
+        List<JobPosting> jobs = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            CreateJobRequestDto job = new CreateJobRequestDto();
+            job.setJobTitle("Shift " + i);
+            job.setDescription("Warehouse shift");
+            job.setLocation("Colombo");
+            job.setSalary(5000.0);
+            job.setJobType(JobType.ONE_DAY);
+            job.setStartDate(LocalDate.now().plusDays(3));
+            jobs.add(jobService.createJob(employerEmail, job));
+        }
+
+        // Two workers apply to every job: six applications
+        for (int w = 0; w < 2; w++) {
+            String workerEmail = "worker-" + run + "-" + w + "@test.com";
+            register(workerEmail, Role.WORKER);
+            for (JobPosting job : jobs) {
+                jobService.applyForJob(workerEmail, job.getId(), null);
+                latestApplicationId = jobService.checkApplicationStatus(workerEmail, job.getId()).getApplicationId();
+            }
+        }
+
+        // One job has been closed
+        jobService.updateJobStatus(employerEmail, jobs.get(2).getId(), JobStatus.CLOSED);
+    }
+
+    @Test
+    void getEmployerStats_givenJobsWithApplications_thenShouldReadOneRollupRow() {
+        // Arrange
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        statistics.setStatisticsEnabled(true);
+
+        // Act
+        EmployerStatsDto stats;
+        try {
+            stats = dashboardService.getEmployerStats(employerId);
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+
+        // Assert
+        assertEquals(3, stats.getTotalJobsPosted());
+        assertEquals(2, stats.getActiveJobs());
+        assertEquals(6, stats.getTotalApplications());
+        assertEquals(6, stats.getNewApplicationsThisWeek());
+        assertEquals(2.0, stats.getAverageApplicationsPerJob());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getEmployerStats_givenUserWithoutRollup_thenShouldReturnZeroCounts() {
+        // Arrange
+        User employer = newUser("new-" + employerEmail, Role.EMPLOYER);
+        userRepository.save(employer);
+
+        // Act
+        EmployerStatsDto stats = dashboardService.getEmployerStats(employer.getUserId());
+
+        // Assert
+        assertEquals(0, stats.getTotalJobsPosted());
+        assertEquals(0, stats.getTotalApplications());
+        assertEquals(0.0, stats.getAverageApplicationsPerJob());
+    }
+
+    @Test
+    void getEmployerRecentApplications_givenApplicationsAcrossJobs_thenShouldReturnNewestInOneStatement() {
+        // Arrange
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        statistics.setStatisticsEnabled(true);
+
+        // Act
+        RecentApplicationsDto recent;
+        try {
+            recent = dashboardService.getEmployerRecentApplications(employerId, 4);
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+
+        // Assert
+        assertEquals(4, recent.getTotalCount());
+        assertEquals(latestApplicationId, recent.getApplications().get(0).getId());
+        List<LocalDateTime> appliedAt = recent.getApplications().stream().map(JobApplicationDto::getAppliedAt).toList();
+        for (int i = 1; i < appliedAt.size(); i++) {
+            assertFalse(appliedAt.get(i).isAfter(appliedAt.get(i - 1)));
+        }
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private User register(String email, Role role) {
+        RegistrationRequestDto request = new RegistrationRequestDto();
+        request.setEmail(email);
+        request.setPassword("password123");
+        request.setRole(role);
+        return userService.registerUser(request);
+    }
+
+    private User newUser(String email, Role role) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPassword("password");
+        user.setRole(role);
+        user.setStatus(UserStatus.ACTIVE);
+        return user;
+    }
+}
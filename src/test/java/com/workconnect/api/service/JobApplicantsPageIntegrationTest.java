@@ -0,0 +1,175 @@
+package com.workconnect.api.service;
+
+import com.workconnect.api.constants.Enum.*;
+import com.workconnect.api.dto.JobApplicationDto;
+import com.workconnect.api.entity.*;
+import com.workconnect.api.repository.JobPostingRepository;
+import com.workconnect.api.repository.SkillRepository;
+import com.workconnect.api.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(locations = "classpath:application-test.properties")
+class JobApplicantsPageIntegrationTest {
+
+    private static final int APPLICANTS = 60;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @Autowired
+    private SkillRepository skillRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private String employerEmail;
+    private JobPosting job;
+
+    @BeforeEach
+    void setUp() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        Skill forklift = skillRepository.save(new Skill("Forklift " + run));
+        Skill firstAid = skillRepository.save(new Skill("First aid " + run));
+
+        employerEmail = "employer-" + run + "@test.com";
+        User employer = newUser(employerEmail, Role.EMPLOYER);
+        employer.setProfile(new EmployerProfile(employer));
+        userRepository.save(employer);
+
+        job = new JobPosting();
+        job.setJobTitle("Warehouse crew");
+        job.setJobType(JobType.ONE_DAY);
+        job.setRequiredSkills("Forklift " + run + ", First aid " + run);
+        job.setStatus(JobStatus.OPEN);
+        job.setEmployer(employer);
+        job = jobPostingRepository.save(job);
+
+        for (int i = 0; i < APPLICANTS; i++) {
+            String email = "worker-" + run + "-" + i + "@test.com";
+            boolean firstAider = i % 2 == 0;
+            // Skills are attached inside the transaction so cascading the profile does not re-persist them
+            transactionTemplate.executeWithoutResult(status -> {
+                User worker = newUser(email, Role.WORKER);
+                WorkerProfile profile = new WorkerProfile(worker);
+                profile.setFirstName("Worker");
+                profile.setSkills(new HashSet<>(firstAider
+                        ? skillRepository.findAllById(List.of(forklift.getId(), firstAid.getId()))
+                        : skillRepository.findAllById(List.of(forklift.getId()))));
+                worker.setProfile(profile);
+                userRepository.save(worker);
+            });
+            jobService.applyForJob(email, job.getId(), null);
+        }
+        List<Long> firstTen = jobService.getApplicantsPage(employerEmail, job.getId(), null, null, null,
+                PageRequest.of(0, 10, Sort.by("id"))).map(JobApplicationDto::getId).getContent();
+        jobService.updateApplicationStatuses(employerEmail, firstTen, JobApplicationStatus.ACCEPTED);
+    }
+
+    @Test
+    void getApplicantsPage_givenManyApplicants_thenShouldLoadPageInFixedNumberOfQueries() {
+        // Arrange
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        statistics.setStatisticsEnabled(true);
+
+        // Act
+        Page<JobApplicationDto> page;
+        try {
+            page = jobService.getApplicantsPage(employerEmail, job.getId(), null, null, null,
+                    PageRequest.of(0, 50, Sort.by("appliedAt").descending()));
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+
+        // Assert
+        assertEquals(APPLICANTS, page.getTotalElements());
+        assertEquals(50, page.getContent().size());
+        assertTrue(page.getContent().stream().allMatch(application -> application.getApplicant().getFirstName() != null
+                && !application.getApplicant().getSkills().isEmpty()));
+        // Ownership, the page with workers and profiles, the count and one batch of skills
+        assertEquals(4, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getApplicantsPage_givenStatusFilter_thenShouldPageOnlyMatchingApplicants() {
+        // Act
+        Page<JobApplicationDto> page = jobService.getApplicantsPage(employerEmail, job.getId(), JobApplicationStatus.ACCEPTED,
+                null, null, PageRequest.of(1, 4, Sort.by("id")));
+
+        // Assert
+        assertEquals(10, page.getTotalElements());
+        assertEquals(3, page.getTotalPages());
+        assertEquals(4, page.getContent().size());
+        List<Long> ids = page.getContent().stream().map(JobApplicationDto::getId).toList();
+        assertEquals(ids.stream().sorted().toList(), ids);
+    }
+
+    @Test
+    void getApplicantsPage_givenUnknownSortProperty_thenShouldThrowIllegalArgumentException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> jobService.getApplicantsPage(employerEmail, job.getId(),
+                null, null, null, PageRequest.of(0, 20, Sort.by("worker.password"))));
+    }
+
+    @Test
+    void getTopApplicants_givenSkillDifferences_thenShouldReturnApplicantsWithAllSkillsFirst() {
+        // Act
+        List<JobApplicationDto> top = jobService.getTopApplicants(employerEmail, job.getId(), 5);
+
+        // Assert
+        assertEquals(5, top.size());
+        assertTrue(top.stream().allMatch(application -> application.getApplicant().getSkills().size() == 2));
+        List<Double> scores = top.stream().map(JobApplicationDto::getMatchScore).toList();
+        assertEquals(scores.stream().sorted(Comparator.reverseOrder()).toList(), scores);
+        assertThrows(IllegalArgumentException.class, () -> jobService.getTopApplicants(employerEmail, job.getId(), 0));
+    }
+
+    @Test
+    void getTopApplicants_givenDecidedApplications_thenShouldRankOnlyUndecidedOnes() {
+        // Act
+        List<JobApplicationDto> top = jobService.getTopApplicants(employerEmail, job.getId(), 100);
+
+        // Assert
+        assertEquals(APPLICANTS - 10, top.size());
+        assertTrue(top.stream().noneMatch(application -> application.getStatus() == JobApplicationStatus.ACCEPTED));
+    }
+
+    private User newUser(String email, Role role) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPassword("password");
+        user.setRole(role);
+        user.setStatus(UserStatus.ACTIVE);
+        return user;
+    }
+}
@@ -0,0 +1,93 @@
+package com.workconnect.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.workconnect.api.dto.JobListingDto;
+import com.workconnect.api.entity.JobPosting;
+import com.workconnect.api.repository.JobPostingRepository;
+import com.workconnect.api.service.impl.JobExportServiceImpl;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JobExportService Tests")
+class JobExportServiceTest {
+
+    @Mock
+    private JobPostingRepository jobPostingRepository;
+
+    @Mock
+    private JobService jobService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private JobExportServiceImpl jobExportService;
+
+    @BeforeEach
+    void setUp() {
+        jobExportService = new JobExportServiceImpl(jobPostingRepository, jobService, new ObjectMapper(), entityManager);
+        lenient().when(jobService.mapToJobListingDto(any())).thenAnswer(invocation -> {
+            JobPosting job = invocation.getArgument(0);
+            return JobListingDto.builder().id(job.getId()).jobTitle("Job " + job.getId()).build();
+        });
+    }
+
+    @Test
+    @DisplayName("exportJobs_givenJobs_thenShouldWriteOneJsonObjectPerLineAndCloseStream")
+    void exportJobs_givenJobs_thenShouldWriteOneJsonObjectPerLineAndCloseStream() throws Exception {
+        // Arrange
+        AtomicBoolean closed = new AtomicBoolean();
+        LocalDateTime since = LocalDateTime.now().minusHours(1);
+        when(jobPostingRepository.streamModifiedForExport(since))
+                .thenReturn(Stream.of(job(1L), job(2L)).onClose(() -> closed.set(true)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        long written = jobExportService.exportJobs(since, out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, written);
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":1,"));
+        assertTrue(lines[1].startsWith("{\"id\":2,"));
+        assertTrue(closed.get());
+    }
+
+    @Test
+    @DisplayName("exportJobs_givenLargeCatalog_thenShouldClearPersistenceContextPerBatch")
+    void exportJobs_givenLargeCatalog_thenShouldClearPersistenceContextPerBatch() throws Exception {
+        // Arrange
+        when(jobPostingRepository.streamOpenForExport())
+                .thenReturn(LongStream.rangeClosed(1, 1200).mapToObj(this::job));
+
+        // Act
+        long written = jobExportService.exportJobs(null, new ByteArrayOutputStream());
+
+        // Assert
+        assertEquals(1200, written);
+        verify(entityManager, times(2)).clear();
+    }
+
+    private JobPosting job(long id) {
+        JobPosting job = new JobPosting();
+        job.setId(id);
+        return job;
+    }
+}
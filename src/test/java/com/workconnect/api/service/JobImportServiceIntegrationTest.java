@@ -0,0 +1,125 @@
+package com.workconnect.api.service;
+
+import com.workconnect.api.cache.OpenJobsCache;
+import com.workconnect.api.constants.Enum.*;
+import com.workconnect.api.dto.JobImportReportDto;
+import com.workconnect.api.dto.JobImportRowResultDto;
+import com.workconnect.api.entity.EmployerProfile;
+import com.workconnect.api.entity.JobPosting;
+import com.workconnect.api.entity.User;
+import com.workconnect.api.repository.JobPostingRepository;
+import com.workconnect.api.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(locations = "classpath:application-test.properties")
+class JobImportServiceIntegrationTest {
+
+    @Autowired
+    private JobImportService jobImportService;
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OpenJobsCache openJobsCache;
+
+    private String employerEmail;
+
+    @BeforeEach
+    void setUp() {
+        employerEmail = "agency-" + UUID.randomUUID().toString().substring(0, 8) + "@test.com";
+        User employer = new User();
+        employer.setEmail(employerEmail);
+        employer.setPassword("password");
+        employer.setRole(Role.EMPLOYER);
+        employer.setStatus(UserStatus.ACTIVE);
+        EmployerProfile profile = new EmployerProfile(employer);
+        profile.setCompanyName("Shift Agency");
+        employer.setProfile(profile);
+        userRepository.save(employer);
+    }
+
+    @Test
+    void importCsv_givenValidAndInvalidRows_thenShouldInsertValidRowsAndReportEveryRow() throws Exception {
+        // Arrange
+        String day = LocalDate.now().plusDays(3).toString();
+        String csv = "jobTitle,description,location,salary,jobType,startDate,endDate,requiredSkills\n" +
+                "Usher,\"Guide guests, check tickets\",Colombo,3000,ONE_DAY," + day + ",,\"Customer \"\"care\"\"\"\n" +
+                "Cleaner,Office clean,Kandy,abc,ONE_DAY," + day + ",,\n" +
+                "Guard,Night shift,Galle,50000,CONTRACT," + day + "," + day + ",\n" +
+                "\n" +
+                "Porter,Carry luggage,Unknown Town,2500,one_day," + day + ",,\n";
+
+        // Act
+        JobImportReportDto report = jobImportService.importCsv(employerEmail, new StringReader(csv));
+
+        // Assert
+        assertEquals(4, report.getTotalRows());
+        assertEquals(2, report.getCreatedCount());
+        assertEquals(2, report.getRejectedCount());
+        List<JobImportRowResultDto> rows = report.getRows();
+        assertEquals(ImportRowStatus.CREATED, rows.get(0).getStatus());
+        assertEquals(List.of("salary: invalid value 'abc'"), rows.get(1).getErrors());
+        assertEquals(List.of("End date must be after start date for contract jobs"), rows.get(2).getErrors());
+        assertEquals(ImportRowStatus.CREATED, rows.get(3).getStatus());
+
+        JobPosting usher = jobPostingRepository.findById(rows.get(0).getJobId()).orElseThrow();
+        assertEquals("Guide guests, check tickets", usher.getDescription());
+        assertEquals("Customer \"care\"", usher.getRequiredSkills());
+        assertEquals(JobStatus.OPEN, usher.getStatus());
+        assertNotNull(usher.getLatitude());
+        assertEquals(0, usher.getApplicationCount());
+        assertNull(jobPostingRepository.findById(rows.get(3).getJobId()).orElseThrow().getLatitude());
+        assertEquals("Shift Agency", openJobsCache.snapshot().get(usher.getId()).getEmployerCompanyName());
+    }
+
+    @Test
+    void importJson_givenManyRowsAndOneMalformedRow_thenShouldInsertAllOtherRowsInBatches() throws Exception {
+        // Arrange
+        String day = LocalDate.now().plusDays(1).toString();
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 1200; i++) {
+            json.append("{\"jobTitle\":\"Picker ").append(i).append("\",\"description\":\"Warehouse\",")
+                    .append("\"location\":\"Colombo\",\"salary\":2000,\"jobType\":\"ONE_DAY\",\"startDate\":\"")
+                    .append(day).append("\"},");
+        }
+        json.append("{\"jobTitle\":\"Broken\",\"salary\":\"lots\"}]");
+
+        // Act
+        JobImportReportDto report = jobImportService.importJson(employerEmail,
+                new ByteArrayInputStream(json.toString().getBytes(StandardCharsets.UTF_8)));
+
+        // Assert
+        assertEquals(1201, report.getTotalRows());
+        assertEquals(1200, report.getCreatedCount());
+        assertEquals(ImportRowStatus.REJECTED, report.getRows().get(1200).getStatus());
+        assertEquals(1200, report.getRows().stream().map(JobImportRowResultDto::getJobId).filter(id -> id != null).distinct().count());
+        assertEquals(1200, jobPostingRepository.findByEmployer_Email(employerEmail).size());
+    }
+
+    @Test
+    void importJson_givenSomethingOtherThanAnArray_thenShouldThrowIllegalArgumentException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> jobImportService.importJson(employerEmail,
+                new ByteArrayInputStream("{\"jobTitle\":\"Usher\"}".getBytes(StandardCharsets.UTF_8))));
+    }
+}
@@ -1,9 +1,17 @@
 package com.workconnect.api.service;
 
+import com.workconnect.api.cache.OpenJobsCache;
 import com.workconnect.api.constants.Enum.*;
 import com.workconnect.api.dto.*;
 import com.workconnect.api.entity.*;
+import com.workconnect.api.event.JobApplicationChangedEvent;
+import com.workconnect.api.event.JobChangedEvent;
+import com.workconnect.api.geo.Gazetteer;
+import com.workconnect.api.geo.GeoPoint;
 import com.workconnect.api.repository.*;
+import com.workconnect.api.search.ApplicantRanker;
+import com.workconnect.api.search.JobGeoIndex;
+import com.workconnect.api.search.JobSearchIndex;
 import com.workconnect.api.service.impl.JobServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,7 +20,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
@@ -37,6 +47,33 @@ class JobServiceTest {
     @Mock
     private JobApplicationRepository jobApplicationRepository;
 
+    @Mock
+    private ApplicationCountService applicationCountService;
+
+    @Mock
+    private JobSearchIndex jobSearchIndex;
+
+    @Spy
+    private OpenJobsCache openJobsCache = new OpenJobsCache();
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private JobGeoIndex jobGeoIndex;
+
+    @Spy
+    private Gazetteer gazetteer = new Gazetteer();
+
+    @Mock
+    private IdAllocator idAllocator;
+
+    @Mock
+    private ApplicantRanker applicantRanker;
+
+    @Mock
+    private UserStatsService userStatsService;
+
     @InjectMocks
     private JobServiceImpl jobService;
 
@@ -146,6 +183,40 @@ class JobServiceTest {
             verify(jobPostingRepository).save(any(JobPosting.class));
         }
 
+        @Test
+        @DisplayName("createJob_givenFuturePublishTime_thenShouldKeepJobScheduledUntilThen")
+        void createJob_givenFuturePublishTime_thenShouldKeepJobScheduledUntilThen() {
+            // Arrange
+            LocalDateTime publishAt = LocalDateTime.now().plusDays(1);
+            oneDayJobDto.setPublishAt(publishAt);
+            when(userRepository.findByEmail("employer@test.com")).thenReturn(Optional.of(employer));
+            when(jobPostingRepository.save(any(JobPosting.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // Act
+            JobPosting result = jobService.createJob("employer@test.com", oneDayJobDto);
+
+            // Assert
+            assertEquals(JobStatus.SCHEDULED, result.getStatus());
+            assertEquals(publishAt, result.getPublishAt());
+        }
+
+        @Test
+        @DisplayName("createJob_givenLocationInGazetteer_thenShouldStoreItsCoordinates")
+        void createJob_givenLocationInGazetteer_thenShouldStoreItsCoordinates() {
+            // Arrange
+            oneDayJobDto.setLocation("Galle Fort, Galle");
+            when(userRepository.findByEmail("employer@test.com")).thenReturn(Optional.of(employer));
+            when(jobPostingRepository.save(any(JobPosting.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // Act
+            JobPosting result = jobService.createJob("employer@test.com", oneDayJobDto);
+
+            // Assert
+            GeoPoint galle = gazetteer.resolve("Galle").orElseThrow();
+            assertEquals(galle.latitude(), result.getLatitude());
+            assertEquals(galle.longitude(), result.getLongitude());
+        }
+
         @Test
         @DisplayName("createJob_givenValidOneDayJobData_thenShouldCreateJobWithCorrectDates")
         void createJob_givenValidOneDayJobData_thenShouldCreateJobWithCorrectDates() {
@@ -253,6 +324,7 @@ class JobServiceTest {
 
             // Assert
             verify(jobPostingRepository).delete(existingJob);
+            verify(eventPublisher).publishEvent(JobChangedEvent.deleted(1L));
         }
 
         @Test
@@ -292,8 +364,7 @@ class JobServiceTest {
         @DisplayName("getAllOpenJobs_givenOpenJobs_thenShouldReturnJobListingDtos")
         void getAllOpenJobs_givenOpenJobs_thenShouldReturnJobListingDtos() {
             // Arrange
-            List<JobPosting> openJobs = Arrays.asList(existingJob);
-            when(jobPostingRepository.findByStatus(JobStatus.OPEN)).thenReturn(openJobs);
+            openJobsCache.replaceAll(List.of(jobService.mapToJobListingDto(existingJob)));
 
             // Act
             List<JobListingDto> result = jobService.getAllOpenJobs();
@@ -301,7 +372,21 @@ class JobServiceTest {
             // Assert
             assertNotNull(result);
             assertEquals(1, result.size());
-            verify(jobPostingRepository).findByStatus(JobStatus.OPEN);
+            verifyNoInteractions(jobPostingRepository);
+        }
+
+        @Test
+        @DisplayName("mapToJobListingDto_givenJobCounters_thenShouldReadApplicationCountFromJobRow")
+        void mapToJobListingDto_givenJobCounters_thenShouldReadApplicationCountFromJobRow() {
+            // Arrange
+            existingJob.setApplicationCount(3);
+
+            // Act
+            JobListingDto result = jobService.mapToJobListingDto(existingJob);
+
+            // Assert
+            assertEquals(3, result.getApplicationCount());
+            verifyNoInteractions(jobApplicationRepository);
         }
 
         @Test
@@ -309,18 +394,65 @@ class JobServiceTest {
         void searchOpenJobs_givenKeyword_thenShouldReturnMatchingJobs() {
             // Arrange
             String keyword = "Software";
-            List<JobPosting> matchingJobs = Arrays.asList(existingJob);
-            when(jobPostingRepository.findByStatusAndJobTitleContainingIgnoreCaseOrDescriptionContainingIgnoreCase(
-                JobStatus.OPEN, keyword, keyword)).thenReturn(matchingJobs);
+            JobListingDto match = JobListingDto.builder().id(1L).jobTitle("Software Engineer").status(JobStatus.OPEN).build();
+            when(jobSearchIndex.search(eq(keyword), anyInt())).thenReturn(List.of(match));
 
             // Act
-            List<JobListingDto> result = jobService.searchOpenJobs(keyword);
+            List<JobListingDto> result = jobService.searchOpenJobs(keyword, SearchMode.KEYWORD);
 
             // Assert
             assertNotNull(result);
             assertEquals(1, result.size());
-            verify(jobPostingRepository).findByStatusAndJobTitleContainingIgnoreCaseOrDescriptionContainingIgnoreCase(
-                JobStatus.OPEN, keyword, keyword);
+            assertEquals(1L, result.get(0).getId());
+            verifyNoInteractions(jobPostingRepository);
+        }
+
+        @Test
+        @DisplayName("searchOpenJobs_givenFuzzyMode_thenShouldUseTypoTolerantLookup")
+        void searchOpenJobs_givenFuzzyMode_thenShouldUseTypoTolerantLookup() {
+            // Arrange
+            JobListingDto match = JobListingDto.builder().id(1L).jobTitle("Plumber").status(JobStatus.OPEN).build();
+            when(jobSearchIndex.fuzzySearch(eq("plumer"), anyInt())).thenReturn(List.of(match));
+
+            // Act
+            List<JobListingDto> result = jobService.searchOpenJobs("plumer", SearchMode.FUZZY);
+
+            // Assert
+            assertEquals(1, result.size());
+            verify(jobSearchIndex, never()).search(anyString(), anyInt());
+        }
+
+        @Test
+        @DisplayName("getOpenJobsPage_givenMoreRowsThanPageSize_thenShouldReturnCursorToNextPage")
+        void getOpenJobsPage_givenMoreRowsThanPageSize_thenShouldReturnCursorToNextPage() {
+            // Arrange
+            existingJob.setPostedAt(LocalDateTime.of(2025, 1, 2, 10, 0));
+            JobPosting olderJob = new JobPosting();
+            olderJob.setId(2L);
+            olderJob.setEmployer(employer);
+            olderJob.setStatus(JobStatus.OPEN);
+            olderJob.setPostedAt(LocalDateTime.of(2025, 1, 1, 10, 0));
+            when(jobPostingRepository.findPageByStatus(eq(JobStatus.OPEN), isNull(), isNull(), isNull(), isNull(),
+                    isNull(), isNull(), isNull(), isNull(), any())).thenReturn(Arrays.asList(existingJob, olderJob));
+
+            // Act
+            CursorPageDto<JobListingDto> result = jobService.getOpenJobsPage(new JobFilterDto(), null, 1);
+
+            // Assert
+            assertEquals(1, result.getItems().size());
+            assertTrue(result.isHasMore());
+            PageCursor cursor = PageCursor.decode(result.getNextCursor());
+            assertEquals(1L, cursor.id());
+            assertEquals(existingJob.getPostedAt(), cursor.timestamp());
+        }
+
+        @Test
+        @DisplayName("getOpenJobsPage_givenMalformedCursor_thenShouldThrowIllegalArgumentException")
+        void getOpenJobsPage_givenMalformedCursor_thenShouldThrowIllegalArgumentException() {
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, () ->
+                jobService.getOpenJobsPage(new JobFilterDto(), "not-a-cursor", 20));
+            verifyNoInteractions(jobPostingRepository);
         }
 
         @Test
@@ -332,6 +464,60 @@ class JobServiceTest {
             // Act & Assert
             assertThrows(RuntimeException.class, () -> jobService.getJobById(999L));
         }
+
+        @Test
+        @DisplayName("getJobDetailVersion_givenNewApplication_thenShouldChangeEtag")
+        void getJobDetailVersion_givenNewApplication_thenShouldChangeEtag() {
+            // Arrange
+            LocalDateTime modifiedAt = LocalDateTime.now();
+            when(jobPostingRepository.findDetailVersionById(1L))
+                    .thenReturn(Optional.of(new JobDetailVersion(3, 4, modifiedAt, 2L, null)))
+                    .thenReturn(Optional.of(new JobDetailVersion(3, 5, modifiedAt, 2L, null)));
+
+            // Act
+            ResourceVersion before = jobService.getJobDetailVersion(1L);
+            ResourceVersion after = jobService.getJobDetailVersion(1L);
+
+            // Assert
+            assertNotEquals(before.etag(), after.etag());
+            assertEquals(ResourceVersion.toEpochMilli(modifiedAt), after.lastModified());
+            verify(jobPostingRepository, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("getJobDetailVersion_givenNonExistentJobId_thenShouldThrowRuntimeException")
+        void getJobDetailVersion_givenNonExistentJobId_thenShouldThrowRuntimeException() {
+            // Arrange
+            when(jobPostingRepository.findDetailVersionById(999L)).thenReturn(Optional.empty());
+
+            // Act & Assert
+            assertThrows(RuntimeException.class, () -> jobService.getJobDetailVersion(999L));
+        }
+
+        @Test
+        @DisplayName("findOpenJobsNear_givenKnownPlaceName_thenShouldSearchAroundItsCoordinates")
+        void findOpenJobsNear_givenKnownPlaceName_thenShouldSearchAroundItsCoordinates() {
+            // Arrange
+            GeoPoint kandy = gazetteer.resolve("Kandy").orElseThrow();
+            when(jobGeoIndex.findWithin(kandy, 15, 100)).thenReturn(List.of());
+
+            // Act
+            jobService.findOpenJobsNear(null, null, "Kandy, Central Province", 15);
+
+            // Assert
+            verify(jobGeoIndex).findWithin(kandy, 15, 100);
+        }
+
+        @Test
+        @DisplayName("findOpenJobsNear_givenUnknownPlaceOrBadRadius_thenShouldThrowIllegalArgumentException")
+        void findOpenJobsNear_givenUnknownPlaceOrBadRadius_thenShouldThrowIllegalArgumentException() {
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, () -> jobService.findOpenJobsNear(null, null, "Atlantis", 10));
+            assertThrows(IllegalArgumentException.class, () -> jobService.findOpenJobsNear(null, null, null, 10));
+            assertThrows(IllegalArgumentException.class, () -> jobService.findOpenJobsNear(6.9, 79.9, null, 0));
+            assertThrows(IllegalArgumentException.class, () -> jobService.findOpenJobsNear(6.9, 79.9, null, 500));
+            verifyNoInteractions(jobGeoIndex);
+        }
     }
 
     @Nested
@@ -351,6 +537,8 @@ class JobServiceTest {
             // Assert
             assertEquals(JobStatus.CLOSED, result.getStatus());
             verify(jobPostingRepository).save(existingJob);
+            verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof JobChangedEvent changed
+                    && changed.listing().getStatus() == JobStatus.CLOSED));
         }
 
         @Test
@@ -373,48 +561,105 @@ class JobServiceTest {
         @DisplayName("applyForJob_givenValidApplication_thenShouldCreateApplicationSuccessfully")
         void applyForJob_givenValidApplication_thenShouldCreateApplicationSuccessfully() {
             // Arrange
-            when(userRepository.findByEmail("worker@test.com")).thenReturn(Optional.of(worker));
-            when(jobPostingRepository.findById(1L)).thenReturn(Optional.of(existingJob));
-            when(jobApplicationRepository.existsByWorker_UserIdAndJobPosting_Id(2L, 1L)).thenReturn(false);
-            when(jobApplicationRepository.save(any(JobApplication.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            when(idAllocator.nextId(JobApplication.class)).thenReturn(7L);
+            when(jobApplicationRepository.insertIfAbsent(eq(7L), eq("worker@test.com"), eq(1L), isNull(), any())).thenReturn(1);
+
+            // Act
+            boolean created = jobService.applyForJob("worker@test.com", 1L, null);
+
+            // Assert
+            assertTrue(created);
+            verify(applicationCountService).recordNewApplication(1L);
+            verify(eventPublisher).publishEvent(new JobApplicationChangedEvent(1L, 7L, null, JobApplicationStatus.PENDING));
+            verifyNoInteractions(userRepository, jobPostingRepository);
+        }
+
+        @Test
+        @DisplayName("applyForJob_givenRetryWithSameIdempotencyKey_thenShouldSucceedWithoutSideEffects")
+        void applyForJob_givenRetryWithSameIdempotencyKey_thenShouldSucceedWithoutSideEffects() {
+            // Arrange
+            jobApplication.setIdempotencyKey("tap-1");
+            when(jobApplicationRepository.insertIfAbsent(any(), eq("worker@test.com"), eq(1L), eq("tap-1"), any())).thenReturn(0);
+            when(jobApplicationRepository.findByWorker_EmailAndJobPosting_Id("worker@test.com", 1L)).thenReturn(Optional.of(jobApplication));
+
+            // Act
+            boolean created = jobService.applyForJob("worker@test.com", 1L, "tap-1");
+
+            // Assert
+            assertFalse(created);
+            verifyNoInteractions(applicationCountService, eventPublisher);
+        }
+
+        @Test
+        @DisplayName("updateApplicationStatus_givenAcceptedStatus_thenShouldMoveCounterFromPendingToAccepted")
+        void updateApplicationStatus_givenAcceptedStatus_thenShouldMoveCounterFromPendingToAccepted() {
+            // Arrange
+            when(jobApplicationRepository.findById(1L)).thenReturn(Optional.of(jobApplication));
 
             // Act
-            assertDoesNotThrow(() -> jobService.applyForJob("worker@test.com", 1L));
+            JobApplication result = jobService.updateApplicationStatus("employer@test.com", 1L, JobApplicationStatus.ACCEPTED);
 
             // Assert
-            verify(jobApplicationRepository).save(any(JobApplication.class));
+            assertEquals(JobApplicationStatus.ACCEPTED, result.getStatus());
+            verify(applicationCountService).recordStatusChange(1L, JobApplicationStatus.PENDING, JobApplicationStatus.ACCEPTED);
+        }
+
+        @Test
+        @DisplayName("updateApplicationStatuses_givenOwnedForeignAndMissingIds_thenShouldUpdateOnlyOwnedOnes")
+        void updateApplicationStatuses_givenOwnedForeignAndMissingIds_thenShouldUpdateOnlyOwnedOnes() {
+            // Arrange
+            when(jobApplicationRepository.findOwnershipByIdIn(Set.of(1L, 2L, 3L, 4L))).thenReturn(List.of(
+                    new ApplicationOwnership(1L, 1L, 1L, "employer@test.com", 2L, JobApplicationStatus.PENDING),
+                    new ApplicationOwnership(2L, 1L, 1L, "employer@test.com", 5L, JobApplicationStatus.REJECTED),
+                    new ApplicationOwnership(3L, 9L, 7L, "other@test.com", 6L, JobApplicationStatus.PENDING)));
+            when(jobApplicationRepository.updateStatusByIdIn(eq(List.of(1L)), eq(JobApplicationStatus.REJECTED), any())).thenReturn(1);
+
+            // Act
+            BulkApplicationStatusResultDto result = jobService.updateApplicationStatuses("employer@test.com",
+                    List.of(1L, 2L, 3L, 4L, 1L), JobApplicationStatus.REJECTED);
+
+            // Assert
+            assertEquals(1, result.getUpdatedCount());
+            assertEquals(List.of(StatusChangeOutcome.UPDATED, StatusChangeOutcome.UNCHANGED,
+                            StatusChangeOutcome.FORBIDDEN, StatusChangeOutcome.NOT_FOUND),
+                    result.getResults().stream().map(ApplicationStatusOutcomeDto::getOutcome).toList());
+            assertNull(result.getResults().get(2).getPreviousStatus());
+            verify(jobApplicationRepository).lockByIdIn(Set.of(1L, 2L, 3L, 4L));
+            verify(applicationCountService).recordStatusChanges(1L, List.of(JobApplicationStatus.PENDING), JobApplicationStatus.REJECTED);
+            verify(jobApplicationRepository, never()).findById(any());
         }
 
         @Test
         @DisplayName("applyForJob_givenClosedJob_thenShouldThrowIllegalStateException")
         void applyForJob_givenClosedJob_thenShouldThrowIllegalStateException() {
             // Arrange
-            existingJob.setStatus(JobStatus.CLOSED);
+            when(jobApplicationRepository.insertIfAbsent(any(), eq("worker@test.com"), eq(1L), isNull(), any())).thenReturn(0);
+            when(jobApplicationRepository.findByWorker_EmailAndJobPosting_Id("worker@test.com", 1L)).thenReturn(Optional.empty());
             when(userRepository.findByEmail("worker@test.com")).thenReturn(Optional.of(worker));
-            when(jobPostingRepository.findById(1L)).thenReturn(Optional.of(existingJob));
+            when(jobPostingRepository.existsById(1L)).thenReturn(true);
 
             // Act & Assert
             IllegalStateException exception = assertThrows(IllegalStateException.class, () ->
-                jobService.applyForJob("worker@test.com", 1L));
+                jobService.applyForJob("worker@test.com", 1L, null));
 
             assertTrue(exception.getMessage().contains("no longer open for applications"));
-            verify(jobApplicationRepository, never()).save(any(JobApplication.class));
+            verify(applicationCountService, never()).recordNewApplication(any());
         }
 
         @Test
         @DisplayName("applyForJob_givenDuplicateApplication_thenShouldThrowIllegalStateException")
         void applyForJob_givenDuplicateApplication_thenShouldThrowIllegalStateException() {
             // Arrange
-            when(userRepository.findByEmail("worker@test.com")).thenReturn(Optional.of(worker));
-            when(jobPostingRepository.findById(1L)).thenReturn(Optional.of(existingJob));
-            when(jobApplicationRepository.existsByWorker_UserIdAndJobPosting_Id(2L, 1L)).thenReturn(true);
+            jobApplication.setIdempotencyKey("tap-1");
+            when(jobApplicationRepository.insertIfAbsent(any(), eq("worker@test.com"), eq(1L), eq("tap-2"), any())).thenReturn(0);
+            when(jobApplicationRepository.findByWorker_EmailAndJobPosting_Id("worker@test.com", 1L)).thenReturn(Optional.of(jobApplication));
 
             // Act & Assert
             IllegalStateException exception = assertThrows(IllegalStateException.class, () ->
-                jobService.applyForJob("worker@test.com", 1L));
+                jobService.applyForJob("worker@test.com", 1L, "tap-2"));
 
             assertTrue(exception.getMessage().contains("already applied for this job"));
-            verify(jobApplicationRepository, never()).save(any(JobApplication.class));
+            verify(applicationCountService, never()).recordNewApplication(any());
         }
 
         @Test
@@ -0,0 +1,144 @@
+package com.workconnect.api.service;
+
+import com.workconnect.api.constants.Enum.JobStatus;
+import com.workconnect.api.constants.Enum.JobType;
+import com.workconnect.api.constants.Enum.Role;
+import com.workconnect.api.dto.CreateJobRequestDto;
+import com.workconnect.api.dto.CursorPageDto;
+import com.workconnect.api.dto.JobFilterDto;
+import com.workconnect.api.dto.JobListingDto;
+import com.workconnect.api.dto.RegistrationRequestDto;
+import com.workconnect.api.dto.ResourceVersion;
+import com.workconnect.api.entity.JobPosting;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The open jobs listing query with every combination of null and set filters. PostgreSQL rejects
+ * parameters it cannot infer a type for, which H2 accepts, so run this against PostgreSQL too (see
+ * application-test.properties).
+ */
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(locations = "classpath:application-test.properties")
+class OpenJobsPageIntegrationTest {
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private UserService userService;
+
+    private String run;
+    private String employerEmail;
+    private List<Long> jobIds;
+
+    @BeforeEach
+    void setUp() {
+        run = UUID.randomUUID().toString().substring(0, 8);
+        employerEmail = "employer-" + run + "@test.com";
+        RegistrationRequestDto request = new RegistrationRequestDto();
+        request.setEmail(employerEmail);
+        request.setPassword("password123");
+        request.setRole(Role.EMPLOYER);
+        userService.registerUser(request);
+
+        // Created oldest first, so the listing returns them in reverse
+        jobIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            JobType type = i % 2 == 0 ? JobType.ONE_DAY : JobType.CONTRACT;
+            JobPosting job = jobService.createJob(employerEmail, job("Shift " + i, "Colombo " + run, type, 1000.0 * (i + 1)));
+            jobIds.add(0, job.getId());
+        }
+    }
+
+    @Test
+    void getOpenJobsPage_givenNoFilters_thenShouldListNewestFirst() {
+        // Act
+        CursorPageDto<JobListingDto> page = jobService.getOpenJobsPage(new JobFilterDto(), null, 5);
+
+        // Assert: nothing was posted after this run's jobs
+        assertEquals(jobIds, ids(page.getItems()));
+    }
+
+    @Test
+    void getOpenJobsPage_givenLocationAndCursor_thenShouldWalkEveryMatchOnce() {
+        // Arrange
+        JobFilterDto filter = new JobFilterDto();
+        filter.setLocation("colombo " + run);
+
+        // Act
+        List<Long> listed = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPageDto<JobListingDto> page = jobService.getOpenJobsPage(filter, cursor, 2);
+            listed.addAll(ids(page.getItems()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        // Assert
+        assertEquals(jobIds, listed);
+    }
+
+    @Test
+    void getOpenJobsPage_givenEveryFilter_thenShouldApplyAllOfThem() {
+        // Arrange: ONE_DAY jobs paying 1000, 3000 and 5000
+        JobFilterDto filter = new JobFilterDto();
+        filter.setJobType(JobType.ONE_DAY);
+        filter.setLocation(run);
+        filter.setMinSalary(2000.0);
+        filter.setMaxSalary(6000.0);
+        filter.setStartDateFrom(LocalDate.now());
+        filter.setStartDateTo(LocalDate.now().plusDays(7));
+
+        // Act
+        CursorPageDto<JobListingDto> page = jobService.getOpenJobsPage(filter, null, 10);
+
+        // Assert
+        assertEquals(List.of(jobIds.get(0), jobIds.get(2)), ids(page.getItems()));
+        assertFalse(page.isHasMore());
+    }
+
+    @Test
+    void getOpenJobsVersion_givenJobChangedAndCommitted_thenShouldChangeEtag() {
+        // Arrange
+        ResourceVersion before = jobService.getOpenJobsVersion();
+
+        // Act
+        jobService.updateJobStatus(employerEmail, jobIds.get(0), JobStatus.CLOSED);
+
+        // Assert
+        ResourceVersion after = jobService.getOpenJobsVersion();
+        assertNotEquals(before.etag(), after.etag());
+        assertEquals(after, jobService.getOpenJobsVersion());
+    }
+
+    private static List<Long> ids(List<JobListingDto> jobs) {
+        return jobs.stream().map(JobListingDto::getId).toList();
+    }
+
+    private static CreateJobRequestDto job(String title, String location, JobType type, double salary) {
+        CreateJobRequestDto job = new CreateJobRequestDto();
+        job.setJobTitle(title);
+        job.setDescription("Warehouse shift");
+        job.setLocation(location);
+        job.setSalary(salary);
+        job.setJobType(type);
+        job.setStartDate(LocalDate.now().plusDays(3));
+        if (type == JobType.CONTRACT) {
+            job.setEndDate(LocalDate.now().plusDays(30));
+        }
+        return job;
+    }
+}
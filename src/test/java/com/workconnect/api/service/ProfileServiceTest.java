@@ -3,6 +3,9 @@ package com.workconnect.api.service;
 import com.workconnect.api.constants.Enum.*;
 import com.workconnect.api.dto.*;
 import com.workconnect.api.entity.*;
+import com.workconnect.api.event.WorkerSkillsChangedEvent;
+import com.workconnect.api.geo.Gazetteer;
+import com.workconnect.api.repository.JobPostingRepository;
 import com.workconnect.api.repository.SkillRepository;
 import com.workconnect.api.repository.UserRepository;
 import com.workconnect.api.service.impl.ProfileServiceImpl;
@@ -13,7 +16,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
 import java.util.*;
@@ -32,6 +37,18 @@ class ProfileServiceTest {
     @Mock
     private SkillRepository skillRepository;
 
+    @Mock
+    private JobPostingRepository jobPostingRepository;
+
+    @Mock
+    private JobService jobService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private Gazetteer gazetteer = new Gazetteer();
+
     @InjectMocks
     private ProfileServiceImpl profileService;
 
@@ -220,6 +237,7 @@ class ProfileServiceTest {
             
             verify(userRepository).save(workerUser);
             verify(skillRepository).save(any(Skill.class)); // New skill "React" was created
+            verify(eventPublisher).publishEvent(new WorkerSkillsChangedEvent(workerUser.getUserId()));
         }
 
         @Test
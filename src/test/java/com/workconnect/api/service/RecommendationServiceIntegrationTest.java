@@ -1,5 +1,6 @@
 package com.workconnect.api.service;
 
+import com.workconnect.api.cache.OpenJobsCache;
 import com.workconnect.api.constants.Enum.Role;
 import com.workconnect.api.dto.JobListingDto;
 import com.workconnect.api.entity.*;
@@ -30,21 +31,20 @@ class RecommendationServiceIntegrationTest {
     private UserRepository userRepository;
 
     @Mock
-    private JobPostingRepository jobPostingRepository;
+    private WorkerProfileRepository workerProfileRepository;
 
-    @Mock
-    private JobService jobService;
+    private OpenJobsCache openJobsCache;
 
     private RecommendationServiceImpl recommendationService;
 
     private User testWorker;
     private WorkerProfile testWorkerProfile;
-    private List<JobPosting> testJobs;
+    private List<JobListingDto> testJobs;
 
     @BeforeEach
     void setUp() {
-        recommendationService = new RecommendationServiceImpl(
-                restTemplate, userRepository, jobPostingRepository, jobService);
+        openJobsCache = new OpenJobsCache();
+        recommendationService = new RecommendationServiceImpl(restTemplate, userRepository, workerProfileRepository, openJobsCache);
 
         // Create test worker
         testWorker = new User();
@@ -81,8 +81,7 @@ class RecommendationServiceIntegrationTest {
         // Arrange
         testWorkerProfile.setSkills(new HashSet<>()); // No skills
         when(userRepository.findByEmail("worker@test.com")).thenReturn(Optional.of(testWorker));
-        when(jobPostingRepository.findByStatus(JobStatus.OPEN)).thenReturn(testJobs);
-        when(jobService.mapToJobListingDto(any(JobPosting.class))).thenReturn(createTestJobDto());
+        openJobsCache.replaceAll(testJobs);
 
         // Act
         List<JobListingDto> result = recommendationService.getJobRecommendations("worker@test.com");
@@ -120,23 +119,12 @@ class RecommendationServiceIntegrationTest {
         assertTrue(result.isEmpty());
     }
 
-    private JobPosting createTestJob(Long id, String title, String requiredSkills) {
-        JobPosting job = new JobPosting();
-        job.setId(id);
-        job.setJobTitle(title);
-        job.setRequiredSkills(requiredSkills);
-        job.setStatus(JobStatus.OPEN);
-        job.setPostedAt(LocalDateTime.now());
-        return job;
-    }
-
-    private JobListingDto createTestJobDto() {
+    private JobListingDto createTestJob(Long id, String title, String requiredSkills) {
         return JobListingDto.builder()
-                .id(1L)
-                .jobTitle("Test Job")
-                .description("Test Description")
-                .location("Test Location")
-                .requiredSkills("Test Skills")
+                .id(id)
+                .jobTitle(title)
+                .requiredSkills(requiredSkills)
+                .status(JobStatus.OPEN)
                 .employerCompanyName("Test Company")
                 .postedAt(LocalDateTime.now())
                 .build();
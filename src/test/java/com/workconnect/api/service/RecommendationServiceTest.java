@@ -1,10 +1,10 @@
 package com.workconnect.api.service;
 
+import com.workconnect.api.cache.OpenJobsCache;
 import com.workconnect.api.constants.Enum.*;
 import com.workconnect.api.dto.JobListingDto;
 import com.workconnect.api.dto.ai.*;
 import com.workconnect.api.entity.*;
-import com.workconnect.api.repository.JobPostingRepository;
 import com.workconnect.api.repository.UserRepository;
 import com.workconnect.api.service.impl.RecommendationServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -35,11 +36,8 @@ class RecommendationServiceTest {
     @Mock
     private UserRepository userRepository;
 
-    @Mock
-    private JobPostingRepository jobPostingRepository;
-
-    @Mock
-    private JobService jobService;
+    @Spy
+    private OpenJobsCache openJobsCache = new OpenJobsCache();
 
     @InjectMocks
     private RecommendationServiceImpl recommendationService;
@@ -47,8 +45,6 @@ class RecommendationServiceTest {
     private User workerUser;
     private User employerUser;
     private WorkerProfile workerProfile;
-    private JobPosting jobPosting1;
-    private JobPosting jobPosting2;
     private Skill skill1;
     private Skill skill2;
     private JobListingDto jobListingDto1;
@@ -87,33 +83,20 @@ class RecommendationServiceTest {
         employerUser.setRole(Role.EMPLOYER);
         employerUser.setStatus(UserStatus.ACTIVE);
 
-        // Setup job postings
-        jobPosting1 = new JobPosting();
-        jobPosting1.setId(1L);
-        jobPosting1.setJobTitle("Java Developer");
-        jobPosting1.setDescription("Java development position");
-        jobPosting1.setRequiredSkills("Java Spring Boot");
-        jobPosting1.setEmployer(employerUser);
-        jobPosting1.setStatus(JobStatus.OPEN);
-
-        jobPosting2 = new JobPosting();
-        jobPosting2.setId(2L);
-        jobPosting2.setJobTitle("Frontend Developer");
-        jobPosting2.setDescription("React development position");
-        jobPosting2.setRequiredSkills("React JavaScript");
-        jobPosting2.setEmployer(employerUser);
-        jobPosting2.setStatus(JobStatus.OPEN);
-
-        // Setup job listing DTOs
+        // Setup open job listings
         jobListingDto1 = new JobListingDto();
         jobListingDto1.setId(1L);
         jobListingDto1.setJobTitle("Java Developer");
         jobListingDto1.setDescription("Java development position");
+        jobListingDto1.setRequiredSkills("Java Spring Boot");
+        jobListingDto1.setStatus(JobStatus.OPEN);
 
         jobListingDto2 = new JobListingDto();
         jobListingDto2.setId(2L);
         jobListingDto2.setJobTitle("Frontend Developer");
         jobListingDto2.setDescription("React development position");
+        jobListingDto2.setRequiredSkills("React JavaScript");
+        jobListingDto2.setStatus(JobStatus.OPEN);
     }
 
     @Nested
@@ -124,18 +107,15 @@ class RecommendationServiceTest {
         @DisplayName("getJobRecommendations_givenValidWorkerWithSkills_thenShouldReturnRankedRecommendations")
         void getJobRecommendations_givenValidWorkerWithSkills_thenShouldReturnRankedRecommendations() {
             // Arrange
-            List<JobPosting> openJobs = Arrays.asList(jobPosting1, jobPosting2);
+            List<JobListingDto> openJobs = Arrays.asList(jobListingDto1, jobListingDto2);
             List<Long> rankedJobIds = Arrays.asList(1L, 2L);
             
             AiRecommendationResponseDto aiResponse = new AiRecommendationResponseDto(rankedJobIds);
             
             when(userRepository.findByEmail("worker@test.com")).thenReturn(Optional.of(workerUser));
-            when(jobPostingRepository.findByStatus(JobStatus.OPEN)).thenReturn(openJobs);
+            openJobsCache.replaceAll(openJobs);
             when(restTemplate.postForObject(anyString(), any(AiRecommendationRequestDto.class), eq(AiRecommendationResponseDto.class)))
                 .thenReturn(aiResponse);
-            when(jobPostingRepository.findAllById(rankedJobIds)).thenReturn(Arrays.asList(jobPosting1, jobPosting2));
-            when(jobService.mapToJobListingDto(jobPosting1)).thenReturn(jobListingDto1);
-            when(jobService.mapToJobListingDto(jobPosting2)).thenReturn(jobListingDto2);
 
             // Act
             List<JobListingDto> result = recommendationService.getJobRecommendations("worker@test.com");
@@ -147,7 +127,6 @@ class RecommendationServiceTest {
             assertEquals("Frontend Developer", result.get(1).getJobTitle());
             
             verify(restTemplate).postForObject(anyString(), any(AiRecommendationRequestDto.class), eq(AiRecommendationResponseDto.class));
-            verify(jobService, times(2)).mapToJobListingDto(any(JobPosting.class));
         }
 
         @Test
@@ -155,15 +134,13 @@ class RecommendationServiceTest {
         void getJobRecommendations_givenWorkerWithNoSkills_thenShouldCallAiServiceWithEmptySkills() {
             // Arrange
             workerProfile.setSkills(new HashSet<>());
-            List<JobPosting> openJobs = Arrays.asList(jobPosting1);
+            List<JobListingDto> openJobs = Arrays.asList(jobListingDto1);
             AiRecommendationResponseDto aiResponse = new AiRecommendationResponseDto(Arrays.asList(1L));
             
             when(userRepository.findByEmail("worker@test.com")).thenReturn(Optional.of(workerUser));
-            when(jobPostingRepository.findByStatus(JobStatus.OPEN)).thenReturn(openJobs);
+            openJobsCache.replaceAll(openJobs);
             when(restTemplate.postForObject(anyString(), any(AiRecommendationRequestDto.class), eq(AiRecommendationResponseDto.class)))
                 .thenReturn(aiResponse);
-            when(jobPostingRepository.findAllById(anyList())).thenReturn(Arrays.asList(jobPosting1));
-            when(jobService.mapToJobListingDto(any(JobPosting.class))).thenReturn(jobListingDto1);
 
             // Act
             List<JobListingDto> result = recommendationService.getJobRecommendations("worker@test.com");
@@ -217,10 +194,10 @@ class RecommendationServiceTest {
         @DisplayName("getJobRecommendations_givenAiServiceReturnsNull_thenShouldReturnEmptyList")
         void getJobRecommendations_givenAiServiceReturnsNull_thenShouldReturnEmptyList() {
             // Arrange
-            List<JobPosting> openJobs = Arrays.asList(jobPosting1);
+            List<JobListingDto> openJobs = Arrays.asList(jobListingDto1);
             
             when(userRepository.findByEmail("worker@test.com")).thenReturn(Optional.of(workerUser));
-            when(jobPostingRepository.findByStatus(JobStatus.OPEN)).thenReturn(openJobs);
+            openJobsCache.replaceAll(openJobs);
             when(restTemplate.postForObject(anyString(), any(AiRecommendationRequestDto.class), eq(AiRecommendationResponseDto.class)))
                 .thenReturn(null);
 
@@ -236,11 +213,11 @@ class RecommendationServiceTest {
         @DisplayName("getJobRecommendations_givenAiServiceReturnsEmptyJobIds_thenShouldReturnEmptyList")
         void getJobRecommendations_givenAiServiceReturnsEmptyJobIds_thenShouldReturnEmptyList() {
             // Arrange
-            List<JobPosting> openJobs = Arrays.asList(jobPosting1);
+            List<JobListingDto> openJobs = Arrays.asList(jobListingDto1);
             AiRecommendationResponseDto aiResponse = new AiRecommendationResponseDto(Collections.emptyList());
             
             when(userRepository.findByEmail("worker@test.com")).thenReturn(Optional.of(workerUser));
-            when(jobPostingRepository.findByStatus(JobStatus.OPEN)).thenReturn(openJobs);
+            openJobsCache.replaceAll(openJobs);
             when(restTemplate.postForObject(anyString(), any(AiRecommendationRequestDto.class), eq(AiRecommendationResponseDto.class)))
                 .thenReturn(aiResponse);
 
@@ -256,10 +233,10 @@ class RecommendationServiceTest {
         @DisplayName("getJobRecommendations_givenAiServiceThrowsException_thenShouldPropagateException")
         void getJobRecommendations_givenAiServiceThrowsException_thenShouldPropagateException() {
             // Arrange
-            List<JobPosting> openJobs = Arrays.asList(jobPosting1);
+            List<JobListingDto> openJobs = Arrays.asList(jobListingDto1);
             
             when(userRepository.findByEmail("worker@test.com")).thenReturn(Optional.of(workerUser));
-            when(jobPostingRepository.findByStatus(JobStatus.OPEN)).thenReturn(openJobs);
+            openJobsCache.replaceAll(openJobs);
             when(restTemplate.postForObject(anyString(), any(AiRecommendationRequestDto.class), eq(AiRecommendationResponseDto.class)))
                 .thenThrow(new RestClientException("AI service unavailable"));
 
@@ -272,11 +249,11 @@ class RecommendationServiceTest {
         @DisplayName("getJobRecommendations_givenAiServiceReturnsNullJobIds_thenShouldReturnEmptyList")
         void getJobRecommendations_givenAiServiceReturnsNullJobIds_thenShouldReturnEmptyList() {
             // Arrange
-            List<JobPosting> openJobs = Arrays.asList(jobPosting1);
+            List<JobListingDto> openJobs = Arrays.asList(jobListingDto1);
             AiRecommendationResponseDto aiResponse = new AiRecommendationResponseDto(null);
             
             when(userRepository.findByEmail("worker@test.com")).thenReturn(Optional.of(workerUser));
-            when(jobPostingRepository.findByStatus(JobStatus.OPEN)).thenReturn(openJobs);
+            openJobsCache.replaceAll(openJobs);
             when(restTemplate.postForObject(anyString(), any(AiRecommendationRequestDto.class), eq(AiRecommendationResponseDto.class)))
                 .thenReturn(aiResponse);
 
@@ -297,17 +274,14 @@ class RecommendationServiceTest {
         @DisplayName("getJobRecommendations_givenJobsNotFoundInDatabase_thenShouldFilterOutMissingJobs")
         void getJobRecommendations_givenJobsNotFoundInDatabase_thenShouldFilterOutMissingJobs() {
             // Arrange
-            List<JobPosting> openJobs = Arrays.asList(jobPosting1, jobPosting2);
-            List<Long> rankedJobIds = Arrays.asList(1L, 2L, 999L); // 999L doesn't exist
+            List<JobListingDto> openJobs = Arrays.asList(jobListingDto1, jobListingDto2);
+            List<Long> rankedJobIds = Arrays.asList(1L, 2L, 999L); // 999L is not an open job
             AiRecommendationResponseDto aiResponse = new AiRecommendationResponseDto(rankedJobIds);
 
             when(userRepository.findByEmail("worker@test.com")).thenReturn(Optional.of(workerUser));
-            when(jobPostingRepository.findByStatus(JobStatus.OPEN)).thenReturn(openJobs);
+            openJobsCache.replaceAll(openJobs);
             when(restTemplate.postForObject(anyString(), any(AiRecommendationRequestDto.class), eq(AiRecommendationResponseDto.class)))
                 .thenReturn(aiResponse);
-            when(jobPostingRepository.findAllById(rankedJobIds)).thenReturn(Arrays.asList(jobPosting1, jobPosting2));
-            when(jobService.mapToJobListingDto(jobPosting1)).thenReturn(jobListingDto1);
-            when(jobService.mapToJobListingDto(jobPosting2)).thenReturn(jobListingDto2);
 
             // Act
             List<JobListingDto> result = recommendationService.getJobRecommendations("worker@test.com");
@@ -324,7 +298,7 @@ class RecommendationServiceTest {
         void getJobRecommendations_givenNoOpenJobs_thenShouldReturnEmptyList() {
             // Arrange
             when(userRepository.findByEmail("worker@test.com")).thenReturn(Optional.of(workerUser));
-            when(jobPostingRepository.findByStatus(JobStatus.OPEN)).thenReturn(Collections.emptyList());
+            openJobsCache.replaceAll(Collections.emptyList());
 
             // Act
             List<JobListingDto> result = recommendationService.getJobRecommendations("worker@test.com");
@@ -344,16 +318,14 @@ class RecommendationServiceTest {
         @DisplayName("getJobRecommendations_givenJobsWithNullRequiredSkills_thenShouldHandleGracefully")
         void getJobRecommendations_givenJobsWithNullRequiredSkills_thenShouldHandleGracefully() {
             // Arrange
-            jobPosting1.setRequiredSkills(null);
-            List<JobPosting> openJobs = Arrays.asList(jobPosting1);
+            jobListingDto1.setRequiredSkills(null);
+            List<JobListingDto> openJobs = Arrays.asList(jobListingDto1);
             AiRecommendationResponseDto aiResponse = new AiRecommendationResponseDto(Arrays.asList(1L));
 
             when(userRepository.findByEmail("worker@test.com")).thenReturn(Optional.of(workerUser));
-            when(jobPostingRepository.findByStatus(JobStatus.OPEN)).thenReturn(openJobs);
+            openJobsCache.replaceAll(openJobs);
             when(restTemplate.postForObject(anyString(), any(AiRecommendationRequestDto.class), eq(AiRecommendationResponseDto.class)))
                 .thenReturn(aiResponse);
-            when(jobPostingRepository.findAllById(anyList())).thenReturn(Arrays.asList(jobPosting1));
-            when(jobService.mapToJobListingDto(any(JobPosting.class))).thenReturn(jobListingDto1);
 
             // Act
             List<JobListingDto> result = recommendationService.getJobRecommendations("worker@test.com");
@@ -374,15 +346,13 @@ class RecommendationServiceTest {
         void getJobRecommendations_givenWorkerWithNullSkills_thenShouldHandleGracefully() {
             // Arrange
             workerProfile.setSkills(null);
-            List<JobPosting> openJobs = Arrays.asList(jobPosting1);
+            List<JobListingDto> openJobs = Arrays.asList(jobListingDto1);
             AiRecommendationResponseDto aiResponse = new AiRecommendationResponseDto(Arrays.asList(1L));
 
             when(userRepository.findByEmail("worker@test.com")).thenReturn(Optional.of(workerUser));
-            when(jobPostingRepository.findByStatus(JobStatus.OPEN)).thenReturn(openJobs);
+            openJobsCache.replaceAll(openJobs);
             when(restTemplate.postForObject(anyString(), any(AiRecommendationRequestDto.class), eq(AiRecommendationResponseDto.class)))
                 .thenReturn(aiResponse);
-            when(jobPostingRepository.findAllById(anyList())).thenReturn(Arrays.asList(jobPosting1));
-            when(jobService.mapToJobListingDto(any(JobPosting.class))).thenReturn(jobListingDto1);
 
             // Act
             List<JobListingDto> result = recommendationService.getJobRecommendations("worker@test.com");
@@ -402,17 +372,14 @@ class RecommendationServiceTest {
         @DisplayName("getJobRecommendations_givenCorrectOrderPreservation_thenShouldMaintainAiRanking")
         void getJobRecommendations_givenCorrectOrderPreservation_thenShouldMaintainAiRanking() {
             // Arrange - AI returns jobs in specific order (2L, 1L)
-            List<JobPosting> openJobs = Arrays.asList(jobPosting1, jobPosting2);
+            List<JobListingDto> openJobs = Arrays.asList(jobListingDto1, jobListingDto2);
             List<Long> rankedJobIds = Arrays.asList(2L, 1L); // Reverse order from database
             AiRecommendationResponseDto aiResponse = new AiRecommendationResponseDto(rankedJobIds);
 
             when(userRepository.findByEmail("worker@test.com")).thenReturn(Optional.of(workerUser));
-            when(jobPostingRepository.findByStatus(JobStatus.OPEN)).thenReturn(openJobs);
+            openJobsCache.replaceAll(openJobs);
             when(restTemplate.postForObject(anyString(), any(AiRecommendationRequestDto.class), eq(AiRecommendationResponseDto.class)))
                 .thenReturn(aiResponse);
-            when(jobPostingRepository.findAllById(rankedJobIds)).thenReturn(Arrays.asList(jobPosting1, jobPosting2));
-            when(jobService.mapToJobListingDto(jobPosting1)).thenReturn(jobListingDto1);
-            when(jobService.mapToJobListingDto(jobPosting2)).thenReturn(jobListingDto2);
 
             // Act
             List<JobListingDto> result = recommendationService.getJobRecommendations("worker@test.com");
@@ -5,6 +5,7 @@ import com.workconnect.api.constants.Enum.*;
 import com.workconnect.api.dto.*;
 import com.workconnect.api.entity.*;
 import com.workconnect.api.repository.UserRepository;
+import com.workconnect.api.repository.UserStatsRepository;
 import com.workconnect.api.service.impl.UserServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -46,6 +47,9 @@ class UserServiceTest {
     @Mock
     private Authentication authentication;
 
+    @Mock
+    private UserStatsRepository userStatsRepository;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -127,6 +131,7 @@ class UserServiceTest {
             verify(userRepository).findByEmail("worker@test.com");
             verify(passwordEncoder).encode("password123");
             verify(userRepository).save(any(User.class));
+            verify(userStatsRepository).save(argThat(stats -> stats.getUser() == result));
         }
 
         @Test
@@ -0,0 +1,210 @@
+package com.workconnect.api.service;
+
+import com.workconnect.api.constants.Enum.*;
+import com.workconnect.api.dto.CreateJobRequestDto;
+import com.workconnect.api.dto.RegistrationRequestDto;
+import com.workconnect.api.entity.*;
+import com.workconnect.api.repository.UserStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(locations = "classpath:application-test.properties")
+class UserStatsIntegrationTest {
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private AdminService adminService;
+
+    @Autowired
+    private UserStatsRepository userStatsRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private String run;
+    private String employerEmail;
+    private User employer;
+
+    @BeforeEach
+    void setUp() {
+        run = UUID.randomUUID().toString().substring(0, 8);
+        employerEmail = "employer-" + run + "@test.com";
+        employer = newUser(employerEmail, Role.EMPLOYER);
+    }
+
+    @Test
+    void writePaths_givenJobAndApplicationChanges_thenShouldKeepRollupsInStep() {
+        // Arrange
+        User first = newUser("worker-" + run + "-1@test.com", Role.WORKER);
+        User second = newUser("worker-" + run + "-2@test.com", Role.WORKER);
+        JobPosting open = jobService.createJob(employerEmail, job("Open shift"));
+        JobPosting other = jobService.createJob(employerEmail, job("Other shift"));
+        JobPosting unused = jobService.createJob(employerEmail, job("Unused shift"));
+
+        // Act
+        jobService.applyForJob(first.getEmail(), open.getId(), null);
+        jobService.applyForJob(first.getEmail(), other.getId(), null);
+        jobService.applyForJob(second.getEmail(), open.getId(), null);
+        Long accepted = jobService.checkApplicationStatus(first.getEmail(), open.getId()).getApplicationId();
+        jobService.updateApplicationStatus(employerEmail, accepted, JobApplicationStatus.ACCEPTED);
+        jobService.updateApplicationStatuses(employerEmail, List.of(
+                jobService.checkApplicationStatus(first.getEmail(), other.getId()).getApplicationId(),
+                jobService.checkApplicationStatus(second.getEmail(), open.getId()).getApplicationId()),
+                JobApplicationStatus.REJECTED);
+        jobService.updateJobStatus(employerEmail, other.getId(), JobStatus.CLOSED);
+        jobService.deleteJob(employerEmail, unused.getId());
+
+        // Assert
+        UserStats employerStats = userStatsRepository.findById(employer.getUserId()).orElseThrow();
+        assertEquals(2, employerStats.getJobsPosted());
+        assertEquals(1, employerStats.getActiveJobs());
+        assertEquals(3, employerStats.getApplicationCount());
+        assertEquals(0, employerStats.getPendingCount());
+        assertEquals(1, employerStats.getAcceptedCount());
+        assertEquals(2, employerStats.getRejectedCount());
+        assertEquals(3, employerStats.applicationsInWeekEnding(LocalDate.now()));
+
+        UserStats firstStats = userStatsRepository.findById(first.getUserId()).orElseThrow();
+        assertEquals(2, firstStats.getApplicationCount());
+        assertEquals(1, firstStats.getAcceptedCount());
+        assertEquals(1, firstStats.getRejectedCount());
+        UserStats secondStats = userStatsRepository.findById(second.getUserId()).orElseThrow();
+        assertEquals(1, secondStats.getApplicationCount());
+        assertEquals(0, secondStats.getPendingCount());
+        assertEquals(1, secondStats.getRejectedCount());
+    }
+
+    @Test
+    void recordNewApplication_givenDaysAcrossWeeks_thenShouldCountOnlyTheLastSevenDays() {
+        // Arrange
+        LocalDate today = LocalDate.now();
+        List<Long> userIds = List.of(employer.getUserId());
+
+        // Act: ten days ago shares a bucket with three days ago, which restarts it
+        transactionTemplate.executeWithoutResult(status -> {
+            for (LocalDate day : List.of(today.minusDays(10), today.minusDays(10), today.minusDays(3),
+                    today.minusDays(1), today, today)) {
+                userStatsRepository.recordNewApplication(userIds, day.toEpochDay(), UserStats.bucketOf(day));
+            }
+        });
+
+        // Assert
+        UserStats stats = userStatsRepository.findById(employer.getUserId()).orElseThrow();
+        assertEquals(6, stats.getApplicationCount());
+        assertEquals(4, stats.applicationsInWeekEnding(today));
+        assertEquals(2, stats.applicationsInWeekEnding(today.plusDays(6)));
+        assertEquals(0, stats.applicationsInWeekEnding(today.plusDays(7)));
+    }
+
+    @Test
+    void deleteJob_givenJobWithApplications_thenShouldTakeThemOutOfEveryRollup() {
+        // Arrange
+        User first = newUser("worker-" + run + "-1@test.com", Role.WORKER);
+        User second = newUser("worker-" + run + "-2@test.com", Role.WORKER);
+        JobPosting kept = jobService.createJob(employerEmail, job("Kept shift"));
+        JobPosting deleted = jobService.createJob(employerEmail, job("Deleted shift"));
+        jobService.applyForJob(first.getEmail(), kept.getId(), null);
+        jobService.applyForJob(first.getEmail(), deleted.getId(), null);
+        jobService.applyForJob(second.getEmail(), deleted.getId(), null);
+        jobService.updateApplicationStatus(employerEmail,
+                jobService.checkApplicationStatus(second.getEmail(), deleted.getId()).getApplicationId(),
+                JobApplicationStatus.ACCEPTED);
+
+        // Act
+        adminService.deleteJob(deleted.getId());
+
+        // Assert
+        UserStats employerStats = userStatsRepository.findById(employer.getUserId()).orElseThrow();
+        assertEquals(1, employerStats.getJobsPosted());
+        assertEquals(1, employerStats.getActiveJobs());
+        assertEquals(1, employerStats.getApplicationCount());
+        assertEquals(1, employerStats.getPendingCount());
+        assertEquals(0, employerStats.getAcceptedCount());
+        assertEquals(1, employerStats.applicationsInWeekEnding(LocalDate.now()));
+
+        UserStats firstStats = userStatsRepository.findById(first.getUserId()).orElseThrow();
+        assertEquals(1, firstStats.getApplicationCount());
+        assertEquals(1, firstStats.getPendingCount());
+        assertEquals(1, firstStats.applicationsInWeekEnding(LocalDate.now()));
+        UserStats secondStats = userStatsRepository.findById(second.getUserId()).orElseThrow();
+        assertEquals(0, secondStats.getApplicationCount());
+        assertEquals(0, secondStats.getAcceptedCount());
+        assertEquals(0, secondStats.applicationsInWeekEnding(LocalDate.now()));
+    }
+
+    @Test
+    void deleteUser_givenEmployerWithApplicants_thenShouldTakeTheirApplicationsOutOfTheWorkersRollups() {
+        // Arrange
+        User worker = newUser("worker-" + run + "@test.com", Role.WORKER);
+        User otherEmployer = newUser("other-" + employerEmail, Role.EMPLOYER);
+        JobPosting job = jobService.createJob(employerEmail, job("Deleted employer's shift"));
+        JobPosting otherJob = jobService.createJob(otherEmployer.getEmail(), job("Other employer's shift"));
+        jobService.applyForJob(worker.getEmail(), job.getId(), null);
+        jobService.applyForJob(worker.getEmail(), otherJob.getId(), null);
+
+        // Act
+        adminService.deleteUser(employer.getUserId());
+
+        // Assert
+        assertTrue(userStatsRepository.findById(employer.getUserId()).isEmpty());
+        UserStats workerStats = userStatsRepository.findById(worker.getUserId()).orElseThrow();
+        assertEquals(1, workerStats.getApplicationCount());
+        assertEquals(1, workerStats.getPendingCount());
+        assertEquals(1, workerStats.applicationsInWeekEnding(LocalDate.now()));
+        assertEquals(1, userStatsRepository.findById(otherEmployer.getUserId()).orElseThrow().getApplicationCount());
+    }
+
+    @Test
+    void applyForJob_givenWorkerWithoutRollupRow_thenShouldCreateItAndCountTheApplication() {
+        // Arrange
+        User worker = newUser("worker-" + run + "@test.com", Role.WORKER);
+        JobPosting job = jobService.createJob(employerEmail, job("Open shift"));
+        transactionTemplate.executeWithoutResult(status -> userStatsRepository.deleteById(worker.getUserId()));
+
+        // Act
+        jobService.applyForJob(worker.getEmail(), job.getId(), null);
+
+        // Assert
+        UserStats workerStats = userStatsRepository.findById(worker.getUserId()).orElseThrow();
+        assertEquals(1, workerStats.getApplicationCount());
+        assertEquals(1, workerStats.getPendingCount());
+        assertEquals(1, userStatsRepository.findById(employer.getUserId()).orElseThrow().getApplicationCount());
+    }
+
+    private CreateJobRequestDto job(String title) {
+        CreateJobRequestDto job = new CreateJobRequestDto();
+        job.setJobTitle(title);
+        job.setDescription("Warehouse shift");
+        job.setLocation("Colombo");
+        job.setSalary(5000.0);
+        job.setJobType(JobType.ONE_DAY);
+        job.setStartDate(LocalDate.now().plusDays(3));
+        return job;
+    }
+
+    private User newUser(String email, Role role) {
+        RegistrationRequestDto request = new RegistrationRequestDto();
+        request.setEmail(email);
+        request.setPassword("password123");
+        request.setRole(role);
+        return userService.registerUser(request);
+    }
+}
@@ -0,0 +1,147 @@
+package com.workconnect.api.service;
+
+import com.workconnect.api.constants.Enum.*;
+import com.workconnect.api.dto.CursorPageDto;
+import com.workconnect.api.dto.WorkerApplicationDto;
+import com.workconnect.api.entity.*;
+import com.workconnect.api.repository.JobPostingRepository;
+import com.workconnect.api.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(locations = "classpath:application-test.properties")
+class WorkerApplicationHistoryIntegrationTest {
+
+    private static final int APPLICATIONS = 7;
+
+    @Autowired
+    private WorkerService workerService;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobPostingRepository jobPostingRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private String workerEmail;
+    private Long workerId;
+
+    @BeforeEach
+    void setUp() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        String employerEmail = "employer-" + run + "@test.com";
+        User employer = newUser(employerEmail, Role.EMPLOYER);
+        EmployerProfile employerProfile = new EmployerProfile(employer);
+        employerProfile.setCompanyName("Harbour Logistics");
+        employer.setProfile(employerProfile);
+        userRepository.save(employer);
+
+        workerEmail = "worker-" + run + "@test.com";
+        User worker = newUser(workerEmail, Role.WORKER);
+        worker.setProfile(new WorkerProfile(worker));
+        workerId = userRepository.save(worker).getUserId();
+
+        List<Long> applicationIds = new ArrayList<>();
+        for (int i = 0; i < APPLICATIONS; i++) {
+            JobPosting job = new JobPosting();
+            job.setJobTitle("Shift " + i);
+            job.setJobType(JobType.ONE_DAY);
+            job.setStatus(JobStatus.OPEN);
+            job.setEmployer(employer);
+            job = jobPostingRepository.save(job);
+            jobService.applyForJob(workerEmail, job.getId(), null);
+            applicationIds.add(jobService.checkApplicationStatus(workerEmail, job.getId()).getApplicationId());
+        }
+        jobService.updateApplicationStatuses(employerEmail, applicationIds.subList(0, 3), JobApplicationStatus.ACCEPTED);
+    }
+
+    @Test
+    void getApplicationHistory_givenCursor_thenShouldWalkEveryApplicationOnceNewestFirst() {
+        // Arrange
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        statistics.setStatisticsEnabled(true);
+
+        // Act
+        List<WorkerApplicationDto> seen = new ArrayList<>();
+        int pages = 0;
+        try {
+            String cursor = null;
+            CursorPageDto<WorkerApplicationDto> page;
+            do {
+                page = workerService.getApplicationHistory(workerId, null, cursor, 3);
+                seen.addAll(page.getItems());
+                cursor = page.getNextCursor();
+                pages++;
+            } while (page.isHasMore());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+
+        // Assert
+        assertEquals(3, pages);
+        assertEquals(APPLICATIONS, seen.size());
+        Set<Long> ids = new HashSet<>(seen.stream().map(WorkerApplicationDto::getApplicationId).toList());
+        assertEquals(APPLICATIONS, ids.size());
+        for (int i = 1; i < seen.size(); i++) {
+            assertFalse(seen.get(i).getAppliedAt().isAfter(seen.get(i - 1).getAppliedAt()));
+        }
+        assertTrue(seen.stream().allMatch(application -> "Harbour Logistics".equals(application.getCompanyName())
+                && application.getJobTitle().startsWith("Shift ") && application.getJobId() != null));
+        // One statement per page and no entity loads
+        assertEquals(pages, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void getApplicationHistory_givenStatusFilter_thenShouldReturnOnlyMatchingApplications() {
+        // Act
+        CursorPageDto<WorkerApplicationDto> page = workerService.getApplicationHistory(workerId,
+                JobApplicationStatus.ACCEPTED, null, 20);
+
+        // Assert
+        assertEquals(3, page.getItems().size());
+        assertFalse(page.isHasMore());
+        assertNull(page.getNextCursor());
+        assertTrue(page.getItems().stream().allMatch(application -> application.getStatus() == JobApplicationStatus.ACCEPTED));
+    }
+
+    @Test
+    void getApplicationHistory_givenMalformedCursor_thenShouldThrowIllegalArgumentException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> workerService.getApplicationHistory(workerId, null, "bm90LWEtY3Vyc29y", 20));
+    }
+
+    private User newUser(String email, Role role) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPassword("password");
+        user.setRole(role);
+        user.setStatus(UserStatus.ACTIVE);
+        return user;
+    }
+}